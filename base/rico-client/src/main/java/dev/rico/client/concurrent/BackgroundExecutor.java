@@ -3,11 +3,13 @@ package dev.rico.client.concurrent;
 import dev.rico.internal.client.concurrent.TaskHelper;
 import dev.rico.internal.core.Assert;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 public interface BackgroundExecutor extends Executor {
 
@@ -27,6 +29,26 @@ public interface BackgroundExecutor extends Executor {
 
     List<BackgroundTask> getAllTasks();
 
+    default long getRunningTaskCount() {
+        return getAllTasks().stream().filter(BackgroundTask::isRunning).count();
+    }
+
+    default long getQueuedTaskCount() {
+        return getAllTasks().stream().filter(t -> !t.isDone() && !t.isRunning()).count();
+    }
+
+    default long getCompletedTaskCount() {
+        return getAllTasks().stream().filter(BackgroundTask::isDone).count();
+    }
+
+    default Duration getAverageTaskDuration() {
+        final List<Duration> durations = getAllTasks().stream()
+                .filter(BackgroundTask::isDone)
+                .map(BackgroundTask::getDuration)
+                .collect(Collectors.toList());
+        return durations.isEmpty() ? Duration.ZERO : durations.stream().reduce(Duration.ZERO, Duration::plus).dividedBy(durations.size());
+    }
+
     static void setCurrentTaskName(final String name) {
         TaskHelper.getInstance().setTaskName(name);
     }
@@ -1,5 +1,7 @@
 package dev.rico.client.concurrent;
 
+import java.time.Duration;
+
 public interface BackgroundTask {
 
     default String getName() {
@@ -18,4 +20,8 @@ public interface BackgroundTask {
 
     boolean isRunning();
 
+    default Duration getDuration() {
+        return Duration.ZERO;
+    }
+
 }
@@ -22,9 +22,15 @@ public interface ClientConstants {
 
     String UI_CONTEXT = "uiToolkit";
     String UNCAUGHT_EXCEPTION_HANDLER = RICO + ".background.uncaughtExceptionHandler";
+    String BACKGROUND_VIRTUAL_THREADS = RICO + ".background.virtualThreads";
+    String BACKGROUND_TASK_HISTORY_SIZE = RICO + ".background.taskHistorySize";
     String UI_UNCAUGHT_EXCEPTION_HANDLER = RICO + ".ui.uncaughtExceptionHandler";
     String COOKIE_STORE = RICO + ".http.cookieStore";
     String CONNECTION_FACTORY = RICO + ".http.connectionFactory";
+    String HTTP_POOLED_TRANSPORT = RICO + ".http.pooledTransport";
+    String HTTP_HTTP2 = RICO + ".http.http2";
+    String HTTP_CONNECT_TIMEOUT = RICO + ".http.connectTimeout";
+    String HTTP_BUFFER_SIZE = RICO + ".http.bufferSize";
     String CONFIG_DEFAULT_LOCATION = "application.properties";
     String HEADLESS_TOOLKIT = "headless toolkit";
 }
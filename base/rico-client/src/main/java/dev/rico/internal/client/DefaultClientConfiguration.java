@@ -20,11 +20,14 @@ import dev.rico.client.ClientConfiguration;
 import dev.rico.core.http.HttpURLConnectionFactory;
 import dev.rico.internal.core.SimpleConfiguration;
 import dev.rico.internal.core.SimpleUncaughtExceptionHandler;
+import dev.rico.internal.client.http.PooledHttpURLConnectionFactory;
+import dev.rico.internal.core.http.ConnectionUtils;
 import dev.rico.internal.core.http.DefaultHttpURLConnectionFactory;
 import org.apiguardian.api.API;
 
 import java.net.CookieManager;
 import java.net.CookieStore;
+import java.time.Duration;
 import java.util.Properties;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -38,7 +41,14 @@ public class DefaultClientConfiguration extends SimpleConfiguration implements C
         setUiUncaughtExceptionHandler(new SimpleUncaughtExceptionHandler());
 
         setCookieStore(new CookieManager().getCookieStore());
-        setHttpURLConnectionFactory(new DefaultHttpURLConnectionFactory());
+        if (getBooleanProperty(ClientConstants.HTTP_POOLED_TRANSPORT, false)) {
+            final boolean http2 = getBooleanProperty(ClientConstants.HTTP_HTTP2, true);
+            final Duration connectTimeout = Duration.ofMillis(getLongProperty(ClientConstants.HTTP_CONNECT_TIMEOUT, 0));
+            final int bufferSize = getIntProperty(ClientConstants.HTTP_BUFFER_SIZE, ConnectionUtils.DEFAULT_BUFFER_SIZE);
+            setHttpURLConnectionFactory(new PooledHttpURLConnectionFactory(http2, connectTimeout, bufferSize));
+        } else {
+            setHttpURLConnectionFactory(new DefaultHttpURLConnectionFactory());
+        }
     }
 
     @Override
@@ -4,66 +4,59 @@ import dev.rico.client.concurrent.BackgroundExecutor;
 import dev.rico.client.concurrent.BackgroundTask;
 import dev.rico.internal.core.Assert;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 public class BackgroundExecutorImpl implements BackgroundExecutor {
 
+    public static final int DEFAULT_TASK_HISTORY_SIZE = 32;
+
     private final ExecutorService executorService;
 
-    private final List<BackgroundTask> tasks;
+    private final BackgroundTaskRegistry registry;
 
     public BackgroundExecutorImpl(final ExecutorService executorService) {
+        this(executorService, DEFAULT_TASK_HISTORY_SIZE);
+    }
+
+    public BackgroundExecutorImpl(final ExecutorService executorService, final int taskHistorySize) {
         this.executorService = Assert.requireNonNull(executorService, "executorService");
-        tasks = new CopyOnWriteArrayList<>();
+        this.registry = new BackgroundTaskRegistry(taskHistorySize);
     }
 
     @Override
     public <T> Future<T> submit(final Callable<T> task) {
         Assert.requireNonNull(task, "task");
-        final AtomicBoolean started = new AtomicBoolean(false);
-        final Future<T> future = executorService.submit(() -> {
-            TaskHelper.getInstance().resetCurrent();
-            started.set(true);
-            return task.call();
-        });
-        tasks.add(new BackgroundTask() {
-
-            @Override
-            public String getName() {
-                return TaskHelper.getInstance().getCurrentName();
-            }
-
-            @Override
-            public String geDescription() {
-                return TaskHelper.getInstance().getCurrentDescription();
-            }
-
-            @Override
-            public void cancel() {
-                future.cancel(true);
-            }
-
-            @Override
-            public boolean isCancelled() {
-                return future.isCancelled();
-            }
-
-            @Override
-            public boolean isDone() {
-                return future.isDone();
+        final BackgroundTaskEntry entry = new BackgroundTaskEntry();
+        final FutureTask<T> future = new FutureTask<T>(() -> {
+            final TaskHelper taskHelper = TaskHelper.getInstance();
+            taskHelper.resetCurrent(entry);
+            registry.started(entry);
+            try {
+                return task.call();
+            } finally {
+                taskHelper.resetCurrent(null);
             }
-
+        }) {
             @Override
-            public boolean isRunning() {
-                return (!isDone() && !isCancelled() && started.get());
+            protected void done() {
+                registry.finished(entry);
             }
-        });
+        };
+        entry.setFuture(future);
+        registry.register(entry);
+        try {
+            executorService.execute(future);
+        } catch (final RejectedExecutionException e) {
+            registry.discard(entry);
+            throw e;
+        }
         return future;
     }
 
@@ -74,6 +67,26 @@ public class BackgroundExecutorImpl implements BackgroundExecutor {
 
     @Override
     public List<BackgroundTask> getAllTasks() {
-        return Collections.unmodifiableList(tasks);
+        return Collections.unmodifiableList(registry.getTasks());
+    }
+
+    @Override
+    public long getRunningTaskCount() {
+        return registry.getRunningCount();
+    }
+
+    @Override
+    public long getQueuedTaskCount() {
+        return registry.getQueuedCount();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return registry.getCompletedCount();
+    }
+
+    @Override
+    public Duration getAverageTaskDuration() {
+        return registry.getAverageDuration();
     }
 }
@@ -5,12 +5,21 @@ import dev.rico.client.concurrent.BackgroundExecutor;
 import dev.rico.internal.client.AbstractServiceProvider;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.core.SimpleThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static dev.rico.internal.client.ClientConstants.BACKGROUND_TASK_HISTORY_SIZE;
+import static dev.rico.internal.client.ClientConstants.BACKGROUND_VIRTUAL_THREADS;
 
 public class BackgroundExecutorProvider extends AbstractServiceProvider<BackgroundExecutor> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(BackgroundExecutorProvider.class);
+
     public BackgroundExecutorProvider() {
         super(BackgroundExecutor.class);
     }
@@ -19,7 +28,34 @@ public class BackgroundExecutorProvider extends AbstractServiceProvider<Backgrou
     protected BackgroundExecutor createService(final ClientConfiguration configuration) {
         Assert.requireNonNull(configuration, "configuration");
         final Thread.UncaughtExceptionHandler exceptionHandler = configuration.getUncaughtExceptionHandler();
+        final int historySize = configuration.getIntProperty(BACKGROUND_TASK_HISTORY_SIZE, BackgroundExecutorImpl.DEFAULT_TASK_HISTORY_SIZE);
+        if (configuration.getBooleanProperty(BACKGROUND_VIRTUAL_THREADS, false)) {
+            final ExecutorService virtualExecutor = createVirtualThreadExecutor(exceptionHandler);
+            if (virtualExecutor != null) {
+                return new BackgroundExecutorImpl(virtualExecutor, historySize);
+            }
+        }
         final ExecutorService executorService = Executors.newCachedThreadPool(new SimpleThreadFactory(exceptionHandler));
-        return new BackgroundExecutorImpl(executorService);
+        return new BackgroundExecutorImpl(executorService, historySize);
+    }
+
+    /**
+     * Virtual threads are only available on newer JDKs, so the executor is created by reflection to keep
+     * the client runnable on Java 11.
+     */
+    private ExecutorService createVirtualThreadExecutor(final Thread.UncaughtExceptionHandler exceptionHandler) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            if (exceptionHandler != null) {
+                builder = builderClass.getMethod("uncaughtExceptionHandler", Thread.UncaughtExceptionHandler.class).invoke(builder, exceptionHandler);
+            }
+            final ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            final Method factoryMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) factoryMethod.invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            LOG.info("Virtual threads are not supported by the current JVM, falling back to platform threads");
+            return null;
+        }
     }
 }
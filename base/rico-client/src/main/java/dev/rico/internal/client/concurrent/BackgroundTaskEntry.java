@@ -0,0 +1,99 @@
+package dev.rico.internal.client.concurrent;
+
+import dev.rico.client.concurrent.BackgroundTask;
+
+import java.time.Duration;
+import java.util.concurrent.Future;
+
+class BackgroundTaskEntry implements BackgroundTask {
+
+    private final long submitNanos;
+
+    private volatile long startNanos;
+
+    private volatile long endNanos;
+
+    private volatile String name = "";
+
+    private volatile String description = "";
+
+    private volatile Future<?> future;
+
+    BackgroundTaskEntry() {
+        this.submitNanos = System.nanoTime();
+    }
+
+    void setFuture(final Future<?> future) {
+        this.future = future;
+    }
+
+    void markStarted() {
+        startNanos = System.nanoTime();
+    }
+
+    void markFinished() {
+        endNanos = System.nanoTime();
+    }
+
+    void setName(final String name) {
+        this.name = name == null ? "" : name;
+    }
+
+    void setDescription(final String description) {
+        this.description = description == null ? "" : description;
+    }
+
+    boolean isStarted() {
+        return startNanos != 0;
+    }
+
+    Duration getQueueTime() {
+        if (!isStarted()) {
+            return Duration.ofNanos(System.nanoTime() - submitNanos);
+        }
+        return Duration.ofNanos(startNanos - submitNanos);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String geDescription() {
+        return description;
+    }
+
+    @Override
+    public void cancel() {
+        final Future<?> current = future;
+        if (current != null) {
+            current.cancel(true);
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        final Future<?> current = future;
+        return current != null && current.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+        return endNanos != 0;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return isStarted() && !isDone() && !isCancelled();
+    }
+
+    @Override
+    public Duration getDuration() {
+        if (!isStarted()) {
+            return Duration.ZERO;
+        }
+        final long end = isDone() ? endNanos : System.nanoTime();
+        return Duration.ofNanos(end - startNanos);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.rico.internal.client.concurrent;
+
+import dev.rico.client.concurrent.BackgroundTask;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of all queued and running background tasks. Finished tasks are removed from the registry on
+ * completion and only the last {@code historySize} of them are kept for diagnostics.
+ */
+class BackgroundTaskRegistry {
+
+    private final Set<BackgroundTaskEntry> activeTasks = ConcurrentHashMap.newKeySet();
+
+    private final BackgroundTaskEntry[] history;
+
+    private int historyIndex;
+
+    private final AtomicInteger runningCount = new AtomicInteger();
+
+    private final LongAdder completedCount = new LongAdder();
+
+    private final LongAdder completedDurationNanos = new LongAdder();
+
+    BackgroundTaskRegistry(final int historySize) {
+        this.history = new BackgroundTaskEntry[Math.max(0, historySize)];
+    }
+
+    void register(final BackgroundTaskEntry entry) {
+        activeTasks.add(entry);
+    }
+
+    void started(final BackgroundTaskEntry entry) {
+        entry.markStarted();
+        runningCount.incrementAndGet();
+    }
+
+    void finished(final BackgroundTaskEntry entry) {
+        if (!activeTasks.remove(entry)) {
+            return;
+        }
+        final boolean started = entry.isStarted();
+        entry.markFinished();
+        if (started) {
+            runningCount.decrementAndGet();
+        }
+        completedCount.increment();
+        completedDurationNanos.add(entry.getDuration().toNanos());
+        if (history.length > 0) {
+            synchronized (history) {
+                history[historyIndex] = entry;
+                historyIndex = (historyIndex + 1) % history.length;
+            }
+        }
+    }
+
+    void discard(final BackgroundTaskEntry entry) {
+        activeTasks.remove(entry);
+    }
+
+    List<BackgroundTask> getTasks() {
+        final List<BackgroundTask> tasks = new ArrayList<>(activeTasks);
+        synchronized (history) {
+            for (int i = 0; i < history.length; i++) {
+                final BackgroundTaskEntry entry = history[(historyIndex + i) % history.length];
+                if (entry != null) {
+                    tasks.add(entry);
+                }
+            }
+        }
+        return tasks;
+    }
+
+    long getRunningCount() {
+        return runningCount.get();
+    }
+
+    long getQueuedCount() {
+        return Math.max(0, activeTasks.size() - runningCount.get());
+    }
+
+    long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    Duration getAverageDuration() {
+        final long count = completedCount.sum();
+        if (count == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(completedDurationNanos.sum() / count);
+    }
+}
@@ -21,6 +21,7 @@ import dev.rico.client.ClientConfiguration;
 import dev.rico.client.concurrent.BackgroundExecutor;
 import dev.rico.core.concurrent.Scheduler;
 import dev.rico.internal.client.AbstractServiceProvider;
+import dev.rico.internal.core.SimpleThreadFactory;
 import dev.rico.internal.core.concurrent.SchedulerImpl;
 
 public class SchedulerProvider extends AbstractServiceProvider<Scheduler> {
@@ -32,6 +33,7 @@ public class SchedulerProvider extends AbstractServiceProvider<Scheduler> {
     @Override
     protected Scheduler createService(final ClientConfiguration configuration) {
         final BackgroundExecutor backgroundExecutor = Client.getService(BackgroundExecutor.class);
-        return new SchedulerImpl(backgroundExecutor);
+        final SimpleThreadFactory dispatcherThreadFactory = new SimpleThreadFactory(true);
+        return new SchedulerImpl(command -> dispatcherThreadFactory.newThread(command).start(), backgroundExecutor);
     }
 }
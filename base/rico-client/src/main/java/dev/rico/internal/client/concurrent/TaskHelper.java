@@ -8,9 +8,12 @@ public class TaskHelper {
 
     private final ThreadLocal<String> localDescription;
 
+    private final ThreadLocal<BackgroundTaskEntry> localEntry;
+
     private TaskHelper() {
         this.localName = new ThreadLocal<>();
         this.localDescription = new ThreadLocal<>();
+        this.localEntry = new ThreadLocal<>();
     }
 
     public void resetCurrent() {
@@ -18,12 +21,29 @@ public class TaskHelper {
         setTaskDescription("");
     }
 
+    void resetCurrent(final BackgroundTaskEntry entry) {
+        if (entry == null) {
+            localEntry.remove();
+        } else {
+            localEntry.set(entry);
+        }
+        resetCurrent();
+    }
+
     public void setTaskName(final String name) {
         localName.set(name);
+        final BackgroundTaskEntry entry = localEntry.get();
+        if (entry != null) {
+            entry.setName(name);
+        }
     }
 
     public void setTaskDescription(final String description) {
         localDescription.set(description);
+        final BackgroundTaskEntry entry = localEntry.get();
+        if (entry != null) {
+            entry.setDescription(description);
+        }
     }
 
     public String getCurrentName() {
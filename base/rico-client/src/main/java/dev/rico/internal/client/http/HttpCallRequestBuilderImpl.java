@@ -18,16 +18,20 @@ package dev.rico.internal.client.http;
 
 import com.google.gson.Gson;
 import dev.rico.client.ClientConfiguration;
+import dev.rico.core.functional.CheckedConsumer;
 import dev.rico.core.http.HttpCallRequestBuilder;
 import dev.rico.core.http.HttpCallResponseBuilder;
 import dev.rico.core.http.HttpURLConnectionHandler;
 import dev.rico.internal.core.Assert;
-import dev.rico.internal.core.http.EmptyInputStream;
 import dev.rico.internal.core.http.HttpClientConnection;
 import dev.rico.internal.core.http.HttpHeaderImpl;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -77,24 +81,55 @@ public class HttpCallRequestBuilderImpl implements HttpCallRequestBuilder {
 
     @Override
     public HttpCallResponseBuilder withoutContent() {
-        return continueWithResponseBuilder(new EmptyInputStream());
+        return continueWithResponseBuilder(c -> {});
     }
 
     public HttpCallResponseBuilder withContent(final InputStream stream, final String contentType) {
+        Assert.requireNonNull(stream, "stream");
+        setContentType(contentType);
+        return continueWithResponseBuilder(c -> {
+            try (final InputStream content = stream) {
+                c.writeRequestContent(content, -1);
+            }
+        });
+    }
+
+    @Override
+    public HttpCallResponseBuilder withContent(final Path file, final String contentType) {
+        Assert.requireNonNull(file, "file");
+        setContentType(contentType);
+        try {
+            final long size = Files.size(file);
+            return continueWithResponseBuilder(c -> {
+                try (final InputStream content = Files.newInputStream(file)) {
+                    c.writeRequestContent(content, size);
+                }
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Can not read file " + file, e);
+        }
+    }
+
+    @Override
+    public HttpCallResponseBuilder withContent(final CheckedConsumer<OutputStream> writer, final String contentType) {
+        Assert.requireNonNull(writer, "writer");
+        setContentType(contentType);
+        return continueWithResponseBuilder(c -> c.writeRequestContent(writer));
+    }
+
+    private void setContentType(final String contentType) {
         if(contentType != null && !contentType.isEmpty()) {
             withHeader(CONTENT_TYPE_HEADER, contentType);
         }
-        return continueWithResponseBuilder(stream);
     }
 
-
-    private HttpCallResponseBuilder continueWithResponseBuilder(final InputStream dataProvider) {
-        Assert.requireNonNull(dataProvider, "dataProvider");
+    private HttpCallResponseBuilder continueWithResponseBuilder(final CheckedConsumer<HttpClientConnection> contentWriter) {
+        Assert.requireNonNull(contentWriter, "contentWriter");
         if (done.get()) {
             throw new RuntimeException("Request already defined!");
         }
         done.set(true);
-        return new HttpCallResponseBuilderImpl(connection, dataProvider, gson, requestHandlers, responseHandlers, configuration);
+        return new HttpCallResponseBuilderImpl(connection, contentWriter, gson, requestHandlers, responseHandlers, configuration);
     }
 
 }
@@ -19,12 +19,14 @@ package dev.rico.internal.client.http;
 import dev.rico.client.Client;
 import dev.rico.client.concurrent.UiExecutor;
 import dev.rico.core.http.DownloadInputStream;
+import dev.rico.internal.client.ClientConstants;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.core.http.ConnectionUtils;
 import dev.rico.internal.core.http.DownloadInputStreamImpl;
 import dev.rico.internal.core.http.HttpClientConnection;
 import dev.rico.internal.core.http.HttpHeaderImpl;
 import dev.rico.client.ClientConfiguration;
+import dev.rico.core.functional.CheckedConsumer;
 import dev.rico.core.http.Promise;
 import dev.rico.core.http.ByteArrayProvider;
 import dev.rico.core.http.ConnectionException;
@@ -61,13 +63,24 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
 
     private final List<HttpURLConnectionHandler> responseHandlers;
 
-    private final InputStream dataProvider;
+    private final CheckedConsumer<HttpClientConnection> contentWriter;
 
     private final ClientConfiguration configuration;
 
     public HttpCallResponseBuilderImpl(final HttpClientConnection connection, final InputStream dataProvider, final Gson gson, final List<HttpURLConnectionHandler> requestHandlers, final List<HttpURLConnectionHandler> responseHandlers, final ClientConfiguration configuration) {
+        this(connection, dataProvider, -1, gson, requestHandlers, responseHandlers, configuration);
+    }
+
+    public HttpCallResponseBuilderImpl(final HttpClientConnection connection, final InputStream dataProvider, final long contentLength, final Gson gson, final List<HttpURLConnectionHandler> requestHandlers, final List<HttpURLConnectionHandler> responseHandlers, final ClientConfiguration configuration) {
+        this(connection, createContentWriter(dataProvider, contentLength), gson, requestHandlers, responseHandlers, configuration);
+    }
+
+    /**
+     * @param contentWriter writes the request content to the connection once the request is executed
+     */
+    public HttpCallResponseBuilderImpl(final HttpClientConnection connection, final CheckedConsumer<HttpClientConnection> contentWriter, final Gson gson, final List<HttpURLConnectionHandler> requestHandlers, final List<HttpURLConnectionHandler> responseHandlers, final ClientConfiguration configuration) {
         this.connection = Assert.requireNonNull(connection, "connection");
-        this.dataProvider = Assert.requireNonNull(dataProvider, "dataProvider");
+        this.contentWriter = Assert.requireNonNull(contentWriter, "contentWriter");
         this.gson = Assert.requireNonNull(gson, "gson");
         this.configuration = Assert.requireNonNull(configuration, "configuration");
 
@@ -152,7 +165,8 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
         final HttpResponse<InputStream> response = handleRequest();
         try {
             final InputStream inputStream = response.getContent();
-            final R content = converter.convert(ConnectionUtils.readContent(inputStream));
+            final int bufferSize = configuration.getIntProperty(ClientConstants.HTTP_BUFFER_SIZE, ConnectionUtils.DEFAULT_BUFFER_SIZE);
+            final R content = converter.convert(ConnectionUtils.readContent(inputStream, bufferSize));
             return new HttpResponseImpl<>(response.getHeaders(), response.getStatusCode(), content, response.getContentSize());
         } catch (IOException e) {
             throw new ConnectionException("No response from server", e);
@@ -169,9 +183,11 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
 
         requestHandlers.forEach(h -> h.handle(connection.getConnection()));
         try {
-            connection.writeRequestContent(dataProvider);
+            contentWriter.accept(connection);
         } catch (final IOException e) {
             throw new ConnectionException("Can not connect to server", e);
+        } catch (final Exception e) {
+            throw new HttpException("Can not write request content", e);
         }
 
         try {
@@ -186,4 +202,12 @@ public class HttpCallResponseBuilderImpl implements HttpCallResponseBuilder {
         }
     }
 
+    private static CheckedConsumer<HttpClientConnection> createContentWriter(final InputStream dataProvider, final long contentLength) {
+        Assert.requireNonNull(dataProvider, "dataProvider");
+        return c -> {
+            try (final InputStream content = dataProvider) {
+                c.writeRequestContent(content, contentLength);
+            }
+        };
+    }
 }
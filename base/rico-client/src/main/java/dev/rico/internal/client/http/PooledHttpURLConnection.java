@@ -0,0 +1,306 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.client.http;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Adapts a call of the shared {@link HttpClient} to the {@link HttpURLConnection} API so the existing request and
+ * response handlers can be used without any change. Request headers are collected until the request content is
+ * written or the response is requested for the first time, the request is then send through the pooled client.
+ * Request content is piped into the running request while it is written and is never buffered completely.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class PooledHttpURLConnection extends HttpURLConnection {
+
+    private static final Set<String> RESTRICTED_HEADERS;
+
+    static {
+        final Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        headers.add("Connection");
+        headers.add("Content-Length");
+        headers.add("Expect");
+        headers.add("Host");
+        headers.add("Upgrade");
+        RESTRICTED_HEADERS = Collections.unmodifiableSet(headers);
+    }
+
+    private final HttpClient httpClient;
+
+    private final URI uri;
+
+    private final int bufferSize;
+
+    private PipedOutputStream requestContent;
+
+    private CompletableFuture<HttpResponse<InputStream>> pendingResponse;
+
+    private HttpResponse<InputStream> response;
+
+    private Map<String, List<String>> responseHeaders;
+
+    private List<String> responseHeaderNames;
+
+    public PooledHttpURLConnection(final HttpClient httpClient, final URI uri, final int bufferSize) throws IOException {
+        super(Assert.requireNonNull(uri, "uri").toURL());
+        this.httpClient = Assert.requireNonNull(httpClient, "httpClient");
+        this.uri = uri;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void connect() throws IOException {
+        if (response != null) {
+            return;
+        }
+        if (pendingResponse == null) {
+            pendingResponse = send(HttpRequest.BodyPublishers.noBody());
+        }
+        try {
+            response = pendingResponse.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response of " + uri);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Error while sending request to " + uri, cause);
+        }
+        responseCode = response.statusCode();
+        responseMessage = reasonPhrase(responseCode);
+        responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        responseHeaders.putAll(response.headers().map());
+        responseHeaderNames = new ArrayList<>(responseHeaders.keySet());
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        if (!getDoOutput()) {
+            throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+        }
+        if (requestContent != null) {
+            return requestContent;
+        }
+        if (pendingResponse != null) {
+            throw new ProtocolException("Cannot write output after reading input.");
+        }
+        final PipedInputStream contentSource = new PipedInputStream(bufferSize);
+        requestContent = new PipedOutputStream(contentSource);
+        final HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> contentSource);
+        final long contentLength = requestContentLength();
+        pendingResponse = send(contentLength > 0 ? HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength) : publisher);
+        // if the request fails or ends early the writer must not block on a pipe that is never read again
+        pendingResponse.whenComplete((r, e) -> closeQuietly(contentSource));
+        return requestContent;
+    }
+
+    private long requestContentLength() {
+        if (fixedContentLengthLong >= 0) {
+            return fixedContentLengthLong;
+        }
+        if (fixedContentLength >= 0) {
+            return fixedContentLength;
+        }
+        final String contentLength = getRequestProperty("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (final NumberFormatException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private CompletableFuture<HttpResponse<InputStream>> send(final HttpRequest.BodyPublisher bodyPublisher) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(uri);
+        getRequestProperties().forEach((name, values) -> {
+            if (name != null && !RESTRICTED_HEADERS.contains(name)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+        if (getReadTimeout() > 0) {
+            builder.timeout(Duration.ofMillis(getReadTimeout()));
+        }
+        builder.method(getRequestMethod(), bodyPublisher);
+        connected = true;
+        return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        connect();
+        if (responseCode >= HTTP_BAD_REQUEST) {
+            throw new IOException("Server returned HTTP response code: " + responseCode + " for URL: " + uri);
+        }
+        return response.body();
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        if (response == null || responseCode < HTTP_BAD_REQUEST) {
+            return null;
+        }
+        return response.body();
+    }
+
+    @Override
+    public int getResponseCode() throws IOException {
+        connect();
+        return responseCode;
+    }
+
+    @Override
+    public String getResponseMessage() throws IOException {
+        connect();
+        return responseMessage;
+    }
+
+    @Override
+    public String getHeaderField(final String name) {
+        if (!ensureConnected()) {
+            return null;
+        }
+        final List<String> values = responseHeaders.get(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.get(values.size() - 1);
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaderFields() {
+        if (!ensureConnected()) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(responseHeaders);
+    }
+
+    @Override
+    public String getHeaderFieldKey(final int n) {
+        if (!ensureConnected() || n < 0 || n >= responseHeaderNames.size()) {
+            return null;
+        }
+        return responseHeaderNames.get(n);
+    }
+
+    @Override
+    public String getHeaderField(final int n) {
+        return getHeaderField(getHeaderFieldKey(n));
+    }
+
+    @Override
+    public void disconnect() {
+        if (response == null && pendingResponse != null) {
+            pendingResponse.cancel(true);
+        }
+        if (response != null) {
+            try {
+                response.body().close();
+            } catch (final IOException e) {
+                // the stream is only closed to release the pooled connection
+            }
+        }
+    }
+
+    @Override
+    public boolean usingProxy() {
+        return httpClient.proxy().isPresent();
+    }
+
+    public HttpClient.Version getHttpVersion() {
+        return response == null ? null : response.version();
+    }
+
+    private boolean ensureConnected() {
+        try {
+            connect();
+            return true;
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private static void closeQuietly(final InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (final IOException e) {
+            // closing a pipe never fails
+        }
+    }
+
+    /**
+     * The {@link HttpClient} does not provide the reason phrase of a response (HTTP/2 does not even transfer it).
+     * Since callers of a {@link HttpURLConnection} expect a message we use the standard phrase of the status code.
+     */
+    private static String reasonPhrase(final int code) {
+        switch (code) {
+            case HTTP_OK: return "OK";
+            case HTTP_CREATED: return "Created";
+            case HTTP_ACCEPTED: return "Accepted";
+            case HTTP_NO_CONTENT: return "No Content";
+            case HTTP_MOVED_PERM: return "Moved Permanently";
+            case HTTP_MOVED_TEMP: return "Found";
+            case HTTP_SEE_OTHER: return "See Other";
+            case HTTP_NOT_MODIFIED: return "Not Modified";
+            case HTTP_BAD_REQUEST: return "Bad Request";
+            case HTTP_UNAUTHORIZED: return "Unauthorized";
+            case HTTP_FORBIDDEN: return "Forbidden";
+            case HTTP_NOT_FOUND: return "Not Found";
+            case HTTP_BAD_METHOD: return "Method Not Allowed";
+            case HTTP_CLIENT_TIMEOUT: return "Request Timeout";
+            case HTTP_CONFLICT: return "Conflict";
+            case HTTP_GONE: return "Gone";
+            case HTTP_ENTITY_TOO_LARGE: return "Payload Too Large";
+            case HTTP_UNSUPPORTED_TYPE: return "Unsupported Media Type";
+            case HTTP_INTERNAL_ERROR: return "Internal Server Error";
+            case HTTP_NOT_IMPLEMENTED: return "Not Implemented";
+            case HTTP_BAD_GATEWAY: return "Bad Gateway";
+            case HTTP_UNAVAILABLE: return "Service Unavailable";
+            case HTTP_GATEWAY_TIMEOUT: return "Gateway Timeout";
+            default: return "HTTP " + code;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.client.http;
+
+import dev.rico.core.http.HttpURLConnectionFactory;
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A {@link HttpURLConnectionFactory} that creates connections backed by one shared {@link HttpClient}. In contrast to
+ * {@link dev.rico.internal.core.http.DefaultHttpURLConnectionFactory} all connections created by this factory share
+ * one keep-alive connection pool and can use HTTP/2 multiplexing if the server supports it.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class PooledHttpURLConnectionFactory implements HttpURLConnectionFactory {
+
+    private final HttpClient httpClient;
+
+    private final int bufferSize;
+
+    public PooledHttpURLConnectionFactory(final boolean http2, final Duration connectTimeout, final int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be > 0");
+        }
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        if (connectTimeout != null && !connectTimeout.isZero() && !connectTimeout.isNegative()) {
+            builder.connectTimeout(connectTimeout);
+        }
+        this.httpClient = builder.build();
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public HttpURLConnection create(final URI url) throws IOException {
+        Assert.requireNonNull(url, "url");
+        final String scheme = url.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            throw new IOException("URL do not provide a HttpURLConnection!");
+        }
+        return new PooledHttpURLConnection(httpClient, url, bufferSize);
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+}
@@ -49,4 +49,5 @@ module dev.rico.client {
     requires org.slf4j;
     requires static org.apiguardian.api;
     requires com.google.gson;
+    requires java.net.http;
 }
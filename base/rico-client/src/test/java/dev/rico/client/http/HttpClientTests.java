@@ -21,6 +21,7 @@ import dev.rico.internal.core.http.HttpHeaderConstants;
 import dev.rico.core.http.BadResponseException;
 import dev.rico.core.http.ByteArrayProvider;
 import dev.rico.core.http.ConnectionException;
+import dev.rico.core.http.HttpCallResponseBuilder;
 import dev.rico.core.http.HttpClient;
 import dev.rico.core.http.HttpResponse;
 import com.google.gson.Gson;
@@ -32,6 +33,9 @@ import spark.Redirect;
 import spark.Spark;
 
 import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -75,6 +79,8 @@ public class HttpClientTests {
             return "UPPS";
         });
         Spark.post("/", (req, res) -> STD_POST_RESPONSE);
+        Spark.post("/upload", (req, res) -> "" + req.bodyAsBytes().length);
+        Spark.post("/echo", (req, res) -> req.body());
         Spark.get("/", HttpHeaderConstants.JSON_MIME_TYPE, (req, res) -> {
 
             final Gson gson = new Gson();
@@ -368,6 +374,47 @@ public class HttpClientTests {
         assertThatErrorCalledAndDoneNotCalled(actionCalled, doneCalled, errorCalled);
     }
 
+    @Test
+    public void testStreamingFileUpload() throws Exception {
+        //given:
+        final HttpClient client = Client.getService(HttpClient.class);
+        final Path file = Files.createTempFile("rico-upload", ".bin");
+        file.toFile().deleteOnExit();
+        final byte[] content = new byte[512 * 1024];
+        Files.write(file, content);
+
+        //when:
+        final CompletableFuture<HttpResponse<String>> future = client.post("http://localhost:" + freePort + "/upload")
+                .withContent(file, HttpHeaderConstants.RAW_MIME_TYPE)
+                .readString()
+                .execute();
+
+        //then:
+        final HttpResponse<String> response = future.get(5_000, TimeUnit.MILLISECONDS);
+        assertThat("Wrong response code", response.getStatusCode(), is(200));
+        assertThat("Wrong content size", response.getContent(), is("" + content.length));
+    }
+
+    @Test
+    public void testFileIsReadWhenRequestIsExecuted() throws Exception {
+        //given:
+        final HttpClient client = Client.getService(HttpClient.class);
+        final Path file = Files.createTempFile("rico-upload", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, "before".getBytes(StandardCharsets.UTF_8));
+        final HttpCallResponseBuilder responseBuilder = client.post("http://localhost:" + freePort + "/echo")
+                .withContent(file, HttpHeaderConstants.TEXT_MIME_TYPE);
+
+        //when:
+        Files.write(file, "after!".getBytes(StandardCharsets.UTF_8));
+        final CompletableFuture<HttpResponse<String>> future = responseBuilder.readString().execute();
+
+        //then:
+        final HttpResponse<String> response = future.get(5_000, TimeUnit.MILLISECONDS);
+        assertThat("Wrong response code", response.getStatusCode(), is(200));
+        assertThat("Wrong content", response.getContent(), is("after!"));
+    }
+
     @Test
     public void testPermanentRedirect() throws Exception {
         //given:
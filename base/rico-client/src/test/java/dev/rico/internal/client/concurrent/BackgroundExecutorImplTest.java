@@ -0,0 +1,108 @@
+package dev.rico.internal.client.concurrent;
+
+import dev.rico.client.concurrent.BackgroundTask;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class BackgroundExecutorImplTest {
+
+    private ExecutorService executorService;
+
+    @BeforeMethod
+    public void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void finishedTasksAreOnlyKeptInHistory() throws Exception {
+        // given
+        final BackgroundExecutorImpl backgroundExecutor = new BackgroundExecutorImpl(executorService, 2);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            backgroundExecutor.submit(() -> {});
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, SECONDS);
+
+        // then
+        assertEquals(backgroundExecutor.getCompletedTaskCount(), 10);
+        assertEquals(backgroundExecutor.getRunningTaskCount(), 0);
+        assertEquals(backgroundExecutor.getQueuedTaskCount(), 0);
+        assertEquals(backgroundExecutor.getAllTasks().size(), 2);
+    }
+
+    @Test
+    public void runningAndQueuedTasksAreCounted() throws Exception {
+        // given
+        final BackgroundExecutorImpl backgroundExecutor = new BackgroundExecutorImpl(executorService, 0);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        final Future<?> first = backgroundExecutor.submit(() -> {
+            TaskHelper.getInstance().setTaskName("first");
+            started.countDown();
+            release.await();
+            return null;
+        });
+        backgroundExecutor.submit(() -> {});
+        started.await(1, SECONDS);
+
+        // then
+        assertEquals(backgroundExecutor.getRunningTaskCount(), 1);
+        assertEquals(backgroundExecutor.getQueuedTaskCount(), 1);
+        final List<BackgroundTask> tasks = backgroundExecutor.getAllTasks();
+        assertEquals(tasks.size(), 2);
+        assertTrue(tasks.stream().anyMatch(t -> t.isRunning() && "first".equals(t.getName())));
+
+        // when
+        release.countDown();
+        first.get(1, SECONDS);
+        executorService.shutdown();
+        executorService.awaitTermination(1, SECONDS);
+
+        // then
+        assertEquals(backgroundExecutor.getCompletedTaskCount(), 2);
+        assertTrue(backgroundExecutor.getAllTasks().isEmpty());
+    }
+
+    @Test
+    public void cancelledQueuedTaskIsRemoved() throws Exception {
+        // given
+        final BackgroundExecutorImpl backgroundExecutor = new BackgroundExecutorImpl(executorService, 0);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Future<?> blocking = backgroundExecutor.submit(() -> {
+            release.await();
+            return null;
+        });
+
+        // when
+        final Future<?> queued = backgroundExecutor.submit(() -> {});
+        queued.cancel(false);
+
+        // then
+        assertTrue(queued.isCancelled());
+        assertEquals(backgroundExecutor.getAllTasks().size(), 1);
+
+        // when
+        release.countDown();
+        blocking.get(1, SECONDS);
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.client.http;
+
+import dev.rico.core.http.RequestMethod;
+import dev.rico.internal.core.http.HttpClientConnection;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import spark.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class PooledHttpURLConnectionTest {
+
+    private final PooledHttpURLConnectionFactory factory = new PooledHttpURLConnectionFactory(false, Duration.ofSeconds(2), 512);
+
+    private Service spark;
+
+    private int port;
+
+    private final CountDownLatch requestReceived = new CountDownLatch(1);
+
+    @BeforeClass
+    public void startSpark() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            port = socket.getLocalPort();
+        }
+        spark = Service.ignite().port(port);
+        spark.get("/pooled", (req, res) -> {
+            res.header("X-Test-Header", req.headers("X-Request-Header"));
+            return "GET";
+        });
+        spark.post("/pooled", (req, res) -> "POST:" + req.body());
+        spark.post("/pooled/stream", (req, res) -> {
+            requestReceived.countDown();
+            return "LENGTH:" + req.bodyAsBytes().length;
+        });
+        spark.get("/pooled/error", (req, res) -> {
+            res.status(401);
+            return "UPPS";
+        });
+        spark.awaitInitialization();
+    }
+
+    @AfterClass
+    public void stopSpark() {
+        spark.stop();
+    }
+
+    @Test
+    public void testGetWithHeaders() throws Exception {
+        //given:
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled"), RequestMethod.GET);
+        connection.addRequestHeader("X-Request-Header", "rico");
+
+        //when:
+        final int responseCode = connection.readResponseCode();
+
+        //then:
+        assertEquals(responseCode, 200);
+        assertEquals(connection.readUTFResponseContent(), "GET");
+        assertNotNull(connection.getResponseHeader("x-test-header"));
+        assertEquals(connection.getResponseHeader("x-test-header").getContent(), "rico");
+    }
+
+    @Test
+    public void testPostWithContentLargerThanBuffer() throws Exception {
+        //given:
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 2048; i++) {
+            content.append(i % 10);
+        }
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled"), RequestMethod.POST);
+
+        //when:
+        connection.writeRequestContent(content.toString());
+
+        //then:
+        assertEquals(connection.readResponseCode(), 200);
+        assertEquals(connection.readUTFResponseContent(), "POST:" + content);
+    }
+
+    @Test
+    public void testErrorResponseIsProvidedAsErrorStream() throws Exception {
+        //given:
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled/error"), RequestMethod.GET);
+
+        //when:
+        final int responseCode = connection.readResponseCode();
+
+        //then:
+        assertEquals(responseCode, 401);
+        assertNotNull(connection.getConnection().getErrorStream());
+        assertEquals(connection.readUTFResponseContent(), "UPPS");
+    }
+
+    @Test
+    public void testContentIsStreamedWhileWritten() throws Exception {
+        //given:
+        final HttpURLConnection connection = factory.create(uri("/pooled/stream"));
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setChunkedStreamingMode(512);
+        final byte[] chunk = new byte[4096];
+
+        //when:
+        try (final OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(chunk);
+            outputStream.flush();
+
+            //then:
+            assertTrue(requestReceived.await(10, TimeUnit.SECONDS), "request must reach the server before the content is complete");
+            for (int i = 0; i < 255; i++) {
+                outputStream.write(chunk);
+            }
+        }
+        assertEquals(connection.getResponseCode(), 200);
+        assertEquals(connection.getResponseMessage(), "OK");
+        try (final InputStream inputStream = connection.getInputStream()) {
+            assertEquals(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), "LENGTH:" + (256 * chunk.length));
+        }
+    }
+
+    @Test
+    public void testFixedLengthContent() throws Exception {
+        //given:
+        final byte[] content = new byte[128 * 1024];
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled/stream"), RequestMethod.POST);
+
+        //when:
+        connection.writeRequestContent(new ByteArrayInputStream(content), content.length);
+
+        //then:
+        assertEquals(connection.readResponseCode(), 200);
+        assertEquals(connection.readUTFResponseContent(), "LENGTH:" + content.length);
+    }
+
+    @Test
+    public void testWrittenContent() throws Exception {
+        //given:
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled"), RequestMethod.POST);
+
+        //when:
+        connection.writeRequestContent(out -> {
+            out.write("Hello ".getBytes(StandardCharsets.UTF_8));
+            out.write("Rico".getBytes(StandardCharsets.UTF_8));
+        });
+
+        //then:
+        assertEquals(connection.readResponseCode(), 200);
+        assertEquals(connection.readUTFResponseContent(), "POST:Hello Rico");
+    }
+
+    @Test
+    public void testLargeWrittenContentIsStreamed() throws Exception {
+        //given:
+        final byte[] chunk = new byte[4096];
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled/stream"), RequestMethod.POST);
+
+        //when:
+        connection.writeRequestContent(out -> {
+            for (int i = 0; i < 64; i++) {
+                out.write(chunk);
+            }
+        });
+
+        //then:
+        assertEquals(connection.readResponseCode(), 200);
+        assertEquals(connection.readUTFResponseContent(), "LENGTH:" + (64 * chunk.length));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testFailingWriter() throws Exception {
+        //given:
+        final HttpClientConnection connection = new HttpClientConnection(factory, uri("/pooled"), RequestMethod.POST);
+
+        //when:
+        connection.writeRequestContent(out -> {
+            out.write(1);
+            throw new IOException("UPPS");
+        });
+    }
+
+    @Test
+    public void testResponseMessage() throws Exception {
+        //given:
+        final HttpURLConnection connection = factory.create(uri("/pooled/error"));
+
+        //when:
+        final String message = connection.getResponseMessage();
+
+        //then:
+        assertEquals(message, "Unauthorized");
+    }
+
+    private URI uri(final String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -1,9 +1,15 @@
 package dev.rico.core.http;
 
 import dev.rico.core.functional.Subscription;
+import dev.rico.internal.core.Assert;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
@@ -14,6 +20,8 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 @API(since = "0.x", status = EXPERIMENTAL)
 public abstract class DownloadInputStream extends InputStream {
 
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
     /**
      * Sets the chunk size that is used to check for updates of listeners. While the stream is used listeners
      * (see {@link #addDownloadPercentageListener(Consumer)}) will be called several times. The chunk size defines
@@ -77,4 +85,32 @@ public abstract class DownloadInputStream extends InputStream {
      * @return the data size of the complete download (if that is known), otherwise -1.
      */
     public abstract long getDataSize();
+
+    /**
+     * Writes the complete content of the stream to the given file. The content of a http connection is not
+     * available as a channel, so this is no zero-copy transfer: the content is copied through one big buffer that
+     * is written to the {@link FileChannel} of the file. Listeners of the stream will be called like for any other
+     * read. The stream is closed once the transfer is done.
+     *
+     * @param target the file
+     * @return count of bytes that have been written to the file
+     * @throws IOException if the content can not be read or written
+     */
+    public long transferTo(final Path target) throws IOException {
+        Assert.requireNonNull(target, "target");
+        try (final InputStream source = this;
+             final FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final byte[] buffer = new byte[TRANSFER_BUFFER_SIZE];
+            long transferred = 0;
+            int read;
+            while ((read = source.read(buffer)) >= 0) {
+                final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                while (byteBuffer.hasRemaining()) {
+                    channel.write(byteBuffer);
+                }
+                transferred += read;
+            }
+            return transferred;
+        }
+    }
 }
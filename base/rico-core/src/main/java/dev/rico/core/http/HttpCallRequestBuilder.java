@@ -16,12 +16,16 @@
  */
 package dev.rico.core.http;
 
+import dev.rico.core.functional.CheckedConsumer;
 import dev.rico.internal.core.http.EmptyInputStream;
 import org.apiguardian.api.API;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static dev.rico.internal.core.http.HttpHeaderConstants.CHARSET;
 import static dev.rico.internal.core.http.HttpHeaderConstants.RAW_MIME_TYPE;
@@ -64,9 +68,30 @@ public interface HttpCallRequestBuilder {
 
     }
 
+    /**
+     * Defines a file as content of the request. The file is opened once the request content is written.
+     *
+     * @param file the file
+     * @param contentType the content type
+     * @return the builder for the response
+     */
+    default HttpCallResponseBuilder withContent(final Path file, final String contentType) {
+        return withContent(out -> Files.copy(file, out), contentType);
+    }
+
     <I> HttpCallResponseBuilder withContent(I content);
 
     HttpCallResponseBuilder withContent(final InputStream stream, final String contentType);
 
+    /**
+     * Defines the content of the request by a writer. The writer is called once the request is executed and writes
+     * the content directly to the request body, so the content is never held in memory as a whole.
+     *
+     * @param writer writes the content to the given stream
+     * @param contentType the content type
+     * @return the builder for the response
+     */
+    HttpCallResponseBuilder withContent(final CheckedConsumer<OutputStream> writer, final String contentType);
+
     HttpCallResponseBuilder withoutContent();
 }
@@ -19,23 +19,34 @@ package dev.rico.internal.core.concurrent;
 import dev.rico.internal.core.Assert;
 import dev.rico.core.concurrent.Trigger;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 public class ScheduledTask {
 
+    private static final long MAX_DELAY_SECONDS = TimeUnit.NANOSECONDS.toSeconds(Long.MAX_VALUE / 2);
+
     private final Runnable task;
 
     private final Trigger trigger;
 
     private final LocalDateTime scheduledStartDate;
 
+    private final long scheduledStartNanos;
+
     private final CompletableFuture<Void> completableFuture;
 
+    private long sequenceNumber;
+
+    private int queueIndex = -1;
+
     public ScheduledTask(final Runnable task, final Trigger trigger, final CompletableFuture<Void> completableFuture) {
         this.task = Assert.requireNonNull(task, "task");
         this.trigger = Assert.requireNonNull(trigger, "trigger");
         this.scheduledStartDate = LocalDateTime.MIN;
+        this.scheduledStartNanos = System.nanoTime();
         this.completableFuture = Assert.requireNonNull(completableFuture, "completableFuture");
     }
 
@@ -43,6 +54,7 @@ public class ScheduledTask {
         this.task = Assert.requireNonNull(task, "task");
         this.trigger = Assert.requireNonNull(trigger, "trigger");
         this.scheduledStartDate = Assert.requireNonNull(scheduledStartDate, "scheduledStartDate");
+        this.scheduledStartNanos = toNanoTime(scheduledStartDate);
         this.completableFuture = Assert.requireNonNull(completableFuture, "completableFuture");
     }
 
@@ -62,8 +74,46 @@ public class ScheduledTask {
         return scheduledStartDate;
     }
 
+    /**
+     * Returns the start time of the task as {@link System#nanoTime()} value. The wall clock time of the trigger is
+     * converted only once when the task is created, so the scheduling is not affected by later clock changes.
+     *
+     * @return the start time
+     */
+    public long getScheduledStartNanos() {
+        return scheduledStartNanos;
+    }
+
     public ScheduledTask next(LocalDateTime nextTime) {
         Assert.requireNonNull(nextTime, "nextTime");
         return new ScheduledTask(task, trigger, nextTime, completableFuture);
     }
+
+    long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    void setSequenceNumber(final long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    int getQueueIndex() {
+        return queueIndex;
+    }
+
+    void setQueueIndex(final int queueIndex) {
+        this.queueIndex = queueIndex;
+    }
+
+    private static long toNanoTime(final LocalDateTime time) {
+        final Duration delay = Duration.between(LocalDateTime.now(), time);
+        final long now = System.nanoTime();
+        if (delay.isNegative()) {
+            return now;
+        }
+        if (delay.getSeconds() >= MAX_DELAY_SECONDS) {
+            return now + TimeUnit.SECONDS.toNanos(MAX_DELAY_SECONDS);
+        }
+        return now + delay.toNanos();
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.core.concurrent;
+
+import dev.rico.internal.core.Assert;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of {@link ScheduledTask} instances ordered by their start time. Each task knows its position in the
+ * heap, therefore a task can be removed in O(log n). Tasks with the same start time are returned in insertion order.
+ * The queue is not thread safe.
+ */
+class ScheduledTaskQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private ScheduledTask[] heap = new ScheduledTask[INITIAL_CAPACITY];
+
+    private int size;
+
+    private long sequenceNumber;
+
+    void add(final ScheduledTask task) {
+        Assert.requireNonNull(task, "task");
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        task.setSequenceNumber(sequenceNumber++);
+        heap[size] = task;
+        task.setQueueIndex(size);
+        siftUp(size++);
+    }
+
+    ScheduledTask peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    ScheduledTask poll() {
+        if (size == 0) {
+            return null;
+        }
+        final ScheduledTask first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    boolean remove(final ScheduledTask task) {
+        Assert.requireNonNull(task, "task");
+        final int index = task.getQueueIndex();
+        if (index < 0 || index >= size || heap[index] != task) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void removeAt(final int index) {
+        final ScheduledTask removed = heap[index];
+        removed.setQueueIndex(-1);
+        size--;
+        if (index == size) {
+            heap[size] = null;
+            return;
+        }
+        final ScheduledTask last = heap[size];
+        heap[size] = null;
+        heap[index] = last;
+        last.setQueueIndex(index);
+        siftDown(index);
+        if (heap[index] == last) {
+            siftUp(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        final ScheduledTask task = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (compare(task, heap[parent]) >= 0) {
+                break;
+            }
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(task, index);
+    }
+
+    private void siftDown(int index) {
+        final ScheduledTask task = heap[index];
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            final int right = child + 1;
+            if (right < size && compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (compare(task, heap[child]) <= 0) {
+                break;
+            }
+            move(heap[child], index);
+            index = child;
+        }
+        move(task, index);
+    }
+
+    private void move(final ScheduledTask task, final int index) {
+        heap[index] = task;
+        task.setQueueIndex(index);
+    }
+
+    private static int compare(final ScheduledTask a, final ScheduledTask b) {
+        final long diff = a.getScheduledStartNanos() - b.getScheduledStartNanos();
+        if (diff != 0) {
+            return diff < 0 ? -1 : 1;
+        }
+        return Long.compare(a.getSequenceNumber(), b.getSequenceNumber());
+    }
+}
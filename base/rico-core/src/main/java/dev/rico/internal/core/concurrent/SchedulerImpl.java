@@ -24,68 +24,98 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Default {@link Scheduler} implementation. A dispatcher loop waits for the next task of a heap based queue and hands
+ * it to the worker executor. All waiting is based on {@link System#nanoTime()}. A task is removed from the queue when
+ * the future that is returned by {@link #schedule(Runnable, Trigger)} is cancelled.
+ */
 public class SchedulerImpl implements Scheduler {
 
     private static final Logger LOG = LoggerFactory.getLogger(SchedulerImpl.class);
 
     private final Executor executor;
 
-    private final List<ScheduledTask> tasks;
+    private final ScheduledTaskQueue tasks;
 
     private final Lock taskLock;
 
     private final Condition taskCondition;
 
-    private final Comparator<ScheduledTask> comparator;
+    private final LongAdder startedTaskCount = new LongAdder();
+
+    private final LongAdder totalStartDelay = new LongAdder();
+
+    private final AtomicLong maxStartDelay = new AtomicLong();
 
     public SchedulerImpl(final Executor executor) {
-        this.executor = Assert.requireNonNull(executor, "executor");
-        this.tasks = new CopyOnWriteArrayList<>();
-        this.comparator = Comparator.comparing(ScheduledTask::getScheduledStartDate);
+        this(executor, executor);
+    }
+
+    /**
+     * Creates a scheduler that runs the dispatcher loop and the tasks in different executors.
+     *
+     * @param dispatcherExecutor executor for the dispatcher loop, the loop blocks one thread for the lifetime of the
+     *                           scheduler
+     * @param workerExecutor     executor for the scheduled tasks
+     */
+    public SchedulerImpl(final Executor dispatcherExecutor, final Executor workerExecutor) {
+        Assert.requireNonNull(dispatcherExecutor, "dispatcherExecutor");
+        this.executor = Assert.requireNonNull(workerExecutor, "workerExecutor");
+        this.tasks = new ScheduledTaskQueue();
         this.taskLock = new ReentrantLock();
         this.taskCondition = taskLock.newCondition();
 
-        executor.execute(() -> {
-            while (!Thread.currentThread().isInterrupted()) {
-                taskLock.lock();
-                try {
-                    if (!tasks.isEmpty()) {
-                        tasks.sort(comparator);
-                        final ScheduledTask nextTask = tasks.get(0);
-                        final LocalDateTime now = LocalDateTime.now();
-                        if (nextTask.getScheduledStartDate().isBefore(now) || nextTask.getScheduledStartDate().isEqual(now)) {
-                            tasks.remove(nextTask);
-                            executeScheduledTask(nextTask);
-                        } else {
-                            taskCondition.awaitNanos(Duration.between(now, nextTask.getScheduledStartDate()).toNanos());
-                        }
-                    } else {
-                        taskCondition.await();
-                    }
-                } catch (InterruptedException e) {
-                    LOG.warn("Scheduler has been interrupted", e);
-                    throw new RuntimeException(e);
-                } finally {
-                    taskLock.unlock();
+        dispatcherExecutor.execute(this::dispatch);
+    }
+
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final ScheduledTask nextTask;
+            taskLock.lock();
+            try {
+                final ScheduledTask firstTask = tasks.peek();
+                if (firstTask == null) {
+                    taskCondition.await();
+                    continue;
+                }
+                final long delay = firstTask.getScheduledStartNanos() - System.nanoTime();
+                if (delay > 0) {
+                    taskCondition.awaitNanos(delay);
+                    continue;
                 }
+                nextTask = tasks.poll();
+                ((TaskFuture) nextTask.getCompletableFuture()).queuedTask = null;
+            } catch (InterruptedException e) {
+                LOG.warn("Scheduler has been interrupted");
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                taskLock.unlock();
             }
-        });
+            executeScheduledTask(nextTask);
+        }
     }
 
     private void executeScheduledTask(final ScheduledTask task) {
         Assert.requireNonNull(task, "task");
         executor.execute(() -> {
+            recordStartDelay(System.nanoTime() - task.getScheduledStartNanos());
             final LocalDateTime startTime = LocalDateTime.now();
-            task.getTask().run();
+            try {
+                task.getTask().run();
+            } catch (final RuntimeException e) {
+                LOG.error("Scheduled task failed and will not be executed again", e);
+                task.getCompletableFuture().completeExceptionally(e);
+                return;
+            }
             final LocalDateTime endTime = LocalDateTime.now();
             final ScheduledTaskResultImpl lastTime = new ScheduledTaskResultImpl(task.getScheduledStartDate(), startTime, endTime);
 
@@ -93,6 +123,13 @@ public class SchedulerImpl implements Scheduler {
         });
     }
 
+    private void recordStartDelay(final long delay) {
+        final long lateness = Math.max(0, delay);
+        startedTaskCount.increment();
+        totalStartDelay.add(lateness);
+        maxStartDelay.accumulateAndGet(lateness, Math::max);
+    }
+
     private void schedule(final ScheduledTask task, final ScheduledTaskResultImpl lastTime) {
         task.getTrigger().nextExecutionTime(lastTime)
                 .ifPresentOrElse(
@@ -101,11 +138,18 @@ public class SchedulerImpl implements Scheduler {
                 );
     }
 
-    private void addToQueue(ScheduledTask task) {
+    private void addToQueue(final ScheduledTask task) {
+        final TaskFuture future = (TaskFuture) task.getCompletableFuture();
         taskLock.lock();
         try {
+            if (future.isDone()) {
+                return;
+            }
             tasks.add(task);
-            taskCondition.signal();
+            future.queuedTask = task;
+            if (tasks.peek() == task) {
+                taskCondition.signal();
+            }
         } finally {
             taskLock.unlock();
         }
@@ -113,7 +157,7 @@ public class SchedulerImpl implements Scheduler {
 
     @Override
     public CompletableFuture<Void> schedule(final Runnable task, final Trigger trigger) {
-        final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
+        final CompletableFuture<Void> completableFuture = new TaskFuture();
         final ScheduledTask scheduledTask = new ScheduledTask(task, trigger, completableFuture);
         schedule(scheduledTask, null);
         return completableFuture;
@@ -123,4 +167,58 @@ public class SchedulerImpl implements Scheduler {
     public void execute(final Runnable command) {
         executor.execute(command);
     }
+
+    public int getQueuedTaskCount() {
+        taskLock.lock();
+        try {
+            return tasks.size();
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    public long getStartedTaskCount() {
+        return startedTaskCount.sum();
+    }
+
+    /**
+     * Returns the average time between the planned start of a task and its real start.
+     *
+     * @return the average lateness of task starts
+     */
+    public Duration getAverageStartDelay() {
+        final long count = startedTaskCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalStartDelay.sum() / count);
+    }
+
+    /**
+     * Returns the maximum time between the planned start of a task and its real start.
+     *
+     * @return the maximum lateness of task starts
+     */
+    public Duration getMaxStartDelay() {
+        return Duration.ofNanos(maxStartDelay.get());
+    }
+
+    private class TaskFuture extends CompletableFuture<Void> {
+
+        private ScheduledTask queuedTask;
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                taskLock.lock();
+                try {
+                    if (queuedTask != null) {
+                        tasks.remove(queuedTask);
+                        queuedTask = null;
+                    }
+                } finally {
+                    taskLock.unlock();
+                }
+            }
+            return cancelled;
+        }
+    }
 }
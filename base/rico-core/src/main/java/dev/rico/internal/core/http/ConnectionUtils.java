@@ -33,7 +33,6 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.Objects;
 
 import static dev.rico.internal.core.RicoConstants.HASH_ALGORITHM;
 import static dev.rico.internal.core.http.HttpHeaderConstants.CHARSET;
@@ -41,6 +40,8 @@ import static dev.rico.internal.core.http.HttpHeaderConstants.CONTENT_DISPOSITIO
 
 public class ConnectionUtils {
 
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
     private ConnectionUtils() {
     }
 
@@ -55,9 +56,13 @@ public class ConnectionUtils {
     }
 
     public static byte[] readContent(final InputStream inputStream) throws IOException {
+        return readContent(inputStream, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static byte[] readContent(final InputStream inputStream, final int bufferSize) throws IOException {
         Assert.requireNonNull(inputStream, "inputStream");
-        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        copy(inputStream, byteArrayOutputStream);
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(bufferSize);
+        copy(inputStream, byteArrayOutputStream, bufferSize);
         return byteArrayOutputStream.toByteArray();
     }
 
@@ -124,7 +129,7 @@ public class ConnectionUtils {
     public static String getContentName(final HttpResponse<InputStream> response) {
         Assert.requireNonNull(response, "response");
         return response.getHeaders().stream()
-                .filter(h -> Objects.equals(CONTENT_DISPOSITION_HEADER_NAME, h.getName()))
+                .filter(h -> CONTENT_DISPOSITION_HEADER_NAME.equalsIgnoreCase(h.getName()))
                 .map(HttpHeader::getContent)
                 .flatMap(v -> Arrays.stream(v.split(";")))
                 .map(String::trim)
@@ -149,7 +154,7 @@ public class ConnectionUtils {
     }
 
     public static long copy(final InputStream inputStream, final OutputStream outputStream) throws IOException {
-        return copy(inputStream, outputStream, 1024);
+        return copy(inputStream, outputStream, DEFAULT_BUFFER_SIZE);
     }
 
     public static long copy(final InputStream inputStream, final OutputStream outputStream, final int bufferSize) throws IOException {
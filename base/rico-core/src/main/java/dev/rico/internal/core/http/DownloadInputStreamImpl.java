@@ -10,7 +10,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Objects;
@@ -20,10 +20,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+import static dev.rico.internal.core.RicoConstants.HASH_ALGORITHM;
+
 public class DownloadInputStreamImpl extends DownloadInputStream {
 
     private static final Logger LOG = LoggerFactory.getLogger(DownloadInputStreamImpl.class);
 
+    private static final long INDETERMINATE_UPDATE_CHUNK_SIZE = 64 * 1024;
+
     private final List<Consumer<Double>> downloadPercentageListeners;
 
     private final List<Consumer<Long>> downloadStartListeners;
@@ -34,7 +38,11 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
 
     private final Executor updateExecutor;
 
-    private final DigestInputStream wrappedStream;
+    private final InputStream wrappedStream;
+
+    private final boolean calculateHash;
+
+    private MessageDigest digest;
 
     private final long dataSize;
 
@@ -46,10 +54,18 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
 
     private final AtomicBoolean firstRead;
 
+    private final AtomicBoolean done;
+
     private final DownloadType downloadType;
 
     public DownloadInputStreamImpl(final InputStream inputStream, final long dataSize, final Executor updateExecutor) {
+        this(inputStream, dataSize, updateExecutor, false);
+    }
+
+    public DownloadInputStreamImpl(final InputStream inputStream, final long dataSize, final Executor updateExecutor, final boolean calculateHash) {
+        this.wrappedStream = Assert.requireNonNull(inputStream, "inputStream");
         this.updateExecutor = Assert.requireNonNull(updateExecutor, "updateExecutor");
+        this.calculateHash = calculateHash;
         this.dataSize = dataSize > 0 ? dataSize : -1;
         if (dataSize > 0) {
             downloadType = DownloadType.NORMAL;
@@ -59,19 +75,15 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
         this.downloaded = new AtomicLong(0);
         this.lastUpdateSize = new AtomicLong(0);
         this.firstRead = new AtomicBoolean(true);
+        this.done = new AtomicBoolean(false);
         this.downloadPercentageListeners = new CopyOnWriteArrayList<>();
         this.downloadStartListeners = new CopyOnWriteArrayList<>();
         this.downloadDoneListeners = new CopyOnWriteArrayList<>();
         this.onErrorListeners = new CopyOnWriteArrayList<>();
-        this.updateChunkSize = new AtomicLong(1000);
         if (dataSize > 0) {
-            this.updateChunkSize.set(dataSize / 1000);
-        }
-
-        try {
-            this.wrappedStream = ConnectionUtils.createMD5HashStream(inputStream);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("No HASH_ALGORITHM support");
+            this.updateChunkSize = new AtomicLong(Math.max(dataSize / 1000, ConnectionUtils.DEFAULT_BUFFER_SIZE));
+        } else {
+            this.updateChunkSize = new AtomicLong(INDETERMINATE_UPDATE_CHUNK_SIZE);
         }
     }
 
@@ -89,8 +101,14 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
     @Override
     public int read(final byte[] b, final int off, final int len) throws IOException {
         try {
-            final int count = super.read(b, off, len);
-            if (count < 0) {
+            if (firstRead.compareAndSet(true, false)) {
+                onStart();
+            }
+            final int count = wrappedStream.read(b, off, len);
+            if (count > 0) {
+                updateDigest(b, off, count);
+                update(count);
+            } else if (count < 0) {
                 onDone();
             }
             return count;
@@ -106,7 +124,7 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
     @Override
     public void close() throws IOException {
         try {
-            super.close();
+            wrappedStream.close();
         } catch (final Exception e) {
             try {
                 onError(e);
@@ -119,13 +137,15 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
 
     public int read() throws IOException {
         try {
-            if (firstRead.get()) {
+            if (firstRead.compareAndSet(true, false)) {
                 onStart();
-                firstRead.set(false);
             }
             final int value = wrappedStream.read();
             if (value >= 0) {
+                updateDigest(value);
                 update(1);
+            } else {
+                onDone();
             }
             return value;
         } catch (final Exception e) {
@@ -140,11 +160,7 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
     @Override
     public int available() throws IOException {
         try {
-            final int available = super.available();
-            if (available < 0) {
-                onDone();
-            }
-            return available;
+            return wrappedStream.available();
         } catch (final Exception e) {
             try {
                 onError(e);
@@ -154,6 +170,23 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
         }
     }
 
+    /**
+     * Returns the Base64 encoded hash of all bytes that have been read so far or {@code null} if the stream was
+     * created without hash calculation.
+     *
+     * @return the hash or {@code null}
+     */
+    public synchronized String getHash() {
+        if (!calculateHash) {
+            return null;
+        }
+        try {
+            return ConnectionUtils.toBase64(((MessageDigest) getDigest().clone()).digest());
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException("Can not calculate hash", e);
+        }
+    }
+
     public Subscription addDownloadStartListener(final Consumer<Long> listener) {
         Assert.requireNonNull(listener, "listener");
         downloadStartListeners.add(listener);
@@ -179,6 +212,9 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
     }
 
     private void onDone() {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
         LOG.trace("Download of size {} done", dataSize);
         updateExecutor.execute(() -> downloadDoneListeners.forEach(l -> l.accept(dataSize)));
     }
@@ -189,15 +225,38 @@ public class DownloadInputStreamImpl extends DownloadInputStream {
     }
 
     private void onError(final Exception e) {
-        LOG.trace("Downloaded of size {} started", dataSize);
+        LOG.trace("Download of size {} failed", dataSize);
         updateExecutor.execute(() -> onErrorListeners.forEach(l -> l.accept(e)));
     }
 
-    private synchronized void update(final int len) {
+    private synchronized MessageDigest getDigest() {
+        if (digest == null) {
+            try {
+                digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            } catch (final NoSuchAlgorithmException e) {
+                throw new RuntimeException("No HASH_ALGORITHM support");
+            }
+        }
+        return digest;
+    }
+
+    private synchronized void updateDigest(final byte[] b, final int off, final int len) {
+        if (calculateHash) {
+            getDigest().update(b, off, len);
+        }
+    }
+
+    private synchronized void updateDigest(final int value) {
+        if (calculateHash) {
+            getDigest().update((byte) value);
+        }
+    }
+
+    private void update(final int len) {
         final long currentSize = downloaded.addAndGet(len);
-        if (lastUpdateSize.get() + updateChunkSize.get() <= currentSize) {
+        final long lastUpdate = lastUpdateSize.get();
+        if (lastUpdate + updateChunkSize.get() <= currentSize && lastUpdateSize.compareAndSet(lastUpdate, currentSize)) {
             LOG.trace("Downloaded {} bytes of {}", currentSize, dataSize);
-            lastUpdateSize.set(currentSize);
             updateExecutor.execute(() -> {
                 if(downloadType == DownloadType.NORMAL) {
                     final double percentageDone = (((double) currentSize) / ((double) dataSize / 100.0)) / 100.0;
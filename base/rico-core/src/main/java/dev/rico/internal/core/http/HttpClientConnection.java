@@ -16,6 +16,7 @@
  */
 package dev.rico.internal.core.http;
 
+import dev.rico.core.functional.CheckedConsumer;
 import dev.rico.core.http.HttpHeader;
 import dev.rico.core.http.HttpURLConnectionFactory;
 import dev.rico.core.http.RequestMethod;
@@ -28,6 +29,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -41,6 +43,8 @@ public class HttpClientConnection {
 
     private static final Logger LOG = LoggerFactory.getLogger(HttpClientConnection.class);
 
+    private static final int STREAMING_THRESHOLD = 64 * 1024;
+
     private final HttpURLConnection connection;
 
     private final RequestMethod method;
@@ -92,19 +96,87 @@ public class HttpClientConnection {
     }
 
     public void writeRequestContent(final InputStream inputStream) throws IOException {
+        writeRequestContent(inputStream, -1);
+    }
+
+    /**
+     * Writes the content of the given stream as request content. Small contents are send with a
+     * {@code Content-Length} header, bigger contents are streamed to the server without buffering the complete
+     * content in memory. If the size of the content is not known ({@code contentLength < 0}) chunked transfer
+     * encoding is used for big contents.
+     *
+     * @param inputStream the content
+     * @param contentLength the size of the content or -1 if the size is not known
+     * @throws IOException if the content can not be written
+     */
+    public void writeRequestContent(final InputStream inputStream, final long contentLength) throws IOException {
         Assert.requireNonNull(inputStream, "inputStream");
-        if(inputStream.available() > 0) {
-            setDoOutput(true);
-            final OutputStream outputStream = connection.getOutputStream();
-            final long length = ConnectionUtils.copy(inputStream, outputStream);
-            if (length > 0) {
-                if (method == GET) {
-                    LOG.warn("You are currently defining a request content for a HTTP GET call for endpoint '{}'", url);
-                }
+        if (contentLength == 0) {
+            return;
+        }
+        if (contentLength < 0 || contentLength <= STREAMING_THRESHOLD) {
+            final byte[] start = inputStream.readNBytes(STREAMING_THRESHOLD);
+            if (start.length == 0) {
+                return;
+            }
+            final int next = start.length < STREAMING_THRESHOLD ? -1 : inputStream.read();
+            if (next < 0) {
+                writeRequestContent(start);
+                return;
+            }
+            streamRequestContent(inputStream, contentLength, start, next);
+        } else {
+            streamRequestContent(inputStream, contentLength, new byte[0], -1);
+        }
+    }
+
+    /**
+     * Writes the request content by passing the request body to the given writer. Like for
+     * {@link #writeRequestContent(InputStream, long)} small contents are send with a {@code Content-Length} header
+     * while bigger contents are streamed to the server with chunked transfer encoding as soon as they are written.
+     * If the writer fails no (truncated) content is send and a streamed request is aborted.
+     *
+     * @param writer writes the content to the given stream
+     * @throws IOException if the content can not be written
+     */
+    public void writeRequestContent(final CheckedConsumer<OutputStream> writer) throws IOException {
+        Assert.requireNonNull(writer, "writer");
+        final RequestContentOutputStream outputStream = new RequestContentOutputStream();
+        try {
+            writer.accept(outputStream);
+        } catch (final IOException | RuntimeException e) {
+            outputStream.abort();
+            throw e;
+        } catch (final Exception e) {
+            outputStream.abort();
+            throw new IOException("Can not write request content", e);
+        }
+        outputStream.close();
+    }
+
+    private void streamRequestContent(final InputStream inputStream, final long contentLength, final byte[] start, final int next) throws IOException {
+        try (final OutputStream outputStream = openStreamingOutput(contentLength)) {
+            outputStream.write(start);
+            if (next >= 0) {
+                outputStream.write(next);
             }
+            ConnectionUtils.copy(inputStream, outputStream);
+            outputStream.flush();
         }
     }
 
+    private OutputStream openStreamingOutput(final long contentLength) throws IOException {
+        if (method == GET) {
+            LOG.warn("You are currently defining a request content for a HTTP GET call for endpoint '{}'", url);
+        }
+        setDoOutput(true);
+        if (contentLength > 0) {
+            connection.setFixedLengthStreamingMode(contentLength);
+        } else {
+            connection.setChunkedStreamingMode(ConnectionUtils.DEFAULT_BUFFER_SIZE);
+        }
+        return connection.getOutputStream();
+    }
 
     public int readResponseCode() throws IOException {
         return connection.getResponseCode();
@@ -130,7 +202,7 @@ public class HttpClientConnection {
     public HttpHeader getResponseHeader(final String name) {
         return getResponseHeaders().stream()
                 .filter(h -> h.getName() != null)
-                .filter(h -> h.getName().equals(name))
+                .filter(h -> h.getName().equalsIgnoreCase(name))
                 .findFirst()
                 .orElse(null);
     }
@@ -155,4 +227,72 @@ public class HttpClientConnection {
         return connection.getContentLengthLong();
     }
 
+    /**
+     * Keeps the written content in memory until it exceeds the streaming threshold. Smaller contents are send with
+     * a {@code Content-Length} header once the stream is closed, bigger contents are streamed from then on.
+     */
+    private final class RequestContentOutputStream extends OutputStream {
+
+        private byte[] buffer = new byte[ConnectionUtils.DEFAULT_BUFFER_SIZE];
+
+        private int count;
+
+        private OutputStream target;
+
+        private boolean closed;
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (target == null && count + len > STREAMING_THRESHOLD) {
+                target = openStreamingOutput(-1);
+                target.write(buffer, 0, count);
+                buffer = null;
+            }
+            if (target != null) {
+                target.write(b, off, len);
+                return;
+            }
+            if (count + len > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(STREAMING_THRESHOLD, Math.max(buffer.length * 2, count + len)));
+            }
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (target != null) {
+                target.close();
+            } else if (count > 0) {
+                writeRequestContent(Arrays.copyOf(buffer, count));
+            }
+        }
+
+        private void abort() {
+            closed = true;
+            buffer = null;
+            if (target != null) {
+                connection.disconnect();
+            }
+        }
+    }
 }
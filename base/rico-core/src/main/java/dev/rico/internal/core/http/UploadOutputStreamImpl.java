@@ -22,6 +22,8 @@ public class UploadOutputStreamImpl extends OutputStream {
 
     private final AtomicBoolean firstWrite;
 
+    private final AtomicBoolean done;
+
     private final Executor updateExecutor;
 
     private final long size;
@@ -43,10 +45,11 @@ public class UploadOutputStreamImpl extends OutputStream {
         this.size = size;
         this.updateExecutor = Assert.requireNonNull(updateExecutor, "updateExecutor");
         this.firstWrite = new AtomicBoolean(true);
+        this.done = new AtomicBoolean(false);
         this.uploadPercentageListeners = new CopyOnWriteArrayList<>();
         this.uploadStartListeners = new CopyOnWriteArrayList<>();
         this.uploadDoneListeners = new CopyOnWriteArrayList<>();
-        this.updateChunkSize = size / 100;
+        this.updateChunkSize = Math.max(size / 100, ConnectionUtils.DEFAULT_BUFFER_SIZE);
         this.uploaded = new AtomicLong(0);
         this.lastUpdateSize = new AtomicLong(0);
     }
@@ -71,17 +74,30 @@ public class UploadOutputStreamImpl extends OutputStream {
 
     @Override
     public void write(final int b) throws IOException {
-        if (firstWrite.get()) {
+        if (firstWrite.compareAndSet(true, false)) {
             onStart();
-            firstWrite.set(false);
         }
         wrappedStream.write(b);
         update(1);
     }
 
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (firstWrite.compareAndSet(true, false)) {
+            onStart();
+        }
+        wrappedStream.write(b, off, len);
+        update(len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        wrappedStream.flush();
+    }
+
     @Override
     public void close() throws IOException {
-        super.close();
+        wrappedStream.close();
         onDone();
     }
 
@@ -90,12 +106,12 @@ public class UploadOutputStreamImpl extends OutputStream {
         updateExecutor.execute(() -> uploadStartListeners.forEach(l -> l.accept(size)));
     }
 
-    private synchronized void update(int len) {
-        long currentSize = uploaded.addAndGet(len);
-        if (lastUpdateSize.get() + updateChunkSize <= currentSize) {
+    private void update(final int len) {
+        final long currentSize = uploaded.addAndGet(len);
+        final long lastUpdate = lastUpdateSize.get();
+        if (lastUpdate + updateChunkSize <= currentSize && lastUpdateSize.compareAndSet(lastUpdate, currentSize)) {
             LOG.trace("Uploaded {} bytes of {}", currentSize, size);
             updateExecutor.execute(() -> {
-                lastUpdateSize.set(currentSize);
                 final double percentageDone = (((double) currentSize) / ((double) size / 100.0)) / 100.0;
                 LOG.trace("Uploaded {} %", percentageDone);
                 uploadPercentageListeners.forEach(l -> l.accept(percentageDone));
@@ -107,7 +123,10 @@ public class UploadOutputStreamImpl extends OutputStream {
     }
 
     private void onDone() {
-        LOG.trace("Uploade of size {} done", size);
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        LOG.trace("Upload of size {} done", size);
         updateExecutor.execute(() -> uploadDoneListeners.forEach(l -> l.accept(size)));
     }
 
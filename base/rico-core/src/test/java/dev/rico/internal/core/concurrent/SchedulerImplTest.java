@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.core.concurrent;
+
+import dev.rico.core.concurrent.Trigger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class SchedulerImplTest {
+
+    private ExecutorService dispatcherExecutor;
+
+    private ExecutorService workerExecutor;
+
+    @BeforeMethod
+    public void setUp() {
+        dispatcherExecutor = Executors.newSingleThreadExecutor();
+        workerExecutor = Executors.newCachedThreadPool();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        dispatcherExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testTasksAreExecutedInOrderOfStartTime() throws Exception {
+        //given:
+        final SchedulerImpl scheduler = new SchedulerImpl(dispatcherExecutor, Executors.newSingleThreadExecutor());
+        final List<String> executed = new CopyOnWriteArrayList<>();
+
+        //when:
+        final CompletableFuture<Void> third = scheduler.schedule(() -> executed.add("third"), Trigger.in(Duration.ofMillis(300)));
+        final CompletableFuture<Void> first = scheduler.schedule(() -> executed.add("first"), Trigger.in(Duration.ofMillis(100)));
+        final CompletableFuture<Void> second = scheduler.schedule(() -> executed.add("second"), Trigger.in(Duration.ofMillis(200)));
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+        //then:
+        assertEquals(executed, List.of("first", "second", "third"));
+        assertEquals(scheduler.getStartedTaskCount(), 3);
+        assertEquals(scheduler.getQueuedTaskCount(), 0);
+    }
+
+    @Test
+    public void testPeriodicTask() throws Exception {
+        //given:
+        final SchedulerImpl scheduler = new SchedulerImpl(dispatcherExecutor, workerExecutor);
+        final CountDownLatch latch = new CountDownLatch(3);
+
+        //when:
+        final CompletableFuture<Void> future = scheduler.schedule(latch::countDown, Trigger.nowAndEvery(Duration.ofMillis(20)));
+
+        //then:
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        future.cancel(false);
+    }
+
+    @Test
+    public void testCancelRemovesTask() throws Exception {
+        //given:
+        final SchedulerImpl scheduler = new SchedulerImpl(dispatcherExecutor, workerExecutor);
+        final AtomicInteger counter = new AtomicInteger();
+        final CompletableFuture<Void> future = scheduler.schedule(counter::incrementAndGet, Trigger.in(Duration.ofMillis(200)));
+
+        //when:
+        future.cancel(false);
+        Thread.sleep(400);
+
+        //then:
+        assertEquals(scheduler.getQueuedTaskCount(), 0);
+        assertEquals(counter.get(), 0);
+    }
+
+    @Test
+    public void testQueueRemovesAnyTask() {
+        //given:
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final Random random = new Random(42);
+        final List<ScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final ScheduledTask task = new ScheduledTask(() -> {}, t -> null, new CompletableFuture<>()) {
+                private final long startTime = random.nextInt(1_000_000);
+
+                @Override
+                public long getScheduledStartNanos() {
+                    return startTime;
+                }
+            };
+            tasks.add(task);
+            queue.add(task);
+        }
+
+        //when:
+        Collections.shuffle(tasks, random);
+        final List<ScheduledTask> removed = tasks.subList(0, 100);
+        removed.forEach(t -> assertTrue(queue.remove(t)));
+        final List<ScheduledTask> remaining = new ArrayList<>(tasks.subList(100, 200));
+        remaining.sort((a, b) -> Long.compare(a.getScheduledStartNanos(), b.getScheduledStartNanos()));
+
+        //then:
+        assertEquals(queue.size(), 100);
+        for (final ScheduledTask task : remaining) {
+            assertEquals(queue.poll().getScheduledStartNanos(), task.getScheduledStartNanos());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testQueueKeepsInsertionOrderForSameStartTime() {
+        //given:
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final ScheduledTask first = new ScheduledTask(() -> {}, t -> null, new CompletableFuture<>());
+        final ScheduledTask second = new ScheduledTask(() -> {}, t -> null, first.getScheduledStartDate(), new CompletableFuture<>()) {
+            @Override
+            public long getScheduledStartNanos() {
+                return first.getScheduledStartNanos();
+            }
+        };
+
+        //when:
+        queue.add(first);
+        queue.add(second);
+
+        //then:
+        assertSame(queue.poll(), first);
+        assertSame(queue.poll(), second);
+    }
+}
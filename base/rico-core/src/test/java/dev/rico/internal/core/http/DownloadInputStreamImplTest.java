@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.core.http;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DownloadInputStreamImplTest {
+
+    private static final int SIZE = 1024 * 1024;
+
+    @Test
+    public void testBulkReadUpdatesProgressInChunks() throws Exception {
+        //given
+        final CountingInputStream source = new CountingInputStream(new ByteArrayInputStream(new byte[SIZE]));
+        final DownloadInputStreamImpl stream = new DownloadInputStreamImpl(source, SIZE, Runnable::run);
+        final List<Double> percentages = new CopyOnWriteArrayList<>();
+        final AtomicInteger doneCount = new AtomicInteger();
+        stream.addDownloadPercentageListener(percentages::add);
+        stream.addDownloadDoneListener(s -> doneCount.incrementAndGet());
+
+        //when
+        final byte[] content = ConnectionUtils.readContent(stream);
+        stream.close();
+
+        //than
+        Assert.assertEquals(content.length, SIZE);
+        Assert.assertEquals(stream.getDownloaded(), SIZE);
+        Assert.assertEquals(source.singleByteReads.get(), 0);
+        Assert.assertTrue(percentages.size() > 0);
+        Assert.assertTrue(percentages.size() <= 1000);
+        Assert.assertEquals(percentages.get(percentages.size() - 1), 1.0, 0.0001);
+        Assert.assertEquals(doneCount.get(), 1);
+        Assert.assertTrue(source.closed.get());
+    }
+
+    @Test
+    public void testHashIsOptional() throws Exception {
+        //given
+        final byte[] data = "Rico".getBytes(HttpHeaderConstants.CHARSET);
+        final DownloadInputStreamImpl withoutHash = new DownloadInputStreamImpl(new ByteArrayInputStream(data), data.length, Runnable::run);
+        final DownloadInputStreamImpl withHash = new DownloadInputStreamImpl(new ByteArrayInputStream(data), data.length, Runnable::run, true);
+
+        //when
+        ConnectionUtils.readContent(withoutHash);
+        ConnectionUtils.readContent(withHash);
+
+        //than
+        Assert.assertNull(withoutHash.getHash());
+        Assert.assertEquals(withHash.getHash(), "7IdhUJ5HY47CP1nDBzvOCA==");
+    }
+
+    @Test
+    public void testTransferToFile() throws Exception {
+        //given
+        final byte[] data = new byte[SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        final DownloadInputStreamImpl stream = new DownloadInputStreamImpl(new ByteArrayInputStream(data), data.length, Runnable::run);
+        final AtomicBoolean done = new AtomicBoolean(false);
+        stream.addDownloadDoneListener(s -> done.set(true));
+        final Path file = Files.createTempFile("rico-download", ".bin");
+        file.toFile().deleteOnExit();
+
+        //when
+        final long written = stream.transferTo(file);
+
+        //than
+        Assert.assertEquals(written, SIZE);
+        Assert.assertEquals(Files.readAllBytes(file), data);
+        Assert.assertTrue(done.get());
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final AtomicInteger singleByteReads = new AtomicInteger();
+
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            singleByteReads.incrementAndGet();
+            return super.read();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.set(true);
+            super.close();
+        }
+    }
+}
@@ -41,6 +41,8 @@ public class BasicConfigurationProvider extends SimpleConfigurationProvider {
 
     public static final String ROOT_PACKAGE_FOR_CLASSPATH_SCAN = "rootPackageForClasspathScan";
 
+    public static final String USE_CLASSPATH_INDEX = "useClasspathIndex";
+
     public static final String MBEAN_REGISTRATION = "mBeanRegistration";
 
     public static final String PLATFORM_ACTIVE = "active";
@@ -55,6 +57,8 @@ public class BasicConfigurationProvider extends SimpleConfigurationProvider {
 
     public static final boolean USE_CROSS_SITE_ORIGIN_FILTER_DEFAULT_VALUE = true;
 
+    public static final boolean USE_CLASSPATH_INDEX_DEFAULT_VALUE = false;
+
     public static final boolean M_BEAN_REGISTRATION_DEFAULT_VALUE = false;
 
     public static final boolean ACTIVE_DEFAULT_VALUE = true;
@@ -77,6 +81,7 @@ public class BasicConfigurationProvider extends SimpleConfigurationProvider {
         addInt(SESSION_TIMEOUT, SESSION_TIMEOUT_DEFAULT_VALUE);
         addBoolean(USE_CROSS_SITE_ORIGIN_FILTER, USE_CROSS_SITE_ORIGIN_FILTER_DEFAULT_VALUE);
         addBoolean(MBEAN_REGISTRATION, M_BEAN_REGISTRATION_DEFAULT_VALUE);
+        addBoolean(USE_CLASSPATH_INDEX, USE_CLASSPATH_INDEX_DEFAULT_VALUE);
         addBoolean(PLATFORM_ACTIVE, ACTIVE_DEFAULT_VALUE);
         addList(ACCESS_CONTROL_ALLOW_HEADERS, ACCESS_CONTROL_ALLOW_HEADERS_DEFAULT_VALUE);
         addList(ACCESS_CONTROL_ALLOW_METHODS, ACCESS_CONTROL_ALLOW_METHODS_DEFAULT_VALUE);
@@ -21,11 +21,14 @@ import dev.rico.internal.core.ansi.PlatformLogo;
 import dev.rico.internal.core.context.RicoApplicationContextImpl;
 import dev.rico.internal.server.config.ServerConfiguration;
 import dev.rico.internal.server.mbean.MBeanRegistry;
+import dev.rico.internal.server.scanner.ClasspathIndex;
 import dev.rico.internal.server.scanner.DefaultClasspathScanner;
+import dev.rico.internal.server.scanner.IndexedClasspathScanner;
 import dev.rico.server.spi.ModuleDefinition;
 import dev.rico.server.spi.ModuleInitializationException;
 import dev.rico.server.spi.ServerCoreComponents;
 import dev.rico.server.spi.ServerModule;
+import dev.rico.server.spi.components.ClasspathScanner;
 import dev.rico.server.spi.components.ManagedBeanFactory;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
@@ -49,6 +52,7 @@ import static dev.rico.internal.core.context.ContextConstants.APPLICATION_NAME_C
 import static dev.rico.internal.server.bootstrap.BasicConfigurationProvider.MBEAN_REGISTRATION;
 import static dev.rico.internal.server.bootstrap.BasicConfigurationProvider.PLATFORM_ACTIVE;
 import static dev.rico.internal.server.bootstrap.BasicConfigurationProvider.ROOT_PACKAGE_FOR_CLASSPATH_SCAN;
+import static dev.rico.internal.server.bootstrap.BasicConfigurationProvider.USE_CLASSPATH_INDEX;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -77,7 +81,7 @@ public class PlatformBootstrap {
                 MBeanRegistry.getInstance().setMbeanSupport(configuration.getBooleanProperty(MBEAN_REGISTRATION));
 
                 final ManagedBeanFactory beanFactory = getBeanFactory(servletContext);
-                final DefaultClasspathScanner classpathScanner = new DefaultClasspathScanner(configuration.getListProperty(ROOT_PACKAGE_FOR_CLASSPATH_SCAN));
+                final ClasspathScanner classpathScanner = createClasspathScanner(configuration);
                 serverCoreComponents = new ServerCoreComponentsImpl(servletContext, configuration, classpathScanner, beanFactory);
 
                 final Set<Class<?>> moduleClasses = classpathScanner.getTypesAnnotatedWith(ModuleDefinition.class);
@@ -92,6 +96,18 @@ public class PlatformBootstrap {
         }
     }
 
+    private ClasspathScanner createClasspathScanner(final ServerConfiguration configuration) {
+        final List<String> rootPackages = configuration.getListProperty(ROOT_PACKAGE_FOR_CLASSPATH_SCAN);
+        if (configuration.getBooleanProperty(USE_CLASSPATH_INDEX)) {
+            final ClasspathIndex index = IndexedClasspathScanner.loadIndex();
+            if (index != null) {
+                return new IndexedClasspathScanner(index, rootPackages);
+            }
+            LOG.warn("No classpath index found. Rico will scan the classpath.");
+        }
+        return new DefaultClasspathScanner(rootPackages);
+    }
+
     /* visible for testing */
     void initModules(final Collection<Class<?>> moduleClasses, final ServerCoreComponents serverCoreComponents) throws Exception {
         final Map<ModuleDefinition, ServerModule> modules = new HashMap<>();
@@ -80,6 +80,7 @@ public class ClientSessionModule extends AbstractBaseModule {
         final String[] endpoints = endpointList.toArray(new String[0]);
         final ClientSessionFilter filter = new ClientSessionFilter(clientSessionManager);
         final FilterRegistration.Dynamic createdFilter = servletContext.addFilter(CLIENT_ID_FILTER_NAME, filter);
+        createdFilter.setAsyncSupported(true);
         createdFilter.addMappingForUrlPatterns(EnumSet.allOf(DispatcherType.class), true, endpoints);
 
         final HttpSessionCleanerListener sessionCleaner = new HttpSessionCleanerListener(clientSessionManager);
@@ -60,6 +60,7 @@ public class CorsModule extends AbstractBaseModule {
         final String[] endpoints = endpointList.toArray(new String[0]);
         final CrossSiteOriginFilter filter = new CrossSiteOriginFilter(configuration);
         final FilterRegistration.Dynamic createdFilter = servletContext.addFilter(CORS_FILTER, filter);
+        createdFilter.setAsyncSupported(true);
         createdFilter.addMappingForUrlPatterns(EnumSet.allOf(DispatcherType.class), true, endpoints);
     }
 }
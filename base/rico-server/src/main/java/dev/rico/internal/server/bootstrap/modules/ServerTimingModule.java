@@ -54,6 +54,7 @@ public class ServerTimingModule extends AbstractBaseModule {
 
         final Filter filter = new ServerTimingFilter(true);
         final FilterRegistration.Dynamic createdFilter = servletContext.addFilter(FILTER_NAME, filter);
+        createdFilter.setAsyncSupported(true);
         createdFilter.addMappingForUrlPatterns(EnumSet.allOf(DispatcherType.class), true, "/*");
     }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.scanner;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.server.spi.components.ClasspathScanner;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Base class for {@link ClasspathScanner} implementations that know the names of all annotated types. The class
+ * filters the names by the root packages and loads the classes.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public abstract class AbstractClasspathScanner implements ClasspathScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractClasspathScanner.class);
+
+    private final String[] rootPackages;
+
+    private final ClassLoader classLoader;
+
+    protected AbstractClasspathScanner(final String[] rootPackages, final ClassLoader classLoader) {
+        this.rootPackages = Assert.requireNonNull(rootPackages, "rootPackages");
+        this.classLoader = Assert.requireNonNull(classLoader, "classLoader");
+    }
+
+    /**
+     * Returns the names of all types that are annotated with the given annotation. The names do not need to be
+     * filtered by the root packages.
+     *
+     * @param annotation the annotation
+     * @return the binary names of the annotated types
+     */
+    protected abstract Collection<String> getTypeNamesAnnotatedWith(final Class<? extends Annotation> annotation);
+
+    @Override
+    public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation) {
+        Assert.requireNonNull(annotation, "annotation");
+        final Set<Class<?>> result = new HashSet<>();
+        for (final String typeName : getTypeNamesAnnotatedWith(annotation)) {
+            if (isInRootPackages(typeName)) {
+                result.add(loadClass(typeName));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    protected String[] getRootPackages() {
+        return rootPackages;
+    }
+
+    protected ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    private boolean isInRootPackages(final String typeName) {
+        if (rootPackages.length == 0) {
+            return true;
+        }
+        for (final String rootPackage : rootPackages) {
+            if (rootPackage == null || rootPackage.isEmpty() || typeName.startsWith(rootPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class<?> loadClass(final String typeName) {
+        try {
+            return Class.forName(typeName, false, classLoader);
+        } catch (final ClassNotFoundException | LinkageError e) {
+            LOG.debug("Can not load class {} by context class loader", typeName);
+            try {
+                return Class.forName(typeName, false, AbstractClasspathScanner.class.getClassLoader());
+            } catch (final ClassNotFoundException ex) {
+                throw new IllegalStateException("Can not load class " + typeName, ex);
+            }
+        }
+    }
+
+    protected static ClassLoader getDefaultClassLoader() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            return contextClassLoader;
+        }
+        return AbstractClasspathScanner.class.getClassLoader();
+    }
+}
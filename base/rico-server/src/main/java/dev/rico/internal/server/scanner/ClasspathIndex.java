@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.scanner;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * The classpath index contains all types that are annotated by an annotation that is marked with
+ * {@link dev.rico.server.spi.components.ClasspathIndexed}. The index is created at compile time by the
+ * {@link ClasspathIndexProcessor} and stored in each jar under {@link #INDEX_LOCATION}. Each line of the index
+ * contains the binary name of a type followed by '=' and a comma separated list of the annotations of the type.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class ClasspathIndex {
+
+    public static final String INDEX_LOCATION = "META-INF/dev.rico/classpath.index";
+
+    private static final char TYPE_SEPARATOR = '=';
+
+    private static final String ANNOTATION_SEPARATOR = ",";
+
+    private final Map<String, Set<String>> typesByAnnotation;
+
+    private ClasspathIndex(final Map<String, Set<String>> typesByAnnotation) {
+        this.typesByAnnotation = typesByAnnotation;
+    }
+
+    /**
+     * Returns the binary names of all indexed types that are annotated with the given annotation.
+     *
+     * @param annotationName the name of the annotation
+     * @return the names of the annotated types
+     */
+    public Set<String> getTypesAnnotatedWith(final String annotationName) {
+        Assert.requireNonNull(annotationName, "annotationName");
+        return typesByAnnotation.getOrDefault(annotationName, Collections.emptySet());
+    }
+
+    /**
+     * Reads and merges all index files that can be found by the given class loader.
+     *
+     * @param classLoader the class loader
+     * @return the index or {@code null} if no index file can be found
+     * @throws IOException if an index file can not be read
+     */
+    public static ClasspathIndex load(final ClassLoader classLoader) throws IOException {
+        Assert.requireNonNull(classLoader, "classLoader");
+        final Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+        if (!resources.hasMoreElements()) {
+            return null;
+        }
+        final Map<String, Set<String>> typesByAnnotation = new HashMap<>();
+        while (resources.hasMoreElements()) {
+            try (final InputStream inputStream = resources.nextElement().openStream()) {
+                read(inputStream, typesByAnnotation);
+            }
+        }
+        return new ClasspathIndex(typesByAnnotation);
+    }
+
+    static void read(final InputStream inputStream, final Map<String, Set<String>> typesByAnnotation) throws IOException {
+        readEntries(inputStream, (typeName, annotationName) -> typesByAnnotation.computeIfAbsent(annotationName, n -> new HashSet<>()).add(typeName));
+    }
+
+    static void readByType(final InputStream inputStream, final Map<String, Set<String>> annotationsByType) throws IOException {
+        readEntries(inputStream, (typeName, annotationName) -> annotationsByType.computeIfAbsent(typeName, n -> new TreeSet<>()).add(annotationName));
+    }
+
+    private static void readEntries(final InputStream inputStream, final BiConsumer<String, String> entryConsumer) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            final int separatorIndex = line.indexOf(TYPE_SEPARATOR);
+            if (line.isEmpty() || line.startsWith("#") || separatorIndex <= 0) {
+                continue;
+            }
+            final String typeName = line.substring(0, separatorIndex).trim();
+            for (final String annotationName : line.substring(separatorIndex + 1).split(ANNOTATION_SEPARATOR)) {
+                if (!annotationName.trim().isEmpty()) {
+                    entryConsumer.accept(typeName, annotationName.trim());
+                }
+            }
+        }
+    }
+
+    static void write(final Map<String, Set<String>> annotationsByType, final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        for (final Map.Entry<String, Set<String>> entry : annotationsByType.entrySet()) {
+            writer.write(entry.getKey() + TYPE_SEPARATOR + String.join(ANNOTATION_SEPARATOR, entry.getValue()) + "\n");
+        }
+        writer.flush();
+    }
+}
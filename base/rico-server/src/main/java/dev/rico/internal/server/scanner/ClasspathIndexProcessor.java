@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.scanner;
+
+import dev.rico.server.spi.components.ClasspathIndexed;
+import org.apiguardian.api.API;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Inherited;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Annotation processor that writes the classpath index (see {@link ClasspathIndex}). All compiled types that are
+ * annotated by an annotation that is marked with {@link ClasspathIndexed} are added to the index. Like the classpath
+ * scan the processor supports meta-annotations and annotations that are {@link Inherited}.
+ * <p>
+ * The processor is activated by adding rico-server to the annotation processor path of a project.
+ * <p>
+ * An incremental compilation only passes the changed types to the processor. Therefore the index of a former
+ * compilation is read from the class output and merged with the new entries: entries of types that are compiled again
+ * are replaced, entries of types that can no longer be found are removed.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class ClasspathIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, Set<String>> annotationsByType = new TreeMap<>();
+
+    private final Set<String> processedTypes = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (final Element element : roundEnv.getRootElements()) {
+                addToIndex(element);
+            }
+        }
+        return false;
+    }
+
+    private void addToIndex(final Element element) {
+        if (element instanceof TypeElement) {
+            final TypeElement type = (TypeElement) element;
+            final String typeName = processingEnv.getElementUtils().getBinaryName(type).toString();
+            processedTypes.add(typeName);
+            if (type.getKind() != ElementKind.ANNOTATION_TYPE) {
+                final Set<String> indexedAnnotations = new TreeSet<>();
+                collectIndexedAnnotations(type, indexedAnnotations);
+                if (!indexedAnnotations.isEmpty()) {
+                    annotationsByType.put(typeName, indexedAnnotations);
+                }
+            }
+            for (final Element enclosed : type.getEnclosedElements()) {
+                addToIndex(enclosed);
+            }
+        }
+    }
+
+    private void collectIndexedAnnotations(final TypeElement type, final Set<String> indexedAnnotations) {
+        collectIndexedAnnotations(type, indexedAnnotations, new HashSet<>(), false);
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            final TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+            collectIndexedAnnotations(superType, indexedAnnotations, new HashSet<>(), true);
+            superclass = superType.getSuperclass();
+        }
+    }
+
+    private void collectIndexedAnnotations(final Element annotated, final Set<String> indexedAnnotations, final Set<String> visited, final boolean inheritedOnly) {
+        for (final AnnotationMirror mirror : annotated.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            final String annotationName = processingEnv.getElementUtils().getBinaryName(annotationType).toString();
+            if (inheritedOnly && annotationType.getAnnotation(Inherited.class) == null) {
+                continue;
+            }
+            if (visited.add(annotationName)) {
+                if (annotationType.getAnnotation(ClasspathIndexed.class) != null) {
+                    indexedAnnotations.add(annotationName);
+                }
+                collectIndexedAnnotations(annotationType, indexedAnnotations, visited, false);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        final Map<String, Set<String>> existingIndex = readExistingIndex();
+        if (annotationsByType.isEmpty() && existingIndex == null) {
+            return;
+        }
+        final Map<String, Set<String>> index = new TreeMap<>();
+        if (existingIndex != null) {
+            existingIndex.forEach((typeName, annotations) -> {
+                if (!processedTypes.contains(typeName) && exists(typeName)) {
+                    index.put(typeName, annotations);
+                }
+            });
+        }
+        index.putAll(annotationsByType);
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", ClasspathIndex.INDEX_LOCATION);
+            try (final OutputStream outputStream = file.openOutputStream()) {
+                ClasspathIndex.write(index, outputStream);
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Can not write classpath index: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Set<String>> readExistingIndex() {
+        final FileObject file;
+        try {
+            file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", ClasspathIndex.INDEX_LOCATION);
+        } catch (final IOException | IllegalArgumentException e) {
+            return null;
+        }
+        final Map<String, Set<String>> existingIndex = new TreeMap<>();
+        try (final InputStream inputStream = file.openInputStream()) {
+            ClasspathIndex.readByType(inputStream, existingIndex);
+            return existingIndex;
+        } catch (final IOException e) {
+            // no index was written by a former compilation
+            return null;
+        }
+    }
+
+    private boolean exists(final String typeName) {
+        return processingEnv.getElementUtils().getTypeElement(typeName.replace('$', '.')) != null;
+    }
+}
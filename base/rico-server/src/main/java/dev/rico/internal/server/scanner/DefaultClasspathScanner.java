@@ -17,7 +17,6 @@
 package dev.rico.internal.server.scanner;
 
 import dev.rico.internal.core.Assert;
-import dev.rico.server.spi.components.ClasspathScanner;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
@@ -27,34 +26,36 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 /**
  * This class can be used to search for a set of classes in the classpath. Currently all classes that are annotated
- * with a specific annotation can be found.
+ * with a specific annotation can be found. The classpath is scanned only once: the first query stores the annotations
+ * of all classes and all further queries are answered from that result.
  */
 @API(since = "0.x", status = INTERNAL)
-public class DefaultClasspathScanner implements ClasspathScanner {
+public class DefaultClasspathScanner extends AbstractClasspathScanner {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultClasspathScanner.class);
 
-    private final String[] rootPackages;
+    private Map<String, Set<String>> typesByAnnotation;
 
     public DefaultClasspathScanner(final String rootPackage) {
         this(Collections.singletonList(rootPackage));
     }
 
     public DefaultClasspathScanner(final String... rootPackages) {
-        Assert.requireNonNull(rootPackages, "rootPackages");
+        super(rootPackages, getDefaultClassLoader());
 
         LOG.debug("Scanning class path for root packages {}", Arrays.toString(rootPackages));
-
-        this.rootPackages = rootPackages;
     }
 
     public DefaultClasspathScanner(final List<String> rootPackages) {
@@ -67,28 +68,41 @@ public class DefaultClasspathScanner implements ClasspathScanner {
      * @param annotation the annotation
      * @return the set of annotated classes
      */
+    @Override
     public synchronized Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation) {
-        Assert.requireNonNull(annotation, "annotation");
+        return super.getTypesAnnotatedWith(annotation);
+    }
+
+    @Override
+    protected Collection<String> getTypeNamesAnnotatedWith(final Class<? extends Annotation> annotation) {
+        if (typesByAnnotation == null) {
+            typesByAnnotation = scan();
+        }
+        return typesByAnnotation.getOrDefault(annotation.getName(), Collections.emptySet());
+    }
 
-        Set<Class<?>> result = new HashSet<>();
+    private Map<String, Set<String>> scan() {
+        final Map<String, Set<String>> result = new HashMap<>();
 
         final ClassGraph classGraph = new ClassGraph()
                 //.verbose()
                 .enableAnnotationInfo()
                 .enableClassInfo()
                 .ignoreClassVisibility()
-                .whitelistPackages(rootPackages);
+                .whitelistPackages(getRootPackages());
 
         final long startTime = System.currentTimeMillis();
         try (final ScanResult scanResult = classGraph.scan()) {                   // Start the scan
-            for (final ClassInfo classInfo : scanResult.getClassesWithAnnotation(annotation.getName())) {
+            for (final ClassInfo classInfo : scanResult.getAllClasses()) {
                 if (!classInfo.isAnnotation()) {
-                    final Class<?> annotatedClass = classInfo.loadClass();
-                    result.add(annotatedClass);
+                    // contains direct, meta and inherited annotations
+                    for (final String annotationName : classInfo.getAnnotations().getNames()) {
+                        result.computeIfAbsent(annotationName, n -> new HashSet<>()).add(classInfo.getName());
+                    }
                 }
             }
         }
-        LOG.debug("Classpath scan for annotation '{}' took {} ms", annotation.getName(), System.currentTimeMillis() - startTime);
-        return Collections.unmodifiableSet(result);
+        LOG.debug("Classpath scan took {} ms", System.currentTimeMillis() - startTime);
+        return result;
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.scanner;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A {@link dev.rico.server.spi.components.ClasspathScanner} that reads the classpath index (see
+ * {@link ClasspathIndex}) instead of scanning the classpath. Only types that are part of the index can be found.
+ * Therefore all jars that contain such types must be compiled with the {@link ClasspathIndexProcessor}.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class IndexedClasspathScanner extends AbstractClasspathScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathScanner.class);
+
+    private final ClasspathIndex index;
+
+    public IndexedClasspathScanner(final ClasspathIndex index, final List<String> rootPackages) {
+        super(Assert.requireNonNull(rootPackages, "rootPackages").toArray(new String[0]), getDefaultClassLoader());
+        this.index = Assert.requireNonNull(index, "index");
+        LOG.debug("Using classpath index for root packages {}", Arrays.toString(getRootPackages()));
+    }
+
+    /**
+     * Loads the classpath index by the context class loader.
+     *
+     * @return the index or {@code null} if no index is available
+     */
+    public static ClasspathIndex loadIndex() {
+        final long startTime = System.currentTimeMillis();
+        try {
+            final ClasspathIndex index = ClasspathIndex.load(getDefaultClassLoader());
+            LOG.debug("Loading classpath index took {} ms", System.currentTimeMillis() - startTime);
+            return index;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read classpath index", e);
+        }
+    }
+
+    @Override
+    protected Collection<String> getTypeNamesAnnotatedWith(final Class<? extends Annotation> annotation) {
+        return index.getTypesAnnotatedWith(annotation.getName());
+    }
+}
@@ -17,6 +17,7 @@
 package dev.rico.server;
 
 import dev.rico.server.client.ClientSessionListener;
+import dev.rico.server.spi.components.ClasspathIndexed;
 import org.apiguardian.api.API;
 
 import java.lang.annotation.Documented;
@@ -35,6 +36,7 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
  * @author Hendrik Ebbers
  */
 @Documented
+@ClasspathIndexed
 @Inherited
 @Retention(RUNTIME)
 @Target(ElementType.TYPE)
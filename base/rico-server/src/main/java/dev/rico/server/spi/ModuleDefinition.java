@@ -16,6 +16,7 @@
  */
 package dev.rico.server.spi;
 
+import dev.rico.server.spi.components.ClasspathIndexed;
 import org.apiguardian.api.API;
 
 import java.lang.annotation.Documented;
@@ -33,6 +34,7 @@ import static org.apiguardian.api.API.Status.EXPERIMENTAL;
  * @see ServerModule
  */
 @Documented
+@ClasspathIndexed
 @Retention(RUNTIME)
 @Target(ElementType.TYPE)
 @API(since = "0.x", status = EXPERIMENTAL)
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.server.spi.components;
+
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Marks an annotation whose annotated types are written to the classpath index at compile time. Types that are
+ * annotated by such an annotation (directly, by a meta-annotation or by inheritance) can be found by the
+ * {@link ClasspathScanner} without scanning the classpath if the index is active.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(ElementType.ANNOTATION_TYPE)
+@API(since = "2.1.0", status = EXPERIMENTAL)
+public @interface ClasspathIndexed {
+}
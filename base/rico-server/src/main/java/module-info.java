@@ -1,4 +1,5 @@
 import dev.rico.internal.server.bootstrap.BasicConfigurationProvider;
+import dev.rico.internal.server.scanner.ClasspathIndexProcessor;
 import dev.rico.server.spi.ConfigurationProvider;
 import dev.rico.server.spi.components.ManagedBeanFactory;
 
@@ -42,12 +43,14 @@ module dev.rico.server {
     uses ManagedBeanFactory;
 
     provides ConfigurationProvider with BasicConfigurationProvider;
+    provides javax.annotation.processing.Processor with ClasspathIndexProcessor;
 
     requires transitive dev.rico.core;
     requires org.slf4j;
     requires static org.apiguardian.api;
     requires io.github.classgraph;
     requires java.management;
+    requires java.compiler;
     requires static java.servlet;
     requires java.annotation;
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.scanner;
+
+import dev.rico.server.scanner.TestAnnotation;
+import dev.rico.server.scanner.documented.DocumentAnnotatedClass;
+import dev.rico.server.scanner.resource.TestAnnotatedClass;
+import dev.rico.server.spi.ModuleDefinition;
+import org.testng.annotations.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class ClasspathIndexTest {
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        //given:
+        final Map<String, Set<String>> annotationsByType = new TreeMap<>();
+        annotationsByType.put("a.TypeA", new TreeSet<>(Arrays.asList("a.Annotation1", "a.Annotation2")));
+        annotationsByType.put("a.TypeB", new TreeSet<>(Collections.singletonList("a.Annotation1")));
+
+        //when:
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ClasspathIndex.write(annotationsByType, outputStream);
+        final Map<String, Set<String>> typesByAnnotation = new HashMap<>();
+        ClasspathIndex.read(new ByteArrayInputStream(outputStream.toByteArray()), typesByAnnotation);
+
+        //then:
+        assertEquals(typesByAnnotation.size(), 2);
+        assertEquals(typesByAnnotation.get("a.Annotation1"), new TreeSet<>(Arrays.asList("a.TypeA", "a.TypeB")));
+        assertEquals(typesByAnnotation.get("a.Annotation2"), Collections.singleton("a.TypeA"));
+    }
+
+    @Test
+    public void testLoadContainsRicoModules() throws IOException {
+        //when:
+        final ClasspathIndex index = ClasspathIndex.load(ClasspathIndexTest.class.getClassLoader());
+
+        //then:
+        final Set<String> modules = index.getTypesAnnotatedWith(ModuleDefinition.class.getName());
+        assertTrue(modules.contains("dev.rico.internal.server.bootstrap.modules.ClientSessionModule"));
+        assertEquals(modules, new DefaultClasspathScanner("dev.rico.internal.server.bootstrap.modules").getTypesAnnotatedWith(ModuleDefinition.class)
+                .stream().map(Class::getName).collect(TreeSet::new, Set::add, Set::addAll));
+    }
+
+    @Test
+    public void testIndexedScannerFiltersByRootPackages() throws IOException {
+        //given:
+        final String indexContent = TestAnnotatedClass.class.getName() + "=" + TestAnnotation.class.getName() + "\n"
+                + DocumentAnnotatedClass.class.getName() + "=" + TestAnnotation.class.getName() + "\n";
+        final ClasspathIndex index = createIndex(indexContent);
+
+        //when:
+        final Set<Class<?>> allClasses = new IndexedClasspathScanner(index, Collections.emptyList()).getTypesAnnotatedWith(TestAnnotation.class);
+        final Set<Class<?>> filteredClasses = new IndexedClasspathScanner(index, Collections.singletonList("dev.rico.server.scanner.resource")).getTypesAnnotatedWith(TestAnnotation.class);
+        final Set<Class<?>> unknownClasses = new IndexedClasspathScanner(index, Collections.emptyList()).getTypesAnnotatedWith(Deprecated.class);
+
+        //then:
+        assertEquals(allClasses.size(), 2);
+        assertEquals(filteredClasses, Collections.singleton(TestAnnotatedClass.class));
+        assertTrue(unknownClasses.isEmpty());
+    }
+
+    @Test
+    public void testProcessorWritesIndex() throws IOException {
+        //given:
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final Path sourceDir = Files.createTempDirectory("rico-index-src");
+        final Path outputDir = Files.createTempDirectory("rico-index-out");
+        final Path source = Files.createDirectories(sourceDir.resolve("sample")).resolve("SampleModule.java");
+        Files.write(source, ("package sample;\n"
+                + "@dev.rico.server.spi.ModuleDefinition(name = \"sample\")\n"
+                + "public class SampleModule {\n"
+                + "    @dev.rico.server.spi.ModuleDefinition(name = \"inner\") public static class Inner {}\n"
+                + "    @Deprecated public static class Other {}\n"
+                + "}\n").getBytes(StandardCharsets.UTF_8));
+
+        //when:
+        final int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", ClasspathIndexProcessor.class.getName(),
+                "-d", outputDir.toString(),
+                source.toString());
+
+        //then:
+        assertEquals(result, 0);
+        final Map<String, Set<String>> typesByAnnotation = new HashMap<>();
+        try (final InputStream inputStream = Files.newInputStream(outputDir.resolve(ClasspathIndex.INDEX_LOCATION))) {
+            ClasspathIndex.read(inputStream, typesByAnnotation);
+        }
+        assertEquals(typesByAnnotation.keySet(), Collections.singleton(ModuleDefinition.class.getName()));
+        assertEquals(typesByAnnotation.get(ModuleDefinition.class.getName()), new TreeSet<>(Arrays.asList("sample.SampleModule", "sample.SampleModule$Inner")));
+    }
+
+    @Test
+    public void testProcessorMergesIndexOfIncrementalCompilation() throws IOException {
+        //given:
+        final Path sourceDir = Files.createDirectories(Files.createTempDirectory("rico-index-src").resolve("sample"));
+        final Path outputDir = Files.createTempDirectory("rico-index-out");
+        final Path first = writeModule(sourceDir, "FirstModule", true);
+        final Path second = writeModule(sourceDir, "SecondModule", true);
+        assertEquals(compileWithProcessor(outputDir, first, second), 0);
+
+        //when:
+        writeModule(sourceDir, "SecondModule", false);
+        final Path third = writeModule(sourceDir, "ThirdModule", true);
+        final int result = compileWithProcessor(outputDir, second, third);
+
+        //then:
+        assertEquals(result, 0);
+        assertEquals(readModules(outputDir), new TreeSet<>(Arrays.asList("sample.FirstModule", "sample.ThirdModule")));
+
+        //when:
+        Files.delete(outputDir.resolve("sample").resolve("FirstModule.class"));
+        final int resultAfterDelete = compileWithProcessor(outputDir, third);
+
+        //then:
+        assertEquals(resultAfterDelete, 0);
+        assertEquals(readModules(outputDir), Collections.singleton("sample.ThirdModule"));
+    }
+
+    private Path writeModule(final Path sourceDir, final String name, final boolean annotated) throws IOException {
+        final String annotation = annotated ? "@dev.rico.server.spi.ModuleDefinition(name = \"" + name + "\")\n" : "";
+        return Files.write(sourceDir.resolve(name + ".java"), ("package sample;\n" + annotation + "public class " + name + " {}\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int compileWithProcessor(final Path outputDir, final Path... sources) {
+        final String[] options = {
+                "-classpath", System.getProperty("java.class.path") + File.pathSeparator + outputDir,
+                "-processor", ClasspathIndexProcessor.class.getName(),
+                "-d", outputDir.toString()
+        };
+        final String[] arguments = Arrays.copyOf(options, options.length + sources.length);
+        for (int i = 0; i < sources.length; i++) {
+            arguments[options.length + i] = sources[i].toString();
+        }
+        return ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments);
+    }
+
+    private Set<String> readModules(final Path outputDir) throws IOException {
+        final Map<String, Set<String>> typesByAnnotation = new HashMap<>();
+        try (final InputStream inputStream = Files.newInputStream(outputDir.resolve(ClasspathIndex.INDEX_LOCATION))) {
+            ClasspathIndex.read(inputStream, typesByAnnotation);
+        }
+        return typesByAnnotation.getOrDefault(ModuleDefinition.class.getName(), Collections.emptySet());
+    }
+
+    private ClasspathIndex createIndex(final String content) throws IOException {
+        final Path dir = Files.createTempDirectory("rico-index");
+        final Path file = dir.resolve(ClasspathIndex.INDEX_LOCATION);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        final ClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, null);
+        return ClasspathIndex.load(classLoader);
+    }
+}
@@ -38,6 +38,7 @@ import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.apiguardian.api.API;
 
 import javax.servlet.DispatcherType;
+import javax.servlet.FilterRegistration;
 import javax.servlet.ServletContext;
 import java.lang.management.ManagementFactory;
 import java.util.EnumSet;
@@ -76,8 +77,9 @@ public class MetricsModule extends AbstractBaseModule {
         new ProcessorMetrics(tagList).bindTo(prometheusRegistry);
         new JvmThreadMetrics(tagList).bindTo(prometheusRegistry);
 
-        servletContext.addFilter(METRICS_SERVLET_FILTER_NAME, new RequestMetricsFilter())
-                .addMappingForUrlPatterns(EnumSet.allOf(DispatcherType.class), true, ALL_URL_MAPPING);
+        final FilterRegistration.Dynamic metricsFilter = servletContext.addFilter(METRICS_SERVLET_FILTER_NAME, new RequestMetricsFilter());
+        metricsFilter.setAsyncSupported(true);
+        metricsFilter.addMappingForUrlPatterns(EnumSet.allOf(DispatcherType.class), true, ALL_URL_MAPPING);
 
         servletContext.addListener(new MetricsHttpSessionListener());
 
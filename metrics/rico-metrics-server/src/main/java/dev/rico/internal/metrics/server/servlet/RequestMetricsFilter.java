@@ -20,6 +20,9 @@ import dev.rico.core.lang.StringPair;
 import dev.rico.internal.metrics.MetricsImpl;
 import dev.rico.internal.server.context.ContextServerUtil;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -29,6 +32,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static dev.rico.internal.metrics.server.module.MetricsNameConstants.HTTP_REQUESTS_METRIC_NAME;
 import static dev.rico.internal.metrics.server.module.MetricsNameConstants.HTTP_REQUEST_TIME_METRIC_NAME;
@@ -46,22 +50,78 @@ public class RequestMetricsFilter implements Filter {
         try {
             chain.doFilter(request, response);
         } finally {
-            final long timeInMs = System.currentTimeMillis() - startTime;
-            final StringPair methodTag = ContextServerUtil.createMethodTag((HttpServletRequest) request);
-            final StringPair uriTag = ContextServerUtil.createUriTag((HttpServletRequest) request);
-            final StringPair contextPathTag = ContextServerUtil.createContextPathTag((HttpServletRequest) request);
-            final StringPair portTag = ContextServerUtil.createPortTag((HttpServletRequest) request);
-            MetricsImpl.getInstance()
-                    .getOrCreateTimer(HTTP_REQUEST_TIME_METRIC_NAME, contextPathTag, uriTag, methodTag, portTag)
-                    .record(timeInMs, TimeUnit.MILLISECONDS);
-            MetricsImpl.getInstance()
-                    .getOrCreateCounter(HTTP_REQUESTS_METRIC_NAME, contextPathTag, uriTag, methodTag, portTag)
-                    .increment();
+            if (request.getDispatcherType() != DispatcherType.ASYNC) {
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new AsyncRequestListener(request, startTime));
+                } else {
+                    record(request, startTime);
+                }
+            }
         }
     }
 
+    private void record(final ServletRequest request, final long startTime) {
+        final long timeInMs = System.currentTimeMillis() - startTime;
+        final StringPair methodTag = ContextServerUtil.createMethodTag((HttpServletRequest) request);
+        final StringPair uriTag = ContextServerUtil.createUriTag((HttpServletRequest) request);
+        final StringPair contextPathTag = ContextServerUtil.createContextPathTag((HttpServletRequest) request);
+        final StringPair portTag = ContextServerUtil.createPortTag((HttpServletRequest) request);
+        MetricsImpl.getInstance()
+                .getOrCreateTimer(HTTP_REQUEST_TIME_METRIC_NAME, contextPathTag, uriTag, methodTag, portTag)
+                .record(timeInMs, TimeUnit.MILLISECONDS);
+        MetricsImpl.getInstance()
+                .getOrCreateCounter(HTTP_REQUESTS_METRIC_NAME, contextPathTag, uriTag, methodTag, portTag)
+                .increment();
+    }
+
     @Override
     public void destroy() {
         // nothing needs to be destroyed
     }
+
+    /**
+     * Records the time of an asynchronous request (like a suspended long poll) from the start of the original
+     * dispatch until the request is completed. Async dispatches of the request are part of that time and are not
+     * recorded on their own.
+     */
+    private class AsyncRequestListener implements AsyncListener {
+
+        private final ServletRequest request;
+
+        private final long startTime;
+
+        private final AtomicBoolean recorded = new AtomicBoolean(false);
+
+        private AsyncRequestListener(final ServletRequest request, final long startTime) {
+            this.request = request;
+            this.startTime = startTime;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            recordOnce();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            recordOnce();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            recordOnce();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // listeners are removed if the request is suspended again, the time of the new cycle belongs to the request
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void recordOnce() {
+            if (recorded.compareAndSet(false, true)) {
+                record(request, startTime);
+            }
+        }
+    }
 }
@@ -129,7 +129,7 @@ public class MetricsImpl implements Metrics {
         final AtomicReference<Double> internalValue = new AtomicReference<>(0d);
 
         io.micrometer.core.instrument.Gauge gauge = io.micrometer.core.instrument.Gauge
-                .builder("name", internalValue, r -> Optional.ofNullable(r.get()).orElse(0d))
+                .builder(name, internalValue, r -> Optional.ofNullable(r.get()).orElse(0d))
                 .tags(tagList)
                 .register(registry.get());
 
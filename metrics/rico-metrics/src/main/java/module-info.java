@@ -4,7 +4,10 @@ module dev.rico.metrics {
     exports dev.rico.metrics.types;
     exports dev.rico.internal.metrics to dev.rico.metrics.server,
             dev.rico.metrics.server.javaee,
-            dev.rico.metrics.server.spring;
+            dev.rico.metrics.server.spring,
+            dev.rico.remoting.server,
+            dev.rico.remoting.server.distributed,
+            dev.rico.security.server;
 
     requires transitive dev.rico.core;
     requires static org.apiguardian.api;
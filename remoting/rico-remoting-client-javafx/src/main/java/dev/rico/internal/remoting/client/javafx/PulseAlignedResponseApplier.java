@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.client.javafx;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.client.legacy.communication.ResponseApplier;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
+import javafx.animation.AnimationTimer;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A {@link ResponseApplier} that keeps the JavaFX application thread responsive while big responses are applied.
+ * Each pulse only applies commands until the frame budget is used, the rest of the response is applied in the
+ * following pulses. Responses are always applied completely and in order. Value changes of an attribute that is
+ * changed again later in the same response are dropped, so listeners and bindings only see the last value.
+ * <p>
+ * Since user input is handled between the pulses, an attribute can be changed on the client while older server values
+ * for it are still pending. These server values are dropped (see {@link #onLocalValueChange(String)}), otherwise they
+ * would overwrite the input and be sent back to the server as the new value.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class PulseAlignedResponseApplier implements ResponseApplier {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PulseAlignedResponseApplier.class);
+
+    public static final Duration DEFAULT_FRAME_BUDGET = Duration.ofMillis(8);
+
+    private final long frameBudgetNanos;
+
+    private final Deque<PendingResponse> pendingResponses = new ArrayDeque<>();
+
+    private AnimationTimer timer;
+
+    private boolean pulseRequested;
+
+    private Consumer<Duration> applyTimeListener;
+
+    public PulseAlignedResponseApplier() {
+        this(DEFAULT_FRAME_BUDGET);
+    }
+
+    public PulseAlignedResponseApplier(final Duration frameBudget) {
+        Assert.requireNonNull(frameBudget, "frameBudget");
+        this.frameBudgetNanos = frameBudget.toNanos();
+    }
+
+    @Override
+    public void apply(final List<? extends Command> commands, final Consumer<Command> handler, final Runnable onApplied) {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(handler, "handler");
+        Assert.requireNonNull(onApplied, "onApplied");
+        pendingResponses.add(new PendingResponse(withoutIntermediateValueChanges(commands), handler, onApplied));
+        if (!pulseRequested) {
+            boolean applied = false;
+            try {
+                applied = applySlice();
+            } finally {
+                if (!applied) {
+                    requestPulse();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onLocalValueChange(final String attributeId) {
+        if (attributeId == null) {
+            return;
+        }
+        for (final PendingResponse response : pendingResponses) {
+            response.skipValueChanges(attributeId);
+        }
+    }
+
+    /**
+     * Applies pending commands until the frame budget is used.
+     *
+     * @return {@code true} if all pending responses were applied
+     */
+    public boolean applySlice() {
+        final long start = System.nanoTime();
+        long now = start;
+        while (!pendingResponses.isEmpty() && now - start < frameBudgetNanos) {
+            final PendingResponse response = pendingResponses.peek();
+            final long responseStart = now;
+            try {
+                while (response.hasNext() && now - start < frameBudgetNanos) {
+                    response.applyNext();
+                    now = System.nanoTime();
+                }
+            } finally {
+                now = System.nanoTime();
+                response.addApplyTime(now - responseStart);
+            }
+            if (!response.hasNext()) {
+                pendingResponses.poll();
+                response.finish();
+            }
+        }
+        return pendingResponses.isEmpty();
+    }
+
+    /**
+     * Defines a listener that is called with the time the UI thread spent to apply a response.
+     *
+     * @param applyTimeListener the listener or {@code null}
+     */
+    public void setApplyTimeListener(final Consumer<Duration> applyTimeListener) {
+        this.applyTimeListener = applyTimeListener;
+    }
+
+    public int getPendingResponseCount() {
+        return pendingResponses.size();
+    }
+
+    private void requestPulse() {
+        if (!pulseRequested) {
+            pulseRequested = true;
+            startPulses();
+        }
+    }
+
+    /**
+     * Called in each pulse while responses are pending.
+     */
+    protected void onPulse() {
+        if (applySlice()) {
+            pulseRequested = false;
+            stopPulses();
+        }
+    }
+
+    /**
+     * Starts to call {@link #onPulse()} in each pulse of the JavaFX application thread.
+     */
+    protected void startPulses() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(final long now) {
+                    onPulse();
+                }
+            };
+        }
+        timer.start();
+    }
+
+    protected void stopPulses() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    private static List<? extends Command> withoutIntermediateValueChanges(final List<? extends Command> commands) {
+        Set<String> changedAttributes = null;
+        List<Command> result = null;
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            final Command command = commands.get(i);
+            if (command instanceof ValueChangedCommand && ((ValueChangedCommand) command).getAttributeId() != null) {
+                if (changedAttributes == null) {
+                    changedAttributes = new HashSet<>();
+                }
+                if (!changedAttributes.add(((ValueChangedCommand) command).getAttributeId())) {
+                    if (result == null) {
+                        result = new ArrayList<>(commands.subList(i + 1, commands.size()));
+                        Collections.reverse(result);
+                    }
+                    continue;
+                }
+            }
+            if (result != null) {
+                result.add(command);
+            }
+        }
+        if (result == null) {
+            return commands;
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private class PendingResponse {
+
+        private final List<? extends Command> commands;
+
+        private final Consumer<Command> handler;
+
+        private final Runnable onApplied;
+
+        private int index;
+
+        private long applyTimeNanos;
+
+        private int slices;
+
+        private Set<String> locallyChangedAttributes;
+
+        private PendingResponse(final List<? extends Command> commands, final Consumer<Command> handler, final Runnable onApplied) {
+            this.commands = commands;
+            this.handler = handler;
+            this.onApplied = onApplied;
+        }
+
+        private boolean hasNext() {
+            return index < commands.size();
+        }
+
+        private void applyNext() {
+            final Command command = commands.get(index++);
+            if (locallyChangedAttributes != null && command instanceof ValueChangedCommand
+                    && locallyChangedAttributes.contains(((ValueChangedCommand) command).getAttributeId())) {
+                LOG.debug("Dropping server value of attribute {} since it was changed on the client", ((ValueChangedCommand) command).getAttributeId());
+                return;
+            }
+            handler.accept(command);
+        }
+
+        private void skipValueChanges(final String attributeId) {
+            if (locallyChangedAttributes == null) {
+                locallyChangedAttributes = new HashSet<>();
+            }
+            locallyChangedAttributes.add(attributeId);
+        }
+
+        private void addApplyTime(final long nanos) {
+            applyTimeNanos += nanos;
+            slices++;
+        }
+
+        private void finish() {
+            final Duration applyTime = Duration.ofNanos(applyTimeNanos);
+            LOG.debug("Applied response with {} commands in {} ms and {} slices", commands.size(), applyTime.toMillis(), slices);
+            final Consumer<Duration> listener = applyTimeListener;
+            if (listener != null) {
+                listener.accept(applyTime);
+            }
+            onApplied.run();
+        }
+    }
+}
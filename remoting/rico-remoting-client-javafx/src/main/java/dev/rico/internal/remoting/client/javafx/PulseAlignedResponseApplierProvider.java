@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.client.javafx;
+
+import dev.rico.client.ClientConfiguration;
+import dev.rico.client.spi.ServiceProvider;
+import dev.rico.internal.remoting.client.legacy.communication.ResponseApplierFactory;
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Provides a factory for {@link PulseAlignedResponseApplier} instances if it is activated by the
+ * {@link #ACTIVE_PROPERTY} property. Each client context gets its own applier.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class PulseAlignedResponseApplierProvider implements ServiceProvider<ResponseApplierFactory> {
+
+    public static final String ACTIVE_PROPERTY = "remoting.javafx.pulseAlignedResponses";
+
+    public static final String FRAME_BUDGET_PROPERTY = "remoting.javafx.frameBudgetMillis";
+
+    @Override
+    public boolean isActive(final ClientConfiguration configuration) {
+        return configuration.getBooleanProperty(ACTIVE_PROPERTY, false);
+    }
+
+    @Override
+    public ResponseApplierFactory getService(final ClientConfiguration configuration) {
+        final long frameBudget = configuration.getLongProperty(FRAME_BUDGET_PROPERTY, PulseAlignedResponseApplier.DEFAULT_FRAME_BUDGET.toMillis());
+        final Duration budget = Duration.ofMillis(Math.max(1, frameBudget));
+        return () -> new PulseAlignedResponseApplier(budget);
+    }
+
+    @Override
+    public Class<ResponseApplierFactory> getServiceType() {
+        return ResponseApplierFactory.class;
+    }
+}
@@ -1,3 +1,6 @@
+import dev.rico.client.spi.ServiceProvider;
+import dev.rico.internal.remoting.client.javafx.PulseAlignedResponseApplierProvider;
+
 module dev.rico.remoting.client.javafx {
 
     exports dev.rico.remoting.client.javafx;
@@ -5,6 +8,8 @@ module dev.rico.remoting.client.javafx {
     exports dev.rico.remoting.client.javafx.binding;
     exports dev.rico.remoting.client.javafx.view;
 
+    provides ServiceProvider with PulseAlignedResponseApplierProvider;
+
     requires transitive dev.rico.remoting.client;
     requires transitive dev.rico.client.javafx;
 
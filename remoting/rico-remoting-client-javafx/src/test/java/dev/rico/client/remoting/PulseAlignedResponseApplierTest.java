@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.client.remoting;
+
+import dev.rico.internal.client.DefaultClientConfiguration;
+import dev.rico.internal.remoting.client.javafx.PulseAlignedResponseApplier;
+import dev.rico.internal.remoting.client.javafx.PulseAlignedResponseApplierProvider;
+import dev.rico.internal.remoting.client.legacy.communication.ResponseApplierFactory;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PulseAlignedResponseApplierTest {
+
+    @Test
+    public void testIntermediateValueChangesAreDropped() {
+        //given:
+        final TestApplier applier = new TestApplier(Duration.ofSeconds(10));
+        final List<Command> applied = new ArrayList<>();
+        final CreatePresentationModelCommand create = new CreatePresentationModelCommand();
+        final ValueChangedCommand lastA = new ValueChangedCommand("a", 3);
+        final ValueChangedCommand lastB = new ValueChangedCommand("b", 2);
+
+        //when:
+        applier.apply(Arrays.asList(new ValueChangedCommand("a", 1), create, new ValueChangedCommand("a", 2),
+                new ValueChangedCommand("b", 1), lastA, lastB), applied::add, () -> {});
+
+        //then:
+        Assert.assertEquals(applied, Arrays.asList(create, lastA, lastB));
+        Assert.assertEquals(applier.pulses, 0);
+    }
+
+    @Test
+    public void testBigResponseIsAppliedInSlices() {
+        //given:
+        final TestApplier applier = new TestApplier(Duration.ofNanos(1));
+        final List<Command> applied = new ArrayList<>();
+        final AtomicInteger finished = new AtomicInteger(0);
+        final List<Duration> applyTimes = new ArrayList<>();
+        applier.setApplyTimeListener(applyTimes::add);
+        final List<Command> first = Arrays.asList(new ValueChangedCommand("a", 1), new ValueChangedCommand("b", 1));
+        final List<Command> second = Collections.singletonList(new ValueChangedCommand("c", 1));
+
+        //when:
+        applier.apply(first, applied::add, finished::incrementAndGet);
+        applier.apply(second, applied::add, finished::incrementAndGet);
+
+        //then:
+        Assert.assertEquals(applied.size(), 1);
+        Assert.assertEquals(applier.pulses, 1);
+        Assert.assertEquals(applier.getPendingResponseCount(), 2);
+
+        //when:
+        applier.pulse();
+        applier.pulse();
+
+        //then:
+        Assert.assertEquals(applied.size(), 3);
+        Assert.assertEquals(applied.get(2), second.get(0));
+        Assert.assertEquals(finished.get(), 2);
+        Assert.assertEquals(applyTimes.size(), 2);
+        Assert.assertEquals(applier.getPendingResponseCount(), 0);
+        Assert.assertFalse(applier.running);
+    }
+
+    @Test
+    public void testPendingServerValueIsDroppedAfterLocalChange() {
+        //given:
+        final TestApplier applier = new TestApplier(Duration.ofNanos(1));
+        final List<Command> applied = new ArrayList<>();
+        final ValueChangedCommand first = new ValueChangedCommand("a", 1);
+        final ValueChangedCommand other = new ValueChangedCommand("b", 1);
+        applier.apply(Arrays.asList(first, new ValueChangedCommand("c", 1), other), applied::add, () -> {});
+        final ValueChangedCommand later = new ValueChangedCommand("c", 2);
+        applier.apply(Collections.singletonList(later), applied::add, () -> {});
+
+        //when:
+        applier.onLocalValueChange("c");
+        applier.pulse();
+        applier.pulse();
+        applier.pulse();
+
+        //then:
+        Assert.assertEquals(applied, Arrays.asList(first, other));
+        Assert.assertEquals(applier.getPendingResponseCount(), 0);
+
+        //when:
+        final ValueChangedCommand afterLocalChange = new ValueChangedCommand("c", 3);
+        applier.apply(Collections.singletonList(afterLocalChange), applied::add, () -> {});
+
+        //then:
+        Assert.assertEquals(applied, Arrays.asList(first, other, afterLocalChange));
+    }
+
+    @Test
+    public void testEachContextGetsOwnApplier() {
+        //given:
+        final ResponseApplierFactory factory = new PulseAlignedResponseApplierProvider().getService(new DefaultClientConfiguration(new Properties()));
+
+        //then:
+        Assert.assertNotSame(factory.create(), factory.create());
+    }
+
+    private static class TestApplier extends PulseAlignedResponseApplier {
+
+        private int pulses;
+
+        private boolean running;
+
+        private TestApplier(final Duration frameBudget) {
+            super(frameBudget);
+        }
+
+        private void pulse() {
+            onPulse();
+        }
+
+        @Override
+        protected void startPulses() {
+            pulses++;
+            running = true;
+        }
+
+        @Override
+        protected void stopPulses() {
+            running = false;
+        }
+    }
+}
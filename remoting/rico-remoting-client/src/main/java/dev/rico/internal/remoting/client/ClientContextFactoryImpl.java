@@ -20,6 +20,7 @@ import dev.rico.client.concurrent.BackgroundExecutor;
 import dev.rico.client.concurrent.UiExecutor;
 import dev.rico.internal.remoting.client.legacy.ClientModelStore;
 import dev.rico.internal.remoting.client.legacy.communication.AbstractClientConnector;
+import dev.rico.internal.remoting.client.legacy.communication.ResponseApplierFactory;
 import dev.rico.client.Client;
 import dev.rico.internal.client.session.StrictClientSessionResponseHandler;
 import dev.rico.internal.core.Assert;
@@ -47,6 +48,19 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.x", status = INTERNAL)
 public class ClientContextFactoryImpl implements ClientContextFactory {
 
+    /**
+     * Property to activate the negotiation of the binary remoting protocol. If the server does not support the binary
+     * protocol the client falls back to JSON.
+     */
+    public static final String BINARY_PROTOCOL_PROPERTY = "remoting.binaryProtocol";
+
+    /**
+     * Property that defines how many requests the client sends to the server without waiting for the responses of
+     * the previous requests. The default {@code 1} disables the pipelining. The server always handles the requests
+     * in order and the client applies the responses in order.
+     */
+    public static final String MAX_REQUESTS_IN_FLIGHT_PROPERTY = "remoting.maxRequestsInFlight";
+
     public ClientContextFactoryImpl() {
     }
 
@@ -65,8 +79,15 @@ public class ClientContextFactoryImpl implements ClientContextFactory {
         httpClient.addResponseHandler(clientSessionCheckResponseHandler);
         final UiExecutor uiExecutor = Client.getService(UiExecutor.class);
         final BackgroundExecutor backgroundExecutor = Client.getService(BackgroundExecutor.class);
+        final boolean binaryProtocol = clientConfiguration.getBooleanProperty(BINARY_PROTOCOL_PROPERTY, false);
+        final int maxRequestsInFlight = clientConfiguration.getIntProperty(MAX_REQUESTS_IN_FLIGHT_PROPERTY, 1);
         final Function<ClientModelStore, AbstractClientConnector> connectionProvider = s -> {
-            return new HttpClientConnector(endpoint, uiExecutor, backgroundExecutor, s, OptimizedJsonCodec.getInstance(), e -> {}, httpClient);
+            final HttpClientConnector connector = new HttpClientConnector(endpoint, uiExecutor, backgroundExecutor, s, OptimizedJsonCodec.getInstance(), e -> {}, httpClient, binaryProtocol);
+            connector.setMaxRequestsInFlight(Math.max(1, maxRequestsInFlight));
+            if (Client.hasService(ResponseApplierFactory.class)) {
+                connector.setResponseApplier(Client.getService(ResponseApplierFactory.class).create());
+            }
+            return connector;
         };
 
 
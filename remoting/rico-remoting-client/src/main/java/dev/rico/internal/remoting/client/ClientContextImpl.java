@@ -30,8 +30,8 @@ import dev.rico.internal.remoting.ClassRepository;
 import dev.rico.internal.remoting.ClassRepositoryImpl;
 import dev.rico.internal.remoting.Converters;
 import dev.rico.internal.remoting.EventDispatcher;
+import dev.rico.internal.remoting.ListMapper;
 import dev.rico.internal.remoting.PresentationModelBuilderFactory;
-import dev.rico.internal.remoting.collections.ListMapperImpl;
 import dev.rico.internal.remoting.commands.CreateContextCommand;
 import dev.rico.internal.remoting.commands.DestroyContextCommand;
 import dev.rico.client.ClientConfiguration;
@@ -100,7 +100,9 @@ public class ClientContextImpl implements ClientContext {
 
         this.commandHandler = new RicoCommandHandler(clientConnector);
         this.controllerProxyFactory = new ControllerProxyFactory(commandHandler, clientConnector, modelStore, beanRepository, dispatcher, converters);
-        this.clientBeanManager = new BeanManagerImpl(beanRepository, new ClientBeanBuilderImpl(classRepository, beanRepository, new ListMapperImpl(modelStore, classRepository, beanRepository, builderFactory, dispatcher), builderFactory, dispatcher));
+        final ListMapper listMapper = new ClientListMapper(modelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        clientConnector.setListSpliceHandler(listMapper::processSplice);
+        this.clientBeanManager = new BeanManagerImpl(beanRepository, new ClientBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher));
     }
 
     protected RicoCommandHandler getCommandHandler() {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.client;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.BeanRepository;
+import dev.rico.internal.remoting.ClassRepository;
+import dev.rico.internal.remoting.EventDispatcher;
+import dev.rico.internal.remoting.PresentationModelBuilderFactory;
+import dev.rico.internal.remoting.client.legacy.ClientModelStore;
+import dev.rico.internal.remoting.collections.ListMapperImpl;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "2.1.0", status = INTERNAL)
+public class ClientListMapper extends ListMapperImpl {
+
+    private final ClientModelStore clientModelStore;
+
+    public ClientListMapper(final ClientModelStore clientModelStore, final ClassRepository classRepository, final BeanRepository beanRepository, final PresentationModelBuilderFactory<?> builderFactory, final EventDispatcher dispatcher) {
+        super(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        this.clientModelStore = Assert.requireNonNull(clientModelStore, "clientModelStore");
+    }
+
+    @Override
+    protected void send(final ListSpliceCommand command) {
+        clientModelStore.listSplice(command);
+    }
+
+    @Override
+    protected boolean isListSpliceSupported() {
+        return clientModelStore.isListSpliceSupported();
+    }
+}
@@ -18,6 +18,13 @@ package dev.rico.internal.remoting.client;
 
 import dev.rico.client.concurrent.BackgroundExecutor;
 import dev.rico.client.concurrent.UiExecutor;
+import dev.rico.core.http.HttpCallRequestBuilder;
+import dev.rico.core.http.HttpHeader;
+import dev.rico.core.http.HttpResponse;
+import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.codec.BinaryCodec;
+import dev.rico.internal.remoting.codec.CommandCodecs;
+import dev.rico.internal.remoting.codec.StreamCodec;
 import dev.rico.internal.remoting.commands.CreateContextCommand;
 import dev.rico.remoting.client.RemotingExceptionHandler;
 import dev.rico.core.http.HttpClient;
@@ -35,7 +42,13 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -57,16 +70,42 @@ public class HttpClientConnector extends AbstractClientConnector {
 
     private final HttpClient client;
 
+    private final ClientModelStore clientModelStore;
+
     private final AtomicBoolean hasContext = new AtomicBoolean(false);
 
+    private final boolean binaryProtocol;
+
+    private final AtomicBoolean binaryAccepted = new AtomicBoolean(false);
+
     public HttpClientConnector(final URI servletUrl, final UiExecutor uiExecutor, final BackgroundExecutor backgroundExecutor, final ClientModelStore clientModelStore, final Codec codec, final RemotingExceptionHandler onException, final HttpClient client) {
+        this(servletUrl, uiExecutor, backgroundExecutor, clientModelStore, codec, onException, client, false);
+    }
+
+    /**
+     * Creates a new connector. If {@code binaryProtocol} is {@code true} the connector asks the server for the compact
+     * {@link BinaryCodec}. The first request is always sent as JSON since the client doesn't know if the server supports
+     * the binary format. Once the server answered with a binary response all following requests are sent binary, too.
+     */
+    public HttpClientConnector(final URI servletUrl, final UiExecutor uiExecutor, final BackgroundExecutor backgroundExecutor, final ClientModelStore clientModelStore, final Codec codec, final RemotingExceptionHandler onException, final HttpClient client, final boolean binaryProtocol) {
         super(clientModelStore, uiExecutor, new BlindCommandBatcher(), onException, backgroundExecutor);
         this.servletUrl = Assert.requireNonNull(servletUrl, "servletUrl");
         this.codec = Assert.requireNonNull(codec, "codec");
         this.client = Assert.requireNonNull(client, "client");
+        this.clientModelStore = Assert.requireNonNull(clientModelStore, "clientModelStore");
+        this.binaryProtocol = binaryProtocol;
     }
 
     public List<Command> transmit(final List<Command> commands) throws RemotingException {
+        return transmit(commands, -1);
+    }
+
+    /**
+     * Sends the commands. If the connector is pipelined the request is not synchronized with other requests and
+     * contains the given sequence number.
+     */
+    @Override
+    public List<Command> transmit(final List<Command> commands, final long sequence) throws RemotingException {
         Assert.requireNonNull(commands, "commands");
 
         final List<Command> commandsToSend = new ArrayList<>();
@@ -86,17 +125,24 @@ public class HttpClientConnector extends AbstractClientConnector {
         }
 
         try {
-            final String data = codec.encode(commandsToSend);
+            final boolean sendBinary = binaryProtocol && binaryAccepted.get();
+            final String contentType = sendBinary ? BinaryCodec.CONTENT_TYPE : HttpHeaderConstants.JSON_MIME_TYPE;
+
+            if (sequence >= 0) {
+                if (!connectedFlag.get()) {
+                    LOG.warn("No connection, aborting request - {}", commandsToSend);
+                    return Collections.emptyList();
+                }
+                return decode(send(commandsToSend, sendBinary, contentType, sequence));
+            }
 
             connectedFlagLock.lock();
             try {
                 if (!connectedFlag.get()) {
-                    LOG.warn("No connection, aborting request - {}", data);
+                    LOG.warn("No connection, aborting request - {}", commandsToSend);
                     return Collections.emptyList();
                 }
-
-                final String receivedContent = client.request(servletUrl, RequestMethod.POST).withContent(data, HttpHeaderConstants.JSON_MIME_TYPE).readString().execute().get().getContent();
-                return codec.decode(receivedContent);
+                return decode(send(commandsToSend, sendBinary, contentType, sequence));
             }
             finally {
                 connectedFlagLock.unlock();
@@ -106,6 +152,70 @@ public class HttpClientConnector extends AbstractClientConnector {
         }
     }
 
+    private HttpResponse<InputStream> send(final List<Command> commands, final boolean binary, final String contentType, final long sequence) throws Exception {
+        HttpCallRequestBuilder requestBuilder = client.request(servletUrl, RequestMethod.POST)
+                .withHeader(CommandCodecs.ACCEPT_HEADER, CommandCodecs.createAcceptHeader(binaryProtocol))
+                .withHeader(RemotingConstants.LIST_SPLICE_HEADER, Boolean.TRUE.toString());
+        if (sequence >= 0) {
+            requestBuilder = requestBuilder.withHeader(RemotingConstants.SEQUENCE_HEADER, Long.toString(sequence));
+        }
+        return requestBuilder.withContent(out -> encode(commands, binary, out), contentType)
+                .streamBytes()
+                .execute().get();
+    }
+
+    /**
+     * Writes the commands to the request body. Stream codecs write straight into the body; a plain {@link Codec} can
+     * only provide the whole body as a string, which is written without an additional byte copy.
+     */
+    private void encode(final List<Command> commands, final boolean binary, final OutputStream outputStream) throws IOException {
+        final StreamCodec streamCodec = binary ? BinaryCodec.getInstance() : getJsonStreamCodec();
+        if (streamCodec == null) {
+            final Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            writer.write(codec.encode(commands));
+            writer.flush();
+            return;
+        }
+        streamCodec.encode(commands, outputStream);
+    }
+
+    private List<Command> decode(final HttpResponse<InputStream> response) throws IOException {
+        if (!clientModelStore.isListSpliceSupported() && hasHeader(response.getHeaders(), RemotingConstants.LIST_SPLICE_HEADER)) {
+            clientModelStore.setListSpliceSupported(true);
+        }
+        try (final InputStream content = response.getContent()) {
+            if (isBinary(response.getHeaders())) {
+                binaryAccepted.set(true);
+                return BinaryCodec.getInstance().decode(content);
+            }
+            final StreamCodec streamCodec = getJsonStreamCodec();
+            if (streamCodec == null) {
+                return codec.decode(new String(content.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            return streamCodec.decode(content);
+        }
+    }
+
+    private StreamCodec getJsonStreamCodec() {
+        if (codec instanceof StreamCodec) {
+            return (StreamCodec) codec;
+        }
+        return null;
+    }
+
+    private boolean hasHeader(final List<HttpHeader> headers, final String name) {
+        return headers != null && headers.stream().anyMatch(h -> name.equalsIgnoreCase(h.getName()));
+    }
+
+    private boolean isBinary(final List<HttpHeader> headers) {
+        if (!binaryProtocol || headers == null) {
+            return false;
+        }
+        return headers.stream()
+                .filter(h -> CommandCodecs.CONTENT_TYPE_HEADER.equalsIgnoreCase(h.getName()))
+                .anyMatch(h -> CommandCodecs.forContentType(h.getContent()) == BinaryCodec.getInstance());
+    }
+
     @Override
     public void disconnect() {
         if (hasContext.get()) {
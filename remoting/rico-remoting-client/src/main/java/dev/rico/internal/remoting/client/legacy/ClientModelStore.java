@@ -16,7 +16,9 @@
  */
 package dev.rico.internal.remoting.client.legacy;
 
+import dev.rico.internal.remoting.RemotingConstants;
 import dev.rico.internal.remoting.client.legacy.communication.AttributeChangeListener;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.legacy.core.ModelStore;
 import dev.rico.internal.remoting.legacy.core.ModelStoreConfig;
 import org.apiguardian.api.API;
@@ -39,6 +41,11 @@ public class ClientModelStore extends ModelStore<ClientAttribute, ClientPresenta
 
     protected final AttributeChangeListener attributeChangeListener;
 
+    /**
+     * {@code true} if the server announced that it can handle {@link ListSpliceCommand}s.
+     */
+    private volatile boolean listSpliceSupported = false;
+
     /**
      * Constructs a client model store with default capacities.
      * @see ModelStoreConfig
@@ -96,9 +103,27 @@ public class ClientModelStore extends ModelStore<ClientAttribute, ClientPresenta
     }
 
 
+    public void listSplice(final ListSpliceCommand command) {
+        modelSynchronizer.onListSplice(command);
+    }
+
+    /**
+     * Defines if the server can handle {@link ListSpliceCommand}s (see {@link RemotingConstants#LIST_SPLICE_HEADER}).
+     *
+     * @param listSpliceSupported {@code true} if the server supports the command
+     */
+    public void setListSpliceSupported(final boolean listSpliceSupported) {
+        this.listSpliceSupported = listSpliceSupported;
+    }
+
+    public boolean isListSpliceSupported() {
+        return listSpliceSupported;
+    }
+
     public ClientPresentationModel createModel(final String id, final String presentationModelType, final ClientAttribute... attributes) {
         final ClientPresentationModel result = new ClientPresentationModel(id, Arrays.asList(attributes));
         result.setPresentationModelType(presentationModelType);
+        result._internal_shareLayout();
         add(result);
         return result;
     }
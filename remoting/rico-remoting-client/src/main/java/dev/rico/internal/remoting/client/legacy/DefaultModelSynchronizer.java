@@ -17,6 +17,7 @@
 package dev.rico.internal.remoting.client.legacy;
 
 import dev.rico.internal.remoting.client.legacy.communication.AbstractClientConnector;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.legacy.communication.ChangeAttributeMetadataCommand;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
@@ -63,6 +64,11 @@ public class DefaultModelSynchronizer implements ModelSynchronizer {
         send(command);
     }
 
+    @Override
+    public void onListSplice(final ListSpliceCommand command) {
+        send(command);
+    }
+
     private void send(final Command command) {
         final AbstractClientConnector clientConnector = connectionProvider.get();
         if(clientConnector == null) {
@@ -16,6 +16,7 @@
  */
 package dev.rico.internal.remoting.client.legacy;
 
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import org.apiguardian.api.API;
 
 import java.beans.PropertyChangeEvent;
@@ -32,4 +33,6 @@ public interface ModelSynchronizer {
     void onPropertyChanged(PropertyChangeEvent evt);
 
     void onMetadataChanged(PropertyChangeEvent evt);
+
+    void onListSplice(ListSpliceCommand command);
 }
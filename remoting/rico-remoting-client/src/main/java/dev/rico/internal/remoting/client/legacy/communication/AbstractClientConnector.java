@@ -18,9 +18,11 @@ package dev.rico.internal.remoting.client.legacy.communication;
 
 import dev.rico.client.concurrent.BackgroundExecutor;
 import dev.rico.internal.remoting.client.legacy.ClientModelStore;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.legacy.commands.InterruptLongPollCommand;
 import dev.rico.internal.remoting.legacy.commands.StartLongPollCommand;
 import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
 import dev.rico.remoting.RemotingException;
 import dev.rico.remoting.client.RemotingExceptionHandler;
 import org.apiguardian.api.API;
@@ -32,8 +34,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
 
@@ -65,6 +69,15 @@ public abstract class AbstractClientConnector {
 
     protected boolean connectionFlagForUiExecutor = false;
 
+    /**
+     * {@code true} while a command of a response is applied, only accessed in the UI thread
+     */
+    private boolean applyingResponse = false;
+
+    private volatile int maxRequestsInFlight = 1;
+
+    private volatile ResponseApplier responseApplier = ResponseApplier.DIRECT;
+
     private final StartLongPollCommand pushListener;
 
     private final InterruptLongPollCommand releaseCommand;
@@ -83,7 +96,17 @@ public abstract class AbstractClientConnector {
     private void handleError(final Exception exception) {
         Objects.requireNonNull(exception);
 
-        disconnect();
+        // pipelined requests can fail in parallel, only the first error disconnects and is reported
+        connectedFlagLock.lock();
+        try {
+            if (!connectedFlag.get()) {
+                LOG.warn("Remoting error based on broken connection in parallel request", exception);
+                return;
+            }
+            disconnect();
+        } finally {
+            connectedFlagLock.unlock();
+        }
 
         uiExecutor.execute(() -> {
             connectionFlagForUiExecutor = false;
@@ -96,30 +119,25 @@ public abstract class AbstractClientConnector {
     }
 
     protected void commandProcessing() {
+        if (maxRequestsInFlight > 1) {
+            pipelinedCommandProcessing();
+            return;
+        }
         boolean longPollingActivated = false;
         while (connectedFlag.get()) {
             try {
                 final List<CommandAndHandler> toProcess = commandBatcher.getWaitingBatches().getVal();
-                final List<Command> commands = new ArrayList<>();
-                for (CommandAndHandler c : toProcess) {
-                    commands.add(c.getCommand());
-                }
-
-                if (LOG.isDebugEnabled()) {
-                    final StringBuilder buffer = new StringBuilder();
-                    for (Command command : commands) {
-                        buffer.append(command.getClass().getSimpleName());
-                        buffer.append(", ");
-                    }
-                    LOG.trace("Sending {} commands to server: {}", commands.size(), buffer.substring(0, buffer.length() - 2));
-                } else {
-                    LOG.trace("Sending {} commands to server", commands.size());
-                }
+                final List<Command> commands = getCommands(toProcess);
 
                 connectedFlagLock.lock();
                 try {
                     if (connectedFlag.get()) {
+                        final long start = System.nanoTime();
                         final List<? extends Command> answers = transmit(commands);
+                        if (!commands.contains(pushListener)) {
+                            // a long poll is blocked on the server and says nothing about the connection
+                            commandBatcher.onRoundTrip(System.nanoTime() - start);
+                        }
                         uiExecutor.execute(() -> processResults(answers, toProcess));
                     }
                 } finally {
@@ -139,8 +157,115 @@ public abstract class AbstractClientConnector {
         }
     }
 
+    /**
+     * Sends the batches without waiting for the responses of the previous batches. Up to {@link #maxRequestsInFlight}
+     * requests are sent in parallel. Each request has a sequence number that is used by the server to handle the
+     * requests in order. The responses are applied in the same order by an {@link OrderedResponseApplier}. The first
+     * request is always sent alone since it creates the remoting context on the server.
+     */
+    private void pipelinedCommandProcessing() {
+        final int permits = maxRequestsInFlight;
+        final Semaphore requestsInFlight = new Semaphore(permits);
+        final OrderedResponseApplier orderedResponseApplier = new OrderedResponseApplier(uiExecutor, 1);
+        long sequence = 0;
+        boolean longPollingActivated = false;
+        while (connectedFlag.get()) {
+            try {
+                final List<CommandAndHandler> toProcess = commandBatcher.getWaitingBatches().getVal();
+                final List<Command> commands = getCommands(toProcess);
+                final long requestSequence = ++sequence;
+                final int requiredPermits = requestSequence == 1 ? permits : 1;
+                requestsInFlight.acquire(requiredPermits);
+                backgroundExecutor.execute(() -> {
+                    try {
+                        final long start = System.nanoTime();
+                        final List<? extends Command> answers = transmit(commands, requestSequence);
+                        if (!commands.contains(pushListener)) {
+                            commandBatcher.onRoundTrip(System.nanoTime() - start);
+                        }
+                        orderedResponseApplier.complete(requestSequence, () -> processResults(answers, toProcess));
+                    } catch (Exception e) {
+                        orderedResponseApplier.complete(requestSequence, null);
+                        if (connectedFlag.get()) {
+                            handleError(e);
+                        } else {
+                            LOG.warn("Remoting error based on broken connection in parallel request", e);
+                        }
+                    } finally {
+                        requestsInFlight.release(requiredPermits);
+                    }
+                });
+                if (requestSequence == 1) {
+                    // wait for the response of the first request
+                    requestsInFlight.acquire(permits);
+                    requestsInFlight.release(permits);
+                }
+            } catch (Exception e) {
+                if (connectedFlag.get()) {
+                    handleError(e);
+                } else {
+                    LOG.warn("Remoting error based on broken connection in parallel request", e);
+                }
+            }
+            if (!longPollingActivated && useLongPolling.get()) {
+                uiExecutor.execute(this::listen);
+                longPollingActivated = true;
+            }
+        }
+    }
+
+    private List<Command> getCommands(final List<CommandAndHandler> commandsAndHandlers) {
+        final List<Command> commands = new ArrayList<>();
+        for (CommandAndHandler c : commandsAndHandlers) {
+            commands.add(c.getCommand());
+        }
+
+        if (LOG.isDebugEnabled()) {
+            final StringBuilder buffer = new StringBuilder();
+            for (Command command : commands) {
+                buffer.append(command.getClass().getSimpleName());
+                buffer.append(", ");
+            }
+            LOG.trace("Sending {} commands to server: {}", commands.size(), buffer.substring(0, buffer.length() - 2));
+        } else {
+            LOG.trace("Sending {} commands to server", commands.size());
+        }
+        return commands;
+    }
+
     protected abstract List<Command> transmit(final List<Command> commands) throws RemotingException;
 
+    /**
+     * Sends the commands of a pipelined request. The sequence number must be sent to the server, so that the server
+     * can handle the requests in order.
+     *
+     * @param commands the commands
+     * @param sequence the sequence number of the request
+     * @return the response commands
+     * @throws RemotingException if the request failed
+     */
+    protected List<? extends Command> transmit(final List<Command> commands, final long sequence) throws RemotingException {
+        return transmit(commands);
+    }
+
+    /**
+     * Defines how many requests can be sent to the server without waiting for the responses of the previous
+     * requests. A value of {@code 1} (the default) sends one request after the other. The value must be defined
+     * before the connector is connected.
+     *
+     * @param maxRequestsInFlight the max number of parallel requests
+     */
+    public void setMaxRequestsInFlight(final int maxRequestsInFlight) {
+        if (maxRequestsInFlight < 1) {
+            throw new IllegalArgumentException("maxRequestsInFlight must be > 0");
+        }
+        this.maxRequestsInFlight = maxRequestsInFlight;
+    }
+
+    public boolean isPipelined() {
+        return maxRequestsInFlight > 1;
+    }
+
     public void send(final Command command, final OnFinishedHandler callback, final HandlerType handlerType) {
         LOG.trace("Command of type {} should be withContent to server", command.getClass().getSimpleName());
         if (!connectedFlag.get()) {
@@ -151,6 +276,9 @@ public abstract class AbstractClientConnector {
         if (!command.equals(pushListener)) {
             release();
         }
+        if (!applyingResponse && command instanceof ValueChangedCommand) {
+            responseApplier.onLocalValueChange(((ValueChangedCommand) command).getAttributeId());
+        }
         // we are inside the UI thread and events calls come in strict order as received by the UI toolkit
         final CommandAndHandler handler = new CommandAndHandler(command, callback, handlerType);
         commandBatcher.batch(handler);
@@ -177,19 +305,37 @@ public abstract class AbstractClientConnector {
             LOG.trace("Processing {} commands from server", response.size());
         }
 
-        for (final Command serverCommand : response) {
-            dispatchHandle(serverCommand);
-        }
-
         final OnFinishedHandler callback = commandsAndHandlers.get(0).getHandler();
-        if (callback != null) {
-            LOG.trace("Handling registered callback");
-            try {
-                callback.onFinished();
-            } catch (Exception e) {
-                LOG.error("Error in handling callback", e);
-                throw e;
+        responseApplier.apply(response, this::applyResponseCommand, () -> {
+            if (callback != null) {
+                LOG.trace("Handling registered callback");
+                try {
+                    callback.onFinished();
+                } catch (Exception e) {
+                    LOG.error("Error in handling callback", e);
+                    throw e;
+                }
             }
+        });
+    }
+
+    /**
+     * Defines how the commands of a response are applied in the UI thread. By default all commands are applied
+     * directly (see {@link ResponseApplier#DIRECT}).
+     *
+     * @param responseApplier the applier
+     */
+    public void setResponseApplier(final ResponseApplier responseApplier) {
+        this.responseApplier = Objects.requireNonNull(responseApplier);
+    }
+
+    private void applyResponseCommand(final Command command) {
+        // changes that are triggered by a server command are no local changes (see ResponseApplier#onLocalValueChange)
+        applyingResponse = true;
+        try {
+            dispatchHandle(command);
+        } finally {
+            applyingResponse = false;
         }
     }
 
@@ -197,6 +343,10 @@ public abstract class AbstractClientConnector {
         responseHandler.dispatchHandle(command);
     }
 
+    public void setListSpliceHandler(final Consumer<ListSpliceCommand> listSpliceHandler) {
+        responseHandler.setListSpliceHandler(listSpliceHandler);
+    }
+
     /**
      * listens for the pushListener to return. The pushListener must be set and pushEnabled must be true.
      */
@@ -263,13 +413,16 @@ public abstract class AbstractClientConnector {
         connect(true);
     }
 
+    /**
+     * Disconnects the connector. Calling this method on a disconnected connector has no effect.
+     */
     public void disconnect() {
         connectedFlagLock.lock();
         try {
-            if (!connectedFlag.get()) {
-                throw new IllegalStateException("Can not call disconnect on a disconnected connection");
+            if (!connectedFlag.compareAndSet(true, false)) {
+                LOG.debug("Connection is already disconnected");
+                return;
             }
-            connectedFlag.set(false);
             uiExecutor.execute(() -> connectionFlagForUiExecutor = false);
         } finally {
             connectedFlagLock.unlock();
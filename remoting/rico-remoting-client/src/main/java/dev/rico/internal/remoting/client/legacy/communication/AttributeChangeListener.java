@@ -26,7 +26,7 @@ import org.apiguardian.api.API;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.util.List;
+import java.util.Collection;
 import java.util.Objects;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
@@ -54,7 +54,7 @@ public class AttributeChangeListener implements PropertyChangeListener {
                 modelSynchronizer.onPropertyChanged(evt);
             }
 
-            final List<ClientAttribute> attributes = clientModelStore.findAllAttributesByQualifier(((Attribute) evt.getSource()).getQualifier());
+            final Collection<ClientAttribute> attributes = clientModelStore.listAttributesByQualifier(((Attribute) evt.getSource()).getQualifier());
             for (final ClientAttribute attribute : attributes) {
                 attribute.setValue(evt.getNewValue());
             }
@@ -21,14 +21,18 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
 
@@ -37,38 +41,99 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
  * have no onFinished handler attached (blind commands), which is the typical case
  * for value change and create presentation model commands
  * when synchronizing back to the server.
+ * <p>
+ * A batch is assembled once no new blind command arrived within the deferral window, once
+ * {@link #getMaxBatchSize()} commands are pending or once the oldest pending command waited
+ * {@link #getMaxDeferMillis()}. If the deferral is adaptive the window grows with the observed round trip
+ * time of the connection (see {@link #onRoundTrip(long)}): while a request is on the wire the next batch can not be
+ * sent anyway, so waiting a fraction of the round trip coalesces more commands at almost no cost in latency.
+ * <p>
+ * Value changes of the same attribute that directly follow each other (only separated by other value changes) are
+ * merged into the first one. Any other command ends such a run, so a value change is never moved in front of a command
+ * it might depend on (for example the creation of the model that is referenced by the new value).
+ * All batches are assembled by one thread, so the order of the commands is never changed otherwise.
  */
 @API(since = "0.x", status = DEPRECATED)
 public class BlindCommandBatcher extends CommandBatcher {
 
     private static final Logger LOG = LoggerFactory.getLogger(BlindCommandBatcher.class);
 
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private static final long DEFAULT_DEFER_MILLIS = 10;
 
-    private final LinkedList<CommandAndHandler> commandsAndHandlers = new LinkedList<>();
+    private static final long DEFAULT_MAX_DEFER_MILLIS = 100;
 
-    private final Lock commandsAndHandlersLock = new ReentrantLock();
+    /**
+     * Part of the smoothed round trip time that is used as deferral window.
+     */
+    private static final int ROUND_TRIP_DIVISOR = 4;
+
+    /**
+     * Weight (as 1/n) of a new round trip sample in the smoothed round trip time.
+     */
+    private static final int ROUND_TRIP_SMOOTHING = 8;
+
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    private final Queue<CommandAndHandler> commandsAndHandlers = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private final LongAdder queuedCount = new LongAdder();
+
+    private final LongAdder mergedCount = new LongAdder();
+
+    private final LongAdder sentCount = new LongAdder();
+
+    /**
+     * Value changes of the batch that is currently assembled by attribute id. Only accessed by the batcher thread.
+     */
+    private final Map<String, ValueChangedCommand> valueChangesOfBatch = new HashMap<>();
+
+    private volatile long firstPendingNanos;
+
+    private volatile long lastBatchableNanos;
+
+    private volatile long smoothedRoundTripNanos = -1;
+
+    /**
+     * Time allowed to fill the queue before a batch is assembled. If the deferral is adaptive this is the
+     * minimum deferral window.
+     */
+    private volatile long deferMillis = DEFAULT_DEFER_MILLIS;
 
     /**
-     * Time allowed to fill the queue before a batch is assembled
+     * Max time a blind command waits before it is batched.
      */
-    private long deferMillis = 10;
+    private volatile long maxDeferMillis = DEFAULT_MAX_DEFER_MILLIS;
 
     /**
      * Must be > 0
      */
-    private int maxBatchSize = 100;
+    private volatile int maxBatchSize = 100;
 
     /**
      * when attribute x changes its value from 0 to 1 and then from 1 to 2, merge this into one change from 0 to 2
      */
-    private boolean mergeValueChanges = false;
+    private volatile boolean mergeValueChanges = true;
 
-    protected final AtomicBoolean inProcess = new AtomicBoolean(false);
-
-    protected final AtomicBoolean deferralNeeded = new AtomicBoolean(false);
+    /**
+     * If {@code true} the deferral window is based on the observed round trip time.
+     */
+    private volatile boolean adaptiveDeferral = true;
 
-    protected boolean shallWeEvenTryToMerge = false;
+    public BlindCommandBatcher() {
+        executor = new ScheduledThreadPoolExecutor(1, r -> {
+            final Thread thread = new Thread(r, "rico-command-batcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+    }
 
     @Override
     public boolean isEmpty() {
@@ -82,29 +147,24 @@ public class BlindCommandBatcher extends CommandBatcher {
         if (canBeDropped(commandWithHandler)) {
             LOG.trace("dropping duplicate GetPresentationModelCommand");
             return;
-
-        }
-
-        commandsAndHandlersLock.lock();
-        try {
-            commandsAndHandlers.add(commandWithHandler);
-        } finally {
-            commandsAndHandlersLock.unlock();
         }
 
+        queuedCount.increment();
+        commandsAndHandlers.add(commandWithHandler);
+        final int pending = pendingCount.incrementAndGet();
 
         if (commandWithHandler.isBatchable()) {
-            deferralNeeded.set(true);
-            if (inProcess.get()) {
-                return;
-
+            lastBatchableNanos = System.nanoTime();
+            if (flushScheduled.compareAndSet(false, true)) {
+                firstPendingNanos = lastBatchableNanos;
+                processDeferred();
+            }
+            if (pending >= maxBatchSize) {
+                processFullBatches();
             }
-
-            processDeferred();
         } else {
             processBatch();
         }
-
     }
 
     protected boolean canBeDropped(final CommandAndHandler commandWithHandler) {
@@ -112,140 +172,162 @@ public class BlindCommandBatcher extends CommandBatcher {
     }
 
     protected void processDeferred() {
-        inProcess.set(true);
-
-        executorService.execute(new Runnable() {
-            @Override
-            public void run() {
-                int count = getMaxBatchSize();// never wait for more than those
-                while (deferralNeeded.get() && count > 0) {
-                    count--;
-                    deferralNeeded.set(false);
-                    try {
-                        Thread.sleep(getDeferMillis());
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException("ERROR", e);
-                    }
-                    // while we sleep, new requests may have arrived that request deferral
-                }
-
-                processBatch();
-                inProcess.set(false);
-            }
+        executor.schedule(this::flushDeferred, getCurrentDeferMillis(), TimeUnit.MILLISECONDS);
+    }
 
-        });
+    private void flushDeferred() {
+        final long now = System.nanoTime();
+        final long remaining = TimeUnit.MILLISECONDS.toNanos(getCurrentDeferMillis()) - (now - lastBatchableNanos);
+        final long maxRemaining = TimeUnit.MILLISECONDS.toNanos(maxDeferMillis) - (now - firstPendingNanos);
+        if (remaining > 0 && maxRemaining > 0 && pendingCount.get() < maxBatchSize) {
+            // while we waited, new requests arrived that request deferral
+            executor.schedule(this::flushDeferred, Math.min(remaining, maxRemaining), TimeUnit.NANOSECONDS);
+            return;
+        }
+        flushScheduled.set(false);
+        flush();
     }
 
     protected void processBatch() {
-        executorService.execute(new Runnable() {
-            @Override
-            public void run() {
-                getCommandsAndHandlersLock().lock();
-                try {
-                    final CommandAndHandler last = batchBlinds(getCommandsAndHandlers());// always withContent leading blinds first
-                    if (last != null) {
-                        // we do have a trailing command with handler and batch it separately
-                        getWaitingBatches().add(Arrays.asList(last));
-                    }
-
-                    if (!getCommandsAndHandlers().isEmpty()) {
-                        processBatch();
-                        // this is not so much like recursion, more like a trampoline
-                    }
-
-                } finally {
-                    getCommandsAndHandlersLock().unlock();
-                }
+        executor.execute(this::flush);
+    }
 
+    private void processFullBatches() {
+        executor.execute(() -> {
+            while (pendingCount.get() >= maxBatchSize) {
+                batchNext();
             }
-
         });
     }
 
-    protected CommandAndHandler batchBlinds(final List<CommandAndHandler> queue) {
-        if (queue.isEmpty()) {
-            return null;
+    private void flush() {
+        while (!commandsAndHandlers.isEmpty()) {
+            batchNext();
+        }
+    }
+
+    private void batchNext() {
+        final CommandAndHandler last = batchBlinds(commandsAndHandlers);// always send leading blinds first
+        if (last != null) {
+            // we do have a trailing command with handler and batch it separately
+            sentCount.increment();
+            getWaitingBatches().add(Collections.singletonList(last));
         }
+    }
 
-        final List<CommandAndHandler> blindCommands = new LinkedList();
+    protected CommandAndHandler batchBlinds(final Queue<CommandAndHandler> queue) {
+        final List<CommandAndHandler> blindCommands = new ArrayList<>();
+        valueChangesOfBatch.clear();
         int counter = maxBatchSize;
         // we have to check again, since new ones may have arrived since last check
         CommandAndHandler val = take(queue);
-        shallWeEvenTryToMerge = false;
         while (val != null && val.isBatchable() && counter-- > 0) {// we do have a blind
             addToBlindsOrMerge(blindCommands, val);
             val = counter != 0 ? take(queue) : null;
         }
+        valueChangesOfBatch.clear();
 
         LOG.trace("batching {} blinds" , blindCommands.size());
         if (!blindCommands.isEmpty()) {
+            sentCount.add(blindCommands.size());
             getWaitingBatches().add(blindCommands);
         }
         return val;// may be null or a cwh that has a handler
     }
 
     protected void addToBlindsOrMerge(final List<CommandAndHandler> blindCommands, final CommandAndHandler val) {
-        if (!wasMerged(blindCommands, val)) {
-            blindCommands.add(val);
-            if (val.getCommand() instanceof ValueChangedCommand) {
-                shallWeEvenTryToMerge = true;
+        if (wasMerged(val)) {
+            mergedCount.increment();
+            return;
+        }
+        blindCommands.add(val);
+        if (!(val.getCommand() instanceof ValueChangedCommand)) {
+            // later value changes must not be merged across this command
+            valueChangesOfBatch.clear();
+        } else if (mergeValueChanges) {
+            final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) val.getCommand();
+            if (valueChangedCommand.getAttributeId() != null) {
+                valueChangesOfBatch.put(valueChangedCommand.getAttributeId(), valueChangedCommand);
             }
-
         }
-
     }
 
-    protected boolean wasMerged(final List<CommandAndHandler> blindCommands, final CommandAndHandler val) {
-        if (!mergeValueChanges) {
+    protected boolean wasMerged(final CommandAndHandler val) {
+        if (!mergeValueChanges || valueChangesOfBatch.isEmpty()) {
             return false;
         }
 
-        if (!shallWeEvenTryToMerge) {
+        if (!(val.getCommand() instanceof ValueChangedCommand)) {
             return false;
         }
 
-        if (blindCommands.isEmpty()) {
+        final ValueChangedCommand valCmd = (ValueChangedCommand) val.getCommand();
+        final ValueChangedCommand valueChangedCommand = valueChangesOfBatch.get(valCmd.getAttributeId());
+        if (valueChangedCommand == null) {
             return false;
         }
+        LOG.trace("merging value changed command for attribute {} with new values {}  -> {}", valueChangedCommand.getAttributeId(), valueChangedCommand.getNewValue(), valCmd.getNewValue());
+        valueChangedCommand.setNewValue(valCmd.getNewValue());
+        return true;
+    }
 
-        if (val.getCommand() == null) {
-            return false;
+    protected CommandAndHandler take(final Queue<CommandAndHandler> intern) {
+        final CommandAndHandler val = intern.poll();
+        if (val != null) {
+            pendingCount.decrementAndGet();
         }
+        return val;
+    }
 
-        if (!(val.getCommand() instanceof ValueChangedCommand)) {
-            return false;
+    @Override
+    public void onRoundTrip(final long durationNanos) {
+        final long current = smoothedRoundTripNanos;
+        if (current < 0) {
+            smoothedRoundTripNanos = durationNanos;
+        } else {
+            smoothedRoundTripNanos = current + (durationNanos - current) / ROUND_TRIP_SMOOTHING;
         }
+    }
 
-        final ValueChangedCommand valCmd = (ValueChangedCommand) val.getCommand();
-
-        shallWeEvenTryToMerge = true;
-
-
-        if(blindCommands.get(blindCommands.size() -1).getCommand() instanceof ValueChangedCommand) {
-            final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) blindCommands.get(blindCommands.size() -1).getCommand();
-            if(valCmd.getAttributeId().equals(valueChangedCommand.getAttributeId())) {
-                LOG.trace("merging value changed command for attribute {} with new values {}  -> {}", valueChangedCommand.getAttributeId(), valueChangedCommand.getNewValue(), valCmd.getNewValue());
-                valueChangedCommand.setNewValue(valCmd.getNewValue());
-                return true;
-            }
+    /**
+     * Returns the deferral window that is currently used. If the deferral is adaptive and a round trip has been
+     * observed this is a part of the smoothed round trip time, bounded by {@link #getDeferMillis()} and
+     * {@link #getMaxDeferMillis()}. Otherwise {@link #getDeferMillis()} is returned.
+     *
+     * @return the deferral window in milliseconds
+     */
+    public long getCurrentDeferMillis() {
+        final long roundTrip = smoothedRoundTripNanos;
+        if (!adaptiveDeferral || roundTrip < 0) {
+            return deferMillis;
         }
-        return false;
+        final long window = TimeUnit.NANOSECONDS.toMillis(roundTrip / ROUND_TRIP_DIVISOR);
+        return Math.max(deferMillis, Math.min(maxDeferMillis, window));
     }
 
-    protected CommandAndHandler take(final List<CommandAndHandler> intern) {
-        if (intern.isEmpty()) {
-            return null;
-        }
+    public Queue<CommandAndHandler> getCommandsAndHandlers() {
+        return commandsAndHandlers;
+    }
 
-        return intern.remove(0);
+    /**
+     * @return the number of commands that were passed to this batcher
+     */
+    public long getQueuedCommandCount() {
+        return queuedCount.sum();
     }
 
-    public List<CommandAndHandler> getCommandsAndHandlers() {
-        return commandsAndHandlers;
+    /**
+     * @return the number of value changes that were merged into a previous value change of the same attribute
+     */
+    public long getMergedCommandCount() {
+        return mergedCount.sum();
     }
 
-    public Lock getCommandsAndHandlersLock() {
-        return commandsAndHandlersLock;
+    /**
+     * @return the number of commands that were put in a batch
+     */
+    public long getSentCommandCount() {
+        return sentCount.sum();
     }
 
     public long getDeferMillis() {
@@ -256,6 +338,14 @@ public class BlindCommandBatcher extends CommandBatcher {
         this.deferMillis = deferMillis;
     }
 
+    public long getMaxDeferMillis() {
+        return maxDeferMillis;
+    }
+
+    public void setMaxDeferMillis(final long maxDeferMillis) {
+        this.maxDeferMillis = maxDeferMillis;
+    }
+
     public int getMaxBatchSize() {
         return maxBatchSize;
     }
@@ -268,4 +358,12 @@ public class BlindCommandBatcher extends CommandBatcher {
         this.mergeValueChanges = mergeValueChanges;
     }
 
+    public boolean isAdaptiveDeferral() {
+        return adaptiveDeferral;
+    }
+
+    public void setAdaptiveDeferral(final boolean adaptiveDeferral) {
+        this.adaptiveDeferral = adaptiveDeferral;
+    }
+
 }
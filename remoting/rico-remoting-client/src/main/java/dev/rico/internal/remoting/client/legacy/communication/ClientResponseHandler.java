@@ -19,6 +19,7 @@ package dev.rico.internal.remoting.client.legacy.communication;
 import dev.rico.internal.remoting.client.legacy.ClientAttribute;
 import dev.rico.internal.remoting.client.legacy.ClientModelStore;
 import dev.rico.internal.remoting.client.legacy.ClientPresentationModel;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.legacy.communication.AttributeMetadataChangedCommand;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
@@ -33,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
 
@@ -43,6 +45,8 @@ public class ClientResponseHandler {
 
     private final ClientModelStore clientModelStore;
 
+    private Consumer<ListSpliceCommand> listSpliceHandler;
+
     public ClientResponseHandler(final ClientModelStore clientModelStore) {
         this.clientModelStore = Objects.requireNonNull(clientModelStore);
     }
@@ -56,12 +60,26 @@ public class ClientResponseHandler {
             handleValueChangedCommand((ValueChangedCommand) command);
         } else if (command instanceof AttributeMetadataChangedCommand) {
             handleAttributeMetadataChangedCommand((AttributeMetadataChangedCommand) command);
+        } else if (command instanceof ListSpliceCommand) {
+            handleListSpliceCommand((ListSpliceCommand) command);
         } else {
             LOG.error("C: cannot withoutResult unknown command '{}'", command );
         }
 
     }
 
+    public void setListSpliceHandler(final Consumer<ListSpliceCommand> listSpliceHandler) {
+        this.listSpliceHandler = listSpliceHandler;
+    }
+
+    private void handleListSpliceCommand(final ListSpliceCommand serverCommand) {
+        if (listSpliceHandler == null) {
+            LOG.error("C: no handler defined for list splice of attribute '{}' in bean '{}'", serverCommand.getAttributeName(), serverCommand.getSourceId());
+            return;
+        }
+        listSpliceHandler.accept(serverCommand);
+    }
+
     private void handleDeletePresentationModelCommand(final DeletePresentationModelCommand serverCommand) {
         final ClientPresentationModel model = clientModelStore.findPresentationModelById(serverCommand.getPmId());
         if (model == null) {
@@ -93,6 +111,7 @@ public class ClientResponseHandler {
 
         final ClientPresentationModel model = new ClientPresentationModel(serverCommand.getPmId(), attributes);
         model.setPresentationModelType(serverCommand.getPmType());
+        model._internal_shareLayout();
         if (serverCommand.isClientSideOnly()) {
             model.setClientSideOnly(true);
         }
@@ -30,4 +30,12 @@ public interface ICommandBatcher {
 	boolean isEmpty();
 
     DataflowQueue<List<CommandAndHandler>> getWaitingBatches();
+
+    /**
+     * Called by the connector once the server answered a batch.
+     *
+     * @param durationNanos the round trip time of the batch in nanoseconds
+     */
+    default void onRoundTrip(final long durationNanos) {
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.client.legacy.communication;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Applies the responses of pipelined requests in the order of the requests. Responses can arrive in any order; a
+ * response is passed to the executor once the responses of all requests with a lower sequence number were passed.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class OrderedResponseApplier {
+
+    private final Executor executor;
+
+    private final Map<Long, Runnable> completed = new HashMap<>();
+
+    private long nextSequence;
+
+    /**
+     * @param executor the executor that applies the responses, normally the UI executor
+     * @param firstSequence the sequence number of the first request
+     */
+    public OrderedResponseApplier(final Executor executor, final long firstSequence) {
+        this.executor = Assert.requireNonNull(executor, "executor");
+        this.nextSequence = firstSequence;
+    }
+
+    /**
+     * Defines the task that applies the response of the request with the given sequence number.
+     *
+     * @param sequence the sequence number of the request
+     * @param task the task or {@code null} if the request failed and nothing must be applied
+     */
+    public synchronized void complete(final long sequence, final Runnable task) {
+        completed.put(sequence, task);
+        while (completed.containsKey(nextSequence)) {
+            final Runnable next = completed.remove(nextSequence);
+            nextSequence++;
+            if (next != null) {
+                executor.execute(next);
+            }
+        }
+    }
+}
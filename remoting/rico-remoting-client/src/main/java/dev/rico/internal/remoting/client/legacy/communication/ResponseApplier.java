@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.client.legacy.communication;
+
+import dev.rico.internal.remoting.legacy.communication.Command;
+import org.apiguardian.api.API;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Applies the commands of a server response to the client model. The applier is always called in the UI thread and
+ * must apply the responses in the order it received them. An applier can defer parts of a response to later UI
+ * cycles, the {@code onApplied} callback must be called once all commands of the response were applied.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+@FunctionalInterface
+public interface ResponseApplier {
+
+    /**
+     * Applies all commands directly.
+     */
+    ResponseApplier DIRECT = (commands, handler, onApplied) -> {
+        for (final Command command : commands) {
+            handler.accept(command);
+        }
+        onApplied.run();
+    };
+
+    /**
+     * Applies the given response.
+     *
+     * @param commands the commands of the response
+     * @param handler the handler that applies one command
+     * @param onApplied called once all commands were applied
+     */
+    void apply(List<? extends Command> commands, Consumer<Command> handler, Runnable onApplied);
+
+    /**
+     * Called in the UI thread if the value of an attribute was changed on the client, for example by a user input.
+     * An applier that defers parts of the responses it received must not apply the pending server values of the
+     * attribute afterwards, since they are older than the local value and would overwrite it.
+     *
+     * @param attributeId the id of the attribute
+     */
+    default void onLocalValueChange(final String attributeId) {
+    }
+}
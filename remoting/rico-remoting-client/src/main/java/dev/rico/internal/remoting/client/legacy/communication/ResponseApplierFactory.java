@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.client.legacy.communication;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Creates the {@link ResponseApplier} of a client connector. Appliers hold the state of the responses that are
+ * applied, so each connector needs its own instance.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+@FunctionalInterface
+public interface ResponseApplierFactory {
+
+    /**
+     * Creates a new applier.
+     *
+     * @return the applier
+     */
+    ResponseApplier create();
+}
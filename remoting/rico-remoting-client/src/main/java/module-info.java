@@ -7,7 +7,8 @@ module dev.rico.remoting.client {
 
     exports dev.rico.internal.remoting.client to dev.rico.remoting.server.spring.test;
     exports dev.rico.internal.remoting.client.legacy to dev.rico.remoting.server.spring.test;
-    exports dev.rico.internal.remoting.client.legacy.communication to dev.rico.remoting.server.spring.test;
+    exports dev.rico.internal.remoting.client.legacy.communication to dev.rico.remoting.server.spring.test,
+            dev.rico.remoting.client.javafx;
 
     provides ServiceProvider with ClientContextFactoryProvider;
 
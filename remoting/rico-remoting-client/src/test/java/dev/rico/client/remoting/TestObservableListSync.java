@@ -19,11 +19,22 @@ package dev.rico.client.remoting;
 import dev.rico.client.remoting.util.AbstractRemotingTest;
 import dev.rico.client.remoting.util.ListReferenceModel;
 import dev.rico.client.remoting.util.SimpleTestModel;
+import dev.rico.internal.remoting.client.ClientListMapper;
+import dev.rico.internal.remoting.client.ClientPresentationModelBuilderFactory;
 import dev.rico.internal.remoting.client.legacy.ClientAttribute;
 import dev.rico.internal.remoting.client.legacy.ClientModelStore;
 import dev.rico.internal.remoting.client.legacy.ClientPresentationModel;
+import dev.rico.internal.remoting.client.legacy.DefaultModelSynchronizer;
 import dev.rico.internal.remoting.client.legacy.communication.AbstractClientConnector;
+import dev.rico.internal.remoting.BeanRepository;
+import dev.rico.internal.remoting.ClassRepository;
+import dev.rico.internal.remoting.ClassRepositoryImpl;
+import dev.rico.internal.remoting.Converters;
+import dev.rico.internal.remoting.EventDispatcher;
+import dev.rico.internal.remoting.ListMapper;
+import dev.rico.internal.remoting.PresentationModelBuilderFactory;
 import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.converters.BeanConverterFactory;
 import dev.rico.internal.remoting.legacy.LegacyConstants;
 import dev.rico.internal.remoting.legacy.core.PresentationModel;
@@ -47,6 +58,21 @@ import static org.hamcrest.Matchers.nullValue;
 
 public class TestObservableListSync extends AbstractRemotingTest {
 
+    private final List<ListSpliceCommand> sentListSplices = new ArrayList<>();
+
+    @Override
+    protected ClientModelStore createClientModelStore(final AbstractClientConnector connector) {
+        sentListSplices.clear();
+        final ClientModelStore clientModelStore = new ClientModelStore(new DefaultModelSynchronizer(() -> connector) {
+            @Override
+            public void onListSplice(final ListSpliceCommand command) {
+                sentListSplices.add(command);
+            }
+        });
+        clientModelStore.setListSpliceSupported(true);
+        return clientModelStore;
+    }
+
     private static class PresentationModelBuilder {
 
         private final List<ClientAttribute> attributes = new ArrayList<>();
@@ -88,16 +114,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getObjectList().add(object);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
     }
 
     @Test
@@ -113,16 +141,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getObjectList().add(null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -139,16 +169,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getPrimitiveList().add(value);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) value)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) value)));
     }
 
     @Test
@@ -164,16 +196,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getPrimitiveList().add(null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -187,21 +221,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final SimpleTestModel object = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(object);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -214,21 +250,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -241,21 +279,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello");
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -268,21 +308,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -298,22 +340,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -327,22 +371,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getObjectList().set(0, null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -357,22 +403,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel newObjectModel = clientModelStore.findAllPresentationModelsByType(SimpleTestModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -386,22 +434,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add("Hello World");
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -414,22 +464,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello World");
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().set(0, null);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -443,22 +495,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add(null);
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -479,18 +533,20 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -504,22 +560,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().add(0, newElement);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -533,24 +591,26 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -564,22 +624,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().add(1, newElement);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -593,24 +655,26 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().addAll(1, Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -624,22 +688,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().add(newElement);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -653,24 +719,26 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().addAll(Arrays.asList(newElement));
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
 
@@ -687,21 +755,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -715,21 +785,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().subList(0, 3).clear();
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -742,21 +814,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().remove(1);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -770,21 +844,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().subList(1, 4).clear();
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 4)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 4)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -797,21 +873,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().remove(2);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -825,21 +903,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().subList(3, 6).clear();
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 6)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 6)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
 
@@ -857,22 +937,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -886,22 +968,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().set(1, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -915,22 +999,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         model.getPrimitiveList().set(2, newValue);
 
         // then :
-        final List<ClientPresentationModel> changes = clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = new ArrayList<>(sentListSplices);
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -1440,7 +1526,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1467,7 +1553,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1497,7 +1583,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1524,7 +1610,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1554,7 +1640,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
                 .withAttribute("source", sourceModel.getId())
@@ -1579,7 +1665,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1612,7 +1698,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1638,7 +1724,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1664,7 +1750,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1690,7 +1776,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1716,7 +1802,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1742,7 +1828,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1758,12 +1844,6 @@ public class TestObservableListSync extends AbstractRemotingTest {
         assertThat(clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE), empty());
     }
 
-    private void deleteAllPresentationModelsOfType(ClientModelStore clientModelStore, String listSplice) {
-        List<ClientPresentationModel> toDelete = new ArrayList<>(clientModelStore.findAllPresentationModelsByType(listSplice));
-        for (ClientPresentationModel model : toDelete) {
-            clientModelStore.delete(model);
-        }
-    }
 
 
     //////////////////////////////////////////////////////////////
@@ -1780,7 +1860,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1806,7 +1886,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1835,7 +1915,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1862,7 +1942,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1891,7 +1971,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1919,7 +1999,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        deleteAllPresentationModelsOfType(clientModelStore, RemotingConstants.LIST_SPLICE);
+        sentListSplices.clear();
 
         // when :
         new PresentationModelBuilder(clientModelStore, RemotingConstants.LIST_SPLICE)
@@ -1936,4 +2016,31 @@ public class TestObservableListSync extends AbstractRemotingTest {
         assertThat(model.getPrimitiveList(), is(Arrays.asList("1", "2", "42", "4711", "Hello World")));
         assertThat(clientModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE), empty());
     }
+
+    @Test
+    public void listSpliceCommandFromServer_shouldApplyAllSplices(@Mocked AbstractClientConnector connector) {
+        // given :
+        final ClientModelStore clientModelStore = createClientModelStore(connector);
+        final EventDispatcher dispatcher = createEventDispatcher(clientModelStore);
+        final BeanRepository beanRepository = createBeanRepository(clientModelStore, dispatcher);
+        final BeanManager manager = createBeanManager(clientModelStore, beanRepository, dispatcher);
+        final PresentationModelBuilderFactory builderFactory = new ClientPresentationModelBuilderFactory(clientModelStore);
+        final ClassRepository classRepository = new ClassRepositoryImpl(clientModelStore, new Converters(beanRepository), builderFactory);
+        final ListMapper listMapper = new ClientListMapper(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = clientModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
+        sentListSplices.clear();
+
+        // when :
+        final ListSpliceCommand command = new ListSpliceCommand(sourceModel.getId(), "primitiveList");
+        command.addSplice(0, 1, Collections.emptyList());
+        command.addSplice(1, 2, Arrays.asList("42", "4711"));
+        listMapper.processSplice(command);
+
+        // then :
+        assertThat(model.getPrimitiveList(), is(Arrays.asList("2", "42", "4711")));
+        assertThat(sentListSplices, empty());
+    }
 }
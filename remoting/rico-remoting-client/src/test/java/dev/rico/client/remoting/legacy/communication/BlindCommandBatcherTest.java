@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class BlindCommandBatcherTest {
 
@@ -231,5 +232,114 @@ public class BlindCommandBatcherTest {
 
     }
 
+    @Test
+    public void testMergeValueChangesOfAttributeUntilOtherCommand() throws InterruptedException {
+
+        //given:
+        final ValueChangedCommand first = new ValueChangedCommand("0", 1);
+        final ValueChangedCommand other = new ValueChangedCommand("1", "a");
+        final CreatePresentationModelCommand create = new CreatePresentationModelCommand();
+        final ValueChangedCommand afterCreate = new ValueChangedCommand("0", 3);
+        final ValueChangedCommand otherAfterCreate = new ValueChangedCommand("1", "b");
+        final List<CommandAndHandler> list = Arrays.asList(
+                new CommandAndHandler(first),
+                new CommandAndHandler(other),
+                new CommandAndHandler(new ValueChangedCommand("0", 2)),
+                new CommandAndHandler(create),
+                new CommandAndHandler(afterCreate),
+                new CommandAndHandler(otherAfterCreate),
+                new CommandAndHandler(new ValueChangedCommand("0", 4)));
+
+        //when:
+        for (CommandAndHandler commandAndHandler : list) {
+            batcher.batch(commandAndHandler);
+        }
+
+        //then:
+        final List<CommandAndHandler> nextBatch = batcher.getWaitingBatches().getVal();
+        Assert.assertEquals(nextBatch.size(), 5);
+        Assert.assertSame(nextBatch.get(0).getCommand(), first);
+        Assert.assertSame(nextBatch.get(1).getCommand(), other);
+        Assert.assertSame(nextBatch.get(2).getCommand(), create);
+        Assert.assertSame(nextBatch.get(3).getCommand(), afterCreate);
+        Assert.assertSame(nextBatch.get(4).getCommand(), otherAfterCreate);
+        Assert.assertEquals(first.getNewValue(), 2);
+        Assert.assertEquals(other.getNewValue(), "a");
+        Assert.assertEquals(afterCreate.getNewValue(), 4);
+        Assert.assertTrue(batcher.isEmpty());
+        Assert.assertEquals(batcher.getQueuedCommandCount(), 7);
+        Assert.assertEquals(batcher.getMergedCommandCount(), 2);
+        Assert.assertEquals(batcher.getSentCommandCount(), 5);
+    }
+
+    @Test
+    public void testNoMergeOverCreateCommand() throws InterruptedException {
+
+        //given:
+        final ValueChangedCommand first = new ValueChangedCommand("p", "A");
+        final CreatePresentationModelCommand create = new CreatePresentationModelCommand();
+        create.setPmId("B");
+        final ValueChangedCommand second = new ValueChangedCommand("p", "B");
+
+        //when:
+        batcher.batch(new CommandAndHandler(first));
+        batcher.batch(new CommandAndHandler(create));
+        batcher.batch(new CommandAndHandler(second));
+
+        //then:
+        final List<CommandAndHandler> nextBatch = batcher.getWaitingBatches().getVal();
+        Assert.assertEquals(nextBatch.size(), 3);
+        Assert.assertSame(nextBatch.get(0).getCommand(), first);
+        Assert.assertSame(nextBatch.get(1).getCommand(), create);
+        Assert.assertSame(nextBatch.get(2).getCommand(), second);
+        Assert.assertEquals(first.getNewValue(), "A");
+        Assert.assertEquals(batcher.getMergedCommandCount(), 0);
+    }
+
+    @Test
+    public void testNoMergeIfDeactivated() throws InterruptedException {
+
+        //given:
+        batcher.setMergeValueChanges(false);
+
+        //when:
+        batcher.batch(new CommandAndHandler(new ValueChangedCommand("0", 1)));
+        batcher.batch(new CommandAndHandler(new ValueChangedCommand("0", 2)));
+
+        //then:
+        Assert.assertEquals(batcher.getWaitingBatches().getVal().size(), 2);
+        Assert.assertEquals(batcher.getMergedCommandCount(), 0);
+    }
+
+    @Test
+    public void testAdaptiveDeferral() {
+        //given:
+        batcher.setDeferMillis(5);
+        batcher.setMaxDeferMillis(40);
+
+        //then:
+        Assert.assertEquals(batcher.getCurrentDeferMillis(), 5);
+
+        //when:
+        batcher.onRoundTrip(TimeUnit.MILLISECONDS.toNanos(80));
+
+        //then:
+        Assert.assertEquals(batcher.getCurrentDeferMillis(), 20);
+
+        //when:
+        for (int i = 0; i < 100; i++) {
+            batcher.onRoundTrip(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        //then:
+        Assert.assertEquals(batcher.getCurrentDeferMillis(), 40);
+
+        //when:
+        batcher.setAdaptiveDeferral(false);
+
+        //then:
+        Assert.assertEquals(batcher.getCurrentDeferMillis(), 5);
+    }
+
     private BlindCommandBatcher batcher;
 }
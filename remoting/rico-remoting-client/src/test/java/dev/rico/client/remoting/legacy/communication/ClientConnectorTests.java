@@ -106,6 +106,12 @@ public class ClientConnectorTests {
         Assert.assertEquals(EmptyCommand.class, clientConnector.getTransmittedCommands().get(0).getClass());
     }
 
+    @Test
+    public void testDisconnectTwice() {
+        clientConnector.disconnect();
+        clientConnector.disconnect();
+    }
+
     @Test
     public void testSevereLogWhenCommandNotFound() {
         clientConnector.dispatchHandle(new EmptyCommand());
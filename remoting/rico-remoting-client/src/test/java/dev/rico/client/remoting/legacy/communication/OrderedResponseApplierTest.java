@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.client.remoting.legacy.communication;
+
+import dev.rico.internal.remoting.client.legacy.communication.OrderedResponseApplier;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class OrderedResponseApplierTest {
+
+    @Test
+    public void testResponsesAreAppliedInOrder() {
+        //given:
+        final List<Integer> applied = new ArrayList<>();
+        final OrderedResponseApplier applier = new OrderedResponseApplier(Runnable::run, 1);
+
+        //when:
+        applier.complete(3, () -> applied.add(3));
+        applier.complete(2, () -> applied.add(2));
+
+        //then:
+        Assert.assertTrue(applied.isEmpty());
+
+        //when:
+        applier.complete(1, () -> applied.add(1));
+
+        //then:
+        Assert.assertEquals(applied, Arrays.asList(1, 2, 3));
+    }
+
+    @Test
+    public void testFailedResponseDoesNotBlock() {
+        //given:
+        final List<Integer> applied = new ArrayList<>();
+        final OrderedResponseApplier applier = new OrderedResponseApplier(Runnable::run, 1);
+
+        //when:
+        applier.complete(2, () -> applied.add(2));
+        applier.complete(1, null);
+
+        //then:
+        Assert.assertEquals(applied, Arrays.asList(2));
+    }
+}
@@ -33,7 +33,7 @@ import dev.rico.internal.remoting.Converters;
 import dev.rico.internal.remoting.EventDispatcher;
 import dev.rico.internal.remoting.ListMapper;
 import dev.rico.internal.remoting.PresentationModelBuilderFactory;
-import dev.rico.internal.remoting.collections.ListMapperImpl;
+import dev.rico.internal.remoting.client.ClientListMapper;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import dev.rico.internal.remoting.legacy.util.DirectExecutor;
 import dev.rico.internal.remoting.server.legacy.ServerConnector;
@@ -109,7 +109,7 @@ public abstract class AbstractRemotingTest {
         final Converters converters = new Converters(beanRepository);
         final PresentationModelBuilderFactory builderFactory = new ClientPresentationModelBuilderFactory(clientModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(clientModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        final ListMapper listMapper = new ClientListMapper(clientModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final BeanBuilder beanBuilder = new ClientBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher);
         return new BeanManagerImpl(beanRepository, beanBuilder);
     }
@@ -119,7 +119,7 @@ public class BeanRepositoryImpl implements BeanRepository {
     public <T> List<T> findAll(Class<T> beanClass) {
         RemotingUtils.assertIsRemotingBean(beanClass);
         final List<T> result = new ArrayList<>();
-        final List<PresentationModel> presentationModels = modelStore.findAllPresentationModelsByType(RemotingUtils.getPresentationModelTypeForClass(beanClass));
+        final Collection<PresentationModel> presentationModels = modelStore.listPresentationModelsByType(RemotingUtils.getPresentationModelTypeForClass(beanClass));
         for (PresentationModel model : presentationModels) {
             result.add((T) remotingIdToObjectPm.get(model.getId()));
         }
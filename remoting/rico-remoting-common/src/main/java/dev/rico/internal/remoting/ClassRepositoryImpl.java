@@ -16,13 +16,12 @@
  */
 package dev.rico.internal.remoting;
 
-import dev.rico.remoting.ObservableList;
+import dev.rico.internal.remoting.info.BeanMetadata;
+import dev.rico.internal.remoting.info.BeanMetadata.FieldMetadata;
 import dev.rico.remoting.converter.Converter;
 import dev.rico.internal.remoting.info.ClassInfo;
 import dev.rico.internal.remoting.info.PropertyInfo;
-import dev.rico.remoting.Property;
 import dev.rico.internal.core.Assert;
-import dev.rico.internal.core.ReflectionHelper;
 import dev.rico.internal.remoting.legacy.core.ModelStore;
 import dev.rico.internal.remoting.legacy.core.ModelStoreEvent;
 import dev.rico.internal.remoting.legacy.core.ModelStoreListener;
@@ -30,7 +29,6 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -47,13 +45,13 @@ public class ClassRepositoryImpl implements ClassRepository {
 
  private static final Logger LOG = LoggerFactory.getLogger(ClassRepositoryImpl.class);
 
-    private final PresentationModelBuilderFactory builderFactory;
+    private final PresentationModelBuilderFactory<?> builderFactory;
     private final Converters converters;
 
     private final Map<Class<?>, ClassInfo> classToClassInfoMap = new HashMap<>();
     private final Map<String, ClassInfo> modelTypeToClassInfoMap = new HashMap<>();
 
-    public ClassRepositoryImpl(final ModelStore modelStore, final Converters converters, final PresentationModelBuilderFactory builderFactory) {
+    public ClassRepositoryImpl(final ModelStore modelStore, final Converters converters, final PresentationModelBuilderFactory<?> builderFactory) {
         this.converters = Assert.requireNonNull(converters, "converters");
         this.builderFactory = Assert.requireNonNull(builderFactory, "builderFactory");
 
@@ -95,53 +93,43 @@ public class ClassRepositoryImpl implements ClassRepository {
     private void createPresentationModelForClass(final Class<?> beanClass) {
         Assert.requireNonNull(beanClass, "beanClass");
         final String id = RemotingUtils.getPresentationModelTypeForClass(beanClass);
-        final PresentationModelBuilder builder = builderFactory.createBuilder()
+        final PresentationModelBuilder<?> builder = builderFactory.createBuilder()
                 .withId(id)
                 .withType(RemotingConstants.REMOTING_BEAN)
                 .withAttribute(RemotingConstants.JAVA_CLASS, beanClass.getName());
 
-        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
-            if (Property.class.isAssignableFrom(field.getType()) || ObservableList.class.isAssignableFrom(field.getType())) {
-                final String attributeName = RemotingUtils.getAttributePropertyNameForField(field);
-                final Class<?> clazz = ReflectionHelper.getTypeParameter(field);
-                if(clazz == null) {
-                    throw new MappingException("Can't define generic type for field " + attributeName + " in bean " + beanClass);
-                }
-                final int type = converters.getFieldType(clazz);
-                builder.withAttribute(attributeName, type);
-            }
-        }
+        final BeanMetadata metadata = BeanMetadata.of(beanClass);
+        addFieldTypes(builder, beanClass, metadata.getProperties());
+        addFieldTypes(builder, beanClass, metadata.getObservableLists());
 
         builder.create();
     }
 
-    private ClassInfo createClassInfoForClass(final Class<?> beanClass) {
-        final List<PropertyInfo> propertyInfos = new ArrayList<>();
-        final List<PropertyInfo> observableListInfos = new ArrayList<>();
-
-        for (Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
-            PropertyType type = null;
-            if (Property.class.isAssignableFrom(field.getType())) {
-                type = PropertyType.PROPERTY;
-            } else if (ObservableList.class.isAssignableFrom(field.getType())) {
-                type = PropertyType.OBSERVABLE_LIST;
+    private void addFieldTypes(final PresentationModelBuilder<?> builder, final Class<?> beanClass, final List<FieldMetadata> fields) {
+        for (final FieldMetadata field : fields) {
+            final Class<?> clazz = field.getTypeParameter();
+            if(clazz == null) {
+                throw new MappingException("Can't define generic type for field " + field.getAttributeName() + " in bean " + beanClass);
             }
-            final Class<?> parameterType = ReflectionHelper.getTypeParameter(field);
+            final int type = converters.getFieldType(clazz);
+            builder.withAttribute(field.getAttributeName(), type);
+        }
+    }
 
-            if (type != null && parameterType != null) {
-                final String attributeName = RemotingUtils.getAttributePropertyNameForField(field);
+    private ClassInfo createClassInfoForClass(final Class<?> beanClass) {
+        final BeanMetadata metadata = BeanMetadata.of(beanClass);
+        return new ClassInfo(beanClass, createPropertyInfos(metadata.getProperties()), createPropertyInfos(metadata.getObservableLists()));
+    }
+
+    private List<PropertyInfo> createPropertyInfos(final List<FieldMetadata> fields) {
+        final List<PropertyInfo> propertyInfos = new ArrayList<>(fields.size());
+        for (final FieldMetadata field : fields) {
+            final Class<?> parameterType = field.getTypeParameter();
+            if (parameterType != null) {
                 final Converter converter = converters.getConverter(parameterType);
-                final PropertyInfo propertyInfo = new ClassPropertyInfo(attributeName, converter, field);
-                if (type == PropertyType.PROPERTY) {
-                    propertyInfos.add(propertyInfo);
-                } else {
-                    observableListInfos.add(propertyInfo);
-                }
+                propertyInfos.add(new ClassPropertyInfo(field.getAttributeName(), converter, field.getField()));
             }
         }
-
-        return new ClassInfo(beanClass, propertyInfos, observableListInfos);
+        return propertyInfos;
     }
-
-    private enum PropertyType {PROPERTY, OBSERVABLE_LIST}
 }
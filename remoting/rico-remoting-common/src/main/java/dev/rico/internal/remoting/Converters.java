@@ -27,10 +27,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -43,34 +46,65 @@ public class Converters {
 
     private static final Logger LOG = LoggerFactory.getLogger(Converters.class);
 
+    /**
+     * The validated converter factory providers of the class loader of this class. Loading and validating the
+     * providers is done only once since the same factories are used by all remoting contexts. Providers of other
+     * class loaders (like the loader of a web application if Rico is loaded by a shared loader) are not cached, so this
+     * class never keeps classes of another class loader alive.
+     */
+    private static List<ServiceLoader.Provider<ConverterFactory>> factoryProviders;
+
     private final List<ConverterFactory> converterFactories;
 
+    private final Map<Class<?>, ConverterFactory> factoryByType = new ConcurrentHashMap<>();
+
     public Converters(final BeanRepository beanRepository) {
-        converterFactories = new ArrayList<>();
+        final List<ServiceLoader.Provider<ConverterFactory>> providers = getFactoryProviders();
+        converterFactories = new ArrayList<>(providers.size());
+        for (final ServiceLoader.Provider<ConverterFactory> provider : providers) {
+            final ConverterFactory factory = provider.get();
+            factory.init(beanRepository);
+            converterFactories.add(factory);
+        }
+    }
 
-        final ServiceLoader<ConverterFactory> loader = ServiceLoader.load(ConverterFactory.class);
-        loader.reload();
-        final List<ResultWithInput<ConverterFactory, Void>> failed = loader.stream()
+    private static List<ServiceLoader.Provider<ConverterFactory>> getFactoryProviders() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null || classLoader != Converters.class.getClassLoader()) {
+            return loadFactoryProviders(classLoader);
+        }
+        synchronized (Converters.class) {
+            if (factoryProviders == null) {
+                factoryProviders = loadFactoryProviders(classLoader);
+            }
+            return factoryProviders;
+        }
+    }
+
+    private static List<ServiceLoader.Provider<ConverterFactory>> loadFactoryProviders(final ClassLoader classLoader) {
+        final List<ConverterFactory> validatedFactories = new ArrayList<>();
+        final List<ServiceLoader.Provider<ConverterFactory>> providers = ServiceLoader.load(ConverterFactory.class, classLoader).stream()
+                .collect(Collectors.toList());
+        final List<ResultWithInput<ConverterFactory, Void>> failed = providers.stream()
                 .map(ServiceLoader.Provider::get)
                 .peek(factory -> LOG.trace("Found converter factory {} with type identifier {}", factory.getClass(), factory.getTypeIdentifier()))
-                .map(Result.ofConsumer(factory -> addFactory(beanRepository, factory)))
+                .map(Result.ofConsumer(factory -> addFactory(validatedFactories, factory)))
                 .filter(ResultWithInput::isFailed)
                 .collect(Collectors.toList());
 
         if (!failed.isEmpty()) {
             handleFailed(failed);
         }
+        return Collections.unmodifiableList(providers);
     }
 
-    private void addFactory(BeanRepository beanRepository, ConverterFactory factory) throws IdentifierTypeAlreadyAdded, ConversionTypeAlreadyAdded {
-        checkIdentifierTypeNotAlreadyAdded(factory);
-        checkConversionTypeNotAlreadyAdded(factory);
-
-        factory.init(beanRepository);
+    private static void addFactory(final List<ConverterFactory> converterFactories, final ConverterFactory factory) throws IdentifierTypeAlreadyAdded, ConversionTypeAlreadyAdded {
+        checkIdentifierTypeNotAlreadyAdded(converterFactories, factory);
+        checkConversionTypeNotAlreadyAdded(converterFactories, factory);
         converterFactories.add(factory);
     }
 
-    private void checkIdentifierTypeNotAlreadyAdded(final ConverterFactory converterFactory) throws IdentifierTypeAlreadyAdded {
+    private static void checkIdentifierTypeNotAlreadyAdded(final List<ConverterFactory> converterFactories, final ConverterFactory converterFactory) throws IdentifierTypeAlreadyAdded {
         final int typeIdentifier = converterFactory.getTypeIdentifier();
 
         if (converterFactories.stream().anyMatch(factory -> factory.getTypeIdentifier() == typeIdentifier)) {
@@ -78,7 +112,7 @@ public class Converters {
         }
     }
 
-    private void checkConversionTypeNotAlreadyAdded(final ConverterFactory converterFactory) throws ConversionTypeAlreadyAdded {
+    private static void checkConversionTypeNotAlreadyAdded(final List<ConverterFactory> converterFactories, final ConverterFactory converterFactory) throws ConversionTypeAlreadyAdded {
         final Set<Class> typesToRegister = new HashSet<>(converterFactory.getSupportedTypes());
 
         final Set<Class> duplicate = converterFactories.stream()
@@ -92,7 +126,7 @@ public class Converters {
         }
     }
 
-    private void handleFailed(List<ResultWithInput<ConverterFactory, Void>> failed) {
+    private static void handleFailed(List<ResultWithInput<ConverterFactory, Void>> failed) {
         final Set<String> duplicatedIdentifier = new HashSet<>();
         final Set<String> duplicatedConversions = new HashSet<>();
 
@@ -124,19 +158,24 @@ public class Converters {
 
     private ConverterFactory getFactory(final Class<?> clazz) {
         Assert.requireNonNull(clazz, "clazz");
-        List<ConverterFactory> foundConverters = new ArrayList<>();
-        for (ConverterFactory factory : converterFactories) {
+        final ConverterFactory cachedFactory = factoryByType.get(clazz);
+        if (cachedFactory != null) {
+            return cachedFactory;
+        }
+        ConverterFactory foundFactory = null;
+        for (final ConverterFactory factory : converterFactories) {
             if (factory.supportsType(clazz)) {
-                foundConverters.add(factory);
+                if (foundFactory != null) {
+                    throw new RuntimeException("More than 1 converter instance found to convert " + clazz);
+                }
+                foundFactory = factory;
             }
         }
-        if (foundConverters.size() > 1) {
-            throw new RuntimeException("More than 1 converter instance found to convert " + clazz);
-        }
-        if (foundConverters.isEmpty()) {
+        if (foundFactory == null) {
             throw new RuntimeException("No converter instance found to convert " + clazz);
         }
-        return foundConverters.get(0);
+        factoryByType.put(clazz, foundFactory);
+        return foundFactory;
     }
 
     private static class IdentifierTypeAlreadyAdded extends Exception {
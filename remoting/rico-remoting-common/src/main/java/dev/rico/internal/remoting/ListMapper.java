@@ -17,6 +17,7 @@
 package dev.rico.internal.remoting;
 
 import dev.rico.remoting.ListChangeEvent;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.info.PropertyInfo;
 import org.apiguardian.api.API;
 
@@ -26,4 +27,6 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 public interface ListMapper {
 
     void processEvent(PropertyInfo observableListInfo, String sourceId, ListChangeEvent<?> event);
+
+    void processSplice(ListSpliceCommand command);
 }
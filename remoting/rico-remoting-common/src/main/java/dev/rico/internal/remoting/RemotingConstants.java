@@ -43,4 +43,16 @@ public interface RemotingConstants {
 
     DateTimeFormatter JAVA_TIME_FORMATTER = DateTimeFormatter.ISO_TIME;
 
+    /**
+     * Header that contains the sequence number of a request of a pipelining client.
+     */
+    String SEQUENCE_HEADER = "X-Rico-Remoting-Sequence";
+
+    /**
+     * Header that is sent by clients and servers that can handle the
+     * {@link dev.rico.internal.remoting.commands.ListSpliceCommand}. As long as a peer did not send the header list
+     * changes are sent as {@link #LIST_SPLICE} presentation models.
+     */
+    String LIST_SPLICE_HEADER = "X-Rico-Remoting-List-Splice";
+
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.codec;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.codec.encoders.AttributeMetadataChangedCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.CallActionCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.ChangeAttributeMetadataCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.CommandTranscoder;
+import dev.rico.internal.remoting.codec.encoders.CreateContextCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.CreateControllerCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.CreatePresentationModelCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.DeletePresentationModelCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.DestroyContextCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.DestroyControllerCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.EmptyCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.InterruptLongPollCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.ListSpliceCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.PresentationModelDeletedCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.StartLongPollCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.ValueChangedCommandEncoder;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.*;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A compact binary alternative to the {@link OptimizedJsonCodec}. A message starts with a version byte and the number
+ * of commands. Each command is defined by a one byte type id followed by its content (see
+ * {@link CommandTranscoder#encode(Command, BinaryOutput)}). Strings are only transferred once per message
+ * (see {@link BinaryOutput}).
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class BinaryCodec implements StreamCodec {
+
+    public static final String CONTENT_TYPE = "application/x-rico-remoting";
+
+    private static final int SPEC_VERSION = 1;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryCodec.class);
+
+    private static final BinaryCodec INSTANCE = new BinaryCodec();
+
+    private final Map<String, Integer> typeIds = new HashMap<>();
+
+    private final List<CommandTranscoder<?>> transcoders = new ArrayList<>();
+
+    @SuppressWarnings("deprecation")
+    private BinaryCodec() {
+        // The order of the transcoders defines the type ids and must never be changed.
+        addTranscoder(new StartLongPollCommandEncoder(), START_LONG_POLL_COMMAND_ID);
+        addTranscoder(new InterruptLongPollCommandEncoder(), INTERRUPT_LONG_POLL_COMMAND_ID);
+        addTranscoder(new CreatePresentationModelCommandEncoder(), CREATE_PRESENTATION_MODEL_COMMAND_ID);
+        addTranscoder(new DeletePresentationModelCommandEncoder(), DELETE_PRESENTATION_MODEL_COMMAND_ID);
+        addTranscoder(new PresentationModelDeletedCommandEncoder(), PRESENTATION_MODEL_DELETED_COMMAND_ID);
+        addTranscoder(new ValueChangedCommandEncoder(), VALUE_CHANGED_COMMAND_ID);
+        addTranscoder(new ChangeAttributeMetadataCommandEncoder(), CHANGE_ATTRIBUTE_METADATA_COMMAND_ID);
+        addTranscoder(new AttributeMetadataChangedCommandEncoder(), ATTRIBUTE_METADATA_CHANGED_COMMAND_ID);
+        addTranscoder(new EmptyCommandEncoder(), EMPTY_COMMAND_ID);
+        addTranscoder(new CreateContextCommandEncoder(), CREATE_CONTEXT_COMMAND_ID);
+        addTranscoder(new DestroyContextCommandEncoder(), DESTROY_CONTEXT_COMMAND_ID);
+        addTranscoder(new CreateControllerCommandEncoder(), CREATE_CONTROLLER_COMMAND_ID);
+        addTranscoder(new DestroyControllerCommandEncoder(), DESTROY_CONTROLLER_COMMAND_ID);
+        addTranscoder(new CallActionCommandEncoder(), CALL_ACTION_COMMAND_ID);
+        addTranscoder(new ListSpliceCommandEncoder(), LIST_SPLICE_COMMAND_ID);
+    }
+
+    private <C extends Command> void addTranscoder(final CommandTranscoder<C> transcoder, final String commandId) {
+        Assert.requireNonNull(transcoder, "transcoder");
+        Assert.requireNonNull(commandId, "commandId");
+
+        if (typeIds.containsKey(commandId)) {
+            throw new IllegalStateException("Transcoder for " + commandId + " already defined!");
+        }
+        typeIds.put(commandId, transcoders.size());
+        transcoders.add(transcoder);
+    }
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(final List<? extends Command> commands, final OutputStream outputStream) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(outputStream, "outputStream");
+        LOG.debug("Encoding command list with {} commands", commands.size());
+
+        final BinaryOutput output = new BinaryOutput(new BufferedOutputStream(outputStream));
+        output.writeByte(SPEC_VERSION);
+        output.writeVarInt(commands.size());
+        for (final Command command : commands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Command list contains a null command: " + command);
+            }
+            LOG.trace("Encoding command of type {}", command.getClass());
+            final Integer typeId = typeIds.get(command.getId());
+            if (typeId == null) {
+                throw new IllegalArgumentException("No encoder for command type " + command.getClass() + " found");
+            }
+            output.writeByte(typeId);
+            final CommandTranscoder<Command> transcoder = (CommandTranscoder<Command>) transcoders.get(typeId);
+            transcoder.encode(command, output);
+        }
+        output.flush();
+    }
+
+    @Override
+    public List<Command> decode(final InputStream inputStream) throws IOException {
+        Assert.requireNonNull(inputStream, "inputStream");
+
+        final BinaryInput input = new BinaryInput(new BufferedInputStream(inputStream));
+        final int version = input.readOptionalByte();
+        if (version < 0) {
+            return new ArrayList<>();
+        }
+        if (version != SPEC_VERSION) {
+            throw new IOException("Unsupported version " + version + " of binary remoting protocol");
+        }
+        final int count = input.readCount();
+        final List<Command> commands = new ArrayList<>(BinaryInput.initialCapacity(count));
+        for (int i = 0; i < count; i++) {
+            final int typeId = input.readByte();
+            if (typeId >= transcoders.size()) {
+                throw new BinaryCodecException("Can not decode command of type " + typeId + ". No matching decoder found!");
+            }
+            final Command command = transcoders.get(typeId).decode(input);
+            Assert.requireNonNull(command, "command");
+            commands.add(command);
+        }
+        LOG.debug("Decoded command list with {} commands", commands.size());
+        return commands;
+    }
+
+    public static BinaryCodec getInstance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.codec;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.rico.internal.remoting.codec.BinaryOutput.BIG_DECIMAL_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.BIG_INTEGER_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.BYTE_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.CHARACTER_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.DOUBLE_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.FALSE_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.FLOAT_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.INT_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.LONG_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.NEW_STRING;
+import static dev.rico.internal.remoting.codec.BinaryOutput.NULL_STRING;
+import static dev.rico.internal.remoting.codec.BinaryOutput.NULL_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.SHORT_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.STRING_REFERENCE_OFFSET;
+import static dev.rico.internal.remoting.codec.BinaryOutput.STRING_VALUE;
+import static dev.rico.internal.remoting.codec.BinaryOutput.TRUE_VALUE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Reads primitive values that have been written by a {@link BinaryOutput}. Since the data normally comes from an
+ * untrusted request all lengths and counts are checked against configurable limits before they are used. Memory is
+ * only allocated for data that has actually been read.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class BinaryInput {
+
+    /**
+     * Default max number of elements (commands, attributes, parameters, list values) of one collection.
+     */
+    public static final int DEFAULT_MAX_COUNT = 1_000_000;
+
+    /**
+     * Default max length in bytes of one string.
+     */
+    public static final int DEFAULT_MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * Collections are pre-sized at most to this capacity, bigger collections grow while their content is read.
+     */
+    private static final int MAX_INITIAL_CAPACITY = 64;
+
+    private final InputStream inputStream;
+
+    private final List<String> stringTable = new ArrayList<>();
+
+    private final int maxCount;
+
+    private final int maxStringLength;
+
+    public BinaryInput(final InputStream inputStream) {
+        this(inputStream, DEFAULT_MAX_COUNT, DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    public BinaryInput(final InputStream inputStream, final int maxCount, final int maxStringLength) {
+        this.inputStream = Assert.requireNonNull(inputStream, "inputStream");
+        this.maxCount = maxCount;
+        this.maxStringLength = maxStringLength;
+    }
+
+    public int readByte() throws IOException {
+        final int value = inputStream.read();
+        if (value < 0) {
+            throw new EOFException("Unexpected end of binary remoting data");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the next byte or returns -1 if the end of the stream is reached.
+     *
+     * @return the byte or -1
+     * @throws IOException if the stream can not be read
+     */
+    public int readOptionalByte() throws IOException {
+        return inputStream.read();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int current = readByte();
+            result |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    /**
+     * Reads a non negative integer, like an index in a list.
+     *
+     * @return the integer
+     * @throws IOException if the value is negative or can not be read
+     */
+    public int readUnsignedVarInt() throws IOException {
+        final int value = readVarInt();
+        if (value < 0) {
+            throw new BinaryCodecException("Negative value " + value + " in binary remoting data");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the number of elements of a collection.
+     *
+     * @return the number of elements
+     * @throws IOException if the count is negative, exceeds the max count or can not be read
+     * @see #initialCapacity(int)
+     */
+    public int readCount() throws IOException {
+        final int count = readUnsignedVarInt();
+        if (count > maxCount) {
+            throw new BinaryCodecException("Collection size " + count + " exceeds the limit of " + maxCount);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the capacity that should be used to create a collection for the given number of elements. The capacity
+     * is limited, so a malformed count can not allocate memory for data that is not part of the input.
+     *
+     * @param count the number of elements
+     * @return the initial capacity
+     */
+    public static int initialCapacity(final int count) {
+        return Math.min(count, MAX_INITIAL_CAPACITY);
+    }
+
+    public long readVarLong() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int current = readByte();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length long");
+    }
+
+    public long readLong() throws IOException {
+        long result = 0;
+        for (int i = 0; i < 8; i++) {
+            result = (result << 8) | readByte();
+        }
+        return result;
+    }
+
+    public String readString() throws IOException {
+        final int marker = readVarInt();
+        if (marker == NULL_STRING) {
+            return null;
+        }
+        if (marker == NEW_STRING) {
+            final int length = readUnsignedVarInt();
+            if (length > maxStringLength) {
+                throw new BinaryCodecException("String length " + length + " exceeds the limit of " + maxStringLength);
+            }
+            // readNBytes grows its buffer while reading, so a wrong length can not allocate the full size upfront
+            final byte[] bytes = inputStream.readNBytes(length);
+            if (bytes.length < length) {
+                throw new EOFException("Unexpected end of binary remoting data");
+            }
+            final String value = new String(bytes, StandardCharsets.UTF_8);
+            stringTable.add(value);
+            return value;
+        }
+        final int index = marker - STRING_REFERENCE_OFFSET;
+        if (index < 0 || index >= stringTable.size()) {
+            throw new BinaryCodecException("Unknown string reference " + index);
+        }
+        return stringTable.get(index);
+    }
+
+    /**
+     * Reads a value that has been written by {@link BinaryOutput#writeValue(Object)}.
+     *
+     * @return the value
+     * @throws IOException if the value can not be read
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readValue() throws IOException {
+        final int type = readByte();
+        switch (type) {
+            case NULL_VALUE:
+                return null;
+            case STRING_VALUE:
+                return (T) readString();
+            case TRUE_VALUE:
+                return (T) Boolean.TRUE;
+            case FALSE_VALUE:
+                return (T) Boolean.FALSE;
+            case INT_VALUE:
+                return (T) Integer.valueOf(unZigZag(readVarInt()));
+            case LONG_VALUE:
+                return (T) Long.valueOf(unZigZag(readVarLong()));
+            case DOUBLE_VALUE:
+                return (T) Double.valueOf(Double.longBitsToDouble(readLong()));
+            case FLOAT_VALUE:
+                return (T) Float.valueOf(Float.intBitsToFloat(readVarInt()));
+            case SHORT_VALUE:
+                return (T) Short.valueOf((short) unZigZag(readVarInt()));
+            case BYTE_VALUE:
+                return (T) Byte.valueOf((byte) readByte());
+            case BIG_DECIMAL_VALUE:
+                return (T) new BigDecimal(readString());
+            case BIG_INTEGER_VALUE:
+                return (T) new BigInteger(readString());
+            case CHARACTER_VALUE:
+                return (T) Character.valueOf((char) readVarInt());
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private static int unZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.codec;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Writes primitive values in the compact binary format of the {@link BinaryCodec}. Integral numbers are written as
+ * variable length integers and each string is only written once per message. Any additional occurrence of a string
+ * (like a presentation model type or an attribute name) is written as a reference to the first occurrence.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class BinaryOutput {
+
+    static final int NULL_STRING = 0;
+
+    static final int NEW_STRING = 1;
+
+    static final int STRING_REFERENCE_OFFSET = 2;
+
+    static final byte NULL_VALUE = 0;
+
+    static final byte STRING_VALUE = 1;
+
+    static final byte TRUE_VALUE = 2;
+
+    static final byte FALSE_VALUE = 3;
+
+    static final byte INT_VALUE = 4;
+
+    static final byte LONG_VALUE = 5;
+
+    static final byte DOUBLE_VALUE = 6;
+
+    static final byte FLOAT_VALUE = 7;
+
+    static final byte SHORT_VALUE = 8;
+
+    static final byte BYTE_VALUE = 9;
+
+    static final byte BIG_DECIMAL_VALUE = 10;
+
+    static final byte BIG_INTEGER_VALUE = 11;
+
+    static final byte CHARACTER_VALUE = 12;
+
+    private final OutputStream outputStream;
+
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    public BinaryOutput(final OutputStream outputStream) {
+        this.outputStream = Assert.requireNonNull(outputStream, "outputStream");
+    }
+
+    public void writeByte(final int value) throws IOException {
+        outputStream.write(value);
+    }
+
+    public void writeBoolean(final boolean value) throws IOException {
+        outputStream.write(value ? 1 : 0);
+    }
+
+    public void writeVarInt(final int value) throws IOException {
+        int current = value;
+        while ((current & ~0x7F) != 0) {
+            outputStream.write((current & 0x7F) | 0x80);
+            current >>>= 7;
+        }
+        outputStream.write(current);
+    }
+
+    public void writeVarLong(final long value) throws IOException {
+        long current = value;
+        while ((current & ~0x7FL) != 0) {
+            outputStream.write((int) ((current & 0x7F) | 0x80));
+            current >>>= 7;
+        }
+        outputStream.write((int) current);
+    }
+
+    public void writeLong(final long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            outputStream.write((int) (value >>> shift) & 0xFF);
+        }
+    }
+
+    public void writeString(final String value) throws IOException {
+        if (value == null) {
+            writeVarInt(NULL_STRING);
+            return;
+        }
+        final Integer index = stringTable.get(value);
+        if (index != null) {
+            writeVarInt(index + STRING_REFERENCE_OFFSET);
+            return;
+        }
+        stringTable.put(value, stringTable.size());
+        writeVarInt(NEW_STRING);
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    /**
+     * Writes a value of a remoting attribute or parameter. Supported types are {@link String}, {@link Boolean},
+     * {@link Character} and all {@link Number} types.
+     *
+     * @param value the value
+     * @throws IOException if the value can not be written
+     */
+    public void writeValue(final Object value) throws IOException {
+        if (value == null) {
+            writeByte(NULL_VALUE);
+        } else if (value instanceof String) {
+            writeByte(STRING_VALUE);
+            writeString((String) value);
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? TRUE_VALUE : FALSE_VALUE);
+        } else if (value instanceof Integer) {
+            writeByte(INT_VALUE);
+            writeVarInt(zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            writeByte(LONG_VALUE);
+            writeVarLong(zigZag((Long) value));
+        } else if (value instanceof Double) {
+            writeByte(DOUBLE_VALUE);
+            writeLong(Double.doubleToLongBits((Double) value));
+        } else if (value instanceof Float) {
+            writeByte(FLOAT_VALUE);
+            writeVarInt(Float.floatToIntBits((Float) value));
+        } else if (value instanceof Short) {
+            writeByte(SHORT_VALUE);
+            writeVarInt(zigZag((Short) value));
+        } else if (value instanceof Byte) {
+            writeByte(BYTE_VALUE);
+            writeByte((Byte) value);
+        } else if (value instanceof BigInteger) {
+            writeByte(BIG_INTEGER_VALUE);
+            writeString(value.toString());
+        } else if (value instanceof Number) {
+            writeByte(BIG_DECIMAL_VALUE);
+            writeString(value.toString());
+        } else if (value instanceof Character) {
+            writeByte(CHARACTER_VALUE);
+            writeVarInt((Character) value);
+        } else {
+            throw new IllegalArgumentException("Can not handle value of type '" + value.getClass() + "'");
+        }
+    }
+
+    public void flush() throws IOException {
+        outputStream.flush();
+    }
+
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
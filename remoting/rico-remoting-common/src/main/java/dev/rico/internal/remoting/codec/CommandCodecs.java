@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.codec;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Helper to negotiate the {@link StreamCodec} that is used to transfer the remoting commands. A client sends all
+ * supported content types in the {@link #ACCEPT_HEADER} and the server answers with the first codec it supports.
+ * Requests and responses are always decoded based on their {@code Content-Type}. The JSON based
+ * {@link OptimizedJsonCodec} is used as fallback.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class CommandCodecs {
+
+    public static final String ACCEPT_HEADER = "Accept";
+
+    public static final String CONTENT_TYPE_HEADER = "Content-Type";
+
+    private CommandCodecs() {
+    }
+
+    public static StreamCodec getDefaultCodec() {
+        return OptimizedJsonCodec.getInstance();
+    }
+
+    /**
+     * Returns the codec that matches the given content type or the default codec.
+     *
+     * @param contentType the content type
+     * @return the codec
+     */
+    public static StreamCodec forContentType(final String contentType) {
+        if (matches(contentType, BinaryCodec.CONTENT_TYPE)) {
+            return BinaryCodec.getInstance();
+        }
+        return getDefaultCodec();
+    }
+
+    /**
+     * Returns the codec that should be used for a response based on the given accept header.
+     *
+     * @param acceptHeader the value of the accept header
+     * @param binarySupported true if the binary codec can be used
+     * @return the codec
+     */
+    public static StreamCodec forAcceptHeader(final String acceptHeader, final boolean binarySupported) {
+        if (binarySupported && matches(acceptHeader, BinaryCodec.CONTENT_TYPE)) {
+            return BinaryCodec.getInstance();
+        }
+        return getDefaultCodec();
+    }
+
+    /**
+     * Returns the value of the accept header that defines all codecs a client supports.
+     *
+     * @param binarySupported true if the binary codec should be negotiated
+     * @return the value of the accept header
+     */
+    public static String createAcceptHeader(final boolean binarySupported) {
+        if (binarySupported) {
+            return BinaryCodec.CONTENT_TYPE + ", " + OptimizedJsonCodec.CONTENT_TYPE;
+        }
+        return OptimizedJsonCodec.CONTENT_TYPE;
+    }
+
+    private static boolean matches(final String headerValue, final String contentType) {
+        return headerValue != null && headerValue.toLowerCase().contains(contentType);
+    }
+}
@@ -23,10 +23,15 @@ import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.core.ReflectionHelper;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -194,4 +199,109 @@ public class JsonUtils {
         }
         throw new JsonParseException("Currently only String, Boolean, or Number are allowed as primitives");
     }
+
+    public static void writeValue(final JsonWriter writer, final Object value) throws IOException {
+        Assert.requireNonNull(writer, "writer");
+        if(value == null) {
+            writer.nullValue();
+        } else if (value instanceof String) {
+            writer.value((String) value);
+        } else if (value instanceof Number) {
+            writer.value((Number) value);
+        } else if (value instanceof Boolean) {
+            writer.value((Boolean) value);
+        } else {
+            throw new JsonParseException("Only String, Number, and Boolean are allowed currently");
+        }
+    }
+
+    public static Object readValue(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        } else if (token == JsonToken.STRING) {
+            return reader.nextString();
+        } else if (token == JsonToken.BOOLEAN) {
+            return reader.nextBoolean();
+        } else if (token == JsonToken.NUMBER) {
+            return new LazilyParsedNumber(reader.nextString());
+        }
+        throw new JsonParseException("Currently only String, Boolean, or Number are allowed as primitives");
+    }
+
+    public static String readString(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    public static void skipRemainingMembers(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        while (reader.hasNext()) {
+            reader.nextName();
+            reader.skipValue();
+        }
+    }
+
+    public static void writeMap(final JsonWriter writer, final Map<String, Serializable> map) throws IOException {
+        Assert.requireNonNull(writer, "writer");
+        Assert.requireNonNull(map, "map");
+        writer.beginArray();
+        for (final Map.Entry<String, Serializable> entry : map.entrySet()) {
+            final Object value = entry.getValue();
+            writer.beginObject();
+            writer.name(NAME).value(entry.getKey());
+            if(value == null) {
+                //For NULL we do not care about the type
+                writer.name(TYPE).value(JsonPrimitiveType.STRING.getType());
+                writer.name(VALUE).nullValue();
+            } else if(value instanceof Character) {
+                writer.name(TYPE).value(JsonPrimitiveType.CHARACTER.getType());
+                writer.name(VALUE).value(value.toString());
+            } else if(value instanceof String || value instanceof Number || value instanceof Boolean) {
+                writer.name(TYPE).value(JsonPrimitiveType.ofTypeClass(value.getClass()).getType());
+                writer.name(VALUE);
+                writeValue(writer, value);
+            } else {
+                throw new IllegalArgumentException("Can not handle value of type '" + value.getClass() + "'");
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    public static Map<String, Serializable> readMap(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final Map<String, Serializable> result = new HashMap<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            String key = null;
+            String typeName = null;
+            JsonElement value = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final String name = reader.nextName();
+                if (NAME.equals(name)) {
+                    key = reader.nextString();
+                } else if (TYPE.equals(name)) {
+                    typeName = reader.nextString();
+                } else if (VALUE.equals(name)) {
+                    value = encodeValue(readValue(reader));
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            Assert.requireNonNull(key, "key");
+            Assert.requireNonNull(value, "value");
+            result.put(key, JsonPrimitiveType.ofType(typeName).getValueOfElement(value));
+        }
+        reader.endArray();
+        return result;
+    }
 }
@@ -29,6 +29,7 @@ import dev.rico.internal.remoting.codec.encoders.DestroyContextCommandEncoder;
 import dev.rico.internal.remoting.codec.encoders.DestroyControllerCommandEncoder;
 import dev.rico.internal.remoting.codec.encoders.EmptyCommandEncoder;
 import dev.rico.internal.remoting.codec.encoders.InterruptLongPollCommandEncoder;
+import dev.rico.internal.remoting.codec.encoders.ListSpliceCommandEncoder;
 import dev.rico.internal.remoting.codec.encoders.PresentationModelDeletedCommandEncoder;
 import dev.rico.internal.remoting.codec.encoders.StartLongPollCommandEncoder;
 import dev.rico.internal.remoting.codec.encoders.ValueChangedCommandEncoder;
@@ -40,12 +41,23 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import dev.rico.internal.remoting.legacy.communication.Codec;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -55,7 +67,9 @@ import static dev.rico.internal.remoting.legacy.communication.CommandConstants.*
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
-public final class OptimizedJsonCodec implements Codec {
+public final class OptimizedJsonCodec implements Codec, StreamCodec {
+
+    public static final String CONTENT_TYPE = "application/json";
 
     private static final Logger LOG = LoggerFactory.getLogger(OptimizedJsonCodec.class);
 
@@ -83,6 +97,7 @@ public final class OptimizedJsonCodec implements Codec {
         addTranscoder(new CreateControllerCommandEncoder(), CREATE_CONTROLLER_COMMAND_ID);
         addTranscoder(new DestroyControllerCommandEncoder(), DESTROY_CONTROLLER_COMMAND_ID);
         addTranscoder(new CallActionCommandEncoder(), CALL_ACTION_COMMAND_ID);
+        addTranscoder(new ListSpliceCommandEncoder(), LIST_SPLICE_COMMAND_ID);
     }
 
     private <C extends Command> void addTranscoder(final CommandTranscoder<C> transcoder, final String commandId) {
@@ -156,6 +171,104 @@ public final class OptimizedJsonCodec implements Codec {
         }
     }
 
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * Writes the commands directly to the given stream without creating a JSON tree or buffering the complete
+     * message. The command id is written as first member of each command object to allow streaming decoding.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void encode(final List<? extends Command> commands, final OutputStream outputStream) throws IOException {
+        Assert.requireNonNull(commands, "commands");
+        Assert.requireNonNull(outputStream, "outputStream");
+        LOG.debug("Encoding command list with {} commands", commands.size());
+
+        final JsonWriter writer = GSON.newJsonWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        writer.setLenient(true);
+        writer.beginArray();
+        for (final Command command : commands) {
+            if (command == null) {
+                throw new IllegalArgumentException("Command list contains a null command: " + command);
+            }
+            LOG.trace("Encoding command of type {}", command.getClass());
+            final CommandTranscoder<Command> encoder = (CommandTranscoder<Command>) transcoders.get(command.getId());
+            if (encoder == null) {
+                throw new RuntimeException("No encoder for command type " + command.getClass() + " found");
+            }
+            writer.beginObject();
+            writer.name(ID).value(command.getId());
+            encoder.encode(command, writer);
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.flush();
+    }
+
+    /**
+     * Reads the commands directly from the given stream. Commands that start with their id are decoded by the
+     * streaming API of the {@link CommandTranscoder}. For all other commands (for example commands that have been
+     * created by {@link #encode(List)}) a JSON tree of the single command is created.
+     */
+    @Override
+    public List<Command> decode(final InputStream inputStream) throws IOException {
+        Assert.requireNonNull(inputStream, "inputStream");
+
+        final JsonReader reader = GSON.newJsonReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        reader.setLenient(true);
+        try {
+            final List<Command> commands = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                commands.add(decodeCommand(reader));
+            }
+            reader.endArray();
+            LOG.debug("Decoded command list with {} commands", commands.size());
+            return commands;
+        } catch (final IllegalStateException | ClassCastException | NumberFormatException ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    private Command decodeCommand(final JsonReader reader) throws IOException {
+        reader.beginObject();
+        final Command command;
+        final String firstName = reader.hasNext() ? reader.nextName() : null;
+        if (ID.equals(firstName)) {
+            final String id = reader.nextString();
+            LOG.trace("Decoding command: {}", id);
+            command = getTranscoder(id).decode(reader);
+        } else {
+            final JsonObject jsonObject = new JsonObject();
+            if (firstName != null) {
+                jsonObject.add(firstName, JsonParser.parseReader(reader));
+            }
+            while (reader.hasNext()) {
+                jsonObject.add(reader.nextName(), JsonParser.parseReader(reader));
+            }
+            final JsonPrimitive idElement = jsonObject.getAsJsonPrimitive(ID);
+            if (idElement == null) {
+                throw new JsonParseException("Can not encode command without id!");
+            }
+            LOG.trace("Decoding command: {}", idElement.getAsString());
+            command = getTranscoder(idElement.getAsString()).decode(jsonObject);
+        }
+        reader.endObject();
+        Assert.requireNonNull(command, "command");
+        return command;
+    }
+
+    private CommandTranscoder<?> getTranscoder(final String id) {
+        final CommandTranscoder<?> transcoder = transcoders.get(id);
+        if (transcoder == null) {
+            throw new JsonParseException("Can not encode command of type " + id + ". No matching encoder found!");
+        }
+        return transcoder;
+    }
+
     public static OptimizedJsonCodec getInstance() {
         return INSTANCE;
     }
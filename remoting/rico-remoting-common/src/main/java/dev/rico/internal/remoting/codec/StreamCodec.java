@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.codec;
+
+import dev.rico.internal.remoting.legacy.communication.Command;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A codec that transfers remoting commands directly from and to a stream. Each codec is identified by
+ * a content type that is used to negotiate the codec between client and server (see {@link CommandCodecs}).
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public interface StreamCodec {
+
+    /**
+     * Returns the content type (mime type) of the data that is created by this codec.
+     *
+     * @return the content type
+     */
+    String getContentType();
+
+    /**
+     * Encodes the given commands to the stream. The stream will not be closed by this method.
+     *
+     * @param commands the commands
+     * @param outputStream the stream
+     * @throws IOException if the commands can not be written
+     */
+    void encode(List<? extends Command> commands, OutputStream outputStream) throws IOException;
+
+    /**
+     * Decodes all commands from the given stream. The stream will not be closed by this method.
+     *
+     * @param inputStream the stream
+     * @return the commands
+     * @throws IOException if the commands can not be read
+     */
+    List<Command> decode(InputStream inputStream) throws IOException;
+}
@@ -16,6 +16,8 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.commands.CallActionCommand;
@@ -23,8 +25,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.util.Map;
 
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.CALL_ACTION_COMMAND_ID;
@@ -78,4 +83,88 @@ public class CallActionCommandEncoder implements CommandTranscoder<CallActionCom
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CallActionCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(CONTROLLER_ID).value(command.getControllerId());
+        writer.name(NAME).value(command.getActionName());
+        writer.name(PARAMS).beginArray();
+        for(final Map.Entry<String, Object> paramEntry : command.getParams().entrySet()) {
+            writer.beginObject();
+            writer.name(NAME).value(paramEntry.getKey());
+            writer.name(VALUE);
+            JsonUtils.writeValue(writer, paramEntry.getValue());
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public CallActionCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CallActionCommand command = new CallActionCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (CONTROLLER_ID.equals(name)) {
+                command.setControllerId(reader.nextString());
+            } else if (NAME.equals(name)) {
+                command.setActionName(reader.nextString());
+            } else if (PARAMS.equals(name)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    readParam(reader, command);
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getControllerId(), CONTROLLER_ID);
+        Assert.requireNonNull(command.getActionName(), NAME);
+        return command;
+    }
+
+    private void readParam(final JsonReader reader, final CallActionCommand command) throws IOException {
+        String paramName = null;
+        Object paramValue = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (NAME.equals(name)) {
+                paramName = reader.nextString();
+            } else if (VALUE.equals(name)) {
+                paramValue = JsonUtils.readValue(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        command.addParam(Assert.requireNonNull(paramName, NAME), paramValue);
+    }
+
+    @Override
+    public void encode(final CallActionCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getControllerId());
+        output.writeString(command.getActionName());
+        output.writeVarInt(command.getParams().size());
+        for(final Map.Entry<String, Object> paramEntry : command.getParams().entrySet()) {
+            output.writeString(paramEntry.getKey());
+            output.writeValue(paramEntry.getValue());
+        }
+    }
+
+    @Override
+    public CallActionCommand decode(final BinaryInput input) throws IOException {
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId(input.readString());
+        command.setActionName(input.readString());
+        final int paramCount = input.readCount();
+        for (int i = 0; i < paramCount; i++) {
+            command.addParam(input.readString(), input.readValue());
+        }
+        return command;
+    }
 }
@@ -16,12 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.legacy.communication.ChangeAttributeMetadataCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.CHANGE_ATTRIBUTE_METADATA_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
@@ -52,4 +58,52 @@ public class ChangeAttributeMetadataCommandEncoder implements CommandTranscoder<
         command.setValue(JsonUtils.decodeValue(jsonObject.get(VALUE)));
         return command;
     }
+
+    @Override
+    public void encode(final ChangeAttributeMetadataCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        writer.name(NAME).value(command.getMetadataName());
+        writer.name(VALUE);
+        JsonUtils.writeValue(writer, command.getValue());
+    }
+
+    @Override
+    public ChangeAttributeMetadataCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ChangeAttributeMetadataCommand command = new ChangeAttributeMetadataCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (ATTRIBUTE_ID.equals(name)) {
+                command.setAttributeId(reader.nextString());
+            } else if (NAME.equals(name)) {
+                command.setMetadataName(reader.nextString());
+            } else if (VALUE.equals(name)) {
+                command.setValue(JsonUtils.readValue(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getAttributeId(), ATTRIBUTE_ID);
+        Assert.requireNonNull(command.getMetadataName(), NAME);
+        return command;
+    }
+
+    @Override
+    public void encode(final ChangeAttributeMetadataCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getAttributeId());
+        output.writeString(command.getMetadataName());
+        output.writeValue(command.getValue());
+    }
+
+    @Override
+    public ChangeAttributeMetadataCommand decode(final BinaryInput input) throws IOException {
+        final ChangeAttributeMetadataCommand command = new ChangeAttributeMetadataCommand();
+        command.setAttributeId(input.readString());
+        command.setMetadataName(input.readString());
+        command.setValue(input.readValue());
+        return command;
+    }
 }
@@ -17,9 +17,15 @@
 package dev.rico.internal.remoting.codec.encoders;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -29,4 +35,43 @@ public interface CommandTranscoder<C extends Command> {
 
     C decode(JsonObject jsonObject);
 
+    /**
+     * Writes the content of the command as members of the current JSON object. The object itself and the command
+     * id are written by the {@link dev.rico.internal.remoting.codec.OptimizedJsonCodec}.
+     *
+     * @param command the command
+     * @param writer the JSON writer
+     * @throws IOException if the command can not be written
+     */
+    void encode(C command, JsonWriter writer) throws IOException;
+
+    /**
+     * Reads the remaining members of the current JSON object. Implementations must not depend on the order of the
+     * members, must skip unknown members and must not consume the end of the object.
+     *
+     * @param reader the JSON reader
+     * @return the command
+     * @throws IOException if the command can not be read
+     */
+    C decode(JsonReader reader) throws IOException;
+
+    /**
+     * Writes the content of the command in the binary format of the
+     * {@link dev.rico.internal.remoting.codec.BinaryCodec}. The command type is written by the codec.
+     *
+     * @param command the command
+     * @param output the binary output
+     * @throws IOException if the command can not be written
+     */
+    void encode(C command, BinaryOutput output) throws IOException;
+
+    /**
+     * Reads a command that has been written by {@link #encode(Command, BinaryOutput)}.
+     *
+     * @param input the binary input
+     * @return the command
+     * @throws IOException if the command can not be read
+     */
+    C decode(BinaryInput input) throws IOException;
+
 }
@@ -16,11 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.commands.CreateContextCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.remoting.codec.JsonUtils;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.CREATE_CONTEXT_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -40,4 +47,26 @@ public class CreateContextCommandEncoder implements CommandTranscoder<CreateCont
     public CreateContextCommand decode(final JsonObject jsonObject) {
         return new CreateContextCommand();
     }
+
+    @Override
+    public void encode(final CreateContextCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public CreateContextCommand decode(final JsonReader reader) throws IOException {
+        JsonUtils.skipRemainingMembers(reader);
+        return new CreateContextCommand();
+    }
+
+    @Override
+    public void encode(final CreateContextCommand command, final BinaryOutput output) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public CreateContextCommand decode(final BinaryInput input) {
+        return new CreateContextCommand();
+    }
 }
@@ -16,13 +16,23 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.commands.CreateControllerCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.JsonToken;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.CONTROLLER_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.CREATE_CONTROLLER_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
@@ -61,4 +71,65 @@ public class CreateControllerCommandEncoder implements CommandTranscoder<CreateC
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final CreateControllerCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(CONTROLLER_ID).value(command.getParentControllerId());
+        writer.name(NAME).value(command.getControllerName());
+        writer.name(PARAMS);
+        JsonUtils.writeMap(writer, command.getParameters());
+    }
+
+    @Override
+    public CreateControllerCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreateControllerCommand command = new CreateControllerCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (CONTROLLER_ID.equals(name)) {
+                command.setParentControllerId(JsonUtils.readString(reader));
+            } else if (NAME.equals(name)) {
+                command.setControllerName(reader.nextString());
+            } else if (PARAMS.equals(name)) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                } else {
+                    command.setParameters(JsonUtils.readMap(reader));
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getControllerName(), NAME);
+        return command;
+    }
+
+    @Override
+    public void encode(final CreateControllerCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getParentControllerId());
+        output.writeString(command.getControllerName());
+        final Map<String, Serializable> parameters = command.getParameters();
+        output.writeVarInt(parameters.size());
+        for (final Map.Entry<String, Serializable> parameter : parameters.entrySet()) {
+            output.writeString(parameter.getKey());
+            output.writeValue(parameter.getValue());
+        }
+    }
+
+    @Override
+    public CreateControllerCommand decode(final BinaryInput input) throws IOException {
+        final CreateControllerCommand command = new CreateControllerCommand();
+        command.setParentControllerId(input.readString());
+        command.setControllerName(input.readString());
+        final int parameterCount = input.readCount();
+        final Map<String, Serializable> parameters = new HashMap<>();
+        for (int i = 0; i < parameterCount; i++) {
+            parameters.put(input.readString(), input.readValue());
+        }
+        command.setParameters(parameters);
+        return command;
+    }
 }
@@ -16,6 +16,8 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
@@ -24,8 +26,11 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -97,4 +102,108 @@ public class CreatePresentationModelCommandEncoder implements CommandTranscoder<
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void encode(final CreatePresentationModelCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(PM_ID).value(command.getPmId());
+        writer.name(TYPE).value(command.getPmType());
+        writer.name(PM_ATTRIBUTES).beginArray();
+        for (final Map<String, Object> attribute : command.getAttributes()) {
+            writer.beginObject();
+            writer.name(NAME).value(String.valueOf(attribute.get(Attribute.PROPERTY_NAME)));
+            writer.name(ATTRIBUTE_ID).value(String.valueOf(attribute.get(Attribute.ID)));
+            writer.name(VALUE);
+            JsonUtils.writeValue(writer, attribute.get(Attribute.VALUE_NAME));
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public CreatePresentationModelCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setClientSideOnly(false);
+        final List<Map<String, Object>> attributes = new ArrayList<>();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (PM_ID.equals(name)) {
+                command.setPmId(reader.nextString());
+            } else if (TYPE.equals(name)) {
+                command.setPmType(JsonUtils.readString(reader));
+            } else if (PM_ATTRIBUTES.equals(name)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    attributes.add(readAttribute(reader));
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getPmId(), PM_ID);
+        command.setAttributes(attributes);
+        return command;
+    }
+
+    @SuppressWarnings("deprecation")
+    private Map<String, Object> readAttribute(final JsonReader reader) throws IOException {
+        final HashMap<String, Object> map = new HashMap<>();
+        map.put(Attribute.VALUE_NAME, null);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (NAME.equals(name)) {
+                map.put(Attribute.PROPERTY_NAME, reader.nextString());
+            } else if (ATTRIBUTE_ID.equals(name)) {
+                map.put(Attribute.ID, reader.nextString());
+            } else if (VALUE.equals(name)) {
+                map.put(Attribute.VALUE_NAME, JsonUtils.readValue(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        Assert.requireNonNull(map.get(Attribute.PROPERTY_NAME), NAME);
+        Assert.requireNonNull(map.get(Attribute.ID), ATTRIBUTE_ID);
+        return map;
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void encode(final CreatePresentationModelCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getPmId());
+        output.writeString(command.getPmType());
+        output.writeVarInt(command.getAttributes().size());
+        for (final Map<String, Object> attribute : command.getAttributes()) {
+            output.writeString(String.valueOf(attribute.get(Attribute.PROPERTY_NAME)));
+            output.writeString(String.valueOf(attribute.get(Attribute.ID)));
+            output.writeValue(attribute.get(Attribute.VALUE_NAME));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public CreatePresentationModelCommand decode(final BinaryInput input) throws IOException {
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId(input.readString());
+        command.setPmType(input.readString());
+        command.setClientSideOnly(false);
+        final int attributeCount = input.readCount();
+        final List<Map<String, Object>> attributes = new ArrayList<>(BinaryInput.initialCapacity(attributeCount));
+        for (int i = 0; i < attributeCount; i++) {
+            final HashMap<String, Object> map = new HashMap<>();
+            map.put(Attribute.PROPERTY_NAME, input.readString());
+            map.put(Attribute.ID, input.readString());
+            map.put(Attribute.VALUE_NAME, input.readValue());
+            attributes.add(map);
+        }
+        command.setAttributes(attributes);
+        return command;
+    }
 }
@@ -16,12 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.legacy.communication.DeletePresentationModelCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.DELETE_PRESENTATION_MODEL_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.PM_ID;
@@ -45,4 +51,40 @@ public class DeletePresentationModelCommandEncoder implements CommandTranscoder<
         command.setPmId(JsonUtils.getStringElement(jsonObject, PM_ID));
         return command;
     }
+
+    @Override
+    public void encode(final DeletePresentationModelCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(PM_ID).value(command.getPmId());
+    }
+
+    @Override
+    public DeletePresentationModelCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final DeletePresentationModelCommand command = new DeletePresentationModelCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (PM_ID.equals(name)) {
+                command.setPmId(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getPmId(), PM_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final DeletePresentationModelCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getPmId());
+    }
+
+    @Override
+    public DeletePresentationModelCommand decode(final BinaryInput input) throws IOException {
+        final DeletePresentationModelCommand command = new DeletePresentationModelCommand();
+        command.setPmId(input.readString());
+        return command;
+    }
 }
@@ -16,11 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.commands.DestroyContextCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.remoting.codec.JsonUtils;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.DESTROY_CONTEXT_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -39,4 +46,26 @@ public class DestroyContextCommandEncoder implements CommandTranscoder<DestroyCo
     public DestroyContextCommand decode(final JsonObject jsonObject) {
         return new DestroyContextCommand();
     }
+
+    @Override
+    public void encode(final DestroyContextCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public DestroyContextCommand decode(final JsonReader reader) throws IOException {
+        JsonUtils.skipRemainingMembers(reader);
+        return new DestroyContextCommand();
+    }
+
+    @Override
+    public void encode(final DestroyContextCommand command, final BinaryOutput output) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public DestroyContextCommand decode(final BinaryInput input) {
+        return new DestroyContextCommand();
+    }
 }
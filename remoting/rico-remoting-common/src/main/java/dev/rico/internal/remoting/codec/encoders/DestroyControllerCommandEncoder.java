@@ -16,13 +16,19 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.commands.DestroyControllerCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.CONTROLLER_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.DESTROY_CONTROLLER_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
@@ -51,4 +57,40 @@ public class DestroyControllerCommandEncoder implements CommandTranscoder<Destro
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final DestroyControllerCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(CONTROLLER_ID).value(command.getControllerId());
+    }
+
+    @Override
+    public DestroyControllerCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final DestroyControllerCommand command = new DestroyControllerCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (CONTROLLER_ID.equals(name)) {
+                command.setControllerId(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getControllerId(), CONTROLLER_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final DestroyControllerCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getControllerId());
+    }
+
+    @Override
+    public DestroyControllerCommand decode(final BinaryInput input) throws IOException {
+        final DestroyControllerCommand command = new DestroyControllerCommand();
+        command.setControllerId(input.readString());
+        return command;
+    }
 }
@@ -16,11 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.legacy.communication.EmptyCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.remoting.codec.JsonUtils;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.EMPTY_COMMAND_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static org.apiguardian.api.API.Status.DEPRECATED;
@@ -41,4 +48,26 @@ public class EmptyCommandEncoder implements CommandTranscoder<EmptyCommand> {
     public EmptyCommand decode(final JsonObject jsonObject) {
         return new EmptyCommand();
     }
+
+    @Override
+    public void encode(final EmptyCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public EmptyCommand decode(final JsonReader reader) throws IOException {
+        JsonUtils.skipRemainingMembers(reader);
+        return new EmptyCommand();
+    }
+
+    @Override
+    public void encode(final EmptyCommand command, final BinaryOutput output) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public EmptyCommand decode(final BinaryInput input) {
+        return new EmptyCommand();
+    }
 }
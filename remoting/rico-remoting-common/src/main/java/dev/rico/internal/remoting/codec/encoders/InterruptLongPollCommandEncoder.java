@@ -16,11 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.legacy.commands.InterruptLongPollCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.remoting.codec.JsonUtils;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.INTERRUPT_LONG_POLL_COMMAND_ID;
 import static org.apiguardian.api.API.Status.DEPRECATED;
@@ -41,4 +48,26 @@ public class InterruptLongPollCommandEncoder implements CommandTranscoder<Interr
     public InterruptLongPollCommand decode(final JsonObject jsonObject) {
         return new InterruptLongPollCommand();
     }
+
+    @Override
+    public void encode(final InterruptLongPollCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public InterruptLongPollCommand decode(final JsonReader reader) throws IOException {
+        JsonUtils.skipRemainingMembers(reader);
+        return new InterruptLongPollCommand();
+    }
+
+    @Override
+    public void encode(final InterruptLongPollCommand command, final BinaryOutput output) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public InterruptLongPollCommand decode(final BinaryInput input) {
+        return new InterruptLongPollCommand();
+    }
 }
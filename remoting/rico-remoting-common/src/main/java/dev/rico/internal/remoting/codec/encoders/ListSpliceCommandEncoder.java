@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.codec.encoders;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
+import dev.rico.internal.remoting.codec.JsonUtils;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.FROM;
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.LIST_SPLICE_COMMAND_ID;
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.NAME;
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.SOURCE_ID;
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.TO;
+import static dev.rico.internal.remoting.legacy.communication.CommandConstants.VALUE;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Encodes a {@link ListSpliceCommand} as parallel arrays: all {@code from} indices, all {@code to} indices and
+ * one array of values per splice.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class ListSpliceCommandEncoder implements CommandTranscoder<ListSpliceCommand> {
+
+    @Override
+    public JsonObject encode(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        final JsonObject jsonCommand = new JsonObject();
+        jsonCommand.addProperty(SOURCE_ID, command.getSourceId());
+        jsonCommand.addProperty(NAME, command.getAttributeName());
+
+        final JsonArray fromArray = new JsonArray();
+        final JsonArray toArray = new JsonArray();
+        final JsonArray valuesArray = new JsonArray();
+        for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+            fromArray.add(splice.getFrom());
+            toArray.add(splice.getTo());
+            final JsonArray values = new JsonArray();
+            for (final Object value : splice.getValues()) {
+                values.add(JsonUtils.encodeValue(value));
+            }
+            valuesArray.add(values);
+        }
+        jsonCommand.add(FROM, fromArray);
+        jsonCommand.add(TO, toArray);
+        jsonCommand.add(VALUE, valuesArray);
+
+        jsonCommand.addProperty(ID, LIST_SPLICE_COMMAND_ID);
+        return jsonCommand;
+    }
+
+    @Override
+    public ListSpliceCommand decode(final JsonObject jsonObject) {
+        Assert.requireNonNull(jsonObject, "jsonObject");
+        try {
+            final ListSpliceCommand command = new ListSpliceCommand(JsonUtils.getStringElement(jsonObject, SOURCE_ID), JsonUtils.getStringElement(jsonObject, NAME));
+            final JsonArray fromArray = JsonUtils.getElement(jsonObject, FROM).getAsJsonArray();
+            final JsonArray toArray = JsonUtils.getElement(jsonObject, TO).getAsJsonArray();
+            final JsonArray valuesArray = JsonUtils.getElement(jsonObject, VALUE).getAsJsonArray();
+            if (fromArray.size() != toArray.size() || fromArray.size() != valuesArray.size()) {
+                throw new IllegalStateException("Splice arrays differ in length");
+            }
+            for (int i = 0; i < fromArray.size(); i++) {
+                final JsonArray jsonValues = valuesArray.get(i).getAsJsonArray();
+                final List<Object> values = new ArrayList<>(jsonValues.size());
+                for (final JsonElement jsonValue : jsonValues) {
+                    values.add(JsonUtils.decodeValue(jsonValue));
+                }
+                command.addSplice(fromArray.get(i).getAsInt(), toArray.get(i).getAsInt(), values);
+            }
+            return command;
+        } catch (final Exception ex) {
+            throw new JsonParseException("Illegal JSON detected", ex);
+        }
+    }
+
+    @Override
+    public void encode(final ListSpliceCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(SOURCE_ID).value(command.getSourceId());
+        writer.name(NAME).value(command.getAttributeName());
+        writer.name(FROM).beginArray();
+        for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+            writer.value(splice.getFrom());
+        }
+        writer.endArray();
+        writer.name(TO).beginArray();
+        for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+            writer.value(splice.getTo());
+        }
+        writer.endArray();
+        writer.name(VALUE).beginArray();
+        for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+            writer.beginArray();
+            for (final Object value : splice.getValues()) {
+                JsonUtils.writeValue(writer, value);
+            }
+            writer.endArray();
+        }
+        writer.endArray();
+    }
+
+    @Override
+    public ListSpliceCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ListSpliceCommand command = new ListSpliceCommand();
+        final List<Integer> fromIndices = new ArrayList<>();
+        final List<Integer> toIndices = new ArrayList<>();
+        final List<List<Object>> values = new ArrayList<>();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (SOURCE_ID.equals(name)) {
+                command.setSourceId(reader.nextString());
+            } else if (NAME.equals(name)) {
+                command.setAttributeName(reader.nextString());
+            } else if (FROM.equals(name)) {
+                readIndices(reader, fromIndices);
+            } else if (TO.equals(name)) {
+                readIndices(reader, toIndices);
+            } else if (VALUE.equals(name)) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    final List<Object> spliceValues = new ArrayList<>();
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        spliceValues.add(JsonUtils.readValue(reader));
+                    }
+                    reader.endArray();
+                    values.add(spliceValues);
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getSourceId(), SOURCE_ID);
+        Assert.requireNonNull(command.getAttributeName(), NAME);
+        if (fromIndices.size() != toIndices.size() || fromIndices.size() != values.size()) {
+            throw new IOException("Splice arrays differ in length");
+        }
+        for (int i = 0; i < fromIndices.size(); i++) {
+            command.addSplice(fromIndices.get(i), toIndices.get(i), values.get(i));
+        }
+        return command;
+    }
+
+    private void readIndices(final JsonReader reader, final List<Integer> indices) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            indices.add(reader.nextInt());
+        }
+        reader.endArray();
+    }
+
+    @Override
+    public void encode(final ListSpliceCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getSourceId());
+        output.writeString(command.getAttributeName());
+        output.writeVarInt(command.getSplices().size());
+        for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+            output.writeVarInt(splice.getFrom());
+            output.writeVarInt(splice.getTo());
+            output.writeVarInt(splice.getValues().size());
+            for (final Object value : splice.getValues()) {
+                output.writeValue(value);
+            }
+        }
+    }
+
+    @Override
+    public ListSpliceCommand decode(final BinaryInput input) throws IOException {
+        final ListSpliceCommand command = new ListSpliceCommand(input.readString(), input.readString());
+        final int spliceCount = input.readCount();
+        for (int i = 0; i < spliceCount; i++) {
+            final int from = input.readUnsignedVarInt();
+            final int to = input.readUnsignedVarInt();
+            final int valueCount = input.readCount();
+            final List<Object> values = new ArrayList<>(BinaryInput.initialCapacity(valueCount));
+            for (int j = 0; j < valueCount; j++) {
+                values.add(input.readValue());
+            }
+            command.addSplice(from, to, values);
+        }
+        return command;
+    }
+}
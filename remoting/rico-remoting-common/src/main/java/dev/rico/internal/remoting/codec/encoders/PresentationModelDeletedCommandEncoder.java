@@ -16,12 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.legacy.communication.PresentationModelDeletedCommand;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.PM_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.PRESENTATION_MODEL_DELETED_COMMAND_ID;
@@ -46,4 +52,40 @@ public class PresentationModelDeletedCommandEncoder implements CommandTranscoder
         command.setPmId(JsonUtils.getStringElement(jsonObject, PM_ID));
         return command;
     }
+
+    @Override
+    public void encode(final PresentationModelDeletedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(PM_ID).value(command.getPmId());
+    }
+
+    @Override
+    public PresentationModelDeletedCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final PresentationModelDeletedCommand command = new PresentationModelDeletedCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (PM_ID.equals(name)) {
+                command.setPmId(reader.nextString());
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getPmId(), PM_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final PresentationModelDeletedCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getPmId());
+    }
+
+    @Override
+    public PresentationModelDeletedCommand decode(final BinaryInput input) throws IOException {
+        final PresentationModelDeletedCommand command = new PresentationModelDeletedCommand();
+        command.setPmId(input.readString());
+        return command;
+    }
 }
@@ -16,11 +16,18 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.remoting.legacy.commands.StartLongPollCommand;
 import dev.rico.internal.core.Assert;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import dev.rico.internal.remoting.codec.JsonUtils;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.START_LONG_POLL_COMMAND_ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -40,4 +47,26 @@ public class StartLongPollCommandEncoder implements CommandTranscoder<StartLongP
     public StartLongPollCommand decode(final JsonObject jsonObject) {
         return new StartLongPollCommand();
     }
+
+    @Override
+    public void encode(final StartLongPollCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public StartLongPollCommand decode(final JsonReader reader) throws IOException {
+        JsonUtils.skipRemainingMembers(reader);
+        return new StartLongPollCommand();
+    }
+
+    @Override
+    public void encode(final StartLongPollCommand command, final BinaryOutput output) {
+        Assert.requireNonNull(command, "command");
+    }
+
+    @Override
+    public StartLongPollCommand decode(final BinaryInput input) {
+        return new StartLongPollCommand();
+    }
 }
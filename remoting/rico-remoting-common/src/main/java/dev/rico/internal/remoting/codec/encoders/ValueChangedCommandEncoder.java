@@ -16,13 +16,19 @@
  */
 package dev.rico.internal.remoting.codec.encoders;
 
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.BinaryOutput;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.codec.JsonUtils;
 import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.apiguardian.api.API;
 
+import java.io.IOException;
+
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ATTRIBUTE_ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.ID;
 import static dev.rico.internal.remoting.legacy.communication.CommandConstants.VALUE;
@@ -56,4 +62,48 @@ public class ValueChangedCommandEncoder implements CommandTranscoder<ValueChange
             throw new JsonParseException("Illegal JSON detected", ex);
         }
     }
+
+    @Override
+    public void encode(final ValueChangedCommand command, final JsonWriter writer) throws IOException {
+        Assert.requireNonNull(command, "command");
+        Assert.requireNonNull(writer, "writer");
+        writer.name(ATTRIBUTE_ID).value(command.getAttributeId());
+        if (command.getNewValue() != null) {
+            writer.name(VALUE);
+            JsonUtils.writeValue(writer, command.getNewValue());
+        }
+    }
+
+    @Override
+    public ValueChangedCommand decode(final JsonReader reader) throws IOException {
+        Assert.requireNonNull(reader, "reader");
+        final ValueChangedCommand command = new ValueChangedCommand();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (ATTRIBUTE_ID.equals(name)) {
+                command.setAttributeId(reader.nextString());
+            } else if (VALUE.equals(name)) {
+                command.setNewValue(JsonUtils.readValue(reader));
+            } else {
+                reader.skipValue();
+            }
+        }
+        Assert.requireNonNull(command.getAttributeId(), ATTRIBUTE_ID);
+        return command;
+    }
+
+    @Override
+    public void encode(final ValueChangedCommand command, final BinaryOutput output) throws IOException {
+        Assert.requireNonNull(command, "command");
+        output.writeString(command.getAttributeId());
+        output.writeValue(command.getNewValue());
+    }
+
+    @Override
+    public ValueChangedCommand decode(final BinaryInput input) throws IOException {
+        final ValueChangedCommand command = new ValueChangedCommand();
+        command.setAttributeId(input.readString());
+        command.setNewValue(input.readValue());
+        return command;
+    }
 }
@@ -16,13 +16,15 @@
  */
 package dev.rico.internal.remoting.collections;
 
+import dev.rico.internal.core.Assert;
 import dev.rico.internal.remoting.BeanRepository;
 import dev.rico.internal.remoting.ClassRepository;
 import dev.rico.internal.remoting.RemotingEventHandler;
 import dev.rico.internal.remoting.EventDispatcher;
 import dev.rico.internal.remoting.PresentationModelBuilder;
-import dev.rico.remoting.ListChangeEvent;
 import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import dev.rico.remoting.ListChangeEvent;
 import dev.rico.internal.remoting.PresentationModelBuilderFactory;
 import dev.rico.internal.remoting.ListMapper;
 import dev.rico.internal.remoting.info.ClassInfo;
@@ -31,60 +33,55 @@ import dev.rico.internal.remoting.MappingException;
 import dev.rico.internal.remoting.legacy.core.ModelStore;
 import dev.rico.internal.remoting.legacy.core.PresentationModel;
 import org.apiguardian.api.API;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+/**
+ * Synchronizes changes of observable lists by sending a {@link ListSpliceCommand} per list change event.
+ * All changes of one event end up in one command. Received splices are applied directly to the list.
+ * For compatibility with older peers, list changes are sent as {@code LIST_SPLICE} presentation models as long as
+ * the other side has not announced that it supports the {@link ListSpliceCommand} (see
+ * {@link #isListSpliceSupported()}). Such presentation models are always supported when receiving.
+ */
 @API(since = "0.x", status = INTERNAL)
-public class ListMapperImpl implements ListMapper {
-
-    private static final Logger LOG = LoggerFactory.getLogger(ListMapperImpl.class);
+public abstract class ListMapperImpl implements ListMapper {
 
     private final BeanRepository beanRepository;
     private final ClassRepository classRepository;
-    protected final PresentationModelBuilderFactory builderFactory;
+    protected final PresentationModelBuilderFactory<?> builderFactory;
 
-    public ListMapperImpl(final ModelStore modelStore, final ClassRepository classRepository, final BeanRepository beanRepository, final PresentationModelBuilderFactory builderFactory, final EventDispatcher dispatcher) {
+    public ListMapperImpl(final ModelStore<?, ?> modelStore, final ClassRepository classRepository, final BeanRepository beanRepository, final PresentationModelBuilderFactory<?> builderFactory, final EventDispatcher dispatcher) {
         this.beanRepository = beanRepository;
         this.classRepository = classRepository;
         this.builderFactory = builderFactory;
 
         dispatcher.addListSpliceHandler(new RemotingEventHandler() {
             @Override
-            @SuppressWarnings("unchecked")
             public void onEvent(PresentationModel model) {
                 try {
                     final String sourceId = model.getAttribute("source").getValue().toString();
                     final String attributeName = model.getAttribute("attribute").getValue().toString();
 
-                    final Object bean = ListMapperImpl.this.beanRepository.getBean(sourceId);
-                    final ClassInfo classInfo = ListMapperImpl.this.classRepository.getOrCreateClassInfo(bean.getClass());
-                    final PropertyInfo observableListInfo = classInfo.getObservableListInfo(attributeName);
-
-                    final ObservableArrayList list = (ObservableArrayList) observableListInfo.getPrivileged(bean);
-
                     final int from = ((Number) model.getAttribute("from").getValue()).intValue();
                     final int to = ((Number) model.getAttribute("to").getValue()).intValue();
                     final int count = ((Number) model.getAttribute("count").getValue()).intValue();
 
-                    final List<Object> newElements = new ArrayList<>(count);
+                    final List<Object> remotingValues = new ArrayList<>(count);
                     for (int i = 0; i < count; i++) {
-                        final Object remotingValue = model.getAttribute(Integer.toString(i)).getValue();
-                        final Object value = observableListInfo.convertFromRemoting(remotingValue);
-                        newElements.add(value);
+                        remotingValues.add(model.getAttribute(Integer.toString(i)).getValue());
                     }
 
-                    list.internalSplice(from, to, newElements);
+                    final ListSpliceCommand command = new ListSpliceCommand(sourceId, attributeName);
+                    command.addSplice(from, to, remotingValues);
+                    processSplice(command);
                 } catch (final Exception ex) {
-                    //TODO: This exception must be handled!
-                    LOG.error("Invalid LIST_SPLICE command received: " + model, ex);
+                    throw new MappingException("Invalid LIST_SPLICE command received: " + model, ex);
                 } finally {
                     if (model != null) {
-                        modelStore.remove(model);
+                        remove(modelStore, model);
                     }
                 }
 
@@ -92,35 +89,98 @@ public class ListMapperImpl implements ListMapper {
         });
     }
 
+    @Override
+    public void processSplice(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        try {
+            final Object bean = beanRepository.getBean(command.getSourceId());
+            final ClassInfo classInfo = classRepository.getOrCreateClassInfo(bean.getClass());
+            final PropertyInfo observableListInfo = classInfo.getObservableListInfo(command.getAttributeName());
+
+            @SuppressWarnings("unchecked")
+            final ObservableArrayList<Object> list = (ObservableArrayList<Object>) observableListInfo.getPrivileged(bean);
+
+            for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+                final List<Object> newElements = new ArrayList<>(splice.getValues().size());
+                for (final Object remotingValue : splice.getValues()) {
+                    newElements.add(observableListInfo.convertFromRemoting(remotingValue));
+                }
+                list.internalSplice(splice.getFrom(), splice.getTo(), newElements);
+            }
+        } catch (final Exception ex) {
+            throw new MappingException("Invalid list splice received for attribute '" + command.getAttributeName() + "' of bean " + command.getSourceId(), ex);
+        }
+    }
+
     @Override
     public void processEvent(final PropertyInfo observableListInfo, final String sourceId, final ListChangeEvent<?> event) {
-        final String attributeName = observableListInfo.getAttributeName();
+        final ListSpliceCommand command = new ListSpliceCommand(sourceId, observableListInfo.getAttributeName());
 
         for (final ListChangeEvent.Change<?> change : event.getChanges()) {
 
             final int from = change.getFrom();
             final int to = from + change.getRemovedElements().size();
             final List<?> newElements = event.getSource().subList(from, change.getTo());
-            final int count = newElements.size();
 
-            final PresentationModelBuilder builder = builderFactory.createBuilder();
-            builder.withType(RemotingConstants.LIST_SPLICE)
-                    .withAttribute("source", sourceId)
-                    .withAttribute("attribute", attributeName)
-                    .withAttribute("from", from)
-                    .withAttribute("to", to)
-                    .withAttribute("count", count);
-
-            int i = 0;
+            final List<Object> remotingValues = new ArrayList<>(newElements.size());
             for (final Object current : newElements) {
                 try {
-                    builder.withAttribute(Integer.toString(i++), observableListInfo.convertToRemoting(current));
+                    remotingValues.add(observableListInfo.convertToRemoting(current));
                 }catch (final Exception e) {
                     throw new MappingException("Error in event processing!", e);
                 }
             }
+            command.addSplice(from, to, remotingValues);
+        }
+
+        if (command.getSplices().isEmpty()) {
+            return;
+        }
+        if (isListSpliceSupported()) {
+            send(command);
+        } else {
+            sendAsPresentationModels(command);
+        }
+    }
+
+    /**
+     * Sends each splice as a temporary {@code LIST_SPLICE} presentation model, the format that is understood by
+     * peers that do not know the {@link ListSpliceCommand}.
+     */
+    private void sendAsPresentationModels(final ListSpliceCommand command) {
+        for (final ListSpliceCommand.Splice splice : command.getSplices()) {
+            final PresentationModelBuilder<?> builder = builderFactory.createBuilder();
+            builder.withType(RemotingConstants.LIST_SPLICE)
+                    .withAttribute("source", command.getSourceId())
+                    .withAttribute("attribute", command.getAttributeName())
+                    .withAttribute("from", splice.getFrom())
+                    .withAttribute("to", splice.getTo())
+                    .withAttribute("count", splice.getValues().size());
+
+            int i = 0;
+            for (final Object value : splice.getValues()) {
+                builder.withAttribute(Integer.toString(i++), value);
+            }
 
             builder.create();
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private static <P extends PresentationModel<?>> void remove(final ModelStore<?, P> modelStore, final PresentationModel<?> model) {
+        modelStore.remove((P) model);
+    }
+
+    /**
+     * Returns {@code true} if the other side announced that it can handle {@link ListSpliceCommand}s.
+     * @return {@code true} if list changes can be sent as {@link ListSpliceCommand}
+     */
+    protected abstract boolean isListSpliceSupported();
+
+    /**
+     * Sends the given command to the other side. Implementations may merge the command into a preceding,
+     * not yet sent {@link ListSpliceCommand} for the same list.
+     * @param command the command
+     */
+    protected abstract void send(ListSpliceCommand command);
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.commands;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.CommandConstants;
+import org.apiguardian.api.API;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Transports one or more consecutive changes of a single observable list of a remoting bean.
+ * Each {@link Splice} replaces the elements between {@code from} (inclusive) and {@code to} (exclusive)
+ * with its values. The splices must be applied in the given order.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class ListSpliceCommand extends Command {
+
+    private static final long serialVersionUID = -4420591315870373394L;
+
+    private String sourceId;
+
+    private String attributeName;
+
+    private final List<Splice> splices = new ArrayList<>(1);
+
+    public ListSpliceCommand() {
+        super(CommandConstants.LIST_SPLICE_COMMAND_ID);
+    }
+
+    public ListSpliceCommand(final String sourceId, final String attributeName) {
+        this();
+        setSourceId(sourceId);
+        setAttributeName(attributeName);
+    }
+
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(final String sourceId) {
+        Assert.requireNonBlank(sourceId, "sourceId");
+        this.sourceId = sourceId;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    public void setAttributeName(final String attributeName) {
+        Assert.requireNonBlank(attributeName, "attributeName");
+        this.attributeName = attributeName;
+    }
+
+    public List<Splice> getSplices() {
+        return Collections.unmodifiableList(splices);
+    }
+
+    public void addSplice(final int from, final int to, final List<?> values) {
+        splices.add(new Splice(from, to, values));
+    }
+
+    /**
+     * Checks if the given command changes the same list as this command. In that case the splices of the given
+     * command can simply be appended to this command.
+     * @param command the command
+     * @return true if both commands change the same list
+     */
+    public boolean hasSameTarget(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        return sourceId.equals(command.sourceId) && attributeName.equals(command.attributeName);
+    }
+
+    public void addAll(final ListSpliceCommand command) {
+        if (!hasSameTarget(command)) {
+            throw new IllegalArgumentException("Can not merge splices of different lists");
+        }
+        splices.addAll(command.splices);
+    }
+
+    @API(since = "2.1.0", status = INTERNAL)
+    public static final class Splice {
+
+        private final int from;
+
+        private final int to;
+
+        private final List<Object> values;
+
+        private Splice(final int from, final int to, final List<?> values) {
+            if (from < 0 || to < from) {
+                throw new IllegalArgumentException("Illegal splice range [" + from + ", " + to + "]");
+            }
+            this.from = from;
+            this.to = to;
+            this.values = Collections.unmodifiableList(new ArrayList<>(Assert.requireNonNull(values, "values")));
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getTo() {
+            return to;
+        }
+
+        public List<Object> getValues() {
+            return values;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.info;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.core.ReflectionHelper;
+import dev.rico.internal.remoting.RemotingUtils;
+import dev.rico.remoting.ObservableList;
+import dev.rico.remoting.Property;
+import org.apiguardian.api.API;
+
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Immutable reflection metadata of a remoting bean class. The metadata is computed once per class and shared by all
+ * remoting contexts of the application. Session specific information like converters that depend on the bean
+ * repository of a session is not part of the metadata (see {@link ClassInfo}).
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class BeanMetadata {
+
+    private static final ClassValue<BeanMetadata> METADATA = new ClassValue<BeanMetadata>() {
+        @Override
+        protected BeanMetadata computeValue(final Class<?> type) {
+            return new BeanMetadata(type);
+        }
+    };
+
+    private final Class<?> beanClass;
+
+    private final List<FieldMetadata> properties;
+
+    private final List<FieldMetadata> observableLists;
+
+    private BeanMetadata(final Class<?> beanClass) {
+        this.beanClass = beanClass;
+        final List<FieldMetadata> localProperties = new ArrayList<>();
+        final List<FieldMetadata> localObservableLists = new ArrayList<>();
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(beanClass)) {
+            if (Property.class.isAssignableFrom(field.getType())) {
+                localProperties.add(new FieldMetadata(field));
+            } else if (ObservableList.class.isAssignableFrom(field.getType())) {
+                localObservableLists.add(new FieldMetadata(field));
+            }
+        }
+        this.properties = Collections.unmodifiableList(localProperties);
+        this.observableLists = Collections.unmodifiableList(localObservableLists);
+    }
+
+    /**
+     * Returns the metadata of the given class.
+     *
+     * @param beanClass the class
+     * @return the metadata
+     */
+    public static BeanMetadata of(final Class<?> beanClass) {
+        Assert.requireNonNull(beanClass, "beanClass");
+        return METADATA.get(beanClass);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * Returns all fields of the class (including inherited fields) that are a {@link Property}.
+     */
+    public List<FieldMetadata> getProperties() {
+        return properties;
+    }
+
+    /**
+     * Returns all fields of the class (including inherited fields) that are an {@link ObservableList}.
+     */
+    public List<FieldMetadata> getObservableLists() {
+        return observableLists;
+    }
+
+    @API(since = "2.1.0", status = INTERNAL)
+    public static final class FieldMetadata {
+
+        private final Field field;
+
+        private final String attributeName;
+
+        private final Class<?> typeParameter;
+
+        private FieldMetadata(final Field field) {
+            // Shared fields must stay accessible. Otherwise concurrent calls of ReflectionHelper.getPrivileged(...)
+            // would reset the flag while another thread accesses the field.
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                field.setAccessible(true);
+                return null;
+            });
+            this.field = field;
+            this.attributeName = RemotingUtils.getAttributePropertyNameForField(field);
+            this.typeParameter = ReflectionHelper.getTypeParameter(field);
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getAttributeName() {
+            return attributeName;
+        }
+
+        /**
+         * Returns the generic type of the property or list or {@code null} if the type can not be defined.
+         */
+        public Class<?> getTypeParameter() {
+            return typeParameter;
+        }
+
+        public <T> T get(final Object bean) {
+            return ReflectionHelper.getPrivileged(field, bean);
+        }
+    }
+}
@@ -37,6 +37,7 @@ public interface CommandConstants {
     String EMPTY_COMMAND_ID = "Empty";
     String PRESENTATION_MODEL_DELETED_COMMAND_ID = "PresentationModelDeleted";
     String DELETE_PRESENTATION_MODEL_COMMAND_ID = "DeletePresentationModel";
+    String LIST_SPLICE_COMMAND_ID = "ListSplice";
 
     String ID = "id";
     String ATTRIBUTE_ID = "a_id";
@@ -47,4 +48,7 @@ public interface CommandConstants {
     String VALUE = "v";
     String PARAMS = "p";
     String PM_ATTRIBUTES = "a";
+    String SOURCE_ID = "s_id";
+    String FROM = "f";
+    String TO = "to";
 }
@@ -18,56 +18,130 @@ package dev.rico.internal.remoting.legacy.core;
 
 import org.apiguardian.api.API;
 
+import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
+import java.beans.PropertyChangeListenerProxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
 
+/**
+ * Basic {@link Observable} implementation. Since a remoting session can hold a huge number of attributes the listeners
+ * are not managed by a {@link java.beans.PropertyChangeSupport} but stored in a small copy-on-write array that is only
+ * created once the first listener is added.
+ */
 @API(since = "0.x", status = DEPRECATED)
 @Deprecated
 public class AbstractObservable implements Observable {
 
-    private final PropertyChangeSupport pcs;
+    private static final PropertyChangeListener[] NO_LISTENERS = new PropertyChangeListener[0];
 
-    public AbstractObservable() {
-        pcs = new PropertyChangeSupport(this);
-    }
+    private volatile ListenerEntry[] listeners;
 
     @Override
     public void addPropertyChangeListener(final PropertyChangeListener listener) {
         if (listener == null || containsListener(listener, getPropertyChangeListeners())) return;
-        pcs.addPropertyChangeListener(listener);
+        addEntry(new ListenerEntry(null, listener));
     }
 
     @Override
     public void addPropertyChangeListener(final String propertyName, final PropertyChangeListener listener) {
         if (listener == null || containsListener(listener, getPropertyChangeListeners(propertyName))) return;
-        pcs.addPropertyChangeListener(propertyName, listener);
+        addEntry(new ListenerEntry(propertyName, listener));
     }
 
     @Override
     public void removePropertyChangeListener(final PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(listener);
+        if (listener == null) return;
+        removeEntry(null, listener);
     }
 
     @Override
     public void removePropertyChangeListener(final String propertyName, final PropertyChangeListener listener) {
-        pcs.removePropertyChangeListener(propertyName, listener);
+        if (listener == null || propertyName == null) return;
+        removeEntry(propertyName, listener);
     }
 
     @Override
     public PropertyChangeListener[] getPropertyChangeListeners() {
-        return pcs.getPropertyChangeListeners();
+        final ListenerEntry[] current = listeners;
+        if (current == null) return NO_LISTENERS;
+        final List<PropertyChangeListener> result = new ArrayList<>(current.length);
+        for (final ListenerEntry entry : current) {
+            if (entry.propertyName == null) {
+                result.add(entry.listener);
+            }
+        }
+        for (final ListenerEntry entry : current) {
+            if (entry.propertyName != null) {
+                result.add(new PropertyChangeListenerProxy(entry.propertyName, entry.listener));
+            }
+        }
+        return result.toArray(NO_LISTENERS);
     }
 
     @Override
     public PropertyChangeListener[] getPropertyChangeListeners(final String propertyName) {
-        return pcs.getPropertyChangeListeners(propertyName);
+        final ListenerEntry[] current = listeners;
+        if (current == null || propertyName == null) return NO_LISTENERS;
+        final List<PropertyChangeListener> result = new ArrayList<>(current.length);
+        for (final ListenerEntry entry : current) {
+            if (propertyName.equals(entry.propertyName)) {
+                result.add(entry.listener);
+            }
+        }
+        return result.toArray(NO_LISTENERS);
     }
 
     protected void firePropertyChange(final String propertyName, final Object oldValue, final Object newValue) {
         if (oldValue == newValue) return;
-        pcs.firePropertyChange(propertyName, oldValue, newValue);
+        final ListenerEntry[] current = listeners;
+        if (current == null) return;
+        if (oldValue != null && newValue != null && oldValue.equals(newValue)) return;
+        final PropertyChangeEvent event = new PropertyChangeEvent(this, propertyName, oldValue, newValue);
+        for (final ListenerEntry entry : current) {
+            if (entry.propertyName == null) {
+                entry.listener.propertyChange(event);
+            }
+        }
+        if (propertyName == null) return;
+        for (final ListenerEntry entry : current) {
+            if (propertyName.equals(entry.propertyName)) {
+                entry.listener.propertyChange(event);
+            }
+        }
+    }
+
+    private synchronized void addEntry(final ListenerEntry entry) {
+        final ListenerEntry[] current = listeners;
+        if (current == null) {
+            listeners = new ListenerEntry[]{entry};
+        } else {
+            final ListenerEntry[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = entry;
+            listeners = updated;
+        }
+    }
+
+    private synchronized void removeEntry(final String propertyName, final PropertyChangeListener listener) {
+        final ListenerEntry[] current = listeners;
+        if (current == null) return;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].listener.equals(listener) && Objects.equals(current[i].propertyName, propertyName)) {
+                if (current.length == 1) {
+                    listeners = null;
+                } else {
+                    final ListenerEntry[] updated = new ListenerEntry[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    listeners = updated;
+                }
+                return;
+            }
+        }
     }
 
     private boolean containsListener(final PropertyChangeListener listener, final PropertyChangeListener[] listeners) {
@@ -76,4 +150,16 @@ public class AbstractObservable implements Observable {
         }
         return false;
     }
-}
\ No newline at end of file
+
+    private static final class ListenerEntry {
+
+        private final String propertyName;
+
+        private final PropertyChangeListener listener;
+
+        private ListenerEntry(final String propertyName, final PropertyChangeListener listener) {
+            this.propertyName = propertyName;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.legacy.core;
+
+import org.apiguardian.api.API;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Maps the property names of a presentation model to the index of the attribute in the attribute array of the model.
+ * A model starts with a private layout that grows in place when attributes are added. Models whose properties are
+ * defined by a type (as all models of one remoting bean type are) can swap their private layout for a shared and
+ * immutable layout of that type, so the name to index mapping exists only once per type. A shared layout is copied
+ * to a private layout once an attribute is added to a model that uses it.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+final class AttributeLayout {
+
+    private static final int MAX_SHARED_LAYOUTS = 1024;
+
+    private static final int MAX_SHARED_LAYOUT_SIZE = 256;
+
+    private static final ConcurrentMap<String, AttributeLayout> SHARED_LAYOUTS = new ConcurrentHashMap<>();
+
+    private final boolean shared;
+
+    private String[] propertyNames;
+
+    private int size;
+
+    private final Map<String, Integer> indexes;
+
+    private AttributeLayout(final String[] propertyNames, final int size, final boolean shared) {
+        this.propertyNames = propertyNames;
+        this.size = size;
+        this.shared = shared;
+        this.indexes = new HashMap<>(Math.max(16, propertyNames.length * 4 / 3 + 1));
+        for (int i = 0; i < size; i++) {
+            indexes.put(propertyNames[i], i);
+        }
+    }
+
+    static AttributeLayout create(final int expectedSize) {
+        return new AttributeLayout(new String[expectedSize], 0, false);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int indexOf(final String propertyName) {
+        if (propertyName == null) return -1;
+        final Integer index = indexes.get(propertyName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Adds the given property to this layout and returns the layout. A shared layout is not changed; in that case a
+     * private copy that contains the property is returned.
+     */
+    AttributeLayout with(final String propertyName) {
+        final AttributeLayout layout = shared ? new AttributeLayout(Arrays.copyOf(propertyNames, size + 1), size, false) : this;
+        layout.add(propertyName);
+        return layout;
+    }
+
+    private void add(final String propertyName) {
+        if (propertyNames.length == size) {
+            propertyNames = Arrays.copyOf(propertyNames, Math.max(4, size + (size >> 1)));
+        }
+        propertyNames[size] = propertyName;
+        indexes.put(propertyName, size);
+        size++;
+    }
+
+    private boolean hasSamePropertyNames(final AttributeLayout other) {
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!propertyNames[i].equals(other.propertyNames[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsNullPropertyName() {
+        for (int i = 0; i < size; i++) {
+            if (propertyNames[i] == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the shared layout of the given type if it has the same properties as the given layout. If no layout is
+     * shared for the type yet, an immutable copy of the given layout becomes the shared layout of the type. Since the
+     * types and property names of models can be defined by remote clients, the number and the size of shared layouts
+     * are limited. If a layout can not be shared, the given layout is returned.
+     */
+    static AttributeLayout share(final String type, final AttributeLayout layout) {
+        if (type == null || layout.shared || layout.size > MAX_SHARED_LAYOUT_SIZE || layout.containsNullPropertyName()) {
+            return layout;
+        }
+        AttributeLayout sharedLayout = SHARED_LAYOUTS.get(type);
+        if (sharedLayout == null && SHARED_LAYOUTS.size() < MAX_SHARED_LAYOUTS) {
+            final AttributeLayout candidate = new AttributeLayout(Arrays.copyOf(layout.propertyNames, layout.size), layout.size, true);
+            sharedLayout = SHARED_LAYOUTS.putIfAbsent(type, candidate);
+            if (sharedLayout == null) {
+                sharedLayout = candidate;
+            }
+        }
+        return sharedLayout != null && sharedLayout.hasSamePropertyNames(layout) ? sharedLayout : layout;
+    }
+
+    static int sharedLayoutCount() {
+        return SHARED_LAYOUTS.size();
+    }
+}
@@ -18,8 +18,8 @@ package dev.rico.internal.remoting.legacy.core;
 
 import org.apiguardian.api.API;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
@@ -33,7 +33,11 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
 @SuppressWarnings("deprecation")
 public class BasePresentationModel<A extends Attribute> extends AbstractObservable implements PresentationModel<A> {
 
-    protected final List<A> attributes = new LinkedList<>();
+    private static final Attribute[] NO_ATTRIBUTES = new Attribute[0];
+
+    private AttributeLayout layout;
+
+    private Attribute[] attributes;
 
     private final String id;
 
@@ -45,13 +49,18 @@ public class BasePresentationModel<A extends Attribute> extends AbstractObservab
      */
     public BasePresentationModel(final String id, final List<A> attributes) {
         this.id = id;
+        this.attributes = attributes.isEmpty() ? NO_ATTRIBUTES : new Attribute[attributes.size()];
+        this.layout = AttributeLayout.create(attributes.size());
         for (final A attr : attributes) {
             _internal_addAttribute(attr);
         }
+        if (this.attributes.length != layout.size()) {
+            this.attributes = Arrays.copyOf(this.attributes, layout.size());
+        }
     }
 
     public void _internal_addAttribute(final A attribute) {
-        if (null == attribute || attributes.contains(attribute)) return;
+        if (null == attribute || containsAttribute(attribute)) return;
         if (null != getAttribute(attribute.getPropertyName())) {
             throw new IllegalStateException("There already is an attribute with property name '"
                                             + attribute.getPropertyName()
@@ -62,7 +71,20 @@ public class BasePresentationModel<A extends Attribute> extends AbstractObservab
                     + "' in presentation model with id '" + this.id + "'.");
         }
         ((BaseAttribute)attribute).setPresentationModel(this);
-        attributes.add(attribute);
+        final int index = layout.size();
+        if (attributes.length <= index) {
+            attributes = Arrays.copyOf(attributes, Math.max(4, index + (index >> 1)));
+        }
+        attributes[index] = attribute;
+        layout = layout.with(attribute.getPropertyName());
+    }
+
+    /**
+     * Lets this model use the layout that is shared by all models of its presentation model type that have the same
+     * properties. This should only be called for models whose properties are defined by their type.
+     */
+    public void _internal_shareLayout() {
+        layout = AttributeLayout.share(presentationModelType, layout);
     }
 
     public String getId() {
@@ -80,36 +102,48 @@ public class BasePresentationModel<A extends Attribute> extends AbstractObservab
     /**
      * @return the immutable internal representation
      */
+    @SuppressWarnings("unchecked")
     public List<A> getAttributes() {
-        return Collections.unmodifiableList(attributes);
+        final List<?> list = Arrays.asList(attributes).subList(0, layout.size());
+        return Collections.unmodifiableList((List<A>) list);
     }
 
+    @SuppressWarnings("unchecked")
     public A getAttribute(final String propertyName) {
-        if (null == propertyName) return null;
-        for (final A attribute : attributes) {
-            if (propertyName.equals(attribute.getPropertyName())) {
-                return attribute;
-            }
-        }
-        return null;
+        final int index = layout.indexOf(propertyName);
+        return index < 0 ? null : (A) attributes[index];
     }
 
+    @SuppressWarnings("unchecked")
     public A findAttributeByQualifier(final String qualifier) {
         if (null == qualifier) return null;
-        for (final A attribute : attributes) {
-            if (qualifier.equals(attribute.getQualifier())) {
-                return attribute;
+        final int size = layout.size();
+        for (int i = 0; i < size; i++) {
+            if (qualifier.equals(attributes[i].getQualifier())) {
+                return (A) attributes[i];
             }
         }
         return null;
     }
 
+    @SuppressWarnings("unchecked")
     public A findAttributeById(final String id) {
-        for (final A attribute : attributes) {
-            if (attribute.getId().equals(id)) {
-                return attribute;
+        final int size = layout.size();
+        for (int i = 0; i < size; i++) {
+            if (attributes[i].getId().equals(id)) {
+                return (A) attributes[i];
             }
         }
         return null;
     }
+
+    private boolean containsAttribute(final A attribute) {
+        final int size = layout.size();
+        for (int i = 0; i < size; i++) {
+            if (attributes[i].equals(attribute)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
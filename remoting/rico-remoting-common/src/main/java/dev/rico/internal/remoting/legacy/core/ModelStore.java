@@ -56,11 +56,16 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
     // We maintain four indexes in this data structure in order to efficiently access
     // - presentation models: by id; by type
     // - attributes: by id; by qualifier
+    // The type and qualifier indexes are insertion ordered sets so adding and removing stays constant
+    // even if thousands of models share the same type.
 
     private final Map<String, P>        presentationModels;
-    private final Map<String, List<P>>  modelsPerType;
+    private final Map<String, Set<P>>   modelsPerType;
     private final Map<String, A>        attributesPerId;
-    private final Map<String, List<A>>  attributesPerQualifier;
+    private final Map<String, Set<A>>   attributesPerQualifier;
+
+    private final int modelsPerTypeCapacity;
+    private final int attributesPerQualifierCapacity;
 
     private final Set<ModelStoreListenerWrapper<A, P>> modelStoreListeners = new LinkedHashSet<>();
 
@@ -94,6 +99,8 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         modelsPerType           = new HashMap<>(config.getTypeCapacity());
         attributesPerId         = new HashMap<>(config.getAttributeCapacity());
         attributesPerQualifier  = new HashMap<>(config.getQualifierCapacity());
+        modelsPerTypeCapacity          = config.getModelsPerTypeCapacity();
+        attributesPerQualifierCapacity = config.getAttributesPerQualifierCapacity();
     }
 
     /**
@@ -131,19 +138,15 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         if (presentationModels.containsKey(model.getId())) {
             throw new IllegalArgumentException("There already is a PM with id " + model.getId());
         }
-        boolean added = false;
-        if (!presentationModels.containsValue(model)) {
-            presentationModels.put(model.getId(), model);
-            addPresentationModelByType(model);
-            for (A attribute : model.getAttributes()) {
-                addAttributeById(attribute);
-                attribute.addPropertyChangeListener(Attribute.QUALIFIER_NAME, ATTRIBUTE_WORKER);
-                if (!Assert.isBlank(attribute.getQualifier())) addAttributeByQualifier(attribute);
-            }
-            fireModelStoreChangedEvent(model, ModelStoreEvent.Type.ADDED);
-            added = true;
+        presentationModels.put(model.getId(), model);
+        addPresentationModelByType(model);
+        for (A attribute : model.getAttributes()) {
+            addAttributeById(attribute);
+            attribute.addPropertyChangeListener(Attribute.QUALIFIER_NAME, ATTRIBUTE_WORKER);
+            if (!Assert.isBlank(attribute.getQualifier())) addAttributeByQualifier(attribute);
         }
-        return added;
+        fireModelStoreChangedEvent(model, ModelStoreEvent.Type.ADDED);
+        return true;
     }
 
     /**
@@ -154,19 +157,16 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
      */
     public boolean remove(final P model) {
         if (null == model) return false;
-        boolean removed = false;
-        if (presentationModels.containsValue(model)) {
-            removePresentationModelByType(model);
-            presentationModels.remove(model.getId());
-            for (final A attribute : model.getAttributes()) {
-                removeAttributeById(attribute);
-                removeAttributeByQualifier(attribute);
-                attribute.removePropertyChangeListener(Attribute.QUALIFIER_NAME, ATTRIBUTE_WORKER);
-            }
-            fireModelStoreChangedEvent(model, ModelStoreEvent.Type.REMOVED);
-            removed = true;
+        if (presentationModels.get(model.getId()) != model) return false;
+        removePresentationModelByType(model);
+        presentationModels.remove(model.getId());
+        for (final A attribute : model.getAttributes()) {
+            removeAttributeById(attribute);
+            removeAttributeByQualifier(attribute);
+            attribute.removePropertyChangeListener(Attribute.QUALIFIER_NAME, ATTRIBUTE_WORKER);
         }
-        return removed;
+        fireModelStoreChangedEvent(model, ModelStoreEvent.Type.REMOVED);
+        return true;
     }
 
     protected void addAttributeById(final A attribute) {
@@ -183,21 +183,16 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         if (null == attribute) return;
         final String qualifier = attribute.getQualifier();
         if (Assert.isBlank(qualifier)) return;
-        List<A> list = attributesPerQualifier.get(qualifier);
-        if (null == list) {
-            list = new ArrayList<>();
-            attributesPerQualifier.put(qualifier, list);
-        }
-        if (!list.contains(attribute)) list.add(attribute);
+        attributesPerQualifier.computeIfAbsent(qualifier, q -> new LinkedHashSet<>(attributesPerQualifierCapacity)).add(attribute);
     }
 
     protected void removeAttributeByQualifier(final A attribute) {
         if (null == attribute) return;
         final String qualifier = attribute.getQualifier();
         if (Assert.isBlank(qualifier)) return;
-        final List<A> list = attributesPerQualifier.get(qualifier);
-        if (null != list) {
-            list.remove(attribute);
+        final Set<A> set = attributesPerQualifier.get(qualifier);
+        if (null != set) {
+            set.remove(attribute);
         }
     }
 
@@ -205,32 +200,27 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
         if (null == model) return;
         final String type = model.getPresentationModelType();
         if (Assert.isBlank(type)) return;
-        List<P> list = modelsPerType.get(type);
-        if (null == list) {
-            list = new ArrayList<>();
-            modelsPerType.put(type, list);
-        }
-        if (!list.contains(model)) list.add(model);
+        modelsPerType.computeIfAbsent(type, t -> new LinkedHashSet<>(modelsPerTypeCapacity)).add(model);
     }
 
     protected void removePresentationModelByType(final P model) {
         if (null == model) return;
         final String type = model.getPresentationModelType();
         if (Assert.isBlank(type)) return;
-        final List<P> list = modelsPerType.get(type);
-        if (null == list) return;
-        list.remove(model);
-        if (list.isEmpty()) {
+        final Set<P> set = modelsPerType.get(type);
+        if (null == set) return;
+        set.remove(model);
+        if (set.isEmpty()) {
             modelsPerType.remove(type);
         }
     }
 
     protected void removeAttributeByQualifier(final A attribute, final String qualifier) {
         if (Assert.isBlank(qualifier)) return;
-        final List<A> list = attributesPerQualifier.get(qualifier);
-        if (null == list) return;
-        list.remove(attribute);
-        if (list.isEmpty()) {
+        final Set<A> set = attributesPerQualifier.get(qualifier);
+        if (null == set) return;
+        set.remove(attribute);
+        if (set.isEmpty()) {
             attributesPerQualifier.remove(qualifier);
         }
     }
@@ -248,14 +238,28 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
 
     /**
      * Finds all presentation models that share the same type.<br/>
-     * The returned {@code List} is never null (though it may be empty), and is immutable.
+     * The returned {@code List} is never null (though it may be empty), and is an immutable snapshot.
      *
      * @param type the type to search for
      * @return a {@code List} of all presentation models with the specified type.
      */
     public List<P> findAllPresentationModelsByType(final String type) {
         if (Assert.isBlank(type) || !modelsPerType.containsKey(type)) return Collections.emptyList();
-        return Collections.unmodifiableList(modelsPerType.get(type));
+        return Collections.unmodifiableList(new ArrayList<>(modelsPerType.get(type)));
+    }
+
+    /**
+     * Returns a {@code Collection} of all presentation models that share the same type.<br/>
+     * Never returns {@code null}. The returned {@code Collection} is an immutable view on the store,
+     * so iterating it does not copy the models but it must not be held while models are added or removed.
+     *
+     * @param type the type to search for
+     * @return a {@code Collection} of all presentation models with the specified type.
+     * @see #findAllPresentationModelsByType(String)
+     */
+    public Collection<P> listPresentationModelsByType(final String type) {
+        if (Assert.isBlank(type) || !modelsPerType.containsKey(type)) return Collections.emptySet();
+        return Collections.unmodifiableCollection(modelsPerType.get(type));
     }
 
     /**
@@ -281,13 +285,27 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
 
     /**
      * Returns a {@code List} of all attributes that share the same qualifier.<br/>
-     * Never returns null, but may return an empty list. The returned {@code List} is immutable.
+     * Never returns null, but may return an empty list. The returned {@code List} is an immutable snapshot.
      *
      * @return a {@code List} of all attributes with the specified qualifier.
      */
     public List<A> findAllAttributesByQualifier(final String qualifier) {
         if (Assert.isBlank(qualifier) || !attributesPerQualifier.containsKey(qualifier)) return Collections.emptyList();
-        return Collections.unmodifiableList(attributesPerQualifier.get(qualifier));
+        return Collections.unmodifiableList(new ArrayList<>(attributesPerQualifier.get(qualifier)));
+    }
+
+    /**
+     * Returns a {@code Collection} of all attributes that share the same qualifier.<br/>
+     * Never returns {@code null}. The returned {@code Collection} is an immutable view on the store,
+     * so iterating it does not copy the attributes but it must not be held while qualifiers change.
+     *
+     * @param qualifier the qualifier to search for
+     * @return a {@code Collection} of all attributes with the specified qualifier.
+     * @see #findAllAttributesByQualifier(String)
+     */
+    public Collection<A> listAttributesByQualifier(final String qualifier) {
+        if (Assert.isBlank(qualifier) || !attributesPerQualifier.containsKey(qualifier)) return Collections.emptySet();
+        return Collections.unmodifiableCollection(attributesPerQualifier.get(qualifier));
     }
 
     /**
@@ -355,7 +373,7 @@ public class ModelStore<A extends Attribute, P extends PresentationModel<A>> {
     public void updateQualifiers(final P presentationModel) {
         for (final A source : presentationModel.getAttributes()) {
             if (null == source.getQualifier()) continue;
-            for (final A target : findAllAttributesByQualifier(source.getQualifier())) {
+            for (final A target : listAttributesByQualifier(source.getQualifier())) {
                 target.setValue(source.getValue());
             }
         }
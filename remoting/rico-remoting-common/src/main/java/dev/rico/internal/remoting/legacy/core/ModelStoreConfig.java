@@ -24,12 +24,15 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
 
 
 /**
- * Contains four values which are used in initialization of a ModelStore.  These values specify the
+ * Contains the values which are used in initialization of a ModelStore.  These values specify the
  * initial capacity of the four maps maintained by the ModelStore:
  * <ol><li>pmCapacity: map of presentation models (key: unique PM ID); default is 1024</li>
  * <li>typeCapacity: map of presentation model types(key: PM type, returns a list of all PM's with that type); default 64</li>
  * <li>attributeCapacity: map of attributes (key: unique attribute ID); default is 4096</li>
  * <li>qualifierCapacity: map of attributes (key: qualifier, returns a list of all attributes with that qualifier); default 1024</li></ol>
+ * and the initial capacity of the sets that are created per key of the type and qualifier maps:
+ * <ol><li>modelsPerTypeCapacity: set of all presentation models of one type; default 16</li>
+ * <li>attributesPerQualifierCapacity: set of all attributes with one qualifier; default 4</li></ol>
  */
 @API(since = "0.x", status = DEPRECATED)
 public class ModelStoreConfig {
@@ -40,12 +43,16 @@ public class ModelStoreConfig {
     private int typeCapacity;
     private int attributeCapacity;
     private int qualifierCapacity;
+    private int modelsPerTypeCapacity;
+    private int attributesPerQualifierCapacity;
 
     public ModelStoreConfig() {
         setPmCapacity(1024);
         setTypeCapacity(64);
         setAttributeCapacity(1024 * 4);
         setQualifierCapacity(1024);
+        setModelsPerTypeCapacity(16);
+        setAttributesPerQualifierCapacity(4);
     }
 
     public int getPmCapacity() {
@@ -84,7 +91,25 @@ public class ModelStoreConfig {
         this.qualifierCapacity = qualifierCapacity;
     }
 
-    // all the capacities will be used to initialize HashMaps so they should be powers of two
+    public int getModelsPerTypeCapacity() {
+        return modelsPerTypeCapacity;
+    }
+
+    public void setModelsPerTypeCapacity(final int modelsPerTypeCapacity) {
+        ensurePowerOfTwo("modelsPerTypeCapacity", modelsPerTypeCapacity);
+        this.modelsPerTypeCapacity = modelsPerTypeCapacity;
+    }
+
+    public int getAttributesPerQualifierCapacity() {
+        return attributesPerQualifierCapacity;
+    }
+
+    public void setAttributesPerQualifierCapacity(final int attributesPerQualifierCapacity) {
+        ensurePowerOfTwo("attributesPerQualifierCapacity", attributesPerQualifierCapacity);
+        this.attributesPerQualifierCapacity = attributesPerQualifierCapacity;
+    }
+
+    // all the capacities will be used to initialize HashMaps and HashSets so they should be powers of two
     private void ensurePowerOfTwo(final String parameter, final int number) {
         if (Integer.bitCount(number) > 1) {
             LOG.warn("Parameter {} should be power of two but was {}", parameter, number);
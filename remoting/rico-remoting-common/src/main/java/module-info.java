@@ -44,6 +44,7 @@ module dev.rico.remoting.common {
     exports dev.rico.internal.remoting.legacy.core to dev.rico.remoting.client,
             dev.rico.remoting.server;
     exports dev.rico.internal.remoting.legacy.communication to dev.rico.remoting.client,
+            dev.rico.remoting.client.javafx,
             dev.rico.remoting.server,
             dev.rico.remoting.server.spring.test;
     exports dev.rico.internal.remoting.legacy.commands to dev.rico.remoting.client,
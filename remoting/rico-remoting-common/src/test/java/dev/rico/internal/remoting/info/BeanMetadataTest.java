@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.info;
+
+import dev.rico.internal.remoting.MockedProperty;
+import dev.rico.remoting.ObservableList;
+import dev.rico.remoting.Property;
+import dev.rico.remoting.RemotingBean;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class BeanMetadataTest {
+
+    @Test
+    public void testMetadataIsShared() {
+        Assert.assertSame(BeanMetadata.of(ChildBean.class), BeanMetadata.of(ChildBean.class));
+    }
+
+    @Test
+    public void testInheritedFields() {
+        //when:
+        final BeanMetadata metadata = BeanMetadata.of(ChildBean.class);
+
+        //then:
+        final List<String> properties = metadata.getProperties().stream()
+                .map(BeanMetadata.FieldMetadata::getAttributeName)
+                .collect(Collectors.toList());
+        Assert.assertEquals(properties.size(), 2);
+        Assert.assertTrue(properties.contains("name"));
+        Assert.assertTrue(properties.contains("age"));
+        Assert.assertEquals(metadata.getObservableLists().size(), 1);
+        Assert.assertEquals(metadata.getObservableLists().get(0).getAttributeName(), "values");
+        Assert.assertEquals(metadata.getObservableLists().get(0).getTypeParameter(), String.class);
+    }
+
+    @Test
+    public void testFieldAccess() {
+        //given:
+        final ChildBean bean = new ChildBean();
+        final BeanMetadata.FieldMetadata nameField = BeanMetadata.of(ChildBean.class).getProperties().stream()
+                .filter(f -> f.getAttributeName().equals("name"))
+                .findFirst()
+                .orElseThrow();
+
+        //when:
+        final Property<String> property = nameField.get(bean);
+
+        //then:
+        Assert.assertSame(property, bean.name);
+        Assert.assertEquals(nameField.getTypeParameter(), String.class);
+        Assert.assertTrue(nameField.getField().canAccess(bean));
+    }
+
+    @RemotingBean
+    private static class ParentBean {
+
+        private Property<Integer> age = new MockedProperty<>();
+
+        private ObservableList<String> values;
+
+        private String notRemoted;
+    }
+
+    @RemotingBean
+    private static class ChildBean extends ParentBean {
+
+        private Property<String> name = new MockedProperty<>();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.legacy.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class AttributeLayoutTest {
+
+    @Test
+    public void testModelsOfOneTypeShareLayout() {
+        //given:
+        final BasePresentationModel<TestAttribute> model1 = createModel("1", "AttributeLayoutTest.shared", "a", "b");
+        final BasePresentationModel<TestAttribute> model2 = createModel("2", "AttributeLayoutTest.shared", "a", "b");
+
+        //when:
+        model1._internal_shareLayout();
+        model2._internal_shareLayout();
+
+        //then:
+        Assert.assertSame(getLayout(model1), getLayout(model2));
+    }
+
+    @Test
+    public void testAddAttributeToSharedLayout() {
+        //given:
+        final BasePresentationModel<TestAttribute> model1 = createModel("1", "AttributeLayoutTest.add", "a", "b");
+        final BasePresentationModel<TestAttribute> model2 = createModel("2", "AttributeLayoutTest.add", "a", "b");
+        model1._internal_shareLayout();
+        model2._internal_shareLayout();
+
+        //when:
+        final TestAttribute attribute = new TestAttribute("c");
+        model1._internal_addAttribute(attribute);
+
+        //then:
+        Assert.assertSame(model1.getAttribute("c"), attribute);
+        Assert.assertNull(model2.getAttribute("c"));
+        Assert.assertEquals(model2.getAttributes().size(), 2);
+        Assert.assertNotSame(getLayout(model1), getLayout(model2));
+    }
+
+    @Test
+    public void testModelWithOtherPropertiesDoesNotUseSharedLayout() {
+        //given:
+        final BasePresentationModel<TestAttribute> model1 = createModel("1", "AttributeLayoutTest.other", "a", "b");
+        final BasePresentationModel<TestAttribute> model2 = createModel("2", "AttributeLayoutTest.other", "b", "a");
+
+        //when:
+        model1._internal_shareLayout();
+        model2._internal_shareLayout();
+
+        //then:
+        Assert.assertNotSame(getLayout(model1), getLayout(model2));
+        Assert.assertEquals(model2.getAttribute("a").getPropertyName(), "a");
+        Assert.assertEquals(model2.getAttribute("b").getPropertyName(), "b");
+    }
+
+    @Test
+    public void testLargeModelDoesNotGrowSharedLayouts() {
+        //given:
+        final int sharedLayouts = AttributeLayout.sharedLayoutCount();
+        final BasePresentationModel<TestAttribute> model = new BasePresentationModel<>("1", Collections.<TestAttribute>emptyList());
+        model.setPresentationModelType("AttributeLayoutTest.large");
+
+        //when:
+        for (int i = 0; i < 10_000; i++) {
+            model._internal_addAttribute(new TestAttribute(Integer.toString(i)));
+        }
+        model._internal_shareLayout();
+
+        //then:
+        Assert.assertEquals(AttributeLayout.sharedLayoutCount(), sharedLayouts);
+        Assert.assertEquals(model.getAttributes().size(), 10_000);
+        Assert.assertEquals(model.getAttribute("9999").getPropertyName(), "9999");
+    }
+
+    @Test(priority = 1)
+    public void testNumberOfSharedLayoutsIsLimited() {
+        //when:
+        for (int i = 0; i < 2_000; i++) {
+            createModel(Integer.toString(i), "AttributeLayoutTest.type" + i, "a")._internal_shareLayout();
+        }
+
+        //then:
+        Assert.assertTrue(AttributeLayout.sharedLayoutCount() <= 1024);
+    }
+
+    private static BasePresentationModel<TestAttribute> createModel(final String id, final String type, final String... propertyNames) {
+        final List<TestAttribute> attributes = new ArrayList<>();
+        for (final String propertyName : propertyNames) {
+            attributes.add(new TestAttribute(propertyName));
+        }
+        final BasePresentationModel<TestAttribute> model = new BasePresentationModel<>(id, attributes);
+        model.setPresentationModelType(type);
+        return model;
+    }
+
+    private static AttributeLayout getLayout(final BasePresentationModel<?> model) {
+        try {
+            final Field field = BasePresentationModel.class.getDeclaredField("layout");
+            field.setAccessible(true);
+            return (AttributeLayout) field.get(model);
+        } catch (final ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        private TestAttribute(final String propertyName) {
+            super(propertyName, null, null);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "T";
+        }
+    }
+}
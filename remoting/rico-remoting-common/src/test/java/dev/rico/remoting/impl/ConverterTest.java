@@ -21,6 +21,8 @@ import dev.rico.remoting.converter.Converter;
 import dev.rico.remoting.converter.ValueConverterException;
 import org.testng.annotations.Test;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Date;
 
 import static org.testng.Assert.assertEquals;
@@ -71,6 +73,23 @@ public class ConverterTest {
         checkConversion(converter, Double.MIN_VALUE);
     }
 
+    @Test
+    public void testConvertersOfOtherClassLoader() throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        final int stringFieldType = new Converters(null).getFieldType(String.class);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], contextClassLoader)) {
+            thread.setContextClassLoader(classLoader);
+            Converters converters = new Converters(null);
+            Converter converter = converters.getConverter(String.class);
+
+            checkConversion(converter, "Hello");
+            assertEquals(converters.getFieldType(String.class), stringFieldType);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
     private void checkConversion(Converter converter, Object val) {
         try {
             Object converted = converter.convertToRemoting(val);
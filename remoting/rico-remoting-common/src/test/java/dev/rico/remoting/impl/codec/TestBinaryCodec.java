@@ -0,0 +1,276 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.impl.codec;
+
+import dev.rico.internal.remoting.codec.BinaryCodec;
+import dev.rico.internal.remoting.codec.BinaryCodecException;
+import dev.rico.internal.remoting.codec.BinaryInput;
+import dev.rico.internal.remoting.codec.CommandCodecs;
+import dev.rico.internal.remoting.codec.OptimizedJsonCodec;
+import dev.rico.internal.remoting.commands.CallActionCommand;
+import dev.rico.internal.remoting.commands.CreateContextCommand;
+import dev.rico.internal.remoting.commands.DestroyControllerCommand;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import dev.rico.internal.remoting.legacy.commands.StartLongPollCommand;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
+import dev.rico.internal.remoting.legacy.core.Attribute;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("deprecation")
+public class TestBinaryCodec {
+
+    @Test
+    public void shouldDecodeEmptyStream() throws IOException {
+        final List<Command> commands = BinaryCodec.getInstance().decode(new ByteArrayInputStream(new byte[0]));
+        assertThat(commands, is(empty()));
+    }
+
+    @Test
+    public void shouldRoundTripEmptyList() throws IOException {
+        final List<Command> commands = roundTrip(Collections.emptyList());
+        assertThat(commands, is(empty()));
+    }
+
+    @Test
+    public void shouldRoundTripCommandsWithoutContent() throws IOException {
+        final List<Command> commands = roundTrip(Arrays.asList(new CreateContextCommand(), new StartLongPollCommand()));
+        assertThat(commands, hasSize(2));
+        assertThat(commands.get(0), instanceOf(CreateContextCommand.class));
+        assertThat(commands.get(1), instanceOf(StartLongPollCommand.class));
+    }
+
+    @Test
+    public void shouldWriteToStreamInBlocks() throws IOException {
+        final List<Command> source = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            source.add(new ValueChangedCommand("3357S", i));
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final int[] writeCalls = new int[1];
+        BinaryCodec.getInstance().encode(source, new FilterOutputStream(outputStream) {
+            @Override
+            public void write(final int b) throws IOException {
+                writeCalls[0]++;
+                super.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                writeCalls[0]++;
+                out.write(b, off, len);
+            }
+        });
+
+        assertThat(writeCalls[0], is(1));
+        assertThat(BinaryCodec.getInstance().decode(new ByteArrayInputStream(outputStream.toByteArray())), hasSize(100));
+    }
+
+    @Test
+    public void shouldRoundTripValues() throws IOException {
+        final List<Object> values = Arrays.asList(null, "Hello", "", "äöü €", true, false, 0, 42, -42,
+                Integer.MAX_VALUE, Integer.MIN_VALUE, 987654321234567890L, Long.MIN_VALUE, 7.6, -0.5d, 2.7182f,
+                (short) 12, (byte) -3, new BigDecimal("1234567890.0987654321"), new BigInteger("123456789012345678901234567890"), 'x');
+
+        final List<Command> source = new ArrayList<>();
+        for (final Object value : values) {
+            source.add(new ValueChangedCommand("3357S", value));
+        }
+        final List<Command> commands = roundTrip(source);
+
+        assertThat(commands, hasSize(values.size()));
+        for (int i = 0; i < values.size(); i++) {
+            final ValueChangedCommand command = (ValueChangedCommand) commands.get(i);
+            assertThat(command.getAttributeId(), is("3357S"));
+            assertThat(command.getNewValue(), is(values.get(i)));
+        }
+    }
+
+    @Test
+    public void shouldRoundTripCallActionCommand() throws IOException {
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId("4711");
+        command.setActionName("action");
+        command.addParam("A", 1);
+        command.addParam("B", 7.6);
+        command.addParam("C", true);
+        command.addParam("D", null);
+        command.addParam("E", "Hello");
+
+        final CallActionCommand decoded = (CallActionCommand) roundTrip(Collections.singletonList(command)).get(0);
+
+        assertThat(decoded.getControllerId(), is("4711"));
+        assertThat(decoded.getActionName(), is("action"));
+        assertThat(decoded.getParams(), is(command.getParams()));
+    }
+
+    @Test
+    public void shouldRoundTripListSpliceCommand() throws IOException {
+        final ListSpliceCommand command = new ListSpliceCommand("12S", "items");
+        command.addSplice(0, 3, Arrays.asList("A", null, "C"));
+        command.addSplice(1, 1, Collections.emptyList());
+        command.addSplice(2, 2, Collections.singletonList(42));
+
+        final ListSpliceCommand decoded = (ListSpliceCommand) roundTrip(Collections.singletonList(command)).get(0);
+
+        assertThat(decoded.getSourceId(), is("12S"));
+        assertThat(decoded.getAttributeName(), is("items"));
+        assertThat(decoded.getSplices(), hasSize(3));
+        assertThat(decoded.getSplices().get(0).getFrom(), is(0));
+        assertThat(decoded.getSplices().get(0).getTo(), is(3));
+        assertThat(decoded.getSplices().get(0).getValues(), contains("A", null, "C"));
+        assertThat(decoded.getSplices().get(1).getValues(), is(empty()));
+        assertThat(decoded.getSplices().get(2).getFrom(), is(2));
+        assertThat(decoded.getSplices().get(2).getValues(), contains(42));
+    }
+
+    @Test
+    public void shouldRoundTripCreatePresentationModelCommand() throws IOException {
+        final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+        command.setPmId("05ee43b7-a884-4d42-9fc5-00b083664eed");
+        command.setPmType("dev.rico.SampleBean");
+        command.setAttributes(Arrays.asList(createAttribute("firstName", "1S", "Hugo"), createAttribute("age", "2S", 42)));
+
+        final CreatePresentationModelCommand decoded = (CreatePresentationModelCommand) roundTrip(Collections.singletonList(command)).get(0);
+
+        assertThat(decoded.getPmId(), is(command.getPmId()));
+        assertThat(decoded.getPmType(), is(command.getPmType()));
+        assertThat(decoded.getAttributes(), hasSize(2));
+        assertThat(decoded.getAttributes().get(0).get(Attribute.PROPERTY_NAME), is("firstName"));
+        assertThat(decoded.getAttributes().get(0).get(Attribute.ID), is("1S"));
+        assertThat(decoded.getAttributes().get(0).get(Attribute.VALUE_NAME), is("Hugo"));
+        assertThat(decoded.getAttributes().get(1).get(Attribute.VALUE_NAME), is(42));
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() throws IOException {
+        final List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add(new ValueChangedCommand("3357S", "value"));
+            final DestroyControllerCommand destroyControllerCommand = new DestroyControllerCommand();
+            destroyControllerCommand.setControllerId("4711");
+            commands.add(destroyControllerCommand);
+        }
+        final int jsonSize = OptimizedJsonCodec.getInstance().encode(commands).getBytes(StandardCharsets.UTF_8).length;
+        final int binarySize = encode(commands).length;
+
+        assertThat(binarySize, lessThan(jsonSize / 4));
+    }
+
+    @Test
+    public void shouldNegotiateCodec() {
+        final String acceptHeader = CommandCodecs.createAcceptHeader(true);
+
+        assertThat(CommandCodecs.forAcceptHeader(acceptHeader, true), is(BinaryCodec.getInstance()));
+        assertThat(CommandCodecs.forAcceptHeader(acceptHeader, false), is(OptimizedJsonCodec.getInstance()));
+        assertThat(CommandCodecs.forAcceptHeader(CommandCodecs.createAcceptHeader(false), true), is(OptimizedJsonCodec.getInstance()));
+        assertThat(CommandCodecs.forAcceptHeader(null, true), is(OptimizedJsonCodec.getInstance()));
+        assertThat(CommandCodecs.forContentType(BinaryCodec.CONTENT_TYPE), is(BinaryCodec.getInstance()));
+        assertThat(CommandCodecs.forContentType("application/json;charset=UTF-8"), is(OptimizedJsonCodec.getInstance()));
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void shouldFailOnUnknownVersion() throws IOException {
+        BinaryCodec.getInstance().decode(new ByteArrayInputStream(new byte[]{99, 0}));
+    }
+
+    @Test(expectedExceptions = BinaryCodecException.class)
+    public void shouldRejectHugeCommandCount() throws IOException {
+        // version 1 followed by a command count of Integer.MAX_VALUE
+        BinaryCodec.getInstance().decode(new ByteArrayInputStream(new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}));
+    }
+
+    @Test(expectedExceptions = BinaryCodecException.class)
+    public void shouldRejectNegativeCommandCount() throws IOException {
+        BinaryCodec.getInstance().decode(new ByteArrayInputStream(new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}));
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void shouldFailOnCountThatExceedsInput() throws IOException {
+        // a command count of 1000 without any content
+        BinaryCodec.getInstance().decode(new ByteArrayInputStream(new byte[]{1, (byte) 0xE8, 0x07}));
+    }
+
+    @Test(expectedExceptions = BinaryCodecException.class)
+    public void shouldRejectHugeStringLength() throws IOException {
+        final BinaryInput input = new BinaryInput(new ByteArrayInputStream(new byte[]{1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}));
+        input.readString();
+    }
+
+    @Test(expectedExceptions = EOFException.class)
+    public void shouldFailOnStringLengthThatExceedsInput() throws IOException {
+        // a string of 1 MB with only 2 bytes of content
+        final BinaryInput input = new BinaryInput(new ByteArrayInputStream(new byte[]{1, (byte) 0x80, (byte) 0x80, 0x40, 65, 66}));
+        input.readString();
+    }
+
+    @Test(expectedExceptions = BinaryCodecException.class)
+    public void shouldRejectCountAboveConfiguredLimit() throws IOException {
+        final BinaryInput input = new BinaryInput(new ByteArrayInputStream(new byte[]{11}), 10, 10);
+        input.readCount();
+    }
+
+    @Test(expectedExceptions = BinaryCodecException.class)
+    public void shouldRejectHugeAttributeCount() throws IOException {
+        final byte[] data = encode(Collections.singletonList(new CreatePresentationModelCommand("id", "type", Collections.emptyList())));
+        // replace the attribute count (last byte) by Integer.MAX_VALUE
+        final byte[] malformed = Arrays.copyOf(data, data.length + 4);
+        malformed[data.length - 1] = (byte) 0xFF;
+        malformed[data.length] = (byte) 0xFF;
+        malformed[data.length + 1] = (byte) 0xFF;
+        malformed[data.length + 2] = (byte) 0xFF;
+        malformed[data.length + 3] = 0x07;
+        BinaryCodec.getInstance().decode(new ByteArrayInputStream(malformed));
+    }
+
+    private static Map<String, Object> createAttribute(final String name, final String id, final Object value) {
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put(Attribute.PROPERTY_NAME, name);
+        attribute.put(Attribute.ID, id);
+        attribute.put(Attribute.VALUE_NAME, value);
+        return attribute;
+    }
+
+    private static byte[] encode(final List<? extends Command> commands) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        BinaryCodec.getInstance().encode(commands, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static List<Command> roundTrip(final List<? extends Command> commands) throws IOException {
+        return BinaryCodec.getInstance().decode(new ByteArrayInputStream(encode(commands)));
+    }
+}
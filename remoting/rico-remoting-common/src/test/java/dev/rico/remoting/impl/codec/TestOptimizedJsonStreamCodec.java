@@ -0,0 +1,188 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.impl.codec;
+
+import dev.rico.internal.remoting.codec.OptimizedJsonCodec;
+import dev.rico.internal.remoting.commands.CallActionCommand;
+import dev.rico.internal.remoting.commands.CreateContextCommand;
+import dev.rico.internal.remoting.commands.CreateControllerCommand;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
+import dev.rico.internal.remoting.legacy.core.Attribute;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SuppressWarnings("deprecation")
+public class TestOptimizedJsonStreamCodec {
+
+    @Test
+    public void shouldStreamEmptyList() throws IOException {
+        assertThat(encode(Collections.emptyList()), is("[]"));
+        assertThat(decode("[]"), is(empty()));
+    }
+
+    @Test
+    public void shouldWriteIdAsFirstMember() throws IOException {
+        final String actual = encode(Collections.singletonList(new ValueChangedCommand("3357S", 42)));
+        assertThat(actual, is("[{\"id\":\"ValueChanged\",\"a_id\":\"3357S\",\"v\":42}]"));
+    }
+
+    @Test
+    public void shouldRoundTripCreatePresentationModelCommands() throws IOException {
+        final List<Command> source = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final CreatePresentationModelCommand command = new CreatePresentationModelCommand();
+            command.setPmId("pm-" + i);
+            command.setPmType("dev.rico.SampleBean");
+            command.setAttributes(Arrays.asList(createAttribute("name", i + "-1", "Hugo " + i), createAttribute("age", i + "-2", i), createAttribute("empty", i + "-3", null)));
+            source.add(command);
+        }
+
+        final List<Command> commands = decode(encode(source));
+
+        assertThat(commands, hasSize(1000));
+        final CreatePresentationModelCommand last = (CreatePresentationModelCommand) commands.get(999);
+        assertThat(last.getPmId(), is("pm-999"));
+        assertThat(last.getPmType(), is("dev.rico.SampleBean"));
+        assertThat(last.getAttributes(), hasSize(3));
+        assertThat(last.getAttributes().get(0).get(Attribute.VALUE_NAME), is("Hugo 999"));
+        assertThat(((Number) last.getAttributes().get(1).get(Attribute.VALUE_NAME)).intValue(), is(999));
+        assertThat(last.getAttributes().get(2).get(Attribute.VALUE_NAME), nullValue());
+    }
+
+    @Test
+    public void shouldRoundTripControllerCommands() throws IOException {
+        final Map<String, Serializable> parameters = new HashMap<>();
+        parameters.put("text", "Hello");
+        parameters.put("count", 7);
+        parameters.put("amount", new BigDecimal("12.50"));
+        parameters.put("nothing", null);
+        final CreateControllerCommand createController = new CreateControllerCommand();
+        createController.setControllerName("SampleController");
+        createController.setParameters(parameters);
+
+        final CallActionCommand callAction = new CallActionCommand();
+        callAction.setControllerId("4711");
+        callAction.setActionName("action");
+        callAction.addParam("A", true);
+        callAction.addParam("B", null);
+
+        final List<Command> commands = decode(encode(Arrays.asList(new CreateContextCommand(), createController, callAction)));
+
+        assertThat(commands, hasSize(3));
+        assertThat(commands.get(0), instanceOf(CreateContextCommand.class));
+        final CreateControllerCommand decodedController = (CreateControllerCommand) commands.get(1);
+        assertThat(decodedController.getParentControllerId(), nullValue());
+        assertThat(decodedController.getControllerName(), is("SampleController"));
+        assertThat(decodedController.getParameters(), is(parameters));
+        final CallActionCommand decodedAction = (CallActionCommand) commands.get(2);
+        assertThat(decodedAction.getControllerId(), is("4711"));
+        assertThat(decodedAction.getActionName(), is("action"));
+        assertThat(decodedAction.getParams(), is(callAction.getParams()));
+    }
+
+    @Test
+    public void shouldEncodeListSpliceCommandAsArrays() throws IOException {
+        final ListSpliceCommand command = new ListSpliceCommand("12S", "items");
+        command.addSplice(0, 2, Arrays.asList("A", null));
+        command.addSplice(5, 5, Collections.emptyList());
+
+        final String json = encode(Collections.singletonList(command));
+
+        assertThat(json, is("[{\"id\":\"ListSplice\",\"s_id\":\"12S\",\"n\":\"items\",\"f\":[0,5],\"to\":[2,5],\"v\":[[\"A\",null],[]]}]"));
+        for (final List<Command> commands : Arrays.asList(decode(json), OptimizedJsonCodec.getInstance().decode(json))) {
+            final ListSpliceCommand decoded = (ListSpliceCommand) commands.get(0);
+            assertThat(decoded.getSourceId(), is("12S"));
+            assertThat(decoded.getAttributeName(), is("items"));
+            assertThat(decoded.getSplices(), hasSize(2));
+            assertThat(decoded.getSplices().get(0).getValues(), contains("A", null));
+            assertThat(decoded.getSplices().get(1).getFrom(), is(5));
+            assertThat(decoded.getSplices().get(1).getTo(), is(5));
+            assertThat(decoded.getSplices().get(1).getValues(), is(empty()));
+        }
+    }
+
+    @Test
+    public void shouldDecodeCommandsWithIdAtTheEnd() throws IOException {
+        final CallActionCommand command = new CallActionCommand();
+        command.setControllerId("4711");
+        command.setActionName("action");
+        command.addParam("A", "Hello");
+        final String json = OptimizedJsonCodec.getInstance().encode(Arrays.asList(command, new ValueChangedCommand("3357S", "value")));
+
+        final List<Command> commands = decode(json);
+
+        assertThat(commands, hasSize(2));
+        assertThat(((CallActionCommand) commands.get(0)).getParams().get("A"), is("Hello"));
+        assertThat(((ValueChangedCommand) commands.get(1)).getNewValue(), is("value"));
+    }
+
+    @Test
+    public void shouldBeReadableByStringDecoder() throws IOException {
+        final String json = encode(Collections.singletonList(new ValueChangedCommand("3357S", "value")));
+
+        final List<Command> commands = OptimizedJsonCodec.getInstance().decode(json);
+
+        assertThat(commands, hasSize(1));
+        assertThat(((ValueChangedCommand) commands.get(0)).getAttributeId(), is("3357S"));
+        assertThat(((ValueChangedCommand) commands.get(0)).getNewValue(), is("value"));
+    }
+
+    @Test
+    public void shouldIgnoreUnknownMembers() throws IOException {
+        final List<Command> commands = decode("[{\"id\":\"ValueChanged\",\"unknown\":{\"a\":[1,2]},\"a_id\":\"3357S\"}]");
+
+        assertThat(commands, hasSize(1));
+        assertThat(((ValueChangedCommand) commands.get(0)).getAttributeId(), is("3357S"));
+        assertThat(((ValueChangedCommand) commands.get(0)).getNewValue(), nullValue());
+    }
+
+    private static Map<String, Object> createAttribute(final String name, final String id, final Object value) {
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put(Attribute.PROPERTY_NAME, name);
+        attribute.put(Attribute.ID, id);
+        attribute.put(Attribute.VALUE_NAME, value);
+        return attribute;
+    }
+
+    private static String encode(final List<? extends Command> commands) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        OptimizedJsonCodec.getInstance().encode(commands, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<Command> decode(final String json) throws IOException {
+        return OptimizedJsonCodec.getInstance().decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.legacy;
+
+import dev.rico.internal.remoting.legacy.core.Attribute;
+import dev.rico.internal.remoting.legacy.core.BaseAttribute;
+import dev.rico.internal.remoting.legacy.core.BasePresentationModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BasePresentationModelTest {
+
+    @Test
+    public void testAttributeLookup() {
+        //given:
+        final TestAttribute first = new TestAttribute("first", "q1");
+        final TestAttribute second = new TestAttribute("second", null);
+        final BasePresentationModel<TestAttribute> model = new BasePresentationModel<>("1", Arrays.asList(first, second));
+
+        //when:
+        final TestAttribute third = new TestAttribute("third", "q3");
+        model._internal_addAttribute(third);
+
+        //then:
+        Assert.assertEquals(model.getAttributes(), Arrays.asList(first, second, third));
+        Assert.assertSame(model.getAttribute("first"), first);
+        Assert.assertSame(model.getAttribute("second"), second);
+        Assert.assertSame(model.getAttribute("third"), third);
+        Assert.assertNull(model.getAttribute("unknown"));
+        Assert.assertNull(model.getAttribute(null));
+        Assert.assertSame(model.findAttributeByQualifier("q3"), third);
+        Assert.assertSame(model.findAttributeById(second.getId()), second);
+        Assert.assertSame(first.getPresentationModel(), model);
+    }
+
+    @Test
+    public void testModelsWithDifferentOrderOfProperties() {
+        //given:
+        final BasePresentationModel<TestAttribute> model1 = new BasePresentationModel<>("1", Arrays.asList(new TestAttribute("a", null), new TestAttribute("b", null)));
+        final BasePresentationModel<TestAttribute> model2 = new BasePresentationModel<>("2", Arrays.asList(new TestAttribute("b", null), new TestAttribute("a", null)));
+
+        //then:
+        Assert.assertEquals(model1.getAttribute("a").getPropertyName(), "a");
+        Assert.assertEquals(model1.getAttribute("b").getPropertyName(), "b");
+        Assert.assertEquals(model2.getAttribute("a").getPropertyName(), "a");
+        Assert.assertEquals(model2.getAttribute("b").getPropertyName(), "b");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testDuplicatePropertyName() {
+        new BasePresentationModel<>("1", Arrays.asList(new TestAttribute("a", null), new TestAttribute("a", null)));
+    }
+
+    @Test
+    public void testAttributeListeners() {
+        //given:
+        final TestAttribute attribute = new TestAttribute("a", null);
+        final List<PropertyChangeEvent> allEvents = new ArrayList<>();
+        final List<PropertyChangeEvent> valueEvents = new ArrayList<>();
+        final PropertyChangeListener allListener = allEvents::add;
+        final PropertyChangeListener valueListener = valueEvents::add;
+
+        //when:
+        attribute.addPropertyChangeListener(allListener);
+        attribute.addPropertyChangeListener(allListener);
+        attribute.addPropertyChangeListener(Attribute.VALUE_NAME, valueListener);
+        attribute.setValue("1");
+        attribute.setValue("1");
+        attribute.setQualifier("q");
+
+        //then:
+        Assert.assertEquals(allEvents.size(), 2);
+        Assert.assertEquals(valueEvents.size(), 1);
+        Assert.assertEquals(valueEvents.get(0).getNewValue(), "1");
+        Assert.assertEquals(attribute.getPropertyChangeListeners().length, 2);
+        Assert.assertEquals(attribute.getPropertyChangeListeners(Attribute.VALUE_NAME).length, 1);
+
+        //when:
+        attribute.removePropertyChangeListener(allListener);
+        attribute.removePropertyChangeListener(Attribute.VALUE_NAME, valueListener);
+        attribute.setValue("2");
+
+        //then:
+        Assert.assertEquals(allEvents.size(), 2);
+        Assert.assertEquals(valueEvents.size(), 1);
+        Assert.assertEquals(attribute.getPropertyChangeListeners().length, 0);
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        private TestAttribute(final String propertyName, final String qualifier) {
+            super(propertyName, null, qualifier);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "T";
+        }
+    }
+}
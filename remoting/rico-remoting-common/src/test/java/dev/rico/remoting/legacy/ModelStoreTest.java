@@ -16,13 +16,18 @@
  */
 package dev.rico.remoting.legacy;
 
+import dev.rico.internal.remoting.legacy.core.BaseAttribute;
 import dev.rico.internal.remoting.legacy.core.BasePresentationModel;
 import dev.rico.internal.remoting.legacy.core.ModelStore;
+import dev.rico.internal.remoting.legacy.core.ModelStoreConfig;
 import dev.rico.internal.remoting.legacy.core.ModelStoreEvent;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public class ModelStoreTest {
     @Test
@@ -65,4 +70,149 @@ public class ModelStoreTest {
         Assert.assertNull(parentStoreListener.getEvent());
     }
 
+    @Test
+    public void testTypeIndexWithManyModels() {
+        //given:
+        final int count = 50_000;
+        final ModelStore<BaseAttribute, BasePresentationModel<BaseAttribute>> modelStore = new ModelStore<>();
+        final List<BasePresentationModel<BaseAttribute>> models = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final BasePresentationModel<BaseAttribute> model = new BasePresentationModel<>("pm" + i, Collections.emptyList());
+            model.setPresentationModelType("type");
+            models.add(model);
+            modelStore.add(model);
+        }
+
+        //when:
+        for (int i = 0; i < count; i += 2) {
+            Assert.assertTrue(modelStore.remove(models.get(i)));
+        }
+
+        //then:
+        final List<BasePresentationModel<BaseAttribute>> remaining = modelStore.findAllPresentationModelsByType("type");
+        Assert.assertEquals(remaining.size(), count / 2);
+        Assert.assertEquals(remaining.get(0), models.get(1));
+        Assert.assertEquals(remaining.get(remaining.size() - 1), models.get(count - 1));
+        Assert.assertFalse(modelStore.remove(models.get(0)));
+        Assert.assertFalse(modelStore.remove(new BasePresentationModel<>("pm1", Collections.emptyList())));
+        Assert.assertEquals(modelStore.findAllPresentationModelsByType("type").size(), count / 2);
+
+        //when:
+        for (int i = 1; i < count; i += 2) {
+            modelStore.remove(models.get(i));
+        }
+
+        //then:
+        Assert.assertTrue(modelStore.findAllPresentationModelsByType("type").isEmpty());
+        Assert.assertFalse(modelStore.containsPresentationModel("pm1"));
+    }
+
+    @Test
+    public void testQualifierIndex() {
+        //given:
+        final ModelStore<BaseAttribute, BasePresentationModel<BaseAttribute>> modelStore = new ModelStore<>();
+        final BaseAttribute first = new TestAttribute("a", "q1");
+        final BaseAttribute second = new TestAttribute("b", "q1");
+        modelStore.add(new BasePresentationModel<>("pm1", Collections.singletonList(first)));
+        final BasePresentationModel<BaseAttribute> model = new BasePresentationModel<>("pm2", Collections.singletonList(second));
+        modelStore.add(model);
+
+        //then:
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q1").size(), 2);
+
+        //when:
+        second.setQualifier("q2");
+
+        //then:
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q1"), Collections.singletonList(first));
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q2"), Collections.singletonList(second));
+
+        //when:
+        modelStore.remove(model);
+
+        //then:
+        Assert.assertTrue(modelStore.findAllAttributesByQualifier("q2").isEmpty());
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q1").size(), 1);
+    }
+
+    @Test
+    public void testIndexViews() {
+        //given:
+        final ModelStore<BaseAttribute, BasePresentationModel<BaseAttribute>> modelStore = new ModelStore<>();
+        final BaseAttribute attribute = new TestAttribute("a", "q1");
+        final BasePresentationModel<BaseAttribute> model = new BasePresentationModel<>("pm1", Collections.singletonList(attribute));
+        model.setPresentationModelType("type");
+
+        //when:
+        final Collection<BasePresentationModel<BaseAttribute>> models = modelStore.listPresentationModelsByType("type");
+        final Collection<BaseAttribute> attributes = modelStore.listAttributesByQualifier("q1");
+
+        //then:
+        Assert.assertTrue(models.isEmpty());
+        Assert.assertTrue(attributes.isEmpty());
+
+        //when:
+        modelStore.add(model);
+
+        //then:
+        Assert.assertEquals(modelStore.listPresentationModelsByType("type"), Collections.singleton(model));
+        Assert.assertSame(modelStore.listPresentationModelsByType("type").iterator().next(), model);
+        Assert.assertSame(modelStore.listAttributesByQualifier("q1").iterator().next(), attribute);
+        try {
+            modelStore.listPresentationModelsByType("type").clear();
+            Assert.fail("view must not be modifiable");
+        } catch (final UnsupportedOperationException expected) {
+            // expected
+        }
+
+        //when:
+        modelStore.remove(model);
+
+        //then:
+        Assert.assertTrue(modelStore.listPresentationModelsByType("type").isEmpty());
+        Assert.assertTrue(modelStore.listAttributesByQualifier("q1").isEmpty());
+    }
+
+    @Test
+    public void testCapacityHints() {
+        //given:
+        final ModelStoreConfig config = new ModelStoreConfig();
+
+        //then:
+        Assert.assertEquals(config.getModelsPerTypeCapacity(), 16);
+        Assert.assertEquals(config.getAttributesPerQualifierCapacity(), 4);
+
+        //when:
+        config.setPmCapacity(2);
+        config.setTypeCapacity(1);
+        config.setAttributeCapacity(2);
+        config.setQualifierCapacity(1);
+        config.setModelsPerTypeCapacity(1);
+        config.setAttributesPerQualifierCapacity(1);
+        final ModelStore<BaseAttribute, BasePresentationModel<BaseAttribute>> modelStore = new ModelStore<>(config);
+        for (int i = 0; i < 100; i++) {
+            final BasePresentationModel<BaseAttribute> model = new BasePresentationModel<>("pm" + i, Collections.singletonList(new TestAttribute("a", "q")));
+            model.setPresentationModelType("type");
+            modelStore.add(model);
+        }
+
+        //then:
+        Assert.assertEquals(config.getModelsPerTypeCapacity(), 1);
+        Assert.assertEquals(config.getAttributesPerQualifierCapacity(), 1);
+        Assert.assertEquals(modelStore.findAllPresentationModelsByType("type").size(), 100);
+        Assert.assertEquals(modelStore.findAllAttributesByQualifier("q").size(), 100);
+        Assert.assertEquals(modelStore.findAllPresentationModelsByType("type").get(99).getId(), "pm99");
+    }
+
+    private static class TestAttribute extends BaseAttribute {
+
+        private TestAttribute(final String propertyName, final String qualifier) {
+            super(propertyName, null, qualifier);
+        }
+
+        @Override
+        public String getOrigin() {
+            return "T";
+        }
+    }
 }
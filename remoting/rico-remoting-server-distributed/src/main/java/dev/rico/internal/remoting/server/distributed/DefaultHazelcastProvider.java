@@ -59,10 +59,14 @@ public class DefaultHazelcastProvider implements HazelcastProvider {
             clientConfig.getGroupConfig().setName(groupName);
             clientConfig.setProperty(LOGGER_PROPERTY_NAME, LOGGER_PROPERTY_SLF4J_TYPE);
 
+            final EventStreamSerializer eventSerializer = new EventStreamSerializer();
             final SerializerConfig eventSerializerConfig = new SerializerConfig().
-                    setImplementation(new EventStreamSerializer()).setTypeClass(MessageEventImpl.class);
+                    setImplementation(eventSerializer).setTypeClass(MessageEventImpl.class);
+            final SerializerConfig batchSerializerConfig = new SerializerConfig().
+                    setImplementation(new EventBatchStreamSerializer(eventSerializer)).setTypeClass(EventBatch.class);
 
             clientConfig.getSerializationConfig().getSerializerConfigs().add(eventSerializerConfig);
+            clientConfig.getSerializationConfig().getSerializerConfigs().add(batchSerializerConfig);
 
 
             hazelcastInstance = HazelcastClient.newHazelcastClient(clientConfig);
@@ -19,6 +19,12 @@ package dev.rico.internal.remoting.server.distributed;
 import dev.rico.internal.remoting.server.event.AbstractEventBus;
 import dev.rico.internal.remoting.server.event.MessageEventImpl;
 import dev.rico.internal.core.Assert;
+import dev.rico.internal.core.SimpleThreadFactory;
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.core.lang.StringPair;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Timer;
+import dev.rico.remoting.server.distributed.TopicBatching;
 import dev.rico.core.functional.Subscription;
 import dev.rico.remoting.server.event.MessageEventContext;
 import dev.rico.remoting.server.event.MessageListener;
@@ -28,12 +34,20 @@ import com.hazelcast.core.ITopic;
 import org.apiguardian.api.API;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.PUBLISH_TIME_METRIC_NAME;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.TOPIC_TAG;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -47,14 +61,55 @@ public class DistributedEventBus extends AbstractEventBus {
 
     private final Lock hazelcastEventPipeLock = new ReentrantLock();
 
+    private final Metrics metrics;
+
+    private final Map<String, Timer> publishTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, TopicBatcher<?>> batchers = new HashMap<>();
+
+    private final ScheduledExecutorService batchScheduler;
+
     public DistributedEventBus(final HazelcastInstance hazelcastClient) {
+        this(hazelcastClient, Collections.emptyList(), MetricsImpl.getInstance());
+    }
+
+    public DistributedEventBus(final HazelcastInstance hazelcastClient, final List<TopicBatching<?>> batchings, final Metrics metrics) {
         this.hazelcastClient = Assert.requireNonNull(hazelcastClient, "hazelcastClient");
+        this.metrics = Assert.requireNonNull(metrics, "metrics");
+        Assert.requireNonNull(batchings, "batchings");
+        if (batchings.isEmpty()) {
+            batchScheduler = null;
+        } else {
+            batchScheduler = Executors.newSingleThreadScheduledExecutor(new SimpleThreadFactory(true));
+            batchings.forEach(this::addBatcher);
+        }
     }
 
+    private <T extends Serializable> void addBatcher(final TopicBatching<T> batching) {
+        final String topicName = batching.getTopic().getName();
+        if (batchers.containsKey(topicName)) {
+            throw new IllegalStateException("More than one batching defined for topic " + topicName);
+        }
+        batchers.put(topicName, new TopicBatcher<>(batching, b -> publish(toHazelcastTopic(b.getTopic()), b), batchScheduler, metrics));
+    }
+
+    @SuppressWarnings("unchecked")
     protected <T extends Serializable> void publishForOtherSessions(final MessageEventImpl<T> event) {
         Assert.requireNonNull(event, "event");
-        final ITopic<MessageEventImpl<T>> topic = toHazelcastTopic(event.getMessageEventContext().getTopic());
-        topic.publish(event);
+        final Topic<T> topic = event.getMessageEventContext().getTopic();
+        final TopicBatcher<T> batcher = (TopicBatcher<T>) batchers.get(topic.getName());
+        if (batcher != null) {
+            batcher.add(event);
+        } else {
+            publish(toHazelcastTopic(topic), event);
+        }
+    }
+
+    private void publish(final ITopic<Object> topic, final Object message) {
+        final long startTime = System.nanoTime();
+        topic.publish(message);
+        publishTimers.computeIfAbsent(topic.getName(), name -> metrics.getOrCreateTimer(PUBLISH_TIME_METRIC_NAME, StringPair.of(TOPIC_TAG, name)))
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
     }
 
     @Override
@@ -73,7 +128,7 @@ public class DistributedEventBus extends AbstractEventBus {
     private <T extends Serializable> Subscription createHazelcastSubscription(final Topic<T> topic) {
         hazelcastEventPipeLock.lock();
         try {
-            final ITopic<MessageEventImpl<T>> hazelcastTopic = toHazelcastTopic(topic);
+            final ITopic<Object> hazelcastTopic = toHazelcastTopic(topic);
             Assert.requireNonNull(hazelcastTopic, "hazelcastTopic");
 
             final Integer currentCount = iTopicCount.get(topic.getName());
@@ -99,16 +154,22 @@ public class DistributedEventBus extends AbstractEventBus {
         }
     }
 
-    private <T extends Serializable> void registerHazelcastEventPipe(final ITopic<MessageEventImpl<T>> topic) {
+    @SuppressWarnings("unchecked")
+    private void registerHazelcastEventPipe(final ITopic<Object> topic) {
         hazelcastEventPipeLock.lock();
         try {
             Assert.requireNonNull(topic, "hazelcastTopic");
 
             final String registrationId = topic.addMessageListener(new com.hazelcast.core.MessageListener<>() {
                 @Override
-                public void onMessage(com.hazelcast.core.Message<MessageEventImpl<T>> message) {
-                    final MessageEventImpl<T> event = message.getMessageObject();
-                    triggerEventHandling(event);
+                public void onMessage(com.hazelcast.core.Message<Object> message) {
+                    final Object messageObject = message.getMessageObject();
+                    if (messageObject instanceof EventBatch) {
+                        final EventBatch<Serializable> batch = (EventBatch<Serializable>) messageObject;
+                        triggerEventHandling(batch.getTopic(), batch.getEvents());
+                    } else {
+                        triggerEventHandling((MessageEventImpl<?>) messageObject);
+                    }
                 }
             });
             Assert.requireNonBlank(registrationId, "registrationId");
@@ -120,7 +181,7 @@ public class DistributedEventBus extends AbstractEventBus {
         }
     }
 
-    private <T extends Serializable> void unregisterHazelcastEventPipe(final ITopic<MessageEventImpl<T>> topic) {
+    private void unregisterHazelcastEventPipe(final ITopic<Object> topic) {
         hazelcastEventPipeLock.lock();
         try {
             Assert.requireNonNull(topic, "hazelcastTopic");
@@ -142,7 +203,7 @@ public class DistributedEventBus extends AbstractEventBus {
         }
     }
 
-    private <T extends Serializable> ITopic<MessageEventImpl<T>> toHazelcastTopic(final Topic<T> topic) {
+    private ITopic<Object> toHazelcastTopic(final Topic<?> topic) {
         return hazelcastClient.getTopic(topic.getName());
     }
 
@@ -17,7 +17,10 @@
 package dev.rico.internal.remoting.server.distributed;
 
 import dev.rico.internal.remoting.server.config.RemotingConfiguration;
+import dev.rico.internal.metrics.MetricsImpl;
 import dev.rico.remoting.server.distributed.HazelcastProvider;
+import dev.rico.remoting.server.distributed.TopicBatching;
+import dev.rico.remoting.server.distributed.TopicBatchingProvider;
 import dev.rico.remoting.server.event.RemotingEventBus;
 import dev.rico.remoting.server.event.spi.EventBusProvider;
 import org.apiguardian.api.API;
@@ -60,6 +63,13 @@ public class DistributedEventBusProvider implements EventBusProvider {
 
         LOG.debug("Using Hazelcast provider {}", provider.getClass());
 
-        return new DistributedEventBus(provider.getHazelcastInstance(new DefaultHazelcastConfig(configuration.getConfiguration())));
+        final List<TopicBatching<?>> batchings = ServiceLoader.load(TopicBatchingProvider.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .flatMap(p -> p.getTopicBatchings().stream())
+                .collect(Collectors.toList());
+
+        LOG.debug("Using batching for {} topics", batchings.size());
+
+        return new DistributedEventBus(provider.getHazelcastInstance(new DefaultHazelcastConfig(configuration.getConfiguration())), batchings, MetricsImpl.getInstance());
     }
 }
@@ -23,24 +23,26 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "1.0.0.RC1", status = INTERNAL)
 public interface DistributedEventConstants {
 
-    String SPEC_VERSION_PARAM = "shared-event-spec-version";
+    byte SPEC_2_0 = 2;
 
-    String SPEC_1_0 = "1.0";
+    int TYPE_ID = 4712;
 
-    int TYPE_ID = 4711;
+    int BATCH_TYPE_ID = 4713;
 
-    String DATA_PARAM = "data";
+    int NULL_CODEC_ID = -1;
 
-    String CONTEXT_PARAM = "context";
+    int JAVA_SERIALIZATION_CODEC_ID = 0;
 
-    String TOPIC_PARAM = "topic";
+    String TOPIC_TAG = "topic";
 
-    String TIMESTAMP_PARAM = "timestamp";
+    String PUBLISH_TIME_METRIC_NAME = "rico.remoting.distributed.publishTime";
 
-    String METADATA_PARAM = "metadata";
+    String BATCHES_METRIC_NAME = "rico.remoting.distributed.batches";
 
-    String METADATA_KEY_PARAM = "key";
+    String BATCHED_EVENTS_METRIC_NAME = "rico.remoting.distributed.batchedEvents";
 
-    String METADATA_VALUE_PARAM = "value";
+    String COALESCED_EVENTS_METRIC_NAME = "rico.remoting.distributed.coalescedEvents";
+
+    String BATCH_SIZE_METRIC_NAME = "rico.remoting.distributed.batchSize";
 
 }
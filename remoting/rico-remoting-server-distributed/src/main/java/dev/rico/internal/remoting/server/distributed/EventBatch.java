@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.distributed;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.server.event.MessageEventImpl;
+import dev.rico.remoting.server.event.Topic;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "2.1.0", status = INTERNAL)
+public class EventBatch<T extends Serializable> {
+
+    private final Topic<T> topic;
+
+    private final List<MessageEventImpl<T>> events;
+
+    public EventBatch(final Topic<T> topic, final List<MessageEventImpl<T>> events) {
+        this.topic = Assert.requireNonNull(topic, "topic");
+        this.events = Collections.unmodifiableList(Assert.requireNonNull(events, "events"));
+    }
+
+    public Topic<T> getTopic() {
+        return topic;
+    }
+
+    public List<MessageEventImpl<T>> getEvents() {
+        return events;
+    }
+}
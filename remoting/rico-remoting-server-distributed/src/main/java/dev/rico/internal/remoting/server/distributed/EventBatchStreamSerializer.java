@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.distributed;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.server.event.MessageEventImpl;
+import dev.rico.remoting.server.event.Topic;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.BATCH_TYPE_ID;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.SPEC_2_0;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Serializer for an {@link EventBatch}. The batch is written as the spec version byte, the topic name and the
+ * number of events followed by the content of each event as it is written by {@link EventStreamSerializer}.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class EventBatchStreamSerializer implements StreamSerializer<EventBatch<?>> {
+
+    private final EventStreamSerializer eventSerializer;
+
+    public EventBatchStreamSerializer(final EventStreamSerializer eventSerializer) {
+        this.eventSerializer = Assert.requireNonNull(eventSerializer, "eventSerializer");
+    }
+
+    public EventBatchStreamSerializer() {
+        this(new EventStreamSerializer());
+    }
+
+    @Override
+    public void write(final ObjectDataOutput out, final EventBatch<?> batch) throws IOException {
+        out.writeByte(SPEC_2_0);
+        out.writeUTF(batch.getTopic().getName());
+        out.writeInt(batch.getEvents().size());
+        for (final MessageEventImpl<?> event : batch.getEvents()) {
+            eventSerializer.writeEventContent(out, event);
+        }
+    }
+
+    @Override
+    public EventBatch<?> read(final ObjectDataInput in) throws IOException {
+        eventSerializer.checkSpecVersion(in);
+        return readBatch(in, new Topic<>(in.readUTF()));
+    }
+
+    private <T extends Serializable> EventBatch<T> readBatch(final ObjectDataInput in, final Topic<T> topic) throws IOException {
+        final int count = in.readInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Input can not be parsed! Batch size can not be parsed");
+        }
+        final List<MessageEventImpl<T>> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(eventSerializer.readEventContent(in, topic));
+        }
+        return new EventBatch<>(topic, events);
+    }
+
+    @Override
+    public int getTypeId() {
+        return BATCH_TYPE_ID;
+    }
+
+    @Override
+    public void destroy() {
+
+    }
+}
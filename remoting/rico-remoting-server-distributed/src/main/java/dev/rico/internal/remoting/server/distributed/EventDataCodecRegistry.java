@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.distributed;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.remoting.server.distributed.EventDataCodec;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "2.1.0", status = INTERNAL)
+public class EventDataCodecRegistry {
+
+    private final EventDataCodec<Serializable> defaultCodec = new JavaSerializationEventDataCodec();
+
+    private final Map<Integer, EventDataCodec<?>> codecsById = new ConcurrentHashMap<>();
+
+    private final List<EventDataCodec<?>> codecs = new CopyOnWriteArrayList<>();
+
+    private final Map<Class<?>, EventDataCodec<?>> codecsByType = new ConcurrentHashMap<>();
+
+    public EventDataCodecRegistry() {
+        codecsById.put(defaultCodec.getId(), defaultCodec);
+    }
+
+    public static EventDataCodecRegistry load() {
+        final EventDataCodecRegistry registry = new EventDataCodecRegistry();
+        ServiceLoader.load(EventDataCodec.class).forEach(registry::register);
+        return registry;
+    }
+
+    public void register(final EventDataCodec<?> codec) {
+        Assert.requireNonNull(codec, "codec");
+        Assert.requireNonNull(codec.getDataType(), "codec.dataType");
+        if (codec.getId() <= 0) {
+            throw new IllegalArgumentException("Codec id must be positive: " + codec.getClass());
+        }
+        final EventDataCodec<?> existing = codecsById.putIfAbsent(codec.getId(), codec);
+        if (existing != null) {
+            throw new IllegalStateException("Codec id " + codec.getId() + " is used by " + existing.getClass() + " and " + codec.getClass());
+        }
+        codecs.add(codec);
+        codecsByType.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> EventDataCodec<T> getCodecFor(final T data) {
+        Assert.requireNonNull(data, "data");
+        return (EventDataCodec<T>) codecsByType.computeIfAbsent(data.getClass(), this::findCodec);
+    }
+
+    @SuppressWarnings("unchecked")
+    public EventDataCodec<Serializable> getCodec(final int id) {
+        final EventDataCodec<?> codec = codecsById.get(id);
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec registered for id " + id);
+        }
+        return (EventDataCodec<Serializable>) codec;
+    }
+
+    private EventDataCodec<?> findCodec(final Class<?> type) {
+        for (final EventDataCodec<?> codec : codecs) {
+            if (codec.getDataType() == type) {
+                return codec;
+            }
+        }
+        for (final EventDataCodec<?> codec : codecs) {
+            if (codec.getDataType().isAssignableFrom(type)) {
+                return codec;
+            }
+        }
+        return defaultCodec;
+    }
+}
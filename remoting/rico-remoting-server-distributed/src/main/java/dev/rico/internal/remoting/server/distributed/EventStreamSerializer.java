@@ -18,15 +18,9 @@ package dev.rico.internal.remoting.server.distributed;
 
 import dev.rico.internal.remoting.server.event.MessageEventImpl;
 import dev.rico.internal.core.Assert;
+import dev.rico.remoting.server.distributed.EventDataCodec;
 import dev.rico.remoting.server.event.MessageEventContext;
 import dev.rico.remoting.server.event.Topic;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.StreamSerializer;
@@ -34,179 +28,105 @@ import org.apiguardian.api.API;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.Iterator;
 import java.util.Map;
 
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.CONTEXT_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.DATA_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.METADATA_KEY_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.METADATA_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.METADATA_VALUE_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.SPEC_1_0;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.SPEC_VERSION_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.TIMESTAMP_PARAM;
-import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.TOPIC_PARAM;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.NULL_CODEC_ID;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.SPEC_2_0;
 import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.TYPE_ID;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+/**
+ * Binary serializer for events of the distributed event bus. An event is written as
+ * <ul>
+ *     <li>the spec version byte</li>
+ *     <li>the topic name and the timestamp</li>
+ *     <li>the payload</li>
+ *     <li>the number of metadata entries followed by the key and the value of each entry</li>
+ * </ul>
+ * Each value (metadata value or payload) is written as the id of its {@link EventDataCodec} (or {@link DistributedEventConstants#NULL_CODEC_ID})
+ * followed by the data that is written by the codec.
+ */
 @API(since = "1.0.0.RC1", status = INTERNAL)
 public class EventStreamSerializer implements StreamSerializer<MessageEventImpl<?>> {
 
-    private final Gson gson;
+    private final EventDataCodecRegistry codecRegistry;
 
-    private EventStreamSerializer(final Gson gson) {
-        this.gson = Assert.requireNonNull(gson, "gson");
+    public EventStreamSerializer(final EventDataCodecRegistry codecRegistry) {
+        this.codecRegistry = Assert.requireNonNull(codecRegistry, "codecRegistry");
     }
 
     public EventStreamSerializer() {
-        this(new GsonBuilder().serializeNulls().create());
+        this(EventDataCodecRegistry.load());
     }
 
     @Override
     public void write(final ObjectDataOutput out, final MessageEventImpl<?> event) throws IOException {
-        out.writeUTF(gson.toJson(convertToJson(event)));
+        out.writeByte(SPEC_2_0);
+        out.writeUTF(event.getMessageEventContext().getTopic().getName());
+        writeEventContent(out, event);
     }
 
-    private JsonObject convertToJson(final MessageEventImpl<?> event) throws IOException {
-        final JsonObject root = new JsonObject();
-
-        root.addProperty(SPEC_VERSION_PARAM, SPEC_1_0);
+    void writeEventContent(final ObjectDataOutput out, final MessageEventImpl<?> event) throws IOException {
+        final MessageEventContext<?> eventContext = event.getMessageEventContext();
+        out.writeLong(eventContext.getTimestamp());
+        writeValue(out, event.getData());
 
-        final Serializable data = event.getData();
-        if (data != null) {
-            root.addProperty(DATA_PARAM, Base64Utils.toBase64(data));
-        } else {
-            root.add(DATA_PARAM, JsonNull.INSTANCE);
+        final Map<String, Serializable> metadata = eventContext.getMetadata();
+        out.writeInt(metadata.size());
+        for (final Map.Entry<String, Serializable> entry : metadata.entrySet()) {
+            out.writeUTF(entry.getKey());
+            writeValue(out, entry.getValue());
         }
-
-        root.add(CONTEXT_PARAM, convertToJson(event.getMessageEventContext()));
-
-        return root;
     }
 
-    private JsonObject convertToJson(final MessageEventContext<?> eventContext) throws IOException {
-        final JsonObject root = new JsonObject();
-        root.addProperty(TOPIC_PARAM, eventContext.getTopic().getName());
-        root.addProperty(TIMESTAMP_PARAM, eventContext.getTimestamp());
-
-        final JsonArray metadataArray = new JsonArray();
-        for (final Map.Entry<String, Serializable> entry : eventContext.getMetadata().entrySet()) {
-            final String key = entry.getKey();
-            final Serializable data = entry.getValue();
-            final JsonObject metadataEntry = new JsonObject();
-            metadataEntry.addProperty(METADATA_KEY_PARAM, key);
-            if (data != null) {
-                metadataEntry.addProperty(METADATA_VALUE_PARAM, Base64Utils.toBase64(data));
-            } else {
-                metadataEntry.add(METADATA_VALUE_PARAM, JsonNull.INSTANCE);
-            }
-            metadataArray.add(metadataEntry);
+    private <T extends Serializable> void writeValue(final ObjectDataOutput out, final T value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_CODEC_ID);
+        } else {
+            final EventDataCodec<T> codec = codecRegistry.getCodecFor(value);
+            out.writeInt(codec.getId());
+            codec.write(out, value);
         }
-        root.add(METADATA_PARAM, metadataArray);
-        return root;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public MessageEventImpl<?> read(final ObjectDataInput in) throws IOException {
-        final JsonElement root = new JsonParser().parse(in.readUTF());
-        if (!root.isJsonObject()) {
-            throw new IllegalArgumentException("Input can not be parsed!");
-        }
-        if (!root.getAsJsonObject().has(CONTEXT_PARAM)) {
-            throw new IllegalArgumentException("Input can not be parsed! No event context found");
-        }
-
-        if (!root.getAsJsonObject().has(SPEC_VERSION_PARAM) &&
-                !root.getAsJsonObject().get(SPEC_VERSION_PARAM).isJsonPrimitive() &&
-                !root.getAsJsonObject().get(SPEC_VERSION_PARAM).getAsJsonPrimitive().isString() &&
-                !root.getAsJsonObject().get(SPEC_VERSION_PARAM).getAsJsonPrimitive().getAsString().equals(SPEC_1_0)) {
-            throw new IllegalArgumentException("Input can not be parsed! Unknown Spec");
-        }
-
-        final JsonElement contextElement = root.getAsJsonObject().get(CONTEXT_PARAM);
-        if (!contextElement.isJsonObject()) {
-            throw new IllegalArgumentException("Input can not be parsed! event context not parseable");
-        }
-
-
-
-        if (!contextElement.getAsJsonObject().has(TOPIC_PARAM) &&
-                !contextElement.getAsJsonObject().get(TOPIC_PARAM).isJsonPrimitive() &&
-                !contextElement.getAsJsonObject().get(TOPIC_PARAM).getAsJsonPrimitive().isString()) {
-            throw new IllegalArgumentException("Input can not be parsed! No topic found");
-        }
-        final Topic<?> topic = new Topic<>(contextElement.getAsJsonObject().getAsJsonPrimitive(TOPIC_PARAM).getAsString());
-
-
-        if (!contextElement.getAsJsonObject().has(TIMESTAMP_PARAM) &&
-                !contextElement.getAsJsonObject().get(TIMESTAMP_PARAM).isJsonPrimitive() &&
-                !contextElement.getAsJsonObject().get(TIMESTAMP_PARAM).getAsJsonPrimitive().isNumber()) {
-            throw new IllegalArgumentException("Input can not be parsed! No timestamp found");
-        }
-        final long timestamp = contextElement.getAsJsonObject().getAsJsonPrimitive(TIMESTAMP_PARAM).getAsLong();
-
+        checkSpecVersion(in);
+        return readEventContent(in, new Topic<>(in.readUTF()));
+    }
 
-        if (!root.getAsJsonObject().has(DATA_PARAM)) {
-            throw new IllegalArgumentException("Input can not be parsed! No data found");
-        }
-        final JsonElement dataElement = root.getAsJsonObject().get(DATA_PARAM);
-        Serializable data;
-        if (dataElement.isJsonNull()) {
-            data = null;
-        } else if (dataElement.isJsonPrimitive() && dataElement.getAsJsonPrimitive().isString()) {
-            try {
-                data = Base64Utils.fromBase64(dataElement.getAsJsonPrimitive().getAsString());
-            } catch (ClassNotFoundException e) {
-                throw new IllegalArgumentException("Input can not be parsed! Data can not be parsed");
-            }
-        } else {
-            throw new IllegalArgumentException("Input can not be parsed! Data can not be parsed");
+    void checkSpecVersion(final ObjectDataInput in) throws IOException {
+        final byte specVersion = in.readByte();
+        if (specVersion != SPEC_2_0) {
+            throw new IllegalArgumentException("Input can not be parsed! Unknown spec version " + specVersion);
         }
+    }
 
+    @SuppressWarnings("unchecked")
+    <T extends Serializable> MessageEventImpl<T> readEventContent(final ObjectDataInput in, final Topic<T> topic) throws IOException {
+        final long timestamp = in.readLong();
 
-        final MessageEventImpl event = new MessageEventImpl(topic, timestamp, data);
-
+        final MessageEventImpl event = new MessageEventImpl(topic, timestamp, readValue(in));
 
-        if (!contextElement.getAsJsonObject().has(METADATA_PARAM)) {
-            throw new IllegalArgumentException("Input can not be parsed! No metadata found");
-        }
-        final JsonElement metadataArrayElement = contextElement.getAsJsonObject().get(METADATA_PARAM);
-        if (!metadataArrayElement.isJsonArray()) {
+        final int metadataCount = in.readInt();
+        if (metadataCount < 0) {
             throw new IllegalArgumentException("Input can not be parsed! metadata can not be parsed");
         }
-        final Iterator<JsonElement> metadataIterator = metadataArrayElement.getAsJsonArray().iterator();
-        while (metadataIterator.hasNext()) {
-            final JsonElement metadataElement = metadataIterator.next();
-            if (!metadataElement.isJsonObject()) {
-                throw new IllegalArgumentException("Input can not be parsed! metadata can not be parsed");
-            }
-            if (!metadataElement.getAsJsonObject().has(METADATA_KEY_PARAM) &&
-                    !metadataElement.getAsJsonObject().get(METADATA_KEY_PARAM).isJsonPrimitive() &&
-                    !metadataElement.getAsJsonObject().get(METADATA_KEY_PARAM).getAsJsonPrimitive().isString()) {
-                throw new IllegalArgumentException("Input can not be parsed! metadata can not be parsed");
-            }
-            final String metadataKey = metadataElement.getAsJsonObject().get(METADATA_KEY_PARAM).getAsJsonPrimitive().getAsString();
-
-
-            if (!metadataElement.getAsJsonObject().has(METADATA_VALUE_PARAM) &&
-                    ((metadataElement.getAsJsonObject().get(METADATA_VALUE_PARAM).isJsonPrimitive() &&
-                            metadataElement.getAsJsonObject().get(METADATA_VALUE_PARAM).getAsJsonPrimitive().isString()) || metadataElement.getAsJsonObject().get(METADATA_VALUE_PARAM).isJsonNull())) {
-                throw new IllegalArgumentException("Input can not be parsed! metadata for key '" + metadataKey + "' can not be parsed");
-            }
-            if (metadataElement.getAsJsonObject().get(METADATA_VALUE_PARAM).isJsonNull()) {
-                event.addMetadata(metadataKey, null);
-            } else {
-                try {
-                    event.addMetadata(metadataKey, Base64Utils.fromBase64(metadataElement.getAsJsonObject().get(METADATA_VALUE_PARAM).getAsJsonPrimitive().getAsString()));
-                } catch (final ClassNotFoundException e) {
-                    throw new IllegalArgumentException("Input can not be parsed! metadata for key '" + metadataKey + "' can not be parsed");
-                }
-            }
+        for (int i = 0; i < metadataCount; i++) {
+            final String metadataKey = in.readUTF();
+            event.addMetadata(metadataKey, readValue(in));
         }
         return event;
     }
 
+    private Serializable readValue(final ObjectDataInput in) throws IOException {
+        final int codecId = in.readInt();
+        if (codecId == NULL_CODEC_ID) {
+            return null;
+        }
+        return codecRegistry.getCodec(codecId).read(in);
+    }
+
     @Override
     public int getTypeId() {
         return TYPE_ID;
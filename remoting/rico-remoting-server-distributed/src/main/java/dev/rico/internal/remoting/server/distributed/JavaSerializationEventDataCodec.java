@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.distributed;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import dev.rico.remoting.server.distributed.EventDataCodec;
+import org.apiguardian.api.API;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.JAVA_SERIALIZATION_CODEC_ID;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+@API(since = "2.1.0", status = INTERNAL)
+public class JavaSerializationEventDataCodec implements EventDataCodec<Serializable> {
+
+    @Override
+    public int getId() {
+        return JAVA_SERIALIZATION_CODEC_ID;
+    }
+
+    @Override
+    public Class<Serializable> getDataType() {
+        return Serializable.class;
+    }
+
+    @Override
+    public void write(final ObjectDataOutput out, final Serializable data) throws IOException {
+        final ByteArrayOutputStream rawOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream dataOutputStream = new ObjectOutputStream(rawOutputStream)) {
+            dataOutputStream.writeObject(data);
+        }
+        out.writeByteArray(rawOutputStream.toByteArray());
+    }
+
+    @Override
+    public Serializable read(final ObjectDataInput in) throws IOException {
+        try (final ObjectInputStream dataInputStream = new ObjectInputStream(new ByteArrayInputStream(in.readByteArray()))) {
+            return (Serializable) dataInputStream.readObject();
+        } catch (final ClassNotFoundException e) {
+            throw new IOException("Serialized data can not be read", e);
+        }
+    }
+}
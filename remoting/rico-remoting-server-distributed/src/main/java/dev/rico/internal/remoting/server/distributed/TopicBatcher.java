@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.distributed;
+
+import dev.rico.core.lang.StringPair;
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.server.event.MessageEventImpl;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Counter;
+import dev.rico.metrics.types.Gauge;
+import dev.rico.remoting.server.distributed.TopicBatching;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.BATCHED_EVENTS_METRIC_NAME;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.BATCHES_METRIC_NAME;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.BATCH_SIZE_METRIC_NAME;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.COALESCED_EVENTS_METRIC_NAME;
+import static dev.rico.internal.remoting.server.distributed.DistributedEventConstants.TOPIC_TAG;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Collects the events of one topic and hands them to the publisher as one {@link EventBatch} once the max size of
+ * the batch is reached or the max delay is elapsed.
+ *
+ * @param <T> the data type of the topic
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class TopicBatcher<T extends Serializable> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TopicBatcher.class);
+
+    private final TopicBatching<T> batching;
+
+    private final Consumer<EventBatch<T>> publisher;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Function<? super T, ?> keyExtractor;
+
+    private final Lock pendingLock = new ReentrantLock();
+
+    private final Lock publishLock = new ReentrantLock();
+
+    private final Counter batchCounter;
+
+    private final Counter batchedEventsCounter;
+
+    private final Counter coalescedEventsCounter;
+
+    private final Gauge batchSizeGauge;
+
+    private Map<Object, MessageEventImpl<T>> pending = new LinkedHashMap<>();
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    public TopicBatcher(final TopicBatching<T> batching, final Consumer<EventBatch<T>> publisher, final ScheduledExecutorService scheduler, final Metrics metrics) {
+        this.batching = Assert.requireNonNull(batching, "batching");
+        this.publisher = Assert.requireNonNull(publisher, "publisher");
+        this.scheduler = Assert.requireNonNull(scheduler, "scheduler");
+        this.keyExtractor = batching.getKeyExtractor().orElse(null);
+        Assert.requireNonNull(metrics, "metrics");
+        final StringPair topicTag = StringPair.of(TOPIC_TAG, batching.getTopic().getName());
+        this.batchCounter = metrics.getOrCreateCounter(BATCHES_METRIC_NAME, topicTag);
+        this.batchedEventsCounter = metrics.getOrCreateCounter(BATCHED_EVENTS_METRIC_NAME, topicTag);
+        this.coalescedEventsCounter = metrics.getOrCreateCounter(COALESCED_EVENTS_METRIC_NAME, topicTag);
+        this.batchSizeGauge = metrics.getOrCreateGauge(BATCH_SIZE_METRIC_NAME, topicTag);
+    }
+
+    public void add(final MessageEventImpl<T> event) {
+        Assert.requireNonNull(event, "event");
+        final Object key = keyFor(event);
+        EventBatch<T> batch = null;
+        pendingLock.lock();
+        try {
+            if (pending.remove(key) != null) {
+                coalescedEventsCounter.increment();
+            }
+            pending.put(key, event);
+            if (pending.size() >= batching.getMaxSize()) {
+                batch = takePending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::scheduledFlush, batching.getMaxDelay().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+        publish(batch);
+    }
+
+    public void flush() {
+        EventBatch<T> batch;
+        pendingLock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            pendingLock.unlock();
+        }
+        publish(batch);
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (final Exception e) {
+            LOG.error("Error in publishing event batch for topic '" + batching.getTopic().getName() + "'", e);
+        }
+    }
+
+    /**
+     * Must be called while holding the pending lock. If a batch is returned the publish lock is already taken so
+     * batches are published in the order they were created while new events can already be collected.
+     */
+    private EventBatch<T> takePending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (pending.isEmpty()) {
+            return null;
+        }
+        final EventBatch<T> batch = new EventBatch<>(batching.getTopic(), new ArrayList<>(pending.values()));
+        pending = new LinkedHashMap<>();
+        publishLock.lock();
+        return batch;
+    }
+
+    private void publish(final EventBatch<T> batch) {
+        if (batch == null) {
+            return;
+        }
+        try {
+            batchCounter.increment();
+            batchedEventsCounter.increment(batch.getEvents().size());
+            batchSizeGauge.setValue(batch.getEvents().size());
+            publisher.accept(batch);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private Object keyFor(final MessageEventImpl<T> event) {
+        if (keyExtractor != null && event.getData() != null) {
+            final Object key = keyExtractor.apply(event.getData());
+            if (key != null) {
+                return key;
+            }
+        }
+        return new Object();
+    }
+}
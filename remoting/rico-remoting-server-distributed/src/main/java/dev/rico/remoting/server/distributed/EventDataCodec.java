@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.server.distributed;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Codec that is used by the distributed event bus to write the payload and the metadata values of an event to the
+ * Hazelcast stream. By default all values are written by Java serialization. Custom codecs can be provided by the
+ * default Java SPI (see {@link java.util.ServiceLoader}) and are used for all values that are an instance of
+ * {@link #getDataType()}.
+ *
+ * Since events are exchanged between different server instances the id of a codec and the format that it writes
+ * must never change once it was used in production.
+ *
+ * @param <T> the data type that is supported by the codec
+ */
+@API(since = "2.1.0", status = EXPERIMENTAL)
+public interface EventDataCodec<T extends Serializable> {
+
+    /**
+     * Returns the unique id of the codec that is written in front of each value. Ids must be positive since
+     * {@code 0} is reserved for the default Java serialization.
+     * @return the unique id
+     */
+    int getId();
+
+    /**
+     * Returns the type of values that can be written by this codec.
+     * @return the data type
+     */
+    Class<T> getDataType();
+
+    /**
+     * Writes the given value to the output.
+     * @param out the output
+     * @param data the value, never {@code null}
+     * @throws IOException if the value can not be written
+     */
+    void write(ObjectDataOutput out, T data) throws IOException;
+
+    /**
+     * Reads a value that was written by {@link #write(ObjectDataOutput, Serializable)}.
+     * @param in the input
+     * @return the value
+     * @throws IOException if the value can not be read
+     */
+    T read(ObjectDataInput in) throws IOException;
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.server.distributed;
+
+import com.google.gson.Gson;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * {@link EventDataCodec} that writes values of a specific type as UTF-8 encoded JSON by using Gson.
+ *
+ * @param <T> the data type that is supported by the codec
+ */
+@API(since = "2.1.0", status = EXPERIMENTAL)
+public class GsonEventDataCodec<T extends Serializable> implements EventDataCodec<T> {
+
+    private final int id;
+
+    private final Class<T> dataType;
+
+    private final Gson gson;
+
+    public GsonEventDataCodec(final int id, final Class<T> dataType) {
+        this(id, dataType, new Gson());
+    }
+
+    public GsonEventDataCodec(final int id, final Class<T> dataType, final Gson gson) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Codec id must be positive");
+        }
+        this.id = id;
+        this.dataType = Assert.requireNonNull(dataType, "dataType");
+        this.gson = Assert.requireNonNull(gson, "gson");
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public Class<T> getDataType() {
+        return dataType;
+    }
+
+    @Override
+    public void write(final ObjectDataOutput out, final T data) throws IOException {
+        out.writeByteArray(gson.toJson(data, dataType).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public T read(final ObjectDataInput in) throws IOException {
+        return gson.fromJson(new String(in.readByteArray(), StandardCharsets.UTF_8), dataType);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.server.distributed;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.remoting.server.event.Topic;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Defines that events of a topic are not send one by one to the distributed event bus but collected and send as
+ * one batch. A batch is send once {@link #getMaxSize()} events are collected or {@link #getMaxDelay()} is elapsed
+ * since the first event of the batch was published. All events of a batch are delivered to a remoting context in one
+ * task.
+ *
+ * If a key extractor is defined events are coalesced: a batch contains only the latest event for each key that is
+ * returned by the key extractor for the data of an event.
+ *
+ * Batching is activated by a {@link TopicBatchingProvider}.
+ *
+ * @param <T> the data type of the topic
+ */
+@API(since = "2.1.0", status = EXPERIMENTAL)
+public final class TopicBatching<T extends Serializable> {
+
+    private final Topic<T> topic;
+
+    private final Duration maxDelay;
+
+    private final int maxSize;
+
+    private final Function<? super T, ?> keyExtractor;
+
+    public TopicBatching(final Topic<T> topic, final Duration maxDelay, final int maxSize) {
+        this(topic, maxDelay, maxSize, null);
+    }
+
+    public TopicBatching(final Topic<T> topic, final Duration maxDelay, final int maxSize, final Function<? super T, ?> keyExtractor) {
+        this.topic = Assert.requireNonNull(topic, "topic");
+        this.maxDelay = Assert.requireNonNull(maxDelay, "maxDelay");
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Returns the topic
+     * @return the topic
+     */
+    public Topic<T> getTopic() {
+        return topic;
+    }
+
+    /**
+     * Returns the maximum time an event is held back before its batch is send
+     * @return the maximum delay
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Returns the maximum number of events in a batch
+     * @return the maximum size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the key extractor that is used to coalesce events
+     * @return the key extractor or an empty optional if events are not coalesced
+     */
+    public Optional<Function<? super T, ?>> getKeyExtractor() {
+        return Optional.ofNullable(keyExtractor);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.remoting.server.distributed;
+
+import org.apiguardian.api.API;
+
+import java.util.List;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * SPI that is loaded by the default Java SPI (see {@link java.util.ServiceLoader}) when the distributed event bus is
+ * created. All topics that are returned by the providers are send in batches (see {@link TopicBatching}).
+ */
+@API(since = "2.1.0", status = EXPERIMENTAL)
+public interface TopicBatchingProvider {
+
+    /**
+     * Returns the batching definitions
+     * @return the batching definitions
+     */
+    List<TopicBatching<?>> getTopicBatchings();
+
+}
@@ -5,6 +5,8 @@ import dev.rico.server.spi.ConfigurationProvider;
 
 module dev.rico.remoting.server.distributed {
     uses dev.rico.remoting.server.distributed.HazelcastProvider;
+    uses dev.rico.remoting.server.distributed.EventDataCodec;
+    uses dev.rico.remoting.server.distributed.TopicBatchingProvider;
 
     exports dev.rico.remoting.server.distributed;
 
@@ -14,6 +16,7 @@ module dev.rico.remoting.server.distributed {
 
     requires transitive dev.rico.remoting.server;
 
+    requires dev.rico.metrics;
     requires static org.apiguardian.api;
     requires org.slf4j;
     requires com.google.gson;
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.eventbus.distributed;
+
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.internal.remoting.server.distributed.EventBatch;
+import dev.rico.internal.remoting.server.distributed.TopicBatcher;
+import dev.rico.internal.remoting.server.event.MessageEventImpl;
+import dev.rico.remoting.server.distributed.TopicBatching;
+import dev.rico.remoting.server.event.Topic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class TopicBatcherTest {
+
+    private final Topic<String> topic = Topic.create("test-topic");
+
+    private ScheduledExecutorService scheduler;
+
+    private List<EventBatch<String>> batches;
+
+    @BeforeMethod
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        batches = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterMethod
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testBatchIsPublishedWhenMaxSizeIsReached() {
+        //given
+        final TopicBatcher<String> batcher = createBatcher(new TopicBatching<>(topic, Duration.ofHours(1), 3));
+
+        //when
+        batcher.add(createEvent("a"));
+        batcher.add(createEvent("b"));
+
+        //then
+        Assert.assertTrue(batches.isEmpty());
+
+        //when
+        batcher.add(createEvent("c"));
+        batcher.add(createEvent("d"));
+
+        //then
+        Assert.assertEquals(batches.size(), 1);
+        Assert.assertEquals(getData(batches.get(0)), List.of("a", "b", "c"));
+
+        //when
+        batcher.flush();
+
+        //then
+        Assert.assertEquals(batches.size(), 2);
+        Assert.assertEquals(getData(batches.get(1)), List.of("d"));
+    }
+
+    @Test
+    public void testBatchIsPublishedAfterMaxDelay() throws InterruptedException {
+        //given
+        final TopicBatcher<String> batcher = createBatcher(new TopicBatching<>(topic, Duration.ofMillis(50), 100));
+
+        //when
+        batcher.add(createEvent("a"));
+        batcher.add(createEvent("b"));
+        scheduler.schedule(() -> {}, 100, TimeUnit.MILLISECONDS);
+        scheduler.shutdown();
+        scheduler.awaitTermination(1, TimeUnit.SECONDS);
+
+        //then
+        Assert.assertEquals(batches.size(), 1);
+        Assert.assertEquals(getData(batches.get(0)), List.of("a", "b"));
+    }
+
+    @Test
+    public void testEmptyBatchIsNotPublished() {
+        //given
+        final TopicBatcher<String> batcher = createBatcher(new TopicBatching<>(topic, Duration.ofHours(1), 10));
+
+        //when
+        batcher.flush();
+
+        //then
+        Assert.assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void testLatestValueWinsForCoalescedEvents() {
+        //given
+        final TopicBatcher<String> batcher = createBatcher(new TopicBatching<>(topic, Duration.ofHours(1), 10, v -> v.substring(0, 1)));
+
+        //when
+        batcher.add(createEvent("a1"));
+        batcher.add(createEvent("b1"));
+        batcher.add(createEvent("a2"));
+        batcher.add(createEvent(null));
+        batcher.add(createEvent(null));
+        batcher.flush();
+
+        //then
+        Assert.assertEquals(batches.size(), 1);
+        Assert.assertEquals(getData(batches.get(0)), Arrays.asList("b1", "a2", null, null));
+    }
+
+    private TopicBatcher<String> createBatcher(final TopicBatching<String> batching) {
+        return new TopicBatcher<>(batching, batches::add, scheduler, MetricsImpl.getInstance());
+    }
+
+    private MessageEventImpl<String> createEvent(final String data) {
+        return new MessageEventImpl<>(topic, System.currentTimeMillis(), data);
+    }
+
+    private List<String> getData(final EventBatch<String> batch) {
+        return batch.getEvents().stream().map(MessageEventImpl::getData).collect(Collectors.toList());
+    }
+}
@@ -24,7 +24,9 @@ import dev.rico.internal.remoting.server.context.RemotingContextFactory;
 import dev.rico.internal.remoting.server.context.ServerRemotingContext;
 import dev.rico.internal.remoting.server.context.ServerRemotingContextProvider;
 import dev.rico.internal.remoting.server.controller.ControllerValidationException;
+import dev.rico.internal.metrics.MetricsImpl;
 import dev.rico.internal.remoting.server.event.AbstractEventBus;
+import dev.rico.internal.remoting.server.legacy.communication.ResponseOptimizer;
 import dev.rico.internal.remoting.server.servlet.InterruptServlet;
 import dev.rico.internal.remoting.server.servlet.RemotingServlet;
 import dev.rico.internal.server.bootstrap.AbstractBaseModule;
@@ -43,6 +45,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.ServletRegistration;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
@@ -76,17 +81,26 @@ public class RemotingModule extends AbstractBaseModule {
         final RemotingConfiguration configuration = new RemotingConfiguration(coreComponents.getConfiguration());
         final ClientSessionProvider sessionProvider = coreComponents.getInstance(ClientSessionProvider.class);
         final RemotingContextFactory remotingContextFactory = createRemotingContextFactory(classpathScanner, beanFactory, configuration, sessionProvider);
-        final RemotingCommunicationHandler communicationHandler = new RemotingCommunicationHandler(sessionProvider, remotingContextFactory);
+        final ResponseOptimizer responseOptimizer = configuration.isResponseOptimizationActive() ? new ResponseOptimizer(MetricsImpl.getInstance()) : null;
+        final RemotingCommunicationHandler communicationHandler = new RemotingCommunicationHandler(sessionProvider, remotingContextFactory, configuration.isBinaryProtocolActive(), responseOptimizer);
         final ServerRemotingContextProvider contextProvider = new DefaultRemotingContextProvider(communicationHandler);
         final ClientSessionLifecycleHandler lifecycleHandler = coreComponents.getInstance(ClientSessionLifecycleHandler.class);
 
         coreComponents.provideInstance(ServerRemotingContextProvider.class, contextProvider);
 
-        servletContext.addServlet(REMOTING_SERVLET_NAME, new RemotingServlet(communicationHandler)).addMapping(configuration.getServletMapping());
+        final ServletRegistration.Dynamic remotingServlet = servletContext.addServlet(REMOTING_SERVLET_NAME, new RemotingServlet(communicationHandler));
+        remotingServlet.setAsyncSupported(configuration.isAsyncLongPoll());
+        remotingServlet.addMapping(configuration.getServletMapping());
         servletContext.addServlet(INTERRUPT_SERVLET_NAME, new InterruptServlet(contextProvider)).addMapping(configuration.getInterruptServletMapping());
 
         LOG.debug("Rico remoting initialized under context \"" + servletContext.getContextPath() + "\"");
         LOG.debug("Rico remoting endpoint defined as " + configuration.getServletMapping());
+        if (configuration.isAsyncLongPoll()) {
+            LOG.debug("Rico remoting uses asynchronous long poll");
+        }
+        if (responseOptimizer != null) {
+            LOG.debug("Rico remoting optimizes responses before sending them to the client");
+        }
 
         final String eventbusType = configuration.getEventbusType();
         final List<EventBusProvider> providers = ServiceLoader.load(EventBusProvider.class).stream()
@@ -100,7 +114,17 @@ public class RemotingModule extends AbstractBaseModule {
         LOG.debug("Using event bus of type {} with provider class {}", provider.getType(), provider.getClass());
         final RemotingEventBus eventBus = provider.create(configuration);
         if (eventBus instanceof AbstractEventBus) {
-            ((AbstractEventBus) eventBus).init(contextProvider, lifecycleHandler);
+            final AbstractEventBus abstractEventBus = (AbstractEventBus) eventBus;
+            abstractEventBus.init(contextProvider, lifecycleHandler, configuration, MetricsImpl.getInstance());
+            servletContext.addListener(new ServletContextListener() {
+                @Override
+                public void contextInitialized(final ServletContextEvent sce) {}
+
+                @Override
+                public void contextDestroyed(final ServletContextEvent sce) {
+                    abstractEventBus.shutdown();
+                }
+            });
         }
 
         coreComponents.provideInstance(RemotingEventBus.class, eventBus);
@@ -18,7 +18,9 @@ package dev.rico.internal.remoting.server.config;
 
 import dev.rico.core.Configuration;
 import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.server.event.BackPressurePolicy;
 import dev.rico.internal.remoting.server.event.DefaultEventBusProvider;
+import dev.rico.internal.remoting.server.legacy.ModelBudgetPolicy;
 import dev.rico.internal.server.config.ConfigurationFileLoader;
 import dev.rico.internal.server.config.ServerConfiguration;
 import org.apiguardian.api.API;
@@ -46,6 +48,30 @@ public class RemotingConfiguration implements Serializable {
 
     public static final String EVENTBUS_TYPE = "eventbusType";
 
+    public static final String ASYNC_LONG_POLL = "asyncLongPoll";
+
+    public static final String BINARY_PROTOCOL_ACTIVE = "binaryProtocolActive";
+
+    public static final String RESPONSE_OPTIMIZATION_ACTIVE = "responseOptimizationActive";
+
+    public static final String EVENTBUS_DISPATCH_THREADS = "eventbusDispatchThreads";
+
+    public static final String EVENTBUS_DISPATCH_QUEUE_CAPACITY = "eventbusDispatchQueueCapacity";
+
+    public static final String EVENTBUS_MAX_PENDING_EVENTS = "eventbusMaxPendingEvents";
+
+    public static final String EVENTBUS_BACK_PRESSURE_POLICY = "eventbusBackPressurePolicy";
+
+    public static final String EVENTBUS_MAX_BLOCK_TIME = "eventbusMaxBlockTime";
+
+    public static final String MODEL_BUDGET_MAX_MODELS = "modelBudgetMaxModels";
+
+    public static final String MODEL_BUDGET_MAX_ATTRIBUTES = "modelBudgetMaxAttributes";
+
+    public static final String MODEL_BUDGET_MAX_BYTES = "modelBudgetMaxBytes";
+
+    public static final String MODEL_BUDGET_POLICY = "modelBudgetPolicy";
+
     public static final String SERVLET_MAPPING_DEFAULT_VALUE = "/remoting";
 
     public static final String INTERRUPT_SERVLET_MAPPING_DEFAULT_VALUE = "/remoting-interrupt";
@@ -56,6 +82,30 @@ public class RemotingConfiguration implements Serializable {
 
     public static final boolean USE_GC_DEFAULT_VALUE = true;
 
+    public static final boolean ASYNC_LONG_POLL_DEFAULT_VALUE = false;
+
+    public static final boolean BINARY_PROTOCOL_ACTIVE_DEFAULT_VALUE = true;
+
+    public static final boolean RESPONSE_OPTIMIZATION_ACTIVE_DEFAULT_VALUE = false;
+
+    public static final int EVENTBUS_DISPATCH_THREADS_DEFAULT_VALUE = 4;
+
+    public static final int EVENTBUS_DISPATCH_QUEUE_CAPACITY_DEFAULT_VALUE = 10_000;
+
+    public static final int EVENTBUS_MAX_PENDING_EVENTS_DEFAULT_VALUE = 10_000;
+
+    public static final String EVENTBUS_BACK_PRESSURE_POLICY_DEFAULT_VALUE = BackPressurePolicy.DROP_OLDEST.name();
+
+    public static final long EVENTBUS_MAX_BLOCK_TIME_DEFAULT_VALUE = 5_000;
+
+    public static final int MODEL_BUDGET_MAX_MODELS_DEFAULT_VALUE = -1;
+
+    public static final long MODEL_BUDGET_MAX_ATTRIBUTES_DEFAULT_VALUE = -1;
+
+    public static final long MODEL_BUDGET_MAX_BYTES_DEFAULT_VALUE = -1;
+
+    public static final String MODEL_BUDGET_POLICY_DEFAULT_VALUE = ModelBudgetPolicy.WARN.name();
+
     private final Configuration configuration;
 
     public RemotingConfiguration() {
@@ -82,10 +132,135 @@ public class RemotingConfiguration implements Serializable {
         return configuration.getBooleanProperty(GARBAGE_COLLECTION_ACTIVE, USE_GC_DEFAULT_VALUE);
     }
 
+    /**
+     * If {@code true} a long poll request does not block a container thread while waiting for tasks. Instead an
+     * asynchronous servlet request (see {@link javax.servlet.AsyncContext}) is started and the response is sent once
+     * a task is added, the long poll is interrupted or the max poll time is reached.
+     *
+     * @return {@code true} if the asynchronous long poll is active
+     */
+    public boolean isAsyncLongPoll() {
+        return configuration.getBooleanProperty(ASYNC_LONG_POLL, ASYNC_LONG_POLL_DEFAULT_VALUE);
+    }
+
+    /**
+     * If {@code true} the server answers with the binary remoting protocol when a client accepts it. Clients that do
+     * not ask for the binary protocol will always receive JSON.
+     *
+     * @return {@code true} if the binary protocol can be negotiated
+     */
+    public boolean isBinaryProtocolActive() {
+        return configuration.getBooleanProperty(BINARY_PROTOCOL_ACTIVE, BINARY_PROTOCOL_ACTIVE_DEFAULT_VALUE);
+    }
+
+    /**
+     * If {@code true} each response is optimized before it is sent to the client: value changes of the same attribute
+     * are reduced to the last one, value changes of newly created models are folded into the create command and
+     * models that are created and deleted within one response are not sent at all.
+     *
+     * @return {@code true} if responses are optimized
+     * @see dev.rico.internal.remoting.server.legacy.communication.ResponseOptimizer
+     */
+    public boolean isResponseOptimizationActive() {
+        return configuration.getBooleanProperty(RESPONSE_OPTIMIZATION_ACTIVE, RESPONSE_OPTIMIZATION_ACTIVE_DEFAULT_VALUE);
+    }
+
     public String getEventbusType() {
         return configuration.getProperty(EVENTBUS_TYPE, EVENTBUS_TYPE_DEFAULT_VALUE);
     }
 
+    /**
+     * Returns the number of threads that dispatch events of the event bus to the remoting contexts. Events for one
+     * remoting context are always dispatched by the same thread.
+     *
+     * @return the number of dispatch threads
+     */
+    public int getEventbusDispatchThreads() {
+        return configuration.getIntProperty(EVENTBUS_DISPATCH_THREADS, EVENTBUS_DISPATCH_THREADS_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the capacity of the queue of each dispatch thread. A publisher blocks if the queue is full.
+     *
+     * @return the queue capacity
+     */
+    public int getEventbusDispatchQueueCapacity() {
+        return configuration.getIntProperty(EVENTBUS_DISPATCH_QUEUE_CAPACITY, EVENTBUS_DISPATCH_QUEUE_CAPACITY_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the max number of events that can wait for the delivery in one remoting context. If more events are
+     * published the back pressure policy of the topic is used (see {@link #getEventbusBackPressurePolicy(String)}).
+     *
+     * @return the max number of pending events per remoting context
+     */
+    public int getEventbusMaxPendingEvents() {
+        return configuration.getIntProperty(EVENTBUS_MAX_PENDING_EVENTS, EVENTBUS_MAX_PENDING_EVENTS_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the back pressure policy for the given topic. The policy can be defined for a specific topic by the
+     * property {@code eventbusBackPressurePolicy.TOPIC_NAME}, otherwise the {@code eventbusBackPressurePolicy}
+     * property is used.
+     *
+     * @param topicName the name of the topic
+     * @return the back pressure policy
+     */
+    public BackPressurePolicy getEventbusBackPressurePolicy(final String topicName) {
+        final String defaultPolicy = configuration.getProperty(EVENTBUS_BACK_PRESSURE_POLICY, EVENTBUS_BACK_PRESSURE_POLICY_DEFAULT_VALUE);
+        return BackPressurePolicy.valueOf(configuration.getProperty(EVENTBUS_BACK_PRESSURE_POLICY + "." + topicName, defaultPolicy));
+    }
+
+    /**
+     * Returns the max time in milliseconds that a dispatch thread waits for a remoting context if the back pressure
+     * policy {@link BackPressurePolicy#BLOCK} is used.
+     *
+     * @return the max block time in milliseconds
+     */
+    public long getEventbusMaxBlockTime() {
+        return configuration.getLongProperty(EVENTBUS_MAX_BLOCK_TIME, EVENTBUS_MAX_BLOCK_TIME_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the max number of presentation models that can be held by the model store of one remoting context.
+     * A value {@code <= 0} defines no limit.
+     *
+     * @return the max number of models per remoting context
+     */
+    public int getModelBudgetMaxModels() {
+        return configuration.getIntProperty(MODEL_BUDGET_MAX_MODELS, MODEL_BUDGET_MAX_MODELS_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the max number of attributes that can be held by the model store of one remoting context.
+     * A value {@code <= 0} defines no limit.
+     *
+     * @return the max number of attributes per remoting context
+     */
+    public long getModelBudgetMaxAttributes() {
+        return configuration.getLongProperty(MODEL_BUDGET_MAX_ATTRIBUTES, MODEL_BUDGET_MAX_ATTRIBUTES_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the max estimated heap size in bytes of the models held by the model store of one remoting context.
+     * A value {@code <= 0} defines no limit.
+     *
+     * @return the max estimated bytes per remoting context
+     * @see dev.rico.internal.remoting.server.legacy.ModelBudget
+     */
+    public long getModelBudgetMaxBytes() {
+        return configuration.getLongProperty(MODEL_BUDGET_MAX_BYTES, MODEL_BUDGET_MAX_BYTES_DEFAULT_VALUE);
+    }
+
+    /**
+     * Returns the policy that is used if a model is added to a model store that reached one of its limits.
+     *
+     * @return the model budget policy
+     */
+    public ModelBudgetPolicy getModelBudgetPolicy() {
+        return ModelBudgetPolicy.valueOf(configuration.getProperty(MODEL_BUDGET_POLICY, MODEL_BUDGET_POLICY_DEFAULT_VALUE));
+    }
+
     public Configuration getConfiguration() {
         return configuration;
     }
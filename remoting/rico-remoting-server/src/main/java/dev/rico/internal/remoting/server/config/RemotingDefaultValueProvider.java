@@ -19,7 +19,6 @@ package dev.rico.internal.remoting.server.config;
 import dev.rico.internal.server.bootstrap.ConfigurationProviderAdapter;
 import org.apiguardian.api.API;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -35,16 +34,41 @@ public class RemotingDefaultValueProvider extends ConfigurationProviderAdapter {
         ret.put(RemotingConfiguration.SERVLET_MAPPING, RemotingConfiguration.SERVLET_MAPPING_DEFAULT_VALUE);
         ret.put(RemotingConfiguration.INTERRUPT_SERVLET_MAPPING, RemotingConfiguration.INTERRUPT_SERVLET_MAPPING_DEFAULT_VALUE);
         ret.put(RemotingConfiguration.EVENTBUS_TYPE, RemotingConfiguration.EVENTBUS_TYPE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.EVENTBUS_BACK_PRESSURE_POLICY, RemotingConfiguration.EVENTBUS_BACK_PRESSURE_POLICY_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.MODEL_BUDGET_POLICY, RemotingConfiguration.MODEL_BUDGET_POLICY_DEFAULT_VALUE);
+        return ret;
+    }
+
+    @Override
+    public Map<String, Integer> getIntegerProperties() {
+        HashMap<String, Integer> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.EVENTBUS_DISPATCH_THREADS, RemotingConfiguration.EVENTBUS_DISPATCH_THREADS_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.EVENTBUS_DISPATCH_QUEUE_CAPACITY, RemotingConfiguration.EVENTBUS_DISPATCH_QUEUE_CAPACITY_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.EVENTBUS_MAX_PENDING_EVENTS, RemotingConfiguration.EVENTBUS_MAX_PENDING_EVENTS_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.MODEL_BUDGET_MAX_MODELS, RemotingConfiguration.MODEL_BUDGET_MAX_MODELS_DEFAULT_VALUE);
         return ret;
     }
 
     @Override
     public Map<String, Long> getLongProperties() {
-        return Collections.singletonMap(RemotingConfiguration.MAX_POLL_TIME, RemotingConfiguration.MAX_POLL_TIME_DEFAULT_VALUE);
+        HashMap<String, Long> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.MAX_POLL_TIME, RemotingConfiguration.MAX_POLL_TIME_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.EVENTBUS_MAX_BLOCK_TIME, RemotingConfiguration.EVENTBUS_MAX_BLOCK_TIME_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.MODEL_BUDGET_MAX_ATTRIBUTES, RemotingConfiguration.MODEL_BUDGET_MAX_ATTRIBUTES_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.MODEL_BUDGET_MAX_BYTES, RemotingConfiguration.MODEL_BUDGET_MAX_BYTES_DEFAULT_VALUE);
+        return ret;
     }
 
     @Override
     public Map<String, Boolean> getBooleanProperties() {
-        return Collections.singletonMap(RemotingConfiguration.GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.USE_GC_DEFAULT_VALUE);
+        HashMap<String, Boolean> ret = new HashMap<>();
+
+        ret.put(RemotingConfiguration.GARBAGE_COLLECTION_ACTIVE, RemotingConfiguration.USE_GC_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.ASYNC_LONG_POLL, RemotingConfiguration.ASYNC_LONG_POLL_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.BINARY_PROTOCOL_ACTIVE, RemotingConfiguration.BINARY_PROTOCOL_ACTIVE_DEFAULT_VALUE);
+        ret.put(RemotingConfiguration.RESPONSE_OPTIMIZATION_ACTIVE, RemotingConfiguration.RESPONSE_OPTIMIZATION_ACTIVE_DEFAULT_VALUE);
+        return ret;
     }
 }
@@ -17,16 +17,22 @@
 package dev.rico.internal.remoting.server.context;
 
 import dev.rico.internal.core.Assert;
-import dev.rico.internal.remoting.codec.OptimizedJsonCodec;
+import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.codec.CommandCodecs;
+import dev.rico.internal.remoting.codec.StreamCodec;
 import dev.rico.internal.remoting.commands.CreateContextCommand;
-import dev.rico.internal.remoting.legacy.communication.Codec;
 import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.server.legacy.communication.ResponseOptimizer;
 import dev.rico.internal.server.client.ClientSessionProvider;
 import dev.rico.server.client.ClientSession;
 import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
@@ -35,6 +41,8 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -46,17 +54,42 @@ public class RemotingCommunicationHandler {
 
     private static final String REMOTING_CONTEXT_ATTRIBUTE_NAME = "ServerRemotingContext";
 
-    private final ClientSessionProvider sessionProvider;
+    private static final String SUSPENDED_LONG_POLL_ATTRIBUTE_NAME = "dev.rico.remoting.suspendedLongPoll";
+
+    private static final String WAITING_COMMANDS_ATTRIBUTE_NAME = "dev.rico.remoting.waitingCommands";
+
+    /**
+     * A request of a pipelining client waits at most this multiple of the max poll time for its predecessors since a
+     * predecessor can be a suspended long poll that keeps its turn.
+     */
+    private static final int SEQUENCE_WAIT_FACTOR = 2;
 
-    private final Codec codec = OptimizedJsonCodec.getInstance();
+    private final ClientSessionProvider sessionProvider;
 
     private final RemotingContextFactory contextFactory;
 
+    private final boolean binaryProtocolActive;
+
+    private final ResponseOptimizer responseOptimizer;
+
     private static final HashMap<String, WeakReference<ServerRemotingContext>> weakContextMap = new HashMap<>();
 
     public RemotingCommunicationHandler(final ClientSessionProvider sessionProvider, RemotingContextFactory contextFactory) {
+        this(sessionProvider, contextFactory, false);
+    }
+
+    public RemotingCommunicationHandler(final ClientSessionProvider sessionProvider, RemotingContextFactory contextFactory, final boolean binaryProtocolActive) {
+        this(sessionProvider, contextFactory, binaryProtocolActive, null);
+    }
+
+    /**
+     * @param responseOptimizer optimizer that is applied to each response before it is written, can be {@code null}
+     */
+    public RemotingCommunicationHandler(final ClientSessionProvider sessionProvider, RemotingContextFactory contextFactory, final boolean binaryProtocolActive, final ResponseOptimizer responseOptimizer) {
         this.sessionProvider = Assert.requireNonNull(sessionProvider, "sessionProvider");
         this.contextFactory = contextFactory;
+        this.binaryProtocolActive = binaryProtocolActive;
+        this.responseOptimizer = responseOptimizer;
     }
 
     public void handle(final HttpServletRequest request, final HttpServletResponse response) {
@@ -71,6 +104,19 @@ public class RemotingCommunicationHandler {
             return;
         }
 
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(SUSPENDED_LONG_POLL_ATTRIBUTE_NAME) != null) {
+            request.removeAttribute(SUSPENDED_LONG_POLL_ATTRIBUTE_NAME);
+            resumeLongPoll(clientSession, request, response);
+            return;
+        }
+
+        if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(WAITING_COMMANDS_ATTRIBUTE_NAME) != null) {
+            @SuppressWarnings("unchecked")
+            final List<Command> commands = (List<Command>) request.getAttribute(WAITING_COMMANDS_ATTRIBUTE_NAME);
+            request.removeAttribute(WAITING_COMMANDS_ATTRIBUTE_NAME);
+            handleInTurn(clientSession, commands, request, response);
+            return;
+        }
 
         final String userAgent = request.getHeader("user-agent");
         LOG.trace("receiving RPM request for client session {} in http session {} from client with user-agent {}", clientSession.getId(), httpSession.getId(), userAgent);
@@ -85,33 +131,224 @@ public class RemotingCommunicationHandler {
         }
         LOG.trace("Request for ServerRemotingContext {} in http session {} contains {} commands", clientSession.getId(), httpSession.getId(), commands.size());
 
+        final ServerRemotingContext context;
         try {
-            ServerRemotingContext context = getOrCreateContext(clientSession, commands);
+            context = getOrCreateContext(clientSession, commands);
+        } catch (final Exception e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            LOG.error("Can not find or create matching remoting context in session " + httpSession.getId(), e);
+            return;
+        }
+        if (request.getHeader(RemotingConstants.LIST_SPLICE_HEADER) != null) {
+            context.getServerModelStore().setListSpliceSupported(true);
+        }
 
-            final List<Command> results = new ArrayList<>();
-            try {
-                results.addAll(handle(context, commands));
-            } catch (final Exception e) {
-                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-                LOG.error("Can not withoutResult the the received commands (ServerRemotingContext " + context.getId() + ")", e);
+        final long sequence = getSequence(request);
+        if (sequence >= 0) {
+            final RequestSequencer.Turn turn = requestTurn(context, sequence, commands, request);
+            if (turn == RequestSequencer.Turn.WAITING) {
+                return;
+            }
+            if (turn == RequestSequencer.Turn.REJECTED) {
+                response.setStatus(HttpServletResponse.SC_CONFLICT);
+                LOG.error("Request {} for ServerRemotingContext {} arrived out of order", sequence, context.getId());
                 return;
             }
+        }
+        handleCommands(context, commands, sequence, request, response);
+    }
 
-            LOG.trace("Sending RPM response for client session {} in http session {} from client with user-agent {}", context.getId(), httpSession.getId(), userAgent);
-            LOG.trace("RPM response for client session {} in http session {} contains {} commands", context.getId(), httpSession.getId(), results.size());
+    /**
+     * Handles a request of a pipelining client that was waiting for its turn (see {@link #requestTurn}).
+     */
+    private void handleInTurn(final ClientSession clientSession, final List<Command> commands, final HttpServletRequest request, final HttpServletResponse response) {
+        final ServerRemotingContext context = getContext(clientSession);
+        if (context == null) {
+            LOG.trace("ServerRemotingContext for client session {} was destroyed while request was waiting", clientSession.getId());
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        handleCommands(context, commands, getSequence(request), request, response);
+    }
 
-            try {
-                writeCommands(results, response);
-            } catch (final Exception e) {
-                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-                LOG.error("Can not writeRequestContent response!", e);
+    /**
+     * Handles the commands. The caller must have the turn of the request if a sequence number is defined. The turn
+     * ends once the commands have been handled. A suspended long poll keeps the turn until it has been resumed, so that
+     * the next request of a pipelining client is never handled in parallel to the long poll.
+     */
+    private void handleCommands(final ServerRemotingContext context, final List<Command> commands, final long sequence, final HttpServletRequest request, final HttpServletResponse response) {
+        final List<Command> results = new ArrayList<>();
+        try {
+            results.addAll(context.handle(commands, request.isAsyncSupported()));
+            if (results.isEmpty() && context.isLongPollSuspended()) {
+                suspendLongPoll(context, request, sequence);
                 return;
             }
         } catch (final Exception e) {
+            completeTurn(context, sequence);
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            LOG.error("Can not withoutResult the the received commands (ServerRemotingContext " + context.getId() + ")", e);
+            return;
+        }
+        completeTurn(context, sequence);
+
+        LOG.trace("Sending RPM response for client session {} in http session {}", context.getId(), request.getSession().getId());
+        LOG.trace("RPM response for client session {} in http session {} contains {} commands", context.getId(), request.getSession().getId(), results.size());
+
+        try {
+            writeCommands(results, request, response);
+        } catch (final Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            LOG.error("Can not writeRequestContent response!", e);
+        }
+    }
+
+    /**
+     * Asks the sequencer of the context for the turn of the request. If the request must wait and the container
+     * supports asynchronous requests the request is suspended and dispatched again once it has its turn. Otherwise
+     * the request is rejected instead of blocking a container thread.
+     */
+    private RequestSequencer.Turn requestTurn(final ServerRemotingContext context, final long sequence, final List<Command> commands, final HttpServletRequest request) {
+        final RequestSequencer sequencer = context.getRequestSequencer();
+        if (!request.isAsyncSupported()) {
+            return sequencer.requestTurn(sequence, null);
+        }
+
+        final AtomicReference<AsyncContext> asyncContextReference = new AtomicReference<>();
+        final AtomicBoolean ready = new AtomicBoolean(false);
+        final AtomicBoolean dispatched = new AtomicBoolean(false);
+        final Runnable dispatch = () -> {
+            if (!dispatched.getAndSet(true)) {
+                asyncContextReference.get().dispatch();
+            }
+        };
+        // the turn can come before the request has been suspended, whoever comes second dispatches the request
+        final Runnable onTurn = () -> {
+            if (ready.getAndSet(true)) {
+                dispatch.run();
+            }
+        };
+
+        final RequestSequencer.Turn turn = sequencer.requestTurn(sequence, onTurn);
+        if (turn != RequestSequencer.Turn.WAITING) {
+            return turn;
+        }
+
+        LOG.trace("Request {} for ServerRemotingContext {} waits for its turn", sequence, context.getId());
+        request.setAttribute(WAITING_COMMANDS_ATTRIBUTE_NAME, commands);
+        final AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(SEQUENCE_WAIT_FACTOR * context.getMaxPollTime());
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(final AsyncEvent event) {
+            }
+
+            @Override
+            public void onTimeout(final AsyncEvent event) {
+                if (sequencer.skip(sequence) == RequestSequencer.Turn.GRANTED) {
+                    dispatch.run();
+                } else if (!dispatched.getAndSet(true)) {
+                    LOG.error("Request {} for ServerRemotingContext {} did not get its turn in time", sequence, context.getId());
+                    ((HttpServletResponse) asyncContext.getResponse()).setStatus(HttpServletResponse.SC_CONFLICT);
+                    asyncContext.complete();
+                }
+            }
+
+            @Override
+            public void onError(final AsyncEvent event) {
+                LOG.error("Error while request " + sequence + " for ServerRemotingContext " + context.getId() + " waited for its turn", event.getThrowable());
+                sequencer.cancel(sequence);
+                sequencer.complete(sequence);
+            }
+
+            @Override
+            public void onStartAsync(final AsyncEvent event) {
+            }
+        });
+        asyncContextReference.set(asyncContext);
+        onTurn.run();
+        return turn;
+    }
+
+    private void completeTurn(final ServerRemotingContext context, final long sequence) {
+        if (sequence >= 0) {
+            context.getRequestSequencer().complete(sequence);
+        }
+    }
+
+    private long getSequence(final HttpServletRequest request) {
+        final String value = request.getHeader(RemotingConstants.SEQUENCE_HEADER);
+        if (Assert.isBlank(value)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (final NumberFormatException e) {
+            LOG.warn("Ignoring invalid request sequence '{}'", value);
+            return -1;
+        }
+    }
+
+    private void suspendLongPoll(final ServerRemotingContext context, final HttpServletRequest request, final long sequence) {
+        LOG.trace("Suspending long poll for ServerRemotingContext {}", context.getId());
+        request.setAttribute(SUSPENDED_LONG_POLL_ATTRIBUTE_NAME, context.getId());
+        final AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(context.getMaxPollTime());
+
+        final AtomicBoolean dispatched = new AtomicBoolean(false);
+        final Runnable wakeUpCallback = () -> {
+            if (!dispatched.getAndSet(true)) {
+                asyncContext.dispatch();
+            }
+        };
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(final AsyncEvent event) {
+                context.cancelLongPollAwait(wakeUpCallback);
+            }
+
+            @Override
+            public void onTimeout(final AsyncEvent event) {
+                context.cancelLongPollAwait(wakeUpCallback);
+                wakeUpCallback.run();
+            }
+
+            @Override
+            public void onError(final AsyncEvent event) {
+                LOG.error("Error in suspended long poll for ServerRemotingContext " + context.getId(), event.getThrowable());
+                context.cancelLongPollAwait(wakeUpCallback);
+                completeTurn(context, sequence);
+            }
+
+            @Override
+            public void onStartAsync(final AsyncEvent event) {
+            }
+        });
+        if (!context.awaitLongPollTasks(wakeUpCallback)) {
+            wakeUpCallback.run();
+        }
+    }
+
+    private void resumeLongPoll(final ClientSession clientSession, final HttpServletRequest request, final HttpServletResponse response) {
+        final ServerRemotingContext context = getContext(clientSession);
+        if (context == null) {
+            LOG.trace("ServerRemotingContext for client session {} was destroyed while long poll was suspended", clientSession.getId());
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            LOG.error("Can not find or create matching remoting context in session " + httpSession.getId(), e);
             return;
         }
+        LOG.trace("Resuming long poll for ServerRemotingContext {}", context.getId());
+        try {
+            final List<Command> results;
+            try {
+                results = context.resumeLongPoll();
+            } finally {
+                completeTurn(context, getSequence(request));
+            }
+            writeCommands(results, request, response);
+        } catch (final Exception e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            LOG.error("Can not resume long poll (ServerRemotingContext " + context.getId() + ")", e);
+        }
     }
 
     public ServerRemotingContext getContext(final ClientSession clientSession) {
@@ -165,27 +402,20 @@ public class RemotingCommunicationHandler {
     }
 
     private List<Command> readCommands(final HttpServletRequest request) throws IOException {
-        final List<Command> commands = new ArrayList<>();
-        final StringBuilder requestJson = new StringBuilder();
-        String line;
-        while ((line = request.getReader().readLine()) != null) {
-            requestJson.append(line).append("\n");
-        }
-        commands.addAll(codec.decode(requestJson.toString()));
-        return commands;
+        final StreamCodec codec = CommandCodecs.forContentType(request.getContentType());
+        return new ArrayList<>(codec.decode(request.getInputStream()));
     }
 
-    private void writeCommands(final List<Command> commands, final HttpServletResponse response) throws IOException {
-        response.setHeader("Content-Type", "application/json");
+    private void writeCommands(final List<Command> commands, final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final StreamCodec codec = CommandCodecs.forAcceptHeader(request.getHeader(CommandCodecs.ACCEPT_HEADER), binaryProtocolActive);
+        response.setHeader(CommandCodecs.CONTENT_TYPE_HEADER, codec.getContentType());
+        response.setHeader(RemotingConstants.LIST_SPLICE_HEADER, Boolean.TRUE.toString());
         response.setCharacterEncoding("UTF-8");
-        final String jsonResponse = codec.encode(commands);
-        response.getWriter().print(jsonResponse);
-    }
-
-    private List<Command> handle(final ServerRemotingContext context, List<Command> commands) {
-        final List<Command> results = new ArrayList<>();
-        results.addAll(context.handle(commands));
-        return results;
+        if (responseOptimizer != null) {
+            codec.encode(responseOptimizer.optimize(commands), response.getOutputStream());
+        } else {
+            codec.encode(commands, response.getOutputStream());
+        }
     }
 
     private void add(final ClientSession clientSession, final ServerRemotingContext context) {
@@ -30,6 +30,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -63,6 +64,8 @@ public class RemotingContextTaskQueue {
 
     private final AtomicBoolean interrupted = new AtomicBoolean(false);
 
+    private final AtomicReference<Runnable> wakeUpCallback = new AtomicReference<>();
+
     public RemotingContextTaskQueue(final String clientSessionId, final ClientSessionProvider sessionProvider, final CommunicationManager communicationManager, final long maxExecutionTime, final TimeUnit maxExecutionTimeUnit) {
         this.clientSessionId = Assert.requireNonBlank(clientSessionId, "clientSessionId");
         this.tasks = new LinkedBlockingQueue<>();
@@ -93,6 +96,7 @@ public class RemotingContextTaskQueue {
         } finally {
             taskLock.unlock();
         }
+        wakeUp();
         return future;
     }
 
@@ -105,13 +109,72 @@ public class RemotingContextTaskQueue {
         } finally {
             taskLock.unlock();
         }
+        wakeUp();
     }
 
-    public void executeTasks() {
-        final ClientSession currentSession = sessionProvider.getCurrentClientSession();
-        if (currentSession == null || !clientSessionId.equals(currentSession.getId())) {
-            throw new IllegalStateException("Not in client session " + clientSessionId);
+    /**
+     * Registers a callback that will be called once as soon as a new task is added or the queue is interrupted.
+     * In contrast to {@link #executeTasks()} this method never blocks and can be used to release the
+     * calling thread while waiting for tasks (see asynchronous long poll). A callback that was registered
+     * before will be called directly since only one caller can wait for tasks.
+     *
+     * @param callback the callback
+     * @return {@code false} if tasks are already available or the queue was interrupted. In that case
+     * the callback is not registered and the caller should directly call {@link #executeOpenTasks()}.
+     */
+    public boolean awaitTasks(final Runnable callback) {
+        Assert.requireNonNull(callback, "callback");
+        final Runnable previousCallback = wakeUpCallback.getAndSet(callback);
+        if (previousCallback != null) {
+            LOG.trace("Releasing previous asynchronous task execution in client session {}", clientSessionId);
+            previousCallback.run();
+        }
+        if (!tasks.isEmpty() || interrupted.get()) {
+            return !wakeUpCallback.compareAndSet(callback, null);
+        }
+        LOG.trace("Waiting asynchronously for tasks in client session {}", clientSessionId);
+        return true;
+    }
+
+    /**
+     * Removes a callback that was registered by {@link #awaitTasks(Runnable)}.
+     *
+     * @param callback the callback
+     * @return {@code true} if the callback was removed before it has been called
+     */
+    public boolean cancelAwait(final Runnable callback) {
+        Assert.requireNonNull(callback, "callback");
+        return wakeUpCallback.compareAndSet(callback, null);
+    }
+
+    private void wakeUp() {
+        final Runnable callback = wakeUpCallback.getAndSet(null);
+        if (callback != null) {
+            LOG.trace("Waking up asynchronous task execution in client session {}", clientSessionId);
+            callback.run();
+        }
+    }
+
+    /**
+     * Executes all tasks that are currently in the queue without waiting for new tasks. The execution ends
+     * once the current response contains commands or the queue is empty.
+     */
+    public void executeOpenTasks() {
+        checkClientSession();
+
+        LOG.trace("Running {} open tasks in client session {}", tasks.size(), clientSessionId);
+        interrupted.set(false);
+        while (!communicationManager.hasResponseCommands()) {
+            final Runnable task = tasks.poll();
+            if (task == null) {
+                break;
+            }
+            runTask(task);
         }
+    }
+
+    public void executeTasks() {
+        checkClientSession();
 
         LOG.trace("Running {} tasks in client session {}", tasks.size(), clientSessionId);
         final long startTime = System.currentTimeMillis();
@@ -146,20 +209,31 @@ public class RemotingContextTaskQueue {
                     throw new IllegalStateException(exceptionMessage, e);
                 }
             } else {
-                try {
-                    task.run();
-                    LOG.trace("Task executor executed task in client session {}", clientSessionId);
-                } catch (Exception e) {
-                    String exceptionMessage =
-                        String.format(
-                            "Error in running task in client session %s",
-                                clientSessionId);
-                    LOG.error(exceptionMessage, e);
-                    throw new TaskException(exceptionMessage, e);
-                }
+                runTask(task);
             }
         }
         final long runTime = System.currentTimeMillis() - startTime;
         LOG.trace("Task executor for client session {} ended after {} seconds with {} task still open", clientSessionId, maxExecutionTimeUnit.toSeconds(runTime), tasks.size());
     }
+
+    private void checkClientSession() {
+        final ClientSession currentSession = sessionProvider.getCurrentClientSession();
+        if (currentSession == null || !clientSessionId.equals(currentSession.getId())) {
+            throw new IllegalStateException("Not in client session " + clientSessionId);
+        }
+    }
+
+    private void runTask(final Runnable task) {
+        try {
+            task.run();
+            LOG.trace("Task executor executed task in client session {}", clientSessionId);
+        } catch (Exception e) {
+            String exceptionMessage =
+                String.format(
+                    "Error in running task in client session %s",
+                        clientSessionId);
+            LOG.error(exceptionMessage, e);
+            throw new TaskException(exceptionMessage, e);
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.context;
+
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Guards the order of the requests of a pipelining client. A client that sends several requests without waiting for
+ * the responses numbers its requests. Since the requests can overtake each other on the way to the server a request
+ * only gets its turn once all requests with a lower sequence number have been handled. A request that arrives too
+ * early does not block a thread: it registers a callback that is called as soon as it is its turn.
+ * <p>
+ * The first sequence number that is seen defines the start of the sequence. The turn of a request lasts until
+ * {@link #complete(long)} is called for it, which allows a suspended long poll to keep its turn until it has been
+ * resumed. If a request does not arrive in time the sequence can skip it (see {@link #skip(long)}) and the request
+ * is rejected if it arrives later.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class RequestSequencer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestSequencer.class);
+
+    /**
+     * The result of a request for a turn.
+     */
+    public enum Turn {
+
+        /**
+         * The request has its turn and must call {@link #complete(long)} once it has been handled.
+         */
+        GRANTED,
+
+        /**
+         * The request is waiting for its turn. The callback is called once the request has its turn.
+         */
+        WAITING,
+
+        /**
+         * The request has already been skipped or is a duplicate and must not be handled.
+         */
+        REJECTED
+    }
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Map<Long, Runnable> waitingRequests = new TreeMap<>();
+
+    private long expectedSequence = -1;
+
+    private boolean turnTaken = false;
+
+    /**
+     * Asks for the turn of the request with the given sequence number.
+     *
+     * @param sequence the sequence number of the request
+     * @param onTurn callback that is called once the request has its turn, if {@code null} a request that can not be
+     *               handled directly is rejected
+     * @return the result, {@link Turn#WAITING} means that the callback will be called
+     */
+    public Turn requestTurn(final long sequence, final Runnable onTurn) {
+        lock.lock();
+        try {
+            if (expectedSequence < 0) {
+                expectedSequence = sequence;
+            }
+            if (sequence < expectedSequence || (sequence == expectedSequence && turnTaken)) {
+                return Turn.REJECTED;
+            }
+            if (sequence == expectedSequence) {
+                turnTaken = true;
+                return Turn.GRANTED;
+            }
+            if (onTurn == null || waitingRequests.containsKey(sequence)) {
+                return Turn.REJECTED;
+            }
+            waitingRequests.put(sequence, onTurn);
+            return Turn.WAITING;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called if a waiting request did not get its turn in time. If no request has the turn at the moment and no
+     * request with a lower sequence number is waiting, the sequence skips all missing requests and the request gets
+     * its turn. Otherwise the request is removed and rejected. A request that has already been called back gets
+     * {@link Turn#GRANTED}.
+     *
+     * @param sequence the sequence number of the waiting request
+     * @return {@link Turn#GRANTED} or {@link Turn#REJECTED}
+     */
+    public Turn skip(final long sequence) {
+        lock.lock();
+        try {
+            if (!waitingRequests.containsKey(sequence)) {
+                return Turn.GRANTED;
+            }
+            final long lowestWaitingSequence = waitingRequests.keySet().iterator().next();
+            if (turnTaken || lowestWaitingSequence != sequence) {
+                waitingRequests.remove(sequence);
+                LOG.warn("Request {} is still pending, rejecting request {}", expectedSequence, sequence);
+                return Turn.REJECTED;
+            }
+            LOG.warn("Request {} did not arrive in time, skipping requests {} to {}", expectedSequence, expectedSequence, sequence - 1);
+            waitingRequests.remove(sequence);
+            expectedSequence = sequence;
+            turnTaken = true;
+            return Turn.GRANTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a waiting request, for example since the request failed.
+     *
+     * @param sequence the sequence number of the request
+     */
+    public void cancel(final long sequence) {
+        lock.lock();
+        try {
+            waitingRequests.remove(sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends the turn of the request with the given sequence number and hands the turn to the next request if it is
+     * already waiting. Calls for a request that does not have the turn are ignored.
+     *
+     * @param sequence the sequence number of the request
+     */
+    public void complete(final long sequence) {
+        final Runnable next;
+        lock.lock();
+        try {
+            if (sequence != expectedSequence || !turnTaken) {
+                return;
+            }
+            expectedSequence = sequence + 1;
+            next = waitingRequests.remove(expectedSequence);
+            turnTaken = next != null;
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            next.run();
+        }
+    }
+}
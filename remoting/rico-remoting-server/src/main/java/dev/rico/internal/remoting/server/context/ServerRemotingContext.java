@@ -17,6 +17,7 @@
 package dev.rico.internal.remoting.server.context;
 
 import dev.rico.internal.core.Assert;
+import dev.rico.internal.metrics.MetricsImpl;
 import dev.rico.internal.remoting.BeanManagerImpl;
 import dev.rico.internal.remoting.ClassRepository;
 import dev.rico.internal.remoting.ClassRepositoryImpl;
@@ -26,12 +27,12 @@ import dev.rico.internal.remoting.InternalAttributesBean;
 import dev.rico.internal.remoting.ListMapper;
 import dev.rico.internal.remoting.PresentationModelBuilderFactory;
 import dev.rico.internal.remoting.codec.OptimizedJsonCodec;
-import dev.rico.internal.remoting.collections.ListMapperImpl;
 import dev.rico.internal.remoting.commands.CallActionCommand;
 import dev.rico.internal.remoting.commands.CreateContextCommand;
 import dev.rico.internal.remoting.commands.CreateControllerCommand;
 import dev.rico.internal.remoting.commands.DestroyContextCommand;
 import dev.rico.internal.remoting.commands.DestroyControllerCommand;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.legacy.commands.InterruptLongPollCommand;
 import dev.rico.internal.remoting.legacy.commands.StartLongPollCommand;
 import dev.rico.internal.remoting.legacy.communication.Command;
@@ -42,6 +43,7 @@ import dev.rico.internal.remoting.server.controller.ControllerRepository;
 import dev.rico.internal.remoting.server.gc.GarbageCollectionCallback;
 import dev.rico.internal.remoting.server.gc.GarbageCollector;
 import dev.rico.internal.remoting.server.gc.Instance;
+import dev.rico.internal.remoting.server.legacy.ModelBudget;
 import dev.rico.internal.remoting.server.legacy.ServerConnector;
 import dev.rico.internal.remoting.server.legacy.ServerModelStore;
 import dev.rico.internal.remoting.server.legacy.action.AbstractServerAction;
@@ -53,6 +55,7 @@ import dev.rico.internal.remoting.server.model.ServerBeanRepository;
 import dev.rico.internal.remoting.server.model.ServerBeanRepositoryImpl;
 import dev.rico.internal.remoting.server.model.ServerControllerActionCallBean;
 import dev.rico.internal.remoting.server.model.ServerEventDispatcher;
+import dev.rico.internal.remoting.server.model.ServerListMapper;
 import dev.rico.internal.remoting.server.model.ServerPlatformBeanRepository;
 import dev.rico.internal.remoting.server.model.ServerPresentationModelBuilderFactory;
 import dev.rico.internal.server.servlet.ServerTimingFilter;
@@ -101,6 +104,8 @@ public class ServerRemotingContext {
 
     private final EventDispatcher dispatcher;
 
+    private final ListMapper listMapper;
+
     private ServerPlatformBeanRepository platformBeanRepository;
 
     private final Consumer<ServerRemotingContext> onDestroyCallback;
@@ -111,10 +116,16 @@ public class ServerRemotingContext {
 
     private final ClientSession clientSession;
 
+    private final RequestSequencer requestSequencer = new RequestSequencer();
+
     private boolean hasResponseCommands = false;
 
     private boolean active = false;
 
+    private boolean suspendAllowed = false;
+
+    private boolean longPollSuspended = false;
+
     public ServerRemotingContext(final RemotingConfiguration configuration, ClientSession clientSession, ClientSessionProvider clientSessionProvider, ManagedBeanFactory beanFactory, ControllerRepository controllerRepository, Consumer<ServerRemotingContext> onDestroyCallback) {
         this.configuration = Assert.requireNonNull(configuration, "configuration");
         Assert.requireNonNull(beanFactory, "beanFactory");
@@ -123,6 +134,8 @@ public class ServerRemotingContext {
         this.clientSession = Assert.requireNonNull(clientSession, "clientSession");
 
         serverModelStore = new ServerModelStore();
+        serverModelStore.setBudget(new ModelBudget(configuration.getModelBudgetMaxModels(), configuration.getModelBudgetMaxAttributes(),
+                configuration.getModelBudgetMaxBytes(), configuration.getModelBudgetPolicy(), MetricsImpl.getInstance()));
 
         //Init Server Connector
         serverConnector = new ServerConnector();
@@ -156,7 +169,7 @@ public class ServerRemotingContext {
         //Init BeanManager
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        listMapper = new ServerListMapper(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final ServerBeanBuilder beanBuilder = new ServerBeanBuilderImpl(classRepository, beanRepository, listMapper, builderFactory, dispatcher, garbageCollector);
         beanManager = new BeanManagerImpl(beanRepository, beanBuilder);
 
@@ -199,6 +212,10 @@ public class ServerRemotingContext {
                     Assert.requireNonNull(callActionCommand, "callActionCommand");
                     onCallControllerAction(callActionCommand.getControllerId(), callActionCommand.getActionName(), callActionCommand.getParams());
                 });
+                registerCommand(registry, ListSpliceCommand.class, (listSpliceCommand) -> {
+                    Assert.requireNonNull(listSpliceCommand, "listSpliceCommand");
+                    listMapper.processSplice(listSpliceCommand);
+                });
                 registerCommand(registry, StartLongPollCommand.class, (c) -> onLongPoll());
                 registerCommand(registry, InterruptLongPollCommand.class, (c) -> interrupt());
             }
@@ -276,10 +293,66 @@ public class ServerRemotingContext {
         }
         final ServerTimer serverTimer = ServerTimingFilter.getCurrentTiming().start("TaskExecution", "Execution of Tasks in Long Poll");
         try (serverTimer) {
-            taskQueue.executeTasks();
+            if (suspendAllowed && configuration.isAsyncLongPoll()) {
+                taskQueue.executeOpenTasks();
+                longPollSuspended = !serverModelStore.hasResponseCommands();
+            } else {
+                taskQueue.executeTasks();
+            }
+        }
+    }
+
+    /**
+     * Registers a callback that is called once the suspended long poll of this context should be resumed.
+     *
+     * @param callback the callback
+     * @return {@code false} if the long poll can be resumed directly without waiting
+     * @see RemotingContextTaskQueue#awaitTasks(Runnable)
+     */
+    public boolean awaitLongPollTasks(final Runnable callback) {
+        return taskQueue.awaitTasks(callback);
+    }
+
+    public boolean cancelLongPollAwait(final Runnable callback) {
+        return taskQueue.cancelAwait(callback);
+    }
+
+    /**
+     * Resumes a long poll that was suspended (see {@link #isLongPollSuspended()}) and executes all open tasks.
+     *
+     * @return the commands that must be sent to the client as response of the long poll
+     */
+    public List<Command> resumeLongPoll() {
+        active = true;
+        longPollSuspended = false;
+        hasResponseCommands = false;
+        try {
+            final List<Command> results = new LinkedList<>();
+            serverModelStore.setCurrentResponse(results);
+            final ServerTimer serverTimer = ServerTimingFilter.getCurrentTiming().start("TaskExecution", "Execution of Tasks in Long Poll");
+            try (serverTimer) {
+                taskQueue.executeOpenTasks();
+            }
+            return results;
+        } finally {
+            active = false;
         }
     }
 
+    /**
+     * Returns {@code true} if the last handled long poll did not produce any response and the request should
+     * be suspended until a task is added (see {@link RemotingConfiguration#isAsyncLongPoll()}).
+     *
+     * @return {@code true} if the last long poll is suspended
+     */
+    public boolean isLongPollSuspended() {
+        return longPollSuspended;
+    }
+
+    public long getMaxPollTime() {
+        return configuration.getMaxPollTime();
+    }
+
     private void onGarbageCollection() {
         final ServerTimer serverTimer = ServerTimingFilter.getCurrentTiming().start("RemotingGc", "Garbage collection for the remoting model");
         try (serverTimer) {
@@ -304,15 +377,33 @@ public class ServerRemotingContext {
     }
 
     public List<Command> handle(final List<Command> commands) {
+        return handle(commands, false);
+    }
+
+    /**
+     * Handles the given commands.
+     *
+     * @param commands the commands
+     * @param suspendAllowed if {@code true} a long poll will not block the current thread
+     *                       (see {@link #isLongPollSuspended()})
+     * @return the response commands
+     */
+    public List<Command> handle(final List<Command> commands, final boolean suspendAllowed) {
         active = true;
+        longPollSuspended = false;
+        this.suspendAllowed = suspendAllowed;
         try {
         final List<Command> results = new LinkedList<>();
             for (final Command command : commands) {
                 results.addAll(serverConnector.receive(command));
                 hasResponseCommands = !results.isEmpty();
             }
+            if (!results.isEmpty()) {
+                longPollSuspended = false;
+            }
             return results;
         } finally {
+            this.suspendAllowed = false;
             active = false;
         }
     }
@@ -321,6 +412,13 @@ public class ServerRemotingContext {
         return clientSession;
     }
 
+    /**
+     * @return the sequencer that keeps the requests of a pipelining client in order
+     */
+    public RequestSequencer getRequestSequencer() {
+        return requestSequencer;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -20,18 +20,13 @@ import dev.rico.core.functional.Assignment;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.core.ReflectionHelper;
 import dev.rico.internal.core.context.RicoApplicationContextImpl;
-import dev.rico.internal.core.lang.StringUtils;
 import dev.rico.internal.remoting.BeanRepository;
 import dev.rico.internal.remoting.Converters;
+import dev.rico.internal.remoting.server.controller.ControllerMetadata.ActionMetadata;
+import dev.rico.internal.remoting.server.controller.ControllerMetadata.ValueInjectionPoint;
 import dev.rico.internal.server.beans.PostConstructInterceptor;
 import dev.rico.internal.remoting.server.error.ActionErrorHandler;
 import dev.rico.internal.remoting.server.model.ServerBeanBuilder;
-import dev.rico.remoting.server.Param;
-import dev.rico.remoting.server.ParentController;
-import dev.rico.remoting.server.PostChildCreated;
-import dev.rico.remoting.server.PreChildDestroyed;
-import dev.rico.remoting.server.RemotingAction;
-import dev.rico.remoting.server.RemotingModel;
 import dev.rico.remoting.converter.ValueConverterException;
 import dev.rico.remoting.server.RemotingValue;
 import dev.rico.server.spi.components.ManagedBeanFactory;
@@ -40,10 +35,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -127,7 +119,7 @@ public class ControllerHandler {
         if (parentControllerId != null) {
             final Object parentController = controllers.get(parentControllerId);
             Assert.requireNonNull(parentController, "parentController");
-            firePostChildCreated(parentController, instance);
+            getMetadata(parentControllerId).firePostChildCreated(parentController, instance);
         }
 
         LOG.trace("Created Controller of type {} and id {} for name {}", ControllerUtils.getControllerName(controllerClass), id, name);
@@ -152,7 +144,7 @@ public class ControllerHandler {
         if (parentControllerId != null) {
             final Object parentController = controllers.get(parentControllerId);
             Assert.requireNonNull(parentController, "parentController");
-            firePreChildDestroyed(parentController, controller);
+            getMetadata(parentControllerId).firePreChildDestroyed(parentController, controller);
         }
 
         final Class controllerClass = controllerClassMapping.remove(id);
@@ -171,31 +163,10 @@ public class ControllerHandler {
         }
     }
 
-    private void firePostChildCreated(final Object parentController, final Object childController) {
-        Assert.requireNonNull(parentController, "parentController");
-        Assert.requireNonNull(childController, "childController");
-
-        final List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(parentController.getClass());
-
-        for (final Method method : allMethods) {
-            if (method.isAnnotationPresent(PostChildCreated.class)) {
-                if (method.getParameters()[0].getType().isAssignableFrom(childController.getClass())) {
-                    ReflectionHelper.invokePrivileged(method, parentController, childController);
-                }
-            }
-        }
-    }
-
-    private void firePreChildDestroyed(final Object parentController, final Object childController) {
-        final List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(parentController.getClass());
-
-        for (final Method method : allMethods) {
-            if (method.isAnnotationPresent(PreChildDestroyed.class)) {
-                if (method.getParameters()[0].getType().isAssignableFrom(childController.getClass())) {
-                    ReflectionHelper.invokePrivileged(method, parentController, childController);
-                }
-            }
-        }
+    private ControllerMetadata getMetadata(final String controllerId) {
+        final Class<?> controllerClass = controllerClassMapping.get(controllerId);
+        Assert.requireNonNull(controllerClass, "controllerClass");
+        return controllerRepository.getControllerMetadata(controllerClass);
     }
 
     /**
@@ -207,17 +178,15 @@ public class ControllerHandler {
         Assert.requireNonNull(parameters, "parameters");
         Assert.requireNonNull(controller, "controller");
 
-        for (Field f : ReflectionHelper.getInheritedDeclaredFields(controller.getClass())) {
-            ReflectionHelper.getAnnotationOrMetaAnnotation(f, RemotingValue.class).ifPresent(annotation -> {
-                final String name = StringUtils.nonEmpty(annotation.value()).orElse(f.getName());
-                if (parameters.containsKey(name)) {
-                    ReflectionHelper.setPrivileged(f, controller, parameters.get(name));
-                } else {
-                    if (!annotation.optional()) {
-                        throw new IllegalStateException("No value defined for configuration value '" + name + "' in controller '" + controller.getClass() + "'");
-                    }
+        for (final ValueInjectionPoint injectionPoint : controllerRepository.getControllerMetadata(controller.getClass()).getValueInjectionPoints()) {
+            final String name = injectionPoint.getName();
+            if (parameters.containsKey(name)) {
+                ReflectionHelper.setPrivileged(injectionPoint.getField(), controller, parameters.get(name));
+            } else {
+                if (!injectionPoint.isOptional()) {
+                    throw new IllegalStateException("No value defined for configuration value '" + name + "' in controller '" + controller.getClass() + "'");
                 }
-            });
+            }
         }
     }
 
@@ -225,19 +194,7 @@ public class ControllerHandler {
         Assert.requireNonNull(controllerId, "controllerId");
         Assert.requireNonNull(controller, "controller");
 
-        final List<Field> allFields = ReflectionHelper.getInheritedDeclaredFields(controller.getClass());
-
-        Field modelField = null;
-
-        for (final Field field : allFields) {
-            if (field.isAnnotationPresent(RemotingModel.class)) {
-                if (modelField != null) {
-                    throw new RuntimeException("More than one Model was found for controller " + ControllerUtils.getControllerName(controller.getClass()));
-                }
-                modelField = field;
-            }
-        }
-
+        final Field modelField = controllerRepository.getControllerMetadata(controller.getClass()).getModelField();
         if (modelField != null) {
             final Object model = beanBuilder.createRootModel(modelField.getType());
             ReflectionHelper.setPrivileged(modelField, controller, model);
@@ -250,18 +207,7 @@ public class ControllerHandler {
         Assert.requireNonNull(controller, "controller");
         Assert.requireNonNull(parentControllerId, "parentControllerId");
 
-        final List<Field> allFields = ReflectionHelper.getInheritedDeclaredFields(controller.getClass());
-
-        Field parentField = null;
-
-        for (final Field field : allFields) {
-            if (field.isAnnotationPresent(ParentController.class)) {
-                if (parentField != null) {
-                    throw new RuntimeException("More than one parent was found for controller " + ControllerUtils.getControllerName(controller.getClass()));
-                }
-                parentField = field;
-            }
-        }
+        final Field parentField = controllerRepository.getControllerMetadata(controller.getClass()).getParentField();
         if (parentField != null) {
             final Object parentController = controllers.get(parentControllerId);
             Assert.requireNonNull(parentController, "parentController");
@@ -298,32 +244,29 @@ public class ControllerHandler {
             if (controllerClass == null) {
                 throw new InvokeActionException("No controllerClass for id " + controllerId + " found");
             }
-            final Method actionMethod = getActionMethod(controllerClass, actionName);
-            if (actionMethod == null) {
+            final ActionMetadata action = controllerRepository.getControllerMetadata(controllerClass).getAction(actionName);
+            if (action == null) {
                 throw new InvokeActionException("No actionMethod with name " + actionName + " in controller class " + ControllerUtils.getControllerName(controllerClass) + " found");
             }
-            final List<Object> args = getArgs(actionMethod, params);
-            LOG.debug("Will call {} action for controller {} ({}.{}) with {} params.", actionName, controllerId, controllerClass, ControllerUtils.getActionMethodName(actionMethod), args.size());
+            final Object[] args = getArgs(action, params);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Will call {} action for controller {} ({}.{}) with {} params.", actionName, controllerId, controllerClass, action.getName(), args.length);
+            }
             if (LOG.isTraceEnabled()) {
-                int index = 1;
-                for (final Object param : args) {
+                for (int i = 0; i < args.length; i++) {
+                    final Object param = args[i];
                     if (param != null) {
-                        LOG.trace("Action param {}: {} with type {} is called with value \"{}\" and type {}", index, actionMethod.getParameters()[index - 1].getName(), actionMethod.getParameters()[index - 1].getType().getSimpleName(), param, param.getClass());
+                        LOG.trace("Action param {}: {} with type {} is called with value \"{}\" and type {}", i + 1, action.getParameterName(i), action.getParameterType(i).getSimpleName(), param, param.getClass());
                     } else {
-                        LOG.trace("Action param {}: {} with type {} is called with value null", index, actionMethod.getParameters()[index - 1].getName(), actionMethod.getParameters()[index - 1].getType().getSimpleName());
+                        LOG.trace("Action param {}: {} with type {} is called with value null", i + 1, action.getParameterName(i), action.getParameterType(i).getSimpleName());
                     }
-                    index++;
                 }
             }
             try {
-                ReflectionHelper.invokePrivileged(actionMethod, controller, args.toArray());
-            } catch (final RuntimeException e) {
-                if (e.getCause() instanceof InvocationTargetException) {
-                    final InvocationTargetException invocationTargetException = (InvocationTargetException) e.getCause();
-                    final Throwable internalException = invocationTargetException.getCause();
-                    actionErrorHandler.handle(internalException, controller, ControllerUtils.getControllerName(controllerClass), actionName);
-                }
-                throw e;
+                action.invoke(controller, args);
+            } catch (final Exception e) {
+                actionErrorHandler.handle(e, controller, ControllerUtils.getControllerName(controllerClass), actionName);
+                throw new InvokeActionException("Can not call action '" + actionName + "'", e);
             }
         } catch (final InvokeActionException e) {
             throw e;
@@ -332,36 +275,25 @@ public class ControllerHandler {
         }
     }
 
-    private List<Object> getArgs(final Method method, final Map<String, Object> params) throws ValueConverterException {
-        Assert.requireNonNull(method, "method");
+    private Object[] getArgs(final ActionMetadata action, final Map<String, Object> params) throws ValueConverterException {
+        Assert.requireNonNull(action, "action");
         Assert.requireNonNull(params, "params");
 
-        final int n = method.getParameterTypes().length;
-        final List<Object> args = new ArrayList<>(n);
+        final int n = action.getParameterCount();
+        final Object[] args = new Object[n];
 
         for (int i = 0; i < n; i++) {
-            String paramName = Integer.toString(i);
-            for (final Annotation annotation : method.getParameterAnnotations()[i]) {
-                if (annotation.annotationType().equals(Param.class)) {
-                    final Param param = (Param) annotation;
-                    if (param.value() != null && !param.value().isEmpty()) {
-                        paramName = param.value();
-                    }
-                }
-            }
+            final String paramName = action.getParameterName(i);
             if (!params.containsKey(paramName)) {
                 throw new IllegalArgumentException("No value for param " + paramName + " specified!");
             }
             final Object value = params.get(paramName);
-            final Class<?> type = method.getParameters()[i].getType();
+            final Class<?> type = action.getParameterType(i);
             if (value != null) {
                 LOG.trace("Param check of value {} with type {} for param with type {}", value, value.getClass(), type);
-                args.add(converters.getConverter(type).convertFromRemoting(value));
-            } else {
-                if (type.isPrimitive()) {
-                    throw new IllegalArgumentException("Can not use 'null' for primitive type of parameter '" + paramName + "'");
-                }
-                args.add(null);
+                args[i] = converters.getConverter(type).convertFromRemoting(value);
+            } else if (type.isPrimitive()) {
+                throw new IllegalArgumentException("Can not use 'null' for primitive type of parameter '" + paramName + "'");
             }
         }
         return args;
@@ -370,24 +302,4 @@ public class ControllerHandler {
     public Set<String> getAllControllerIds() {
         return Collections.unmodifiableSet(controllers.keySet());
     }
-
-    private <T> Method getActionMethod(Class<T> controllerClass, String actionName) {
-        Assert.requireNonNull(controllerClass, "controllerClass");
-        Assert.requireNonNull(actionName, "actionName");
-
-        final List<Method> allMethods = ReflectionHelper.getInheritedDeclaredMethods(controllerClass);
-        Method foundMethod = null;
-        for (final Method method : allMethods) {
-            if (method.isAnnotationPresent(RemotingAction.class)) {
-                final String currentActionName = ControllerUtils.getActionMethodName(method);
-                if (currentActionName.equals(actionName)) {
-                    if (foundMethod != null) {
-                        throw new RuntimeException("More than one method for action " + actionName + " found in " + controllerClass);
-                    }
-                    foundMethod = method;
-                }
-            }
-        }
-        return foundMethod;
-    }
 }
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.controller;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.core.ReflectionHelper;
+import dev.rico.internal.core.lang.StringUtils;
+import dev.rico.remoting.server.Param;
+import dev.rico.remoting.server.ParentController;
+import dev.rico.remoting.server.PostChildCreated;
+import dev.rico.remoting.server.PreChildDestroyed;
+import dev.rico.remoting.server.RemotingAction;
+import dev.rico.remoting.server.RemotingModel;
+import dev.rico.remoting.server.RemotingValue;
+import org.apiguardian.api.API;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Dispatch table of a controller class. All reflective lookups (actions, action parameters, injection points and
+ * child callbacks) are done once when the metadata is created. Actions and child callbacks are invoked by
+ * {@link MethodHandle}s. The metadata is immutable and shared by all remoting contexts.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class ControllerMetadata {
+
+    private final Class<?> controllerClass;
+
+    private final Map<String, ActionMetadata> actions;
+
+    private final Set<String> ambiguousActions;
+
+    private final Field modelField;
+
+    private final List<Field> parentFields;
+
+    private final List<ValueInjectionPoint> valueInjectionPoints;
+
+    private final List<ChildCallback> postChildCreatedCallbacks;
+
+    private final List<ChildCallback> preChildDestroyedCallbacks;
+
+    public ControllerMetadata(final Class<?> controllerClass) {
+        this.controllerClass = Assert.requireNonNull(controllerClass, "controllerClass");
+
+        final Map<String, ActionMetadata> localActions = new HashMap<>();
+        final Set<String> localAmbiguousActions = new HashSet<>();
+        final List<ChildCallback> localPostChildCreatedCallbacks = new ArrayList<>();
+        final List<ChildCallback> localPreChildDestroyedCallbacks = new ArrayList<>();
+        for (final Method method : ReflectionHelper.getInheritedDeclaredMethods(controllerClass)) {
+            if (method.isAnnotationPresent(RemotingAction.class)) {
+                final ActionMetadata action = new ActionMetadata(method);
+                if (localActions.putIfAbsent(action.getName(), action) != null) {
+                    localAmbiguousActions.add(action.getName());
+                }
+            }
+            if (method.isAnnotationPresent(PostChildCreated.class)) {
+                localPostChildCreatedCallbacks.add(new ChildCallback(method));
+            }
+            if (method.isAnnotationPresent(PreChildDestroyed.class)) {
+                localPreChildDestroyedCallbacks.add(new ChildCallback(method));
+            }
+        }
+        this.actions = Collections.unmodifiableMap(localActions);
+        this.ambiguousActions = Collections.unmodifiableSet(localAmbiguousActions);
+        this.postChildCreatedCallbacks = Collections.unmodifiableList(localPostChildCreatedCallbacks);
+        this.preChildDestroyedCallbacks = Collections.unmodifiableList(localPreChildDestroyedCallbacks);
+
+        Field localModelField = null;
+        final List<Field> localParentFields = new ArrayList<>();
+        final List<ValueInjectionPoint> localValueInjectionPoints = new ArrayList<>();
+        for (final Field field : ReflectionHelper.getInheritedDeclaredFields(controllerClass)) {
+            if (field.isAnnotationPresent(RemotingModel.class)) {
+                if (localModelField != null) {
+                    throw new RuntimeException("More than one Model was found for controller " + ControllerUtils.getControllerName(controllerClass));
+                }
+                localModelField = makeAccessible(field);
+            }
+            if (field.isAnnotationPresent(ParentController.class)) {
+                localParentFields.add(makeAccessible(field));
+            }
+            ReflectionHelper.getAnnotationOrMetaAnnotation(field, RemotingValue.class)
+                    .ifPresent(annotation -> localValueInjectionPoints.add(new ValueInjectionPoint(field, annotation)));
+        }
+        this.modelField = localModelField;
+        this.parentFields = Collections.unmodifiableList(localParentFields);
+        this.valueInjectionPoints = Collections.unmodifiableList(localValueInjectionPoints);
+    }
+
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    /**
+     * Returns the action with the given name or {@code null} if the controller does not define the action.
+     *
+     * @param actionName the name of the action
+     * @return the action or {@code null}
+     */
+    public ActionMetadata getAction(final String actionName) {
+        Assert.requireNonNull(actionName, "actionName");
+        if (ambiguousActions.contains(actionName)) {
+            throw new RuntimeException("More than one method for action " + actionName + " found in " + controllerClass);
+        }
+        return actions.get(actionName);
+    }
+
+    /**
+     * Returns the field that is annotated by {@link RemotingModel} or {@code null}.
+     */
+    public Field getModelField() {
+        return modelField;
+    }
+
+    /**
+     * Returns the field that is annotated by {@link ParentController} or {@code null}.
+     */
+    public Field getParentField() {
+        if (parentFields.size() > 1) {
+            throw new RuntimeException("More than one parent was found for controller " + ControllerUtils.getControllerName(controllerClass));
+        }
+        return parentFields.isEmpty() ? null : parentFields.get(0);
+    }
+
+    public List<ValueInjectionPoint> getValueInjectionPoints() {
+        return valueInjectionPoints;
+    }
+
+    public void firePostChildCreated(final Object parentController, final Object childController) {
+        fire(postChildCreatedCallbacks, parentController, childController);
+    }
+
+    public void firePreChildDestroyed(final Object parentController, final Object childController) {
+        fire(preChildDestroyedCallbacks, parentController, childController);
+    }
+
+    private static void fire(final List<ChildCallback> callbacks, final Object parentController, final Object childController) {
+        Assert.requireNonNull(parentController, "parentController");
+        Assert.requireNonNull(childController, "childController");
+        for (final ChildCallback callback : callbacks) {
+            if (callback.parameterType.isAssignableFrom(childController.getClass())) {
+                try {
+                    callback.handle.invokeExact(parentController, childController);
+                } catch (final RuntimeException | Error e) {
+                    throw e;
+                } catch (final Throwable t) {
+                    throw new RuntimeException("Error while calling method '" + callback.method.getName() + "' on instance of type '" + parentController.getClass() + "'", t);
+                }
+            }
+        }
+    }
+
+    private static <T extends AccessibleObject> T makeAccessible(final T member) {
+        // The metadata of a controller class is created once by the ControllerRepository, so the members are made
+        // accessible here and not for every value injection, action call or child callback.
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            member.setAccessible(true);
+            return null;
+        });
+        return member;
+    }
+
+    /**
+     * Creates a handle of type {@code (Object, Object[])Object} that calls the given method on the receiver with the
+     * content of the array as arguments.
+     */
+    private static MethodHandle createSpreadHandle(final Method method) {
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(makeAccessible(method));
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            final int parameterCount = method.getParameterCount();
+            return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access method '" + method.getName() + "' in " + method.getDeclaringClass(), e);
+        }
+    }
+
+    @API(since = "2.1.0", status = INTERNAL)
+    public static final class ActionMetadata {
+
+        private final Method method;
+
+        private final String name;
+
+        private final String[] parameterNames;
+
+        private final Class<?>[] parameterTypes;
+
+        private final MethodHandle handle;
+
+        private ActionMetadata(final Method method) {
+            this.method = method;
+            this.name = ControllerUtils.getActionMethodName(method);
+            this.parameterTypes = method.getParameterTypes();
+            this.parameterNames = new String[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterNames[i] = Integer.toString(i);
+                final Param param = method.getParameters()[i].getAnnotation(Param.class);
+                if (param != null && param.value() != null && !param.value().isEmpty()) {
+                    parameterNames[i] = param.value();
+                }
+            }
+            this.handle = createSpreadHandle(method);
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getParameterCount() {
+            return parameterTypes.length;
+        }
+
+        /**
+         * Returns the name of the parameter as defined by {@link Param} or the index of the parameter.
+         */
+        public String getParameterName(final int index) {
+            return parameterNames[index];
+        }
+
+        public Class<?> getParameterType(final int index) {
+            return parameterTypes[index];
+        }
+
+        /**
+         * Calls the action. Exceptions and errors that are thrown by the action are not wrapped.
+         *
+         * @param controller the controller instance
+         * @param args the arguments of the action
+         * @throws Exception the exception thrown by the action
+         */
+        public void invoke(final Object controller, final Object[] args) throws Exception {
+            try {
+                final Object ignored = handle.invokeExact(controller, args);
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        }
+    }
+
+    @API(since = "2.1.0", status = INTERNAL)
+    public static final class ValueInjectionPoint {
+
+        private final Field field;
+
+        private final String name;
+
+        private final boolean optional;
+
+        private ValueInjectionPoint(final Field field, final RemotingValue annotation) {
+            this.field = makeAccessible(field);
+            this.name = StringUtils.nonEmpty(annotation.value()).orElse(field.getName());
+            this.optional = annotation.optional();
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isOptional() {
+            return optional;
+        }
+    }
+
+    private static final class ChildCallback {
+
+        private final Method method;
+
+        private final Class<?> parameterType;
+
+        private final MethodHandle handle;
+
+        private ChildCallback(final Method method) {
+            this.method = method;
+            this.parameterType = method.getParameterTypes()[0];
+            this.handle = createSpreadHandle(method).asCollector(Object[].class, 1)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apiguardian.api.API;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -35,6 +36,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 public class ControllerRepository {
 
     private final Map<String, Class> controllersClasses;
+    private final Map<Class<?>, ControllerMetadata> controllerMetadata;
     private final ControllerValidator controllerValidator;
 
     /**
@@ -44,6 +46,7 @@ public class ControllerRepository {
         Assert.requireNonNull(scanner, "scanner");
 
         controllersClasses = new HashMap<>();
+        controllerMetadata = new ConcurrentHashMap<>();
         controllerValidator = new ControllerValidator();
         Set<Class<?>> foundControllerClasses = scanner.getTypesAnnotatedWith(RemotingController.class);
         for (Class<?> controllerClass : foundControllerClasses) {
@@ -53,6 +56,7 @@ public class ControllerRepository {
                 name = controllerClass.getAnnotation(RemotingController.class).value();
             }
             controllersClasses.put(name, controllerClass);
+            controllerMetadata.put(controllerClass, new ControllerMetadata(controllerClass));
         }
     }
 
@@ -70,4 +74,15 @@ public class ControllerRepository {
         }
         return foundClass;
     }
+
+    /**
+     * Returns the metadata of the given controller class. The metadata of all controller classes that are found by
+     * the classpath scan is created when the repository is created.
+     * @param controllerClass the controller class
+     * @return the metadata
+     */
+    public ControllerMetadata getControllerMetadata(final Class<?> controllerClass) {
+        Assert.requireNonNull(controllerClass, "controllerClass");
+        return controllerMetadata.computeIfAbsent(controllerClass, ControllerMetadata::new);
+    }
 }
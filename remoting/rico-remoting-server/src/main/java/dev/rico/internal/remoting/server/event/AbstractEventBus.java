@@ -16,7 +16,13 @@
  */
 package dev.rico.internal.remoting.server.event;
 
+import dev.rico.core.lang.StringPair;
 import dev.rico.internal.core.Assert;
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.internal.remoting.server.config.RemotingConfiguration;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Counter;
+import dev.rico.metrics.types.Gauge;
 import dev.rico.internal.server.client.ClientSessionLifecycleHandler;
 import dev.rico.internal.remoting.server.context.ServerRemotingContext;
 import dev.rico.internal.remoting.server.context.ServerRemotingContextProvider;
@@ -39,8 +45,12 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
+import static dev.rico.internal.remoting.server.event.EventConstants.DROPPED_EVENTS_METRIC_NAME;
+import static dev.rico.internal.remoting.server.event.EventConstants.PENDING_EVENTS_METRIC_NAME;
+import static dev.rico.internal.remoting.server.event.EventConstants.TOPIC_TAG;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 @API(since = "0.x", status = INTERNAL)
@@ -50,20 +60,58 @@ public abstract class AbstractEventBus implements RemotingEventBus {
 
     private ServerRemotingContextProvider contextProvider;
 
-    private final Map<Topic<?>, List<ListenerWithFilter<?>>> topicToListenerMap = new ConcurrentHashMap<>();
-
-    private final Map<MessageListener<?>, String> listenerToSessionMap = new ConcurrentHashMap<>();
+    /**
+     * Listeners per topic and client session. Reads are lock-free, all modifications of a topic are done in
+     * {@link ConcurrentHashMap#compute} of the topic entry.
+     */
+    private final Map<Topic<?>, Map<String, List<ListenerWithFilter<?>>>> topicToSessionListeners = new ConcurrentHashMap<>();
 
     private final Map<String, List<Subscription>> sessionStore = new ConcurrentHashMap<>();
 
+    private final Map<String, EventMailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private final Map<String, BackPressurePolicy> backPressurePolicies = new ConcurrentHashMap<>();
+
+    private final Map<String, Counter> droppedEventCounters = new ConcurrentHashMap<>();
+
+    private final AtomicLong pendingEventCount = new AtomicLong();
+
     private final AtomicBoolean initialized = new AtomicBoolean(false);
 
+    private RemotingConfiguration configuration;
+
+    private Metrics metrics;
+
+    private Gauge pendingEventsGauge;
+
+    private PartitionedEventDispatcher dispatcher;
+
     public void init(final ServerRemotingContextProvider contextProvider, final ClientSessionLifecycleHandler lifecycleHandler) {
+        init(contextProvider, lifecycleHandler, new RemotingConfiguration(), MetricsImpl.getInstance());
+    }
+
+    public void init(final ServerRemotingContextProvider contextProvider, final ClientSessionLifecycleHandler lifecycleHandler, final RemotingConfiguration configuration, final Metrics metrics) {
         this.contextProvider = Assert.requireNonNull(contextProvider, "contextProvider");
+        this.configuration = Assert.requireNonNull(configuration, "configuration");
+        this.metrics = Assert.requireNonNull(metrics, "metrics");
         Assert.requireNonNull(lifecycleHandler, "lifecycleHandler").addSessionDestroyedListener((s) -> onSessionEnds(s.getId()));
+        this.pendingEventsGauge = metrics.getOrCreateGauge(PENDING_EVENTS_METRIC_NAME);
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+        this.dispatcher = new PartitionedEventDispatcher(configuration.getEventbusDispatchThreads(), configuration.getEventbusDispatchQueueCapacity(), metrics);
         initialized.set(true);
     }
 
+    /**
+     * Stops the dispatch threads of the event bus. Events that are not added to a remoting context are discarded.
+     */
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
     @Override
     public <T extends Serializable> void publish(final Topic<T> topic, final T data) {
         checkInitialization();
@@ -85,8 +133,7 @@ public abstract class AbstractEventBus implements RemotingEventBus {
         }
         //Handle listener in same session
         if (currentContext != null) {
-            final List<ListenerWithFilter<T>> listenersInCurrentSession = getListenersForSessionAndTopic(currentContext.getId(), topic);
-            for (ListenerWithFilter<T> listenerAndFilter : listenersInCurrentSession) {
+            for (final ListenerWithFilter<T> listenerAndFilter : getListenersForSessionAndTopic(currentContext.getId(), topic)) {
                 final Predicate<MessageEventContext<T>> filter = listenerAndFilter.getFilter();
                 final MessageListener<T> listener = listenerAndFilter.getListener();
                 if (filter == null || filter.test(event.getMessageEventContext())) {
@@ -109,23 +156,24 @@ public abstract class AbstractEventBus implements RemotingEventBus {
         }
         final String subscriptionSessionId = subscriptionContext.getId();
         LOG.trace("Adding subscription for topic {} in remoting context {}", topic.getName(), subscriptionSessionId);
-        List<ListenerWithFilter<?>> listeners = topicToListenerMap.get(topic);
-        if (listeners == null) {
-            listeners = new CopyOnWriteArrayList<>();
-            topicToListenerMap.put(topic, listeners);
-        }
+        mailboxes.computeIfAbsent(subscriptionSessionId, id -> new EventMailbox(id, configuration.getEventbusMaxPendingEvents(), pendingEventCount));
         final ListenerWithFilter listenerWithFilter = new ListenerWithFilter(listener, filter);
-        listeners.add(listenerWithFilter);
-        listenerToSessionMap.put(listener, subscriptionSessionId);
+        topicToSessionListeners.compute(topic, (t, sessionListeners) -> {
+            final Map<String, List<ListenerWithFilter<?>>> result = sessionListeners != null ? sessionListeners : new ConcurrentHashMap<>();
+            result.computeIfAbsent(subscriptionSessionId, id -> new CopyOnWriteArrayList<>()).add(listenerWithFilter);
+            return result;
+        });
         final Subscription subscription = new Subscription() {
             @Override
             public void unsubscribe() {
                 LOG.trace("Removing subscription for topic {} in remoting context {}", topic.getName(), subscriptionSessionId);
-                final List<ListenerWithFilter<?>> listeners = topicToListenerMap.get(topic);
-                if (listeners != null) {
-                    listeners.remove(listenerWithFilter);
-                }
-                listenerToSessionMap.remove(listener);
+                topicToSessionListeners.computeIfPresent(topic, (t, sessionListeners) -> {
+                    sessionListeners.computeIfPresent(subscriptionSessionId, (id, listeners) -> {
+                        listeners.remove(listenerWithFilter);
+                        return listeners.isEmpty() ? null : listeners;
+                    });
+                    return sessionListeners.isEmpty() ? null : sessionListeners;
+                });
                 removeSubscriptionForSession(this, subscriptionSessionId);
             }
         };
@@ -139,51 +187,83 @@ public abstract class AbstractEventBus implements RemotingEventBus {
 
     protected <T extends Serializable> void triggerEventHandling(final MessageEventImpl<T> event) {
         Assert.requireNonNull(event, "event");
+        triggerEventHandling(event.getMessageEventContext().getTopic(), Collections.singletonList(event));
+    }
 
-        final Topic<T> topic = event.getMessageEventContext().getTopic();
-        LOG.trace("Handling data for topic {}", topic.getName());
-        final List<ListenerWithFilter<?>> listeners = topicToListenerMap.get(topic);
-        if (listeners != null) {
-            for (final ListenerWithFilter<?> listenerAndFilter : listeners) {
-                final String sessionId = listenerToSessionMap.get(listenerAndFilter.getListener());
-                if (sessionId == null) {
-                    throw new RuntimeException("Internal Error! No session id defined for event bus listener!");
-                }
-                if (sendInSameClientSession(event, (MessageListener<T>) listenerAndFilter.getListener())) {
-                    // This listener was already called at the publish call
-                    // since the event was called from the same session
-                    LOG.trace("Event listener for topic {} was already called in remoting context {}", topic.getName(), sessionId);
-                } else {
-                    LOG.trace("Event listener for topic {} must be called later in remoting context {}", topic.getName(), sessionId);
-                    contextProvider.getContextById(sessionId).runLater(new Runnable() {
-
-                        @Override
-                        public void run() {
-                            LOG.trace("Calling event listener for topic {} in remoting context {}", topic.getName(), sessionId);
-                            final Predicate<MessageEventContext<T>> sessionFilter = ((ListenerWithFilter<T>) listenerAndFilter).getFilter();
-                            final MessageListener<T> listener = (MessageListener<T>) listenerAndFilter.getListener();
-                            try {
-                                if (sessionFilter == null || sessionFilter.test(event.getMessageEventContext())) {
-                                    listener.onMessage(event);
-                                }
-                            } catch (final Exception e) {
-                                LOG.error("Error in calling event listener for topic '" + topic.getName() + "' in remoting context " + sessionId, e);
-                            }
-                        }
+    /**
+     * Delivers the given events to all listeners of the topic that are not part of the client session in that an
+     * event was published (those listeners are already called in {@link #publish(Topic, Serializable)}). The events
+     * are handed to a {@link PartitionedEventDispatcher} that adds them to the {@link EventMailbox} of each client
+     * session in parallel. All pending events of a mailbox are delivered by one task in the remoting context.
+     */
+    protected <T extends Serializable> void triggerEventHandling(final Topic<T> topic, final List<MessageEventImpl<T>> events) {
+        Assert.requireNonNull(topic, "topic");
+        Assert.requireNonNull(events, "events");
+
+        LOG.trace("Handling {} events for topic {}", events.size(), topic.getName());
+        final Map<String, List<ListenerWithFilter<?>>> sessionListeners = topicToSessionListeners.get(topic);
+        if (sessionListeners == null || events.isEmpty()) {
+            return;
+        }
+        for (final Map.Entry<String, List<ListenerWithFilter<?>>> entry : sessionListeners.entrySet()) {
+            final String sessionId = entry.getKey();
+            final List<ListenerWithFilter<?>> listeners = entry.getValue();
+            dispatcher.dispatch(sessionId, () -> addToMailbox(topic, events, sessionId, listeners));
+        }
+    }
+
+    private <T extends Serializable> void addToMailbox(final Topic<T> topic, final List<MessageEventImpl<T>> events, final String sessionId, final List<ListenerWithFilter<?>> listeners) {
+        final List<MessageEventImpl<T>> eventsForSession = getEventsFromOtherSessions(events, sessionId);
+        if (eventsForSession.isEmpty()) {
+            // The listeners were already called at the publish call
+            // since the events were published in the same session
+            LOG.trace("Event listeners for topic {} were already called in remoting context {}", topic.getName(), sessionId);
+            return;
+        }
+        // the mailbox is created by the first subscription and removed when the session ends
+        final EventMailbox mailbox = mailboxes.get(sessionId);
+        final ServerRemotingContext context = contextProvider.getContextById(sessionId);
+        if (mailbox == null || context == null) {
+            LOG.trace("Remoting context {} is not available for events of topic {}", sessionId, topic.getName());
+            return;
+        }
+        LOG.trace("Event listeners for topic {} must be called later in remoting context {}", topic.getName(), sessionId);
+        final BackPressurePolicy policy = backPressurePolicies.computeIfAbsent(topic.getName(), configuration::getEventbusBackPressurePolicy);
+        try {
+            for (final MessageEventImpl<T> event : eventsForSession) {
+                if (mailbox.offer(event, listeners, policy, configuration.getEventbusMaxBlockTime(), this::onEventDropped)) {
+                    context.runLater(() -> {
+                        mailbox.deliver();
+                        pendingEventsGauge.setValue(pendingEventCount.get());
                     });
                 }
             }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while waiting for remoting context {}", sessionId);
         }
+        pendingEventsGauge.setValue(pendingEventCount.get());
     }
 
-    private <T extends Serializable> boolean sendInSameClientSession(final MessageEventImpl<T> event, final MessageListener<T> listener) {
-        Assert.requireNonNull(event, "event");
-        final String listenerSessionId = listenerToSessionMap.get(listener);
-        final MessageEventContext<T> eventContext = event.getMessageEventContext();
-        if (eventContext != null) {
-            return new ClientSessionEventFilter(listenerSessionId).test(eventContext);
+    private void onEventDropped(final MessageEventImpl<?> event) {
+        final String topicName = event.getMessageEventContext().getTopic().getName();
+        LOG.debug("Event for topic {} dropped since a remoting context has too many pending events", topicName);
+        droppedEventCounters.computeIfAbsent(topicName, name -> metrics.getOrCreateCounter(DROPPED_EVENTS_METRIC_NAME, StringPair.of(TOPIC_TAG, name)))
+                .increment();
+    }
+
+    private <T extends Serializable> List<MessageEventImpl<T>> getEventsFromOtherSessions(final List<MessageEventImpl<T>> events, final String sessionId) {
+        final ClientSessionEventFilter<T> sameSessionFilter = new ClientSessionEventFilter<>(sessionId);
+        if (events.size() == 1) {
+            return sameSessionFilter.test(events.get(0).getMessageEventContext()) ? Collections.emptyList() : events;
         }
-        return false;
+        final List<MessageEventImpl<T>> result = new ArrayList<>(events.size());
+        for (final MessageEventImpl<T> event : events) {
+            if (!sameSessionFilter.test(event.getMessageEventContext())) {
+                result.add(event);
+            }
+        }
+        return result;
     }
 
     protected abstract <T extends Serializable> void publishForOtherSessions(final MessageEventImpl<T> event);
@@ -194,31 +274,24 @@ public abstract class AbstractEventBus implements RemotingEventBus {
         }
     }
 
+    @SuppressWarnings("unchecked")
     private <T extends Serializable> List<ListenerWithFilter<T>> getListenersForSessionAndTopic(final String sessionId, final Topic<T> topic) {
         Assert.requireNonBlank(sessionId, "sessionId");
         Assert.requireNonNull(topic, "topic");
 
-        final List<ListenerWithFilter<?>> handlers = topicToListenerMap.get(topic);
-        if (handlers == null) {
+        final Map<String, List<ListenerWithFilter<?>>> sessionListeners = topicToSessionListeners.get(topic);
+        if (sessionListeners == null) {
             return Collections.emptyList();
         }
-
-        final List<ListenerWithFilter<T>> ret = new ArrayList<>();
-        for (ListenerWithFilter<?> listener : handlers) {
-            if (sessionId.equals(listenerToSessionMap.get(listener.getListener()))) {
-                ret.add((ListenerWithFilter<T>) listener);
-            }
+        final List<ListenerWithFilter<?>> listeners = sessionListeners.get(sessionId);
+        if (listeners == null) {
+            return Collections.emptyList();
         }
-        return ret;
+        return (List<ListenerWithFilter<T>>) (List<?>) listeners;
     }
 
     private void addSubscriptionForSession(final Subscription subscription, final String clientSessionId) {
-        List<Subscription> subscriptionsForSession = sessionStore.get(clientSessionId);
-        if (subscriptionsForSession == null) {
-            subscriptionsForSession = new CopyOnWriteArrayList<>();
-            sessionStore.put(clientSessionId, subscriptionsForSession);
-        }
-        subscriptionsForSession.add(subscription);
+        sessionStore.computeIfAbsent(clientSessionId, id -> new CopyOnWriteArrayList<>()).add(subscription);
     }
 
     private void removeSubscriptionForSession(final Subscription subscription, final String clientSessionId) {
@@ -230,7 +303,11 @@ public abstract class AbstractEventBus implements RemotingEventBus {
 
     private void onSessionEnds(final String clientSessionId) {
         Assert.requireNonBlank(clientSessionId, "clientSessionId");
-        final List<Subscription> subscriptions = sessionStore.get(clientSessionId);
+        final EventMailbox mailbox = mailboxes.remove(clientSessionId);
+        if (mailbox != null) {
+            mailbox.close();
+        }
+        final List<Subscription> subscriptions = sessionStore.remove(clientSessionId);
         if (subscriptions != null) {
             for (Subscription subscription : subscriptions) {
                 subscription.unsubscribe();
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.event;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Defines what happens with an event for a remoting context that already has the max number of pending events.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public enum BackPressurePolicy {
+
+    /**
+     * The new event is dropped.
+     */
+    DROP,
+
+    /**
+     * The oldest pending event of the same topic is dropped. If no event of the topic is pending the new event is
+     * dropped.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The dispatcher waits until the remoting context has handled its pending events. If this does not happen within
+     * the max block time the new event is dropped. The wait blocks the dispatch partition of the client session (see
+     * {@link PartitionedEventDispatcher}), so events for all other client sessions of that partition are delayed, too.
+     */
+    BLOCK
+}
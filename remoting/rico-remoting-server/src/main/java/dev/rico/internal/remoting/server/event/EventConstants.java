@@ -30,4 +30,14 @@ public interface EventConstants {
     String CLIENT_SESSION_PARAM = "sender.rico.clientSessionId";
 
     String HTTP_SESSION_PARAM = "sender.httpSessionId";
+
+    String PARTITION_TAG = "partition";
+
+    String TOPIC_TAG = "topic";
+
+    String DISPATCH_QUEUE_DEPTH_METRIC_NAME = "rico.remoting.eventbus.dispatchQueueDepth";
+
+    String PENDING_EVENTS_METRIC_NAME = "rico.remoting.eventbus.pendingEvents";
+
+    String DROPPED_EVENTS_METRIC_NAME = "rico.remoting.eventbus.droppedEvents";
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.event;
+
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Events that are waiting for the delivery in one remoting context. All pending events are delivered by one task in
+ * the task queue of the remoting context, so the number of tasks does not grow with the number of events.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class EventMailbox {
+
+    private final String sessionId;
+
+    private final int maxPendingEvents;
+
+    private final AtomicLong pendingEventCount;
+
+    private final Lock lock = new ReentrantLock();
+
+    private final Condition notFull = lock.newCondition();
+
+    private final LinkedList<PendingEvent<?>> pending = new LinkedList<>();
+
+    private boolean deliveryScheduled = false;
+
+    private boolean closed = false;
+
+    /**
+     * @param sessionId the id of the client session of the remoting context
+     * @param maxPendingEvents the max number of pending events
+     * @param pendingEventCount counter of all pending events that is shared between all mailboxes
+     */
+    public EventMailbox(final String sessionId, final int maxPendingEvents, final AtomicLong pendingEventCount) {
+        this.sessionId = Assert.requireNonBlank(sessionId, "sessionId");
+        this.pendingEventCount = Assert.requireNonNull(pendingEventCount, "pendingEventCount");
+        if (maxPendingEvents <= 0) {
+            throw new IllegalArgumentException("maxPendingEvents must be positive");
+        }
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    /**
+     * Adds an event to the mailbox.
+     *
+     * @param event the event
+     * @param listeners the listeners of the remoting context for the topic of the event
+     * @param policy the policy that is used if the mailbox is full
+     * @param maxBlockTime the max time in milliseconds that is waited for free space if the policy is {@link BackPressurePolicy#BLOCK}
+     * @param droppedEventHandler called for each event that is dropped
+     * @return {@code true} if the caller must schedule a task in the remoting context that calls {@link #deliver()}
+     * @throws InterruptedException if the thread is interrupted while waiting for free space
+     */
+    public <T extends Serializable> boolean offer(final MessageEventImpl<T> event, final List<ListenerWithFilter<?>> listeners, final BackPressurePolicy policy, final long maxBlockTime, final Consumer<MessageEventImpl<?>> droppedEventHandler) throws InterruptedException {
+        Assert.requireNonNull(event, "event");
+        Assert.requireNonNull(listeners, "listeners");
+        Assert.requireNonNull(policy, "policy");
+        Assert.requireNonNull(droppedEventHandler, "droppedEventHandler");
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (pending.size() >= maxPendingEvents && !makeSpace(event, policy, maxBlockTime, droppedEventHandler)) {
+                droppedEventHandler.accept(event);
+                return false;
+            }
+            pending.add(new PendingEvent<>(event, listeners));
+            pendingEventCount.incrementAndGet();
+            if (deliveryScheduled) {
+                return false;
+            }
+            deliveryScheduled = true;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean makeSpace(final MessageEventImpl<?> event, final BackPressurePolicy policy, final long maxBlockTime, final Consumer<MessageEventImpl<?>> droppedEventHandler) throws InterruptedException {
+        if (policy == BackPressurePolicy.DROP_OLDEST) {
+            final Iterator<PendingEvent<?>> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                final PendingEvent<?> pendingEvent = iterator.next();
+                if (pendingEvent.event.getMessageEventContext().getTopic().equals(event.getMessageEventContext().getTopic())) {
+                    iterator.remove();
+                    pendingEventCount.decrementAndGet();
+                    droppedEventHandler.accept(pendingEvent.event);
+                    return true;
+                }
+            }
+        } else if (policy == BackPressurePolicy.BLOCK) {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(maxBlockTime);
+            while (pending.size() >= maxPendingEvents && !closed && remaining > 0) {
+                remaining = notFull.awaitNanos(remaining);
+            }
+            return pending.size() < maxPendingEvents && !closed;
+        }
+        return false;
+    }
+
+    /**
+     * Calls the listeners for all pending events. Must be called in the remoting context.
+     */
+    public void deliver() {
+        final List<PendingEvent<?>> events;
+        lock.lock();
+        try {
+            events = new ArrayList<>(pending);
+            pendingEventCount.addAndGet(-events.size());
+            pending.clear();
+            deliveryScheduled = false;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (final PendingEvent<?> event : events) {
+            event.deliver(sessionId);
+        }
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pendingEventCount.addAndGet(-pending.size());
+            pending.clear();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class PendingEvent<T extends Serializable> {
+
+        private final MessageEventImpl<T> event;
+
+        private final List<ListenerWithFilter<?>> listeners;
+
+        private PendingEvent(final MessageEventImpl<T> event, final List<ListenerWithFilter<?>> listeners) {
+            this.event = event;
+            this.listeners = listeners;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deliver(final String sessionId) {
+            for (final ListenerWithFilter<?> listener : listeners) {
+                ((ListenerWithFilter<T>) listener).handle(event, sessionId);
+            }
+        }
+    }
+}
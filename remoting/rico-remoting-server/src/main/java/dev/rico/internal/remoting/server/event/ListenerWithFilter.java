@@ -17,9 +17,13 @@
 package dev.rico.internal.remoting.server.event;
 
 import dev.rico.internal.core.Assert;
+import dev.rico.remoting.server.event.MessageEvent;
 import dev.rico.remoting.server.event.MessageEventContext;
 import dev.rico.remoting.server.event.MessageListener;
+import dev.rico.remoting.server.event.Topic;
 import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.function.Predicate;
@@ -29,6 +33,8 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.x", status = INTERNAL)
 public class ListenerWithFilter<T extends Serializable> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ListenerWithFilter.class);
+
     private final MessageListener<T> listener;
 
     private final Predicate<MessageEventContext<T>> filter;
@@ -49,4 +55,22 @@ public class ListenerWithFilter<T extends Serializable> {
     public Predicate<MessageEventContext<T>> getFilter() {
         return filter;
     }
+
+    /**
+     * Calls the listener if the event is accepted by the filter. Exceptions of the listener are logged.
+     *
+     * @param event the event
+     * @param sessionId the id of the client session in that the listener is called
+     */
+    public void handle(final MessageEvent<T> event, final String sessionId) {
+        final Topic<T> topic = event.getMessageEventContext().getTopic();
+        LOG.trace("Calling event listener for topic {} in remoting context {}", topic.getName(), sessionId);
+        try {
+            if (filter == null || filter.test(event.getMessageEventContext())) {
+                listener.onMessage(event);
+            }
+        } catch (final Exception e) {
+            LOG.error("Error in calling event listener for topic '" + topic.getName() + "' in remoting context " + sessionId, e);
+        }
+    }
 }
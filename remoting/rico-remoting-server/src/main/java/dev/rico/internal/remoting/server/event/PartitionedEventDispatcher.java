@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.event;
+
+import dev.rico.core.lang.StringPair;
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.core.SimpleThreadFactory;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Gauge;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+import static dev.rico.internal.remoting.server.event.EventConstants.DISPATCH_QUEUE_DEPTH_METRIC_NAME;
+import static dev.rico.internal.remoting.server.event.EventConstants.PARTITION_TAG;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Executes the dispatch tasks of the event bus on a fixed number of threads. Each client session is mapped to one
+ * partition that has its own thread and a bounded queue, so tasks for the same client session are executed in order
+ * while tasks for different sessions are executed in parallel. If the queue of a partition is full the caller blocks
+ * until the partition has executed its next task. Since several client sessions share one partition a task that
+ * blocks (see {@link BackPressurePolicy#BLOCK}) delays all sessions of the partition. The threads run until
+ * {@link #shutdown()} is called.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class PartitionedEventDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionedEventDispatcher.class);
+
+    private final Partition[] partitions;
+
+    private final Thread[] threads;
+
+    private volatile boolean shutdown = false;
+
+    public PartitionedEventDispatcher(final int partitionCount, final int queueCapacity, final Metrics metrics) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("partitionCount must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        Assert.requireNonNull(metrics, "metrics");
+        final ThreadFactory threadFactory = new SimpleThreadFactory(true);
+        partitions = new Partition[partitionCount];
+        threads = new Thread[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            final Gauge depthGauge = metrics.getOrCreateGauge(DISPATCH_QUEUE_DEPTH_METRIC_NAME, StringPair.of(PARTITION_TAG, Integer.toString(i)));
+            partitions[i] = new Partition(queueCapacity, depthGauge);
+            threads[i] = threadFactory.newThread(partitions[i]);
+            threads[i].start();
+        }
+    }
+
+    public void dispatch(final String sessionId, final Runnable task) {
+        Assert.requireNonBlank(sessionId, "sessionId");
+        Assert.requireNonNull(task, "task");
+        if (shutdown) {
+            LOG.debug("Event for client session {} not dispatched since the dispatcher is shut down", sessionId);
+            return;
+        }
+        final Partition partition = partitions[Math.floorMod(sessionId.hashCode(), partitions.length)];
+        try {
+            partition.queue.put(task);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dispatching event for client session " + sessionId, e);
+        }
+        partition.depthGauge.setValue(partition.queue.size());
+    }
+
+    /**
+     * Stops all partition threads. Tasks that are not executed yet are discarded.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (int i = 0; i < partitions.length; i++) {
+            threads[i].interrupt();
+            partitions[i].queue.clear();
+            partitions[i].depthGauge.setValue(0);
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    private static class Partition implements Runnable {
+
+        private final BlockingQueue<Runnable> queue;
+
+        private final Gauge depthGauge;
+
+        private Partition(final int queueCapacity, final Gauge depthGauge) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.depthGauge = depthGauge;
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                final Runnable task;
+                try {
+                    task = queue.take();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                depthGauge.setValue(queue.size());
+                try {
+                    task.run();
+                } catch (final Exception e) {
+                    LOG.error("Error in dispatching event", e);
+                }
+            }
+        }
+    }
+}
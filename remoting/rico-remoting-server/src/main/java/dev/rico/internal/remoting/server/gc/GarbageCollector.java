@@ -18,11 +18,12 @@ package dev.rico.internal.remoting.server.gc;
 
 import dev.rico.remoting.ObservableList;
 import dev.rico.internal.remoting.RemotingUtils;
+import dev.rico.internal.remoting.info.BeanMetadata;
+import dev.rico.internal.remoting.info.BeanMetadata.FieldMetadata;
 import dev.rico.remoting.RemotingBean;
 import dev.rico.remoting.Property;
 import dev.rico.internal.core.Assert;
 import dev.rico.internal.core.IdentitySet;
-import dev.rico.internal.core.ReflectionHelper;
 import dev.rico.internal.remoting.server.config.RemotingConfiguration;
 import dev.rico.remoting.BeanManager;
 import dev.rico.remoting.server.RemotingModel;
@@ -30,8 +31,10 @@ import org.apiguardian.api.API;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +45,13 @@ import static org.apiguardian.api.API.Status.INTERNAL;
  * The garbage collection for remoting models. Whenever a new remoting bean {@link RemotingBean}
  * has been created or the hierarchy in a remoting model changes the GC will check if the mutated models are still
  * referenced by a root model. In this case a root model is a model as it's defined as a model for a MVC group (see {@link RemotingModel}).
+ * <p>
+ * Since circular references are not allowed (see {@link CircularDependencyException}) the GC is based on reference
+ * counting: each {@link Instance} knows how often it is referenced by properties and lists of other beans. A mutation
+ * of a property or list only updates the counter of the referenced bean. Beans that lose their last reference are
+ * stored as candidates and only checked when {@link #gc()} is called. A candidate that is still unreferenced at that
+ * time will be removed together with all beans that are only referenced by removed beans. By doing so the costs of
+ * a mutation are constant and the costs of a GC run only depend on the number of beans that will be removed.
  */
 @API(since = "0.x", status = INTERNAL)
 public class GarbageCollector {
@@ -56,9 +66,6 @@ public class GarbageCollector {
 
     private final IdentityHashMap<ObservableList, Instance> listToParent = new IdentityHashMap<>();
 
-    private final IdentityHashMap<Class, List<Field>> propertyFieldCache = new IdentityHashMap<>();
-
-    private final IdentityHashMap<Class, List<Field>> listFieldCache = new IdentityHashMap<>();
 
     private final GarbageCollectionCallback onRemoveCallback;
 
@@ -66,6 +73,14 @@ public class GarbageCollector {
 
     private long removedBeansCount = 0;
 
+    private long scannedBeansCount = 0;
+
+    private long lastScannedBeansCount = 0;
+
+    private long gcTime = 0;
+
+    private long lastGcTime = 0;
+
     private final RemotingConfiguration configuration;
 
     /**
@@ -122,21 +137,7 @@ public class GarbageCollector {
 
         Instance instance = allInstances.remove(bean);
         removeOnGC.remove(instance);
-
-        IdentitySet<Property> properties = getAllProperties(bean);
-        IdentitySet<ObservableList> lists = getAllLists(bean);
-
-        for (Property property : properties) {
-            propertyToParent.remove(property);
-            removeReferenceAndCheckForGC(property, property.get());
-        }
-
-        for (ObservableList list : lists) {
-            listToParent.remove(list);
-            for (Object item : list) {
-                removeReferenceAndCheckForGC(list, item);
-            }
-        }
+        releaseChildren(instance);
     }
 
     /**
@@ -154,12 +155,7 @@ public class GarbageCollector {
 
         if (newValue != null && RemotingUtils.isRemotingBean(newValue.getClass())) {
             Instance instance = getInstance(newValue);
-            Reference reference = new PropertyReference(propertyToParent.get(property), property, instance);
-            if (reference.hasCircularReference()) {
-                throw new CircularDependencyException("Circular dependency detected!");
-            }
-            instance.getReferences().add(reference);
-            removeFromGC(instance);
+            addReference(property, instance, new PropertyReference(propertyToParent.get(property), property, instance));
         }
     }
 
@@ -175,12 +171,7 @@ public class GarbageCollector {
         }
         if (value != null && RemotingUtils.isRemotingBean(value.getClass())) {
             Instance instance = getInstance(value);
-            Reference reference = new ListReference(listToParent.get(list), list, instance);
-            if (reference.hasCircularReference()) {
-                throw new CircularDependencyException("Circular dependency detected!");
-            }
-            instance.getReferences().add(reference);
-            removeFromGC(instance);
+            addReference(list, instance, new ListReference(listToParent.get(list), list, instance));
         }
     }
 
@@ -208,11 +199,33 @@ public class GarbageCollector {
             return;
         }
 
-        LOG.trace("Garbage collection started! GC will remove {} beans!", removeOnGC.size());
+        final long startTime = System.nanoTime();
+        LOG.trace("Garbage collection started! GC will check {} beans!", removeOnGC.size());
+
+        final IdentityHashMap<Instance, Object> removed = new IdentityHashMap<>();
+        final Deque<Instance> toCheck = new ArrayDeque<>(removeOnGC.keySet());
+        removeOnGC.clear();
+        long scanned = 0;
+        while (!toCheck.isEmpty()) {
+            final Instance instance = toCheck.pop();
+            scanned++;
+            if (instance.isRootBean() || instance.getReferenceCount() > 0 || removed.containsKey(instance)) {
+                continue;
+            }
+            if (allInstances.get(instance.getBean()) != instance) {
+                continue;
+            }
+            removed.put(instance, instance.getBean());
+            for (Instance child : releaseChildren(instance)) {
+                toCheck.push(child);
+            }
+        }
 
-        onRemoveCallback.onReject(removeOnGC.keySet());
+        if (!removed.isEmpty()) {
+            onRemoveCallback.onReject(removed.keySet());
+        }
 
-        for (Map.Entry<Instance, Object> entry : removeOnGC.entrySet()) {
+        for (Map.Entry<Instance, Object> entry : removed.entrySet()) {
             Instance removedInstance = entry.getKey();
             for (Property property : removedInstance.getProperties()) {
                 propertyToParent.remove(property);
@@ -223,152 +236,95 @@ public class GarbageCollector {
             allInstances.remove(entry.getValue());
         }
 
-        removedBeansCount = removedBeansCount + removeOnGC.size();
-        removeOnGC.clear();
+        lastGcTime = System.nanoTime() - startTime;
+        gcTime = gcTime + lastGcTime;
+        lastScannedBeansCount = scanned;
+        scannedBeansCount = scannedBeansCount + scanned;
+        removedBeansCount = removedBeansCount + removed.size();
         gcCalls = gcCalls + 1;
 
-        LOG.trace("Garbage collection done! GC currently manages {} referenced beans!", allInstances.size());
+        LOG.trace("Garbage collection done in {} ns! Scanned {} and removed {} beans. GC currently manages {} referenced beans!", lastGcTime, scanned, removed.size(), allInstances.size());
     }
 
     public synchronized int getManagedInstancesCount() {
         return allInstances.size();
     }
 
-    private void removeReferenceAndCheckForGC(ObservableList list, Object value) {
-        Assert.requireNonNull(list, "list");
-        if (value != null && RemotingUtils.isRemotingBean(value.getClass())) {
-            Instance instance = getInstance(value);
-            Reference toRemove = null;
-            for (Reference reference : instance.getReferences()) {
-                if (reference instanceof ListReference && list == ((ListReference) reference).getList()) {
-                    toRemove = reference;
-                    break;
-                }
+    /**
+     * Removes all references that are defined by the properties and lists of the given instance.
+     *
+     * @param instance the instance
+     * @return all child instances that are not referenced anymore
+     */
+    private List<Instance> releaseChildren(Instance instance) {
+        final List<Instance> unreferenced = new ArrayList<>();
+        for (Property property : instance.getProperties()) {
+            propertyToParent.remove(property);
+            releaseChild(property, property.get(), unreferenced);
+        }
+        for (ObservableList list : instance.getLists()) {
+            listToParent.remove(list);
+            for (Object item : list) {
+                releaseChild(list, item, unreferenced);
             }
-            if (toRemove == null) {
-                throw new RuntimeException("REFERENCE NOT FOUND! ERROR IN GC!!");
-            } else {
-                instance.getReferences().remove(toRemove);
-                if (instance.getReferences().isEmpty()) {
-                    addToGC(instance, value);
-                }
+        }
+        return unreferenced;
+    }
+
+    private void releaseChild(Object holder, Object value, List<Instance> unreferenced) {
+        if (value != null && RemotingUtils.isRemotingBean(value.getClass())) {
+            final Instance child = allInstances.get(value);
+            if (child != null && child.removeReference(holder) && child.getReferenceCount() == 0) {
+                addToGC(child, value);
+                unreferenced.add(child);
             }
         }
     }
 
-    private void removeReferenceAndCheckForGC(Property property, Object value) {
-        Assert.requireNonNull(property, "property");
+    private void addReference(Object holder, Instance instance, Reference reference) {
+        if (instance.getReference(holder) == null && reference.hasCircularReference()) {
+            throw new CircularDependencyException("Circular dependency detected!");
+        }
+        instance.addReference(holder, reference);
+        removeFromGC(instance);
+    }
+
+    private void removeReferenceAndCheckForGC(Object holder, Object value) {
+        Assert.requireNonNull(holder, "holder");
         if (value != null && RemotingUtils.isRemotingBean(value.getClass())) {
             Instance instance = getInstance(value);
-            Reference toRemove = null;
-            for (Reference reference : instance.getReferences()) {
-                if (reference instanceof PropertyReference && property == ((PropertyReference) reference).getProperty()) {
-                    toRemove = reference;
-                    break;
-                }
-            }
-            if (toRemove == null) {
+            if (!instance.removeReference(holder)) {
                 throw new RuntimeException("REFERENCE NOT FOUND! ERROR IN GC!!");
-            } else {
-                instance.getReferences().remove(toRemove);
-                if (instance.getReferences().isEmpty()) {
-                    addToGC(instance, value);
-                }
+            }
+            if (instance.getReferenceCount() == 0) {
+                addToGC(instance, value);
             }
         }
     }
 
     private void addToGC(Instance instance, Object value) {
-
-        LOG.trace("Bean of type {} added to GC and will be removed on next GC run", value.getClass());
-
+        LOG.trace("Bean of type {} added to GC and will be checked on next GC run", value.getClass());
         removeOnGC.put(instance, value);
-
-        LOG.trace("GC will remove {} beans at next GC run", removeOnGC.size());
-
-
-        for (Property property : instance.getProperties()) {
-            Object propertyValue = property.get();
-            if (propertyValue != null && RemotingUtils.isRemotingBean(propertyValue.getClass())) {
-                Instance childInstance = getInstance(propertyValue);
-                if (!childInstance.isReferencedByRoot()) {
-                    addToGC(childInstance, propertyValue);
-                }
-            }
-        }
-        for (ObservableList list : instance.getLists()) {
-            for (Object listValue : list) {
-                if (listValue != null && RemotingUtils.isRemotingBean(listValue.getClass())) {
-                    Instance childInstance = getInstance(listValue);
-                    if (!childInstance.isReferencedByRoot()) {
-                        addToGC(childInstance, listValue);
-                    }
-                }
-            }
-        }
     }
 
     private void removeFromGC(Instance instance) {
-        LOG.trace("Bean of type {} removed from GC and will not be removed on next GC run", instance.getBean().getClass());
-
-        Object removed = removeOnGC.remove(instance);
-
-        LOG.trace("GC will remove {} beans at next GC run", removeOnGC.size());
-
-
-        if (removed != null) {
-            for (Property property : instance.getProperties()) {
-                Object value = property.get();
-                if (value != null && RemotingUtils.isRemotingBean(value.getClass())) {
-                    Instance childInstance = getInstance(value);
-                    removeFromGC(childInstance);
-                }
-            }
-            for (ObservableList list : instance.getLists()) {
-                for (Object value : list) {
-                    if (value != null && RemotingUtils.isRemotingBean(value.getClass())) {
-                        Instance childInstance = getInstance(value);
-                        removeFromGC(childInstance);
-                    }
-                }
-            }
+        if (removeOnGC.remove(instance) != null) {
+            LOG.trace("Bean of type {} removed from GC and will not be checked on next GC run", instance.getBean().getClass());
         }
     }
 
     private IdentitySet<Property> getAllProperties(Object bean) {
         IdentitySet<Property> ret = new IdentitySet<>();
-
-        List<Field> fields = propertyFieldCache.get(bean.getClass());
-        if (fields == null) {
-            fields = new ArrayList<>();
-            for (Field field : ReflectionHelper.getInheritedDeclaredFields(bean.getClass())) {
-                if (Property.class.isAssignableFrom(field.getType())) {
-                    fields.add(field);
-                }
-            }
-            propertyFieldCache.put(bean.getClass(), fields);
-        }
-        for (Field field : fields) {
-            ret.add((Property) ReflectionHelper.getPrivileged(field, bean));
+        for (FieldMetadata field : BeanMetadata.of(bean.getClass()).getProperties()) {
+            ret.add(field.get(bean));
         }
         return ret;
     }
 
     private IdentitySet<ObservableList> getAllLists(Object bean) {
         IdentitySet<ObservableList> ret = new IdentitySet<>();
-
-        List<Field> fields = listFieldCache.get(bean.getClass());
-        if (fields == null) {
-            fields = new ArrayList<>();
-            for (Field field : ReflectionHelper.getInheritedDeclaredFields(bean.getClass())) {
-                if (ObservableList.class.isAssignableFrom(field.getType())) {
-                    fields.add(field);
-                }
-            }
-            listFieldCache.put(bean.getClass(), fields);
-        }
-        for (Field field : fields) {
-            ret.add((ObservableList) ReflectionHelper.getPrivileged(field, bean));
+        for (FieldMetadata field : BeanMetadata.of(bean.getClass()).getObservableLists()) {
+            ret.add(field.get(bean));
         }
         return ret;
     }
@@ -388,4 +344,36 @@ public class GarbageCollector {
     public long getRemovedBeansCount() {
         return removedBeansCount;
     }
+
+    /**
+     * Returns the number of beans that have been checked by all GC runs
+     * @return the number of checked beans
+     */
+    public long getScannedBeansCount() {
+        return scannedBeansCount;
+    }
+
+    /**
+     * Returns the number of beans that have been checked by the last GC run
+     * @return the number of checked beans
+     */
+    public long getLastScannedBeansCount() {
+        return lastScannedBeansCount;
+    }
+
+    /**
+     * Returns the time that has been spent in all GC runs
+     * @return the time
+     */
+    public Duration getGcTime() {
+        return Duration.ofNanos(gcTime);
+    }
+
+    /**
+     * Returns the time that has been spent in the last GC run
+     * @return the time
+     */
+    public Duration getLastGcTime() {
+        return Duration.ofNanos(lastGcTime);
+    }
 }
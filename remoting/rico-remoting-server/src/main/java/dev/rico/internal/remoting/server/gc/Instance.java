@@ -23,8 +23,12 @@ import dev.rico.remoting.Property;
 import dev.rico.remoting.server.RemotingModel;
 import org.apiguardian.api.API;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
@@ -42,7 +46,9 @@ public class Instance {
     private final IdentitySet<Property> properties;
     private final IdentitySet<ObservableList> lists;
 
-    private final List<Reference> references;
+    private final Map<Object, Reference> references;
+
+    private int referenceCount = 0;
 
     /**
      * Constructor
@@ -56,7 +62,7 @@ public class Instance {
         this.rootBean = rootBean;
         this.properties = properties;
         this.lists = lists;
-        references = new ArrayList<>();
+        references = new IdentityHashMap<>();
     }
 
     /**
@@ -69,10 +75,60 @@ public class Instance {
 
     /**
      * Returns all references of the bean
-     * @return list of all references
+     * @return all references
+     */
+    public Collection<Reference> getReferences() {
+        return references.values();
+    }
+
+    /**
+     * Returns the reference that is defined by the given property or list
+     * @param holder the property or list
+     * @return the reference or {@code null}
+     */
+    public Reference getReference(final Object holder) {
+        return references.get(holder);
+    }
+
+    /**
+     * Returns the number of references to the bean. A list that contains the bean several times is counted several times.
+     * @return the number of references
+     */
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    /**
+     * Adds a reference to the bean. If the bean is already referenced by the given property or list the count of the
+     * existing reference is incremented.
+     * @param holder the property or list that holds the bean
+     * @param reference the reference that is used if the bean is not referenced by the holder
      */
-    public List<Reference> getReferences() {
-        return references;
+    void addReference(final Object holder, final Reference reference) {
+        final Reference existing = references.get(holder);
+        if (existing == null) {
+            references.put(holder, reference);
+        } else {
+            existing.increment();
+        }
+        referenceCount++;
+    }
+
+    /**
+     * Removes a reference to the bean
+     * @param holder the property or list that held the bean
+     * @return false if the bean was not referenced by the given property or list
+     */
+    boolean removeReference(final Object holder) {
+        final Reference existing = references.get(holder);
+        if (existing == null) {
+            return false;
+        }
+        if (existing.decrement() == 0) {
+            references.remove(holder);
+        }
+        referenceCount--;
+        return true;
     }
 
     /**
@@ -104,14 +160,19 @@ public class Instance {
      * @return true if the bean instance is a root bean or is referenced by a root bean
      */
     public boolean isReferencedByRoot() {
-        if(rootBean) {
-            return true;
-        }
-        for(Reference reference : references) {
-            Instance parent = reference.getParent();
-            if(parent.isReferencedByRoot()) {
+        final Set<Instance> visited = new IdentitySet<>();
+        final Deque<Instance> toVisit = new ArrayDeque<>();
+        toVisit.push(this);
+        while (!toVisit.isEmpty()) {
+            final Instance current = toVisit.pop();
+            if (current.rootBean) {
                 return true;
             }
+            if (visited.add(current)) {
+                for (Reference reference : current.getReferences()) {
+                    toVisit.push(reference.getParent());
+                }
+            }
         }
         return false;
     }
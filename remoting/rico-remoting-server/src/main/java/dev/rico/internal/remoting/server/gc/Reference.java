@@ -17,8 +17,13 @@
 package dev.rico.internal.remoting.server.gc;
 
 import dev.rico.remoting.RemotingBean;
+import dev.rico.internal.core.IdentitySet;
 import org.apiguardian.api.API;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 /**
@@ -33,6 +38,8 @@ public abstract class Reference {
 
     private final Instance child;
 
+    private int count = 1;
+
     /**
      * Constructor
      * @param parent the parent remoting bean
@@ -52,21 +59,48 @@ public abstract class Reference {
     }
 
     /**
-     * Returns true if this reference is part of a circular reference.
-     * @return true if this reference is part of a circular reference.
+     * Returns the referenced remoting bean
+     * @return the referenced remoting bean
      */
-    public boolean hasCircularReference() {
-        return recursiveCircularReferenceCheck(parent);
+    public Instance getChild() {
+        return child;
     }
 
-    private boolean recursiveCircularReferenceCheck(Instance currentInstance) {
-        if(currentInstance == this.child) {
-            return true;
-        }
-        for(Reference reference : currentInstance.getReferences()) {
-            if(recursiveCircularReferenceCheck(reference.getParent())) {
+    /**
+     * Returns how often the child is referenced by this reference. A list can contain the same bean several times.
+     * @return the number of references
+     */
+    public int getCount() {
+        return count;
+    }
+
+    int increment() {
+        return ++count;
+    }
+
+    int decrement() {
+        return --count;
+    }
+
+    /**
+     * Returns true if this reference is part of a circular reference. Each ancestor of the parent is only visited
+     * once, even if it can be reached by several paths.
+     * @return true if this reference is part of a circular reference.
+     */
+    public boolean hasCircularReference() {
+        final Set<Instance> visited = new IdentitySet<>();
+        final Deque<Instance> toVisit = new ArrayDeque<>();
+        toVisit.push(parent);
+        while (!toVisit.isEmpty()) {
+            final Instance currentInstance = toVisit.pop();
+            if (currentInstance == this.child) {
                 return true;
             }
+            if (visited.add(currentInstance)) {
+                for (Reference reference : currentInstance.getReferences()) {
+                    toVisit.push(reference.getParent());
+                }
+            }
         }
         return false;
     }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.legacy;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Counter;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Tracks the models that are held by one {@link ServerModelStore} and checks them against configured limits. Next to
+ * the number of models and attributes an estimated heap size is tracked. The estimation only covers the structure of
+ * the models (model and attribute instances, listeners and store indexes) since attribute values can change without
+ * the store being involved.
+ * <p>
+ * A limit {@code <= 0} is not checked.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class ModelBudget {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ModelBudget.class);
+
+    public static final String EXCEEDED_METRIC_NAME = "rico.remoting.modelBudget.exceeded";
+
+    /**
+     * Estimated heap size of a presentation model including its entries in the store indexes.
+     */
+    static final long ESTIMATED_MODEL_BYTES = 160;
+
+    /**
+     * Estimated heap size of an attribute including its id, listener and entries in the store indexes.
+     */
+    static final long ESTIMATED_ATTRIBUTE_BYTES = 200;
+
+    private final int maxModels;
+
+    private final long maxAttributes;
+
+    private final long maxBytes;
+
+    private final ModelBudgetPolicy policy;
+
+    private final Counter exceededCounter;
+
+    private int modelCount;
+
+    private long attributeCount;
+
+    private boolean warned;
+
+    public ModelBudget(final int maxModels, final long maxAttributes, final long maxBytes, final ModelBudgetPolicy policy, final Metrics metrics) {
+        this.maxModels = maxModels;
+        this.maxAttributes = maxAttributes;
+        this.maxBytes = maxBytes;
+        this.policy = Assert.requireNonNull(policy, "policy");
+        this.exceededCounter = Assert.requireNonNull(metrics, "metrics").getOrCreateCounter(EXCEEDED_METRIC_NAME);
+    }
+
+    public boolean isLimited() {
+        return maxModels > 0 || maxAttributes > 0 || maxBytes > 0;
+    }
+
+    void beforeAdd(final ServerPresentationModel model, final int storeId) {
+        final int attributes = model.getAttributes().size();
+        final int models = modelCount + 1;
+        final long allAttributes = attributeCount + attributes;
+        final long bytes = estimateBytes(models, allAttributes);
+        if ((maxModels > 0 && models > maxModels) || (maxAttributes > 0 && allAttributes > maxAttributes) || (maxBytes > 0 && bytes > maxBytes)) {
+            exceededCounter.increment();
+            final String message = "Model budget of store " + storeId + " exceeded by model '" + model.getId() + "': "
+                    + models + " models (max " + maxModels + "), "
+                    + allAttributes + " attributes (max " + maxAttributes + "), "
+                    + bytes + " estimated bytes (max " + maxBytes + ")";
+            if (policy == ModelBudgetPolicy.REJECT) {
+                throw new ModelBudgetExceededException(message);
+            }
+            if (!warned) {
+                LOG.warn(message);
+                warned = true;
+            }
+        }
+    }
+
+    void added(final ServerPresentationModel model) {
+        modelCount++;
+        attributeCount += model.getAttributes().size();
+    }
+
+    void removed(final ServerPresentationModel model) {
+        modelCount = Math.max(0, modelCount - 1);
+        attributeCount = Math.max(0, attributeCount - model.getAttributes().size());
+        if (warned && !isExceeded()) {
+            warned = false;
+        }
+    }
+
+    private boolean isExceeded() {
+        return (maxModels > 0 && modelCount > maxModels)
+                || (maxAttributes > 0 && attributeCount > maxAttributes)
+                || (maxBytes > 0 && getEstimatedBytes() > maxBytes);
+    }
+
+    public int getModelCount() {
+        return modelCount;
+    }
+
+    public long getAttributeCount() {
+        return attributeCount;
+    }
+
+    public long getEstimatedBytes() {
+        return estimateBytes(modelCount, attributeCount);
+    }
+
+    public ModelBudgetPolicy getPolicy() {
+        return policy;
+    }
+
+    private static long estimateBytes(final long models, final long attributes) {
+        return models * ESTIMATED_MODEL_BYTES + attributes * ESTIMATED_ATTRIBUTE_BYTES;
+    }
+}
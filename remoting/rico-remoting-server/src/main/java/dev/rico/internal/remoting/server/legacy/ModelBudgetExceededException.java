@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.legacy;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Thrown if a model can not be added to a {@link ServerModelStore} since the {@link ModelBudget} of the store is
+ * exhausted and the {@link ModelBudgetPolicy#REJECT} policy is used.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class ModelBudgetExceededException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ModelBudgetExceededException(final String message) {
+        super(message);
+    }
+}
@@ -23,7 +23,6 @@ import dev.rico.internal.remoting.legacy.core.Attribute;
 import dev.rico.internal.remoting.legacy.core.BaseAttribute;
 import org.apiguardian.api.API;
 
-import java.util.List;
 import java.util.Objects;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
@@ -67,7 +66,7 @@ public class ServerAttribute extends BaseAttribute {
 
         }
         // we may not know the pm, yet
-        for (ServerAttribute sameQualified : (List<ServerAttribute>)getPresentationModel().getModelStore().findAllAttributesByQualifier(getQualifier())) {
+        for (ServerAttribute sameQualified : getPresentationModel().getModelStore().listAttributesByQualifier(getQualifier())) {
             if (sameQualified.equals(this)) {
                 continue;
             }
@@ -17,6 +17,8 @@
 package dev.rico.internal.remoting.server.legacy;
 
 import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
 import dev.rico.internal.remoting.legacy.communication.DeletePresentationModelCommand;
@@ -63,6 +65,16 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
      */
     protected long pmInstanceCount = 0L;
 
+    /**
+     * Limits the models held by this store. {@code null} if no budget is defined.
+     */
+    private ModelBudget budget;
+
+    /**
+     * {@code true} if the client announced that it can handle {@link ListSpliceCommand}s.
+     */
+    private volatile boolean listSpliceSupported = false;
+
     public ServerModelStore() {
     }
 
@@ -77,6 +89,23 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         return currentResponse;
     }
 
+    /**
+     * Defines the budget that is checked whenever a model is added to this store.
+     *
+     * @param budget the budget or {@code null} if the store should not be limited
+     */
+    public void setBudget(final ModelBudget budget) {
+        if (budget != null && budget.isLimited()) {
+            this.budget = budget;
+        } else {
+            this.budget = null;
+        }
+    }
+
+    public ModelBudget getBudget() {
+        return budget;
+    }
+
     public boolean hasResponseCommands() {
         if(currentResponse != null && !currentResponse.isEmpty()) {
             return true;
@@ -93,17 +122,59 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
 
     @Override
     public boolean add(final ServerPresentationModel model) {
+        if (budget != null && model != null && !containsPresentationModel(model.getId())) {
+            budget.beforeAdd(model, id);
+        }
         boolean added = super.add(model);
         if (!added) {
             throw new IllegalStateException("Model " + model + " already defined on server!");
         }
+        if (budget != null) {
+            budget.added(model);
+        }
         model.setModelStore(this);
         getCurrentResponse().add(CreatePresentationModelCommand.makeFrom(model));
         return true;
     }
 
+    /**
+     * Defines if the client can handle {@link ListSpliceCommand}s (see {@link RemotingConstants#LIST_SPLICE_HEADER}).
+     *
+     * @param listSpliceSupported {@code true} if the client supports the command
+     */
+    public void setListSpliceSupported(final boolean listSpliceSupported) {
+        this.listSpliceSupported = listSpliceSupported;
+    }
+
+    public boolean isListSpliceSupported() {
+        return listSpliceSupported;
+    }
+
+    /**
+     * Adds the given list change to the current response. If the last command of the response changes the same
+     * list the splices are appended to that command instead of sending a new command.
+     */
+    public void listSplice(final ListSpliceCommand command) {
+        Assert.requireNonNull(command, "command");
+        final List<Command> response = getCurrentResponse();
+        if (!response.isEmpty()) {
+            final Command lastCommand = response.get(response.size() - 1);
+            if (lastCommand instanceof ListSpliceCommand && ((ListSpliceCommand) lastCommand).hasSameTarget(command)) {
+                ((ListSpliceCommand) lastCommand).addAll(command);
+                return;
+            }
+        }
+        response.add(command);
+    }
+
     public boolean checkClientAdded(final ServerPresentationModel model) {
+        if (budget != null && model != null && !containsPresentationModel(model.getId())) {
+            budget.beforeAdd(model, id);
+        }
         boolean added = super.add(model);
+        if (added && budget != null) {
+            budget.added(model);
+        }
         //FIXME: Currently the client has the same event for a add answer and a add trigger
 
 //        if (!added) {
@@ -125,13 +196,18 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         if (!deleted) {
             throw new IllegalStateException("Model " + pm + " not found on the server!");
         }
+        if (budget != null) {
+            budget.removed(pm);
+        }
         deleteCommand(getCurrentResponse(), pm.getId());
         return deleted;
     }
 
     public boolean checkClientRemoved(final ServerPresentationModel pm) {
         boolean deleted = super.remove(pm);
-
+        if (deleted && budget != null) {
+            budget.removed(pm);
+        }
         //FIXME: Currently the client has the same event for a remove answer and a remove trigger
       //  if (!deleted) {
       //      throw new IllegalStateException("Model " + pm + " not found on the server!");
@@ -218,6 +294,7 @@ public class ServerModelStore extends ModelStore<ServerAttribute, ServerPresenta
         }
         ServerPresentationModel model = new ServerPresentationModel(id, attributes, this);
         model.setPresentationModelType(presentationModelType);
+        model._internal_shareLayout();
         add(model);
         return model;
     }
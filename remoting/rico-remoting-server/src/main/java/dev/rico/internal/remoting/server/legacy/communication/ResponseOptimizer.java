@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.remoting.server.legacy.communication;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import dev.rico.internal.remoting.legacy.communication.AttributeMetadataChangedCommand;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.DeletePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Counter;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Removes commands from a response that do not change the state the client ends up with. The optimizer
+ * <ul>
+ * <li>removes presentation models that are created and deleted in the same response if the model is never
+ * referenced by another command,</li>
+ * <li>folds value changes into the {@link CreatePresentationModelCommand} of the attribute if the model is created
+ * in the same response and</li>
+ * <li>only keeps the last value change of an attribute (last write wins).</li>
+ * </ul>
+ * Value changes are only merged if no other command lies between them. All commands that are not a value change or the
+ * creation of a model (like {@link ListSpliceCommand} or {@link AttributeMetadataChangedCommand}) act as a barrier and
+ * are never touched or reordered.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class ResponseOptimizer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseOptimizer.class);
+
+    public static final String REMOVED_COMMANDS_METRIC_NAME = "rico.remoting.response.removedCommands";
+
+    private static final String ATTRIBUTE_ID = "id";
+
+    private static final String ATTRIBUTE_VALUE = "value";
+
+    private final Counter removedCommandsCounter;
+
+    public ResponseOptimizer(final Metrics metrics) {
+        Assert.requireNonNull(metrics, "metrics");
+        this.removedCommandsCounter = metrics.getOrCreateCounter(REMOVED_COMMANDS_METRIC_NAME);
+    }
+
+    /**
+     * Returns an optimized copy of the given response. The given list is not modified but the attributes of
+     * {@link CreatePresentationModelCommand} instances might be updated.
+     *
+     * @param response the commands of the response
+     * @return the optimized commands
+     */
+    public List<Command> optimize(final List<Command> response) {
+        Assert.requireNonNull(response, "response");
+        if (response.size() < 2) {
+            return response;
+        }
+        final List<Command> commands = new ArrayList<>(response);
+        removeTemporaryModels(commands);
+        mergeValueChanges(commands);
+
+        final List<Command> result = new ArrayList<>(commands.size());
+        for (final Command command : commands) {
+            if (command != null) {
+                result.add(command);
+            }
+        }
+        final int removed = response.size() - result.size();
+        if (removed > 0) {
+            removedCommandsCounter.increment(removed);
+            LOG.debug("Response optimization removed {} of {} commands", removed, response.size());
+        }
+        return result;
+    }
+
+    /**
+     * Removes all models that are created and deleted in the response together with all commands that change the
+     * attributes of the models. A model is only removed if its id is not referenced by another command and if only
+     * value or metadata changes lie between the creation and the deletion.
+     */
+    private void removeTemporaryModels(final List<Command> commands) {
+        final Set<String> referencedIds = new HashSet<>();
+        final int[] barrierCount = new int[commands.size() + 1];
+        for (int i = 0; i < commands.size(); i++) {
+            final Command command = commands.get(i);
+            collectReferences(command, referencedIds);
+            barrierCount[i + 1] = barrierCount[i] + (isBarrierForTemporaryModels(command) ? 1 : 0);
+        }
+
+        final Map<String, Integer> createIndexByModel = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            final Command command = commands.get(i);
+            if (command instanceof CreatePresentationModelCommand) {
+                createIndexByModel.put(((CreatePresentationModelCommand) command).getPmId(), i);
+            } else if (command instanceof DeletePresentationModelCommand) {
+                final String pmId = ((DeletePresentationModelCommand) command).getPmId();
+                final Integer createIndex = createIndexByModel.remove(pmId);
+                if (createIndex != null && !referencedIds.contains(pmId) && barrierCount[i] == barrierCount[createIndex + 1]) {
+                    removeModel(commands, createIndex, i);
+                }
+            }
+        }
+    }
+
+    private void removeModel(final List<Command> commands, final int createIndex, final int deleteIndex) {
+        final Set<String> attributeIds = new HashSet<>();
+        for (final Map<String, Object> attribute : ((CreatePresentationModelCommand) commands.get(createIndex)).getAttributes()) {
+            final Object id = attribute.get(ATTRIBUTE_ID);
+            if (id != null) {
+                attributeIds.add(id.toString());
+            }
+        }
+        for (int i = createIndex + 1; i < deleteIndex; i++) {
+            final Command command = commands.get(i);
+            if (command instanceof ValueChangedCommand && attributeIds.contains(((ValueChangedCommand) command).getAttributeId())) {
+                commands.set(i, null);
+            } else if (attributeIds.contains(getMetadataChangeAttributeId(command))) {
+                commands.set(i, null);
+            }
+        }
+        commands.set(createIndex, null);
+        commands.set(deleteIndex, null);
+    }
+
+    /**
+     * Merges value changes in one pass. Value changes of attributes that are created in the same segment (the
+     * commands between two barriers) are folded into the create command, all other value changes of an attribute
+     * are reduced to the last one.
+     */
+    private void mergeValueChanges(final List<Command> commands) {
+        final Map<String, Integer> lastValueChangeByAttribute = new HashMap<>();
+        final Map<String, Map<String, Object>> createdAttributes = new HashMap<>();
+        final Map<String, Integer> createIndexByAttribute = new HashMap<>();
+        final Map<String, Integer> createIndexByModel = new HashMap<>();
+
+        for (int i = 0; i < commands.size(); i++) {
+            final Command command = commands.get(i);
+            if (command == null) {
+                continue;
+            }
+            if (command instanceof ValueChangedCommand) {
+                final ValueChangedCommand valueChangedCommand = (ValueChangedCommand) command;
+                final String attributeId = valueChangedCommand.getAttributeId();
+                final Map<String, Object> createdAttribute = createdAttributes.get(attributeId);
+                if (createdAttribute != null && canFold(valueChangedCommand, createIndexByAttribute.get(attributeId), createIndexByModel)) {
+                    createdAttribute.put(ATTRIBUTE_VALUE, valueChangedCommand.getNewValue());
+                    commands.set(i, null);
+                } else {
+                    createdAttributes.remove(attributeId);
+                    final Integer lastIndex = lastValueChangeByAttribute.put(attributeId, i);
+                    if (lastIndex != null) {
+                        commands.set(lastIndex, null);
+                    }
+                }
+            } else if (command instanceof CreatePresentationModelCommand) {
+                final CreatePresentationModelCommand createCommand = (CreatePresentationModelCommand) command;
+                createIndexByModel.put(createCommand.getPmId(), i);
+                for (final Map<String, Object> attribute : createCommand.getAttributes()) {
+                    final Object id = attribute.get(ATTRIBUTE_ID);
+                    if (id != null) {
+                        createdAttributes.put(id.toString(), attribute);
+                        createIndexByAttribute.put(id.toString(), i);
+                    }
+                }
+            } else {
+                lastValueChangeByAttribute.clear();
+                createdAttributes.clear();
+                createIndexByAttribute.clear();
+                createIndexByModel.clear();
+            }
+        }
+    }
+
+    /**
+     * A value change can not be folded into a create command if the new value references a model that is created
+     * after the model of the attribute since the client would receive a reference to an unknown model.
+     */
+    private boolean canFold(final ValueChangedCommand command, final int createIndex, final Map<String, Integer> createIndexByModel) {
+        final Object newValue = command.getNewValue();
+        if (newValue instanceof String) {
+            final Integer referencedCreateIndex = createIndexByModel.get(newValue);
+            return referencedCreateIndex == null || referencedCreateIndex < createIndex;
+        }
+        return true;
+    }
+
+    private boolean isBarrierForTemporaryModels(final Command command) {
+        return !(command instanceof ValueChangedCommand
+                || getMetadataChangeAttributeId(command) != null
+                || command instanceof CreatePresentationModelCommand
+                || command instanceof DeletePresentationModelCommand
+                || command instanceof ListSpliceCommand);
+    }
+
+    private void collectReferences(final Command command, final Set<String> referencedIds) {
+        if (command instanceof ValueChangedCommand) {
+            addReference(((ValueChangedCommand) command).getNewValue(), referencedIds);
+        } else if (getMetadataChangeAttributeId(command) != null) {
+            addReference(getMetadataChangeValue(command), referencedIds);
+        } else if (command instanceof CreatePresentationModelCommand) {
+            for (final Map<String, Object> attribute : ((CreatePresentationModelCommand) command).getAttributes()) {
+                addReference(attribute.get(ATTRIBUTE_VALUE), referencedIds);
+            }
+        } else if (command instanceof ListSpliceCommand) {
+            final ListSpliceCommand spliceCommand = (ListSpliceCommand) command;
+            referencedIds.add(spliceCommand.getSourceId());
+            for (final ListSpliceCommand.Splice splice : spliceCommand.getSplices()) {
+                for (final Object value : splice.getValues()) {
+                    addReference(value, referencedIds);
+                }
+            }
+        }
+    }
+
+    private void addReference(final Object value, final Set<String> referencedIds) {
+        if (value instanceof String) {
+            referencedIds.add((String) value);
+        }
+    }
+
+    /**
+     * Returns the id of the attribute that is changed by the given command if it is an
+     * {@link AttributeMetadataChangedCommand}, otherwise {@code null}. The command is deprecated but still sent by
+     * {@link dev.rico.internal.remoting.server.legacy.ServerAttribute} when a qualifier changes.
+     */
+    @SuppressWarnings("deprecation")
+    private static String getMetadataChangeAttributeId(final Command command) {
+        if (command instanceof AttributeMetadataChangedCommand) {
+            return ((AttributeMetadataChangedCommand) command).getAttributeId();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Object getMetadataChangeValue(final Command command) {
+        return ((AttributeMetadataChangedCommand) command).getValue();
+    }
+}
@@ -16,6 +16,7 @@
  */
 package dev.rico.remoting.server;
 
+import dev.rico.server.spi.components.ClasspathIndexed;
 import org.apiguardian.api.API;
 
 import java.lang.annotation.Documented;
@@ -72,6 +73,7 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
  * @author Hendrik Ebbers
  */
 @Documented
+@ClasspathIndexed
 @Inherited
 @Retention(RUNTIME)
 @Target(ElementType.TYPE)
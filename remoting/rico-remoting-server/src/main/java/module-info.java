@@ -37,6 +37,7 @@ module dev.rico.remoting.server {
     requires transitive dev.rico.remoting.common;
     requires transitive dev.rico.server;
 
+    requires dev.rico.metrics;
     requires static org.apiguardian.api;
     requires org.slf4j;
     requires static java.servlet;
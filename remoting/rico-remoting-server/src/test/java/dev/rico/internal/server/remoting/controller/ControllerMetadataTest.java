@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.remoting.controller;
+
+import dev.rico.internal.remoting.server.controller.ControllerMetadata;
+import dev.rico.internal.remoting.server.controller.ControllerMetadata.ActionMetadata;
+import dev.rico.remoting.server.Param;
+import dev.rico.remoting.server.ParentController;
+import dev.rico.remoting.server.PostChildCreated;
+import dev.rico.remoting.server.PreChildDestroyed;
+import dev.rico.remoting.server.RemotingAction;
+import dev.rico.remoting.server.RemotingController;
+import dev.rico.remoting.server.RemotingModel;
+import dev.rico.remoting.server.RemotingValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ControllerMetadataTest {
+
+    @Test
+    public void testActionParameters() {
+        //when:
+        final ActionMetadata action = new ControllerMetadata(ParentTestController.class).getAction("namedAction");
+
+        //then:
+        Assert.assertNotNull(action);
+        Assert.assertEquals(action.getName(), "namedAction");
+        Assert.assertEquals(action.getParameterCount(), 2);
+        Assert.assertEquals(action.getParameterName(0), "text");
+        Assert.assertEquals(action.getParameterType(0), String.class);
+        Assert.assertEquals(action.getParameterName(1), "count");
+        Assert.assertEquals(action.getParameterType(1), int.class);
+    }
+
+    @Test
+    public void testInvokeAction() throws Exception {
+        //given:
+        final ParentTestController controller = new ParentTestController();
+        final ControllerMetadata metadata = new ControllerMetadata(ParentTestController.class);
+
+        //when:
+        metadata.getAction("namedAction").invoke(controller, new Object[]{"a", 3});
+        metadata.getAction("inheritedAction").invoke(controller, new Object[0]);
+
+        //then:
+        Assert.assertEquals(controller.calls, List.of("a3", "inherited"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testActionExceptionIsNotWrapped() throws Exception {
+        new ControllerMetadata(ParentTestController.class).getAction("failingAction").invoke(new ParentTestController(), new Object[0]);
+    }
+
+    @Test(expectedExceptions = AssertionError.class)
+    public void testActionErrorIsNotWrapped() throws Exception {
+        new ControllerMetadata(ParentTestController.class).getAction("errorAction").invoke(new ParentTestController(), new Object[0]);
+    }
+
+    @Test
+    public void testUnknownAction() {
+        Assert.assertNull(new ControllerMetadata(ParentTestController.class).getAction("unknown"));
+    }
+
+    @Test
+    public void testInjectionPoints() {
+        //when:
+        final ControllerMetadata metadata = new ControllerMetadata(ChildTestController.class);
+
+        //then:
+        Assert.assertEquals(metadata.getModelField().getName(), "model");
+        Assert.assertEquals(metadata.getParentField().getName(), "parent");
+        Assert.assertEquals(metadata.getValueInjectionPoints().size(), 1);
+        Assert.assertEquals(metadata.getValueInjectionPoints().get(0).getName(), "config");
+        Assert.assertTrue(metadata.getValueInjectionPoints().get(0).isOptional());
+    }
+
+    @Test
+    public void testChildCallbacks() {
+        //given:
+        final ParentTestController parent = new ParentTestController();
+        final ControllerMetadata metadata = new ControllerMetadata(ParentTestController.class);
+
+        //when:
+        metadata.firePostChildCreated(parent, new ChildTestController());
+        metadata.firePostChildCreated(parent, "not a child controller");
+        metadata.firePreChildDestroyed(parent, new ChildTestController());
+
+        //then:
+        Assert.assertEquals(parent.calls, List.of("created", "destroyed"));
+    }
+
+    private static class AbstractTestController {
+
+        final List<String> calls = new ArrayList<>();
+
+        @RemotingAction
+        private void inheritedAction() {
+            calls.add("inherited");
+        }
+    }
+
+    @RemotingController
+    private static class ParentTestController extends AbstractTestController {
+
+        @RemotingAction("namedAction")
+        private void action(@Param("text") final String text, @Param("count") final int count) {
+            calls.add(text + count);
+        }
+
+        @RemotingAction
+        public void failingAction() {
+            throw new IllegalStateException("failed");
+        }
+
+        @RemotingAction
+        public void errorAction() {
+            throw new AssertionError("error");
+        }
+
+        @PostChildCreated
+        private void onChildCreated(final ChildTestController child) {
+            calls.add("created");
+        }
+
+        @PreChildDestroyed
+        private void onChildDestroyed(final ChildTestController child) {
+            calls.add("destroyed");
+        }
+    }
+
+    @RemotingController
+    private static class ChildTestController {
+
+        @RemotingModel
+        private TestBean model;
+
+        @ParentController
+        private ParentTestController parent;
+
+        @RemotingValue(value = "config", optional = true)
+        private String configValue;
+    }
+}
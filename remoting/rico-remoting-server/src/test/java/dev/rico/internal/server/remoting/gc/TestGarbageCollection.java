@@ -799,6 +799,74 @@ public class TestGarbageCollection {
         garbageCollector.gc();
     }
 
+    @Test
+    public void testSameBeanSeveralTimesInList() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollector garbageCollector = createGarbageCollection(instances -> instances.forEach(i -> removedObjects.add(i.getBean())));
+
+        BeanWithLists parentBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(childBean, false);
+
+        parentBean.getBeansList2().add(childBean);
+        parentBean.getBeansList2().add(childBean);
+
+        parentBean.getBeansList2().remove(childBean);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(0));
+
+        parentBean.getBeansList2().remove(childBean);
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(1));
+        assertTrue(removedObjects.get(0) == childBean);
+    }
+
+    @Test
+    public void testRemoveDetachedHierarchy() {
+        final List<Object> removedObjects = new ArrayList<>();
+        GarbageCollector garbageCollector = createGarbageCollection(instances -> instances.forEach(i -> removedObjects.add(i.getBean())));
+
+        BeanWithLists detachedBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(detachedBean, false);
+
+        BeanWithProperties childBean = new BeanWithProperties(garbageCollector);
+        garbageCollector.onBeanCreated(childBean, false);
+        detachedBean.getBeansList2().add(childBean);
+
+        garbageCollector.gc();
+        assertThat(removedObjects, hasSize(2));
+        assertEquals(garbageCollector.getManagedInstancesCount(), 0);
+    }
+
+    @Test
+    public void testStatistics() {
+        GarbageCollector garbageCollector = createGarbageCollection(instances -> {});
+
+        BeanWithLists parentBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(parentBean, true);
+
+        BeanWithLists wrapperBean = new BeanWithLists(garbageCollector);
+        garbageCollector.onBeanCreated(wrapperBean, false);
+        parentBean.getBeansList().add(wrapperBean);
+        int beanCount = addSomeContent(wrapperBean, 5, 0, garbageCollector);
+
+        garbageCollector.gc();
+        assertEquals(garbageCollector.getGcCalls(), 1);
+        assertEquals(garbageCollector.getLastScannedBeansCount(), 0);
+        assertEquals(garbageCollector.getRemovedBeansCount(), 0);
+
+        parentBean.getBeansList().clear();
+        garbageCollector.gc();
+        assertEquals(garbageCollector.getGcCalls(), 2);
+        assertEquals(garbageCollector.getLastScannedBeansCount(), beanCount + 1);
+        assertEquals(garbageCollector.getScannedBeansCount(), beanCount + 1);
+        assertEquals(garbageCollector.getRemovedBeansCount(), beanCount + 1);
+        assertTrue(garbageCollector.getGcTime().compareTo(garbageCollector.getLastGcTime()) >= 0);
+        assertEquals(garbageCollector.getManagedInstancesCount(), 1);
+    }
+
     private int addSomeContent(BeanWithLists parent, int maxDeep, int currentDeep, GarbageCollector garbageCollector) {
         int addedCount = 0;
         if (currentDeep >= maxDeep) {
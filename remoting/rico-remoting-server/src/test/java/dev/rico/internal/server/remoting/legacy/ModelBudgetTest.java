@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.remoting.legacy;
+
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.server.legacy.ModelBudget;
+import dev.rico.internal.remoting.server.legacy.ModelBudgetExceededException;
+import dev.rico.internal.remoting.server.legacy.ModelBudgetPolicy;
+import dev.rico.internal.remoting.server.legacy.ServerAttribute;
+import dev.rico.internal.remoting.server.legacy.ServerModelStore;
+import dev.rico.internal.remoting.server.legacy.ServerPresentationModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ModelBudgetTest {
+
+    @Test
+    public void testUnlimitedBudgetIsIgnored() {
+        //given:
+        final ServerModelStore store = createStore();
+
+        //when:
+        store.setBudget(new ModelBudget(0, 0, 0, ModelBudgetPolicy.REJECT, MetricsImpl.getInstance()));
+
+        //then:
+        Assert.assertNull(store.getBudget());
+    }
+
+    @Test
+    public void testModelsAndAttributesAreCounted() {
+        //given:
+        final ServerModelStore store = createStore();
+        store.setBudget(new ModelBudget(10, 0, 0, ModelBudgetPolicy.REJECT, MetricsImpl.getInstance()));
+        final ServerPresentationModel model = createModel(store, "first", 2);
+
+        //when:
+        store.add(model);
+        store.checkClientAdded(createModel(store, "second", 1));
+
+        //then:
+        Assert.assertEquals(store.getBudget().getModelCount(), 2);
+        Assert.assertEquals(store.getBudget().getAttributeCount(), 3);
+        Assert.assertTrue(store.getBudget().getEstimatedBytes() > 0);
+
+        //when:
+        store.remove(model);
+
+        //then:
+        Assert.assertEquals(store.getBudget().getModelCount(), 1);
+        Assert.assertEquals(store.getBudget().getAttributeCount(), 1);
+    }
+
+    @Test
+    public void testRejectPolicy() {
+        //given:
+        final List<Command> response = new ArrayList<>();
+        final ServerModelStore store = new ServerModelStore();
+        store.setCurrentResponse(response);
+        store.setBudget(new ModelBudget(0, 3, 0, ModelBudgetPolicy.REJECT, MetricsImpl.getInstance()));
+        store.add(createModel(store, "first", 2));
+
+        //then:
+        Assert.assertThrows(ModelBudgetExceededException.class, () -> store.add(createModel(store, "second", 2)));
+        Assert.assertFalse(store.containsPresentationModel("second"));
+        Assert.assertEquals(store.getBudget().getModelCount(), 1);
+        Assert.assertEquals(response.size(), 1);
+    }
+
+    @Test
+    public void testWarnPolicy() {
+        //given:
+        final ServerModelStore store = createStore();
+        store.setBudget(new ModelBudget(1, 0, 0, ModelBudgetPolicy.WARN, MetricsImpl.getInstance()));
+
+        //when:
+        store.add(createModel(store, "first", 1));
+        store.add(createModel(store, "second", 1));
+
+        //then:
+        Assert.assertTrue(store.containsPresentationModel("second"));
+        Assert.assertEquals(store.getBudget().getModelCount(), 2);
+    }
+
+    private ServerModelStore createStore() {
+        final ServerModelStore store = new ServerModelStore();
+        store.setCurrentResponse(new ArrayList<>());
+        return store;
+    }
+
+    private ServerPresentationModel createModel(final ServerModelStore store, final String id, final int attributeCount) {
+        final ServerAttribute[] attributes = new ServerAttribute[attributeCount];
+        for (int i = 0; i < attributeCount; i++) {
+            attributes[i] = new ServerAttribute("attr" + i, null);
+        }
+        return new ServerPresentationModel(id, attributeCount == 0 ? Collections.emptyList() : Arrays.asList(attributes), store);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.server.remoting.legacy.communication;
+
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
+import dev.rico.internal.remoting.legacy.communication.AttributeMetadataChangedCommand;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.legacy.communication.CreatePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.DeletePresentationModelCommand;
+import dev.rico.internal.remoting.legacy.communication.ValueChangedCommand;
+import dev.rico.internal.remoting.server.legacy.communication.ResponseOptimizer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResponseOptimizerTest {
+
+    private final ResponseOptimizer optimizer = new ResponseOptimizer(MetricsImpl.getInstance());
+
+    @Test
+    public void testLastWriteWins() {
+        //given:
+        final List<Command> response = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            response.add(new ValueChangedCommand("1S", i));
+        }
+        response.add(new ValueChangedCommand("2S", "other"));
+
+        //when:
+        final List<Command> result = optimizer.optimize(response);
+
+        //then:
+        Assert.assertEquals(result.size(), 2);
+        Assert.assertEquals(((ValueChangedCommand) result.get(0)).getNewValue(), 499);
+        Assert.assertEquals(((ValueChangedCommand) result.get(1)).getAttributeId(), "2S");
+        Assert.assertEquals(response.size(), 501);
+    }
+
+    @Test
+    public void testValueChangesAreNotMergedOverBarrier() {
+        //given:
+        final ListSpliceCommand spliceCommand = new ListSpliceCommand("model", "list");
+        spliceCommand.addSplice(0, 0, Collections.singletonList("a"));
+        final List<Command> response = Arrays.asList(
+                new ValueChangedCommand("1S", "a"),
+                spliceCommand,
+                new ValueChangedCommand("1S", "b"),
+                new AttributeMetadataChangedCommand("1S", "qualifier", "q"),
+                new ValueChangedCommand("1S", "c"));
+
+        //when:
+        final List<Command> result = optimizer.optimize(response);
+
+        //then:
+        Assert.assertEquals(result, response);
+    }
+
+    @Test
+    public void testValueChangesAreFoldedIntoCreate() {
+        //given:
+        final CreatePresentationModelCommand createCommand = createModel("model", "1S", "initial");
+        final List<Command> response = Arrays.asList(
+                createCommand,
+                new ValueChangedCommand("1S", "a"),
+                new ValueChangedCommand("1S", "b"));
+
+        //when:
+        final List<Command> result = optimizer.optimize(response);
+
+        //then:
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertSame(result.get(0), createCommand);
+        Assert.assertEquals(createCommand.getAttributes().get(0).get("value"), "b");
+    }
+
+    @Test
+    public void testReferenceToLaterModelIsNotFolded() {
+        //given:
+        final CreatePresentationModelCommand createCommand = createModel("model", "1S", null);
+        final List<Command> response = Arrays.asList(
+                createCommand,
+                createModel("other", "2S", null),
+                new ValueChangedCommand("1S", "other"));
+
+        //when:
+        final List<Command> result = optimizer.optimize(response);
+
+        //then:
+        Assert.assertEquals(result, response);
+        Assert.assertNull(createCommand.getAttributes().get(0).get("value"));
+    }
+
+    @Test
+    public void testTemporaryModelIsRemoved() {
+        //given:
+        final List<Command> response = Arrays.asList(
+                new ValueChangedCommand("3S", "a"),
+                createModel("temp", "1S", null),
+                new ValueChangedCommand("1S", "a"),
+                new AttributeMetadataChangedCommand("1S", "qualifier", "q"),
+                new DeletePresentationModelCommand("temp"));
+
+        //when:
+        final List<Command> result = optimizer.optimize(response);
+
+        //then:
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertSame(result.get(0), response.get(0));
+    }
+
+    @Test
+    public void testReferencedTemporaryModelIsNotRemoved() {
+        //given:
+        final List<Command> response = Arrays.asList(
+                createModel("temp", "1S", null),
+                new ValueChangedCommand("2S", "temp"),
+                new DeletePresentationModelCommand("temp"));
+
+        //when:
+        final List<Command> result = optimizer.optimize(response);
+
+        //then:
+        Assert.assertEquals(result, response);
+    }
+
+    private CreatePresentationModelCommand createModel(final String pmId, final String attributeId, final Object value) {
+        final Map<String, Object> attribute = new HashMap<>();
+        attribute.put("propertyName", "value");
+        attribute.put("id", attributeId);
+        attribute.put("qualifier", null);
+        attribute.put("value", value);
+        final List<Map<String, Object>> attributes = new ArrayList<>();
+        attributes.add(attribute);
+        return new CreatePresentationModelCommand(pmId, "type", attributes);
+    }
+}
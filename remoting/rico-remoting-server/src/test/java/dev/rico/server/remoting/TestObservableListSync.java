@@ -16,14 +16,26 @@
  */
 package dev.rico.server.remoting;
 
+import dev.rico.internal.remoting.BeanRepository;
+import dev.rico.internal.remoting.ClassRepository;
+import dev.rico.internal.remoting.ClassRepositoryImpl;
+import dev.rico.internal.remoting.Converters;
+import dev.rico.internal.remoting.EventDispatcher;
+import dev.rico.internal.remoting.ListMapper;
+import dev.rico.internal.remoting.PresentationModelBuilderFactory;
+import dev.rico.internal.remoting.MappingException;
 import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.commands.ListSpliceCommand;
 import dev.rico.internal.remoting.converters.BeanConverterFactory;
 import dev.rico.internal.remoting.legacy.LegacyConstants;
+import dev.rico.internal.remoting.legacy.communication.Command;
 import dev.rico.internal.remoting.legacy.core.PresentationModel;
 import dev.rico.internal.remoting.server.legacy.DTO;
 import dev.rico.internal.remoting.server.legacy.ServerModelStore;
 import dev.rico.internal.remoting.server.legacy.ServerPresentationModel;
 import dev.rico.internal.remoting.server.legacy.Slot;
+import dev.rico.internal.remoting.server.model.ServerListMapper;
+import dev.rico.internal.remoting.server.model.ServerPresentationModelBuilderFactory;
 import dev.rico.server.remoting.util.AbstractRemotingTest;
 import dev.rico.server.remoting.util.ListReferenceModel;
 import dev.rico.server.remoting.util.SimpleTestModel;
@@ -46,6 +58,31 @@ import static org.hamcrest.Matchers.nullValue;
 
 public class TestObservableListSync extends AbstractRemotingTest {
 
+    private List<Command> response;
+
+    @Override
+    protected ServerModelStore createServerModelStore() {
+        final ServerModelStore serverModelStore = super.createServerModelStore();
+        response = new ArrayList<>();
+        serverModelStore.setCurrentResponse(response);
+        serverModelStore.setListSpliceSupported(true);
+        return serverModelStore;
+    }
+
+    private List<ListSpliceCommand> getListSpliceCommands() {
+        final List<ListSpliceCommand> commands = new ArrayList<>();
+        for (final Command command : response) {
+            if (command instanceof ListSpliceCommand) {
+                commands.add((ListSpliceCommand) command);
+            }
+        }
+        return commands;
+    }
+
+    private void clearListSpliceCommands() {
+        response.removeIf(command -> command instanceof ListSpliceCommand);
+    }
+
     private static class PresentationModelBuilder {
 
         private final String type;
@@ -87,16 +124,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getObjectList().add(object);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) objectModel.getId())));
     }
 
     @Test
@@ -112,16 +151,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getObjectList().add(null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -138,16 +179,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getPrimitiveList().add(value);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) value)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) value)));
     }
 
     @Test
@@ -163,16 +206,18 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getPrimitiveList().add(null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -186,21 +231,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final SimpleTestModel object = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(object);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -213,21 +260,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getObjectList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -240,21 +289,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello");
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -267,21 +318,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -297,22 +350,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -326,22 +381,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final SimpleTestModel oldObject = manager.create(SimpleTestModel.class);
 
         model.getObjectList().add(oldObject);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getObjectList().set(0, null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -356,22 +413,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel newObjectModel = serverModelStore.findAllPresentationModelsByType(SimpleTestModel.class.getName()).get(0);
 
         model.getObjectList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getObjectList().set(0, newObject);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "objectList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "objectList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newObjectModel.getId())));
     }
 
     @Test
@@ -385,22 +444,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add("Hello World");
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -413,22 +474,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().add("Hello World");
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().set(0, null);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), nullValue());
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), nullValue());
     }
 
     @Test
@@ -442,22 +505,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "Goodbye World";
 
         model.getPrimitiveList().add(null);
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -478,18 +543,20 @@ public class TestObservableListSync extends AbstractRemotingTest {
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -503,22 +570,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().add(0, newElement);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -532,24 +601,26 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().addAll(0, Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -563,22 +634,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().add(1, newElement);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -592,24 +665,26 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().addAll(1, Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
     @Test
@@ -623,22 +698,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().add(newElement);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) newElement));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), is((Object) newElement));
     }
 
     @Test
@@ -652,37 +729,30 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String[] newElement = new String[]{"42", "4711", "Hello World"};
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().addAll(Arrays.asList(newElement));
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("0").getValue(), is((Object) "42"));
-        assertThat(change.getAttribute("1").getValue(), is((Object) "4711"));
-        assertThat(change.getAttribute("2").getValue(), is((Object) "Hello World"));
-    }
-
-    private void removeAllPresentationModelsOfType(ServerModelStore serverModelStore, String type) {
-        List<ServerPresentationModel> toRemove = new ArrayList<>();
-        for(ServerPresentationModel model : serverModelStore.findAllPresentationModelsByType(type)) {
-            toRemove.add(model);
-        }
-        for(ServerPresentationModel model : toRemove) {
-            serverModelStore.remove(model);
-        }
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().get(0), is((Object) "42"));
+        assertThat(splice.getValues().get(1), is((Object) "4711"));
+        assertThat(splice.getValues().get(2), is((Object) "Hello World"));
     }
 
 
+
     //////////////////////////////////////////////////////////////
     // Removing elements from different positions as user
     //////////////////////////////////////////////////////////////
@@ -696,21 +766,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().remove(0);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -724,21 +796,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().subList(0, 3).clear();
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -751,21 +825,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().remove(1);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -779,21 +855,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().subList(1, 4).clear();
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 4)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 4)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     @Test
@@ -806,21 +884,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().remove(2);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
     // TODO: Enable once ObservableArrayList.sublist() was implemented completely
@@ -834,21 +914,23 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().subList(3, 6).clear();
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 6)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 6)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 0)));
     }
 
 
@@ -866,22 +948,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().set(0, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 0)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 0)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -895,22 +979,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().set(1, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
     @Test
@@ -924,22 +1010,24 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         model.getPrimitiveList().set(2, newValue);
 
         // then :
-        final List<ServerPresentationModel> changes = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
         assertThat(changes, hasSize(1));
 
-        final PresentationModel change = changes.get(0);
-        assertThat(change.getAttribute("source").getValue(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
-        assertThat(change.getAttribute("attribute").getValue(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
-        assertThat(change.getAttribute("from").getValue(), allOf(instanceOf(Integer.class), is((Object) 2)));
-        assertThat(change.getAttribute("to").getValue(), allOf(instanceOf(Integer.class), is((Object) 3)));
-        assertThat(change.getAttribute("count").getValue(), allOf(instanceOf(Integer.class), is((Object) 1)));
-        assertThat(change.getAttribute("0").getValue(), allOf(instanceOf(String.class), is((Object) newValue)));
+        final ListSpliceCommand change = changes.get(0);
+        assertThat(change.getSplices(), hasSize(1));
+        final ListSpliceCommand.Splice splice = change.getSplices().get(0);
+        assertThat(change.getSourceId(), allOf(instanceOf(String.class), is((Object) sourceModel.getId())));
+        assertThat(change.getAttributeName(), allOf(instanceOf(String.class), is((Object) "primitiveList")));
+        assertThat(splice.getFrom(), allOf(instanceOf(Integer.class), is((Object) 2)));
+        assertThat(splice.getTo(), allOf(instanceOf(Integer.class), is((Object) 3)));
+        assertThat(splice.getValues().size(), allOf(instanceOf(Integer.class), is((Object) 1)));
+        assertThat(splice.getValues().get(0), allOf(instanceOf(String.class), is((Object) newValue)));
     }
 
 
@@ -1449,7 +1537,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1476,7 +1564,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1506,7 +1594,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1533,7 +1621,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1563,7 +1651,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newElement = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
                 .withAttribute("source", sourceModel.getId())
@@ -1588,7 +1676,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1621,7 +1709,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1647,7 +1735,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1673,7 +1761,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1699,7 +1787,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1725,7 +1813,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1751,7 +1839,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4", "5", "6"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1782,7 +1870,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1808,7 +1896,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1837,7 +1925,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1864,7 +1952,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1893,7 +1981,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final String newValue = "42";
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1921,7 +2009,7 @@ public class TestObservableListSync extends AbstractRemotingTest {
         final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
 
         model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3", "4"));
-        removeAllPresentationModelsOfType(serverModelStore, RemotingConstants.LIST_SPLICE);
+        clearListSpliceCommands();
 
         // when :
         new PresentationModelBuilder(serverModelStore, RemotingConstants.LIST_SPLICE)
@@ -1938,4 +2026,162 @@ public class TestObservableListSync extends AbstractRemotingTest {
         assertThat(model.getPrimitiveList(), is(Arrays.asList("1", "2", "42", "4711", "Hello World")));
         assertThat(serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE), empty());
     }
+
+
+    //////////////////////////////////////////////////////////////
+    // Compact list splice commands
+    //////////////////////////////////////////////////////////////
+    @Test
+    public void consecutiveChangesAsUser_shouldBeMergedIntoOneCommand() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        response.clear();
+
+        // when :
+        model.getPrimitiveList().add("1");
+        model.getPrimitiveList().add("2");
+        model.getPrimitiveList().remove(0);
+
+        // then :
+        assertThat(response, hasSize(1));
+        final ListSpliceCommand change = (ListSpliceCommand) response.get(0);
+        assertThat(change.getSourceId(), is(sourceModel.getId()));
+        assertThat(change.getAttributeName(), is("primitiveList"));
+        assertThat(change.getSplices(), hasSize(3));
+        assertThat(change.getSplices().get(1).getFrom(), is(1));
+        assertThat(change.getSplices().get(1).getValues(), is(Collections.<Object>singletonList("2")));
+        assertThat(change.getSplices().get(2).getFrom(), is(0));
+        assertThat(change.getSplices().get(2).getTo(), is(1));
+        assertThat(change.getSplices().get(2).getValues(), empty());
+    }
+
+    @Test
+    public void changesOfDifferentListsAsUser_shouldNotBeMerged() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        response.clear();
+
+        // when :
+        model.getPrimitiveList().add("1");
+        model.getObjectList().add(null);
+        model.getPrimitiveList().add("3");
+
+        // then :
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
+        assertThat(changes, hasSize(3));
+        assertThat(changes.get(0).getAttributeName(), is("primitiveList"));
+        assertThat(changes.get(1).getAttributeName(), is("objectList"));
+        assertThat(changes.get(2).getAttributeName(), is("primitiveList"));
+    }
+
+    @Test
+    public void replacingAllElementsAsUser_shouldCreateOneCommand() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
+        clearListSpliceCommands();
+        final List<String> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add("row " + i);
+        }
+
+        // when :
+        model.getPrimitiveList().setAll(rows);
+
+        // then :
+        final List<ListSpliceCommand> changes = getListSpliceCommands();
+        assertThat(changes, hasSize(1));
+        assertThat(changes.get(0).getSplices(), hasSize(2));
+        final ListSpliceCommand.Splice removal = changes.get(0).getSplices().get(0);
+        assertThat(removal.getFrom(), is(0));
+        assertThat(removal.getTo(), is(3));
+        assertThat(removal.getValues(), empty());
+        final ListSpliceCommand.Splice insertion = changes.get(0).getSplices().get(1);
+        assertThat(insertion.getFrom(), is(0));
+        assertThat(insertion.getTo(), is(0));
+        assertThat(insertion.getValues(), is(new ArrayList<Object>(rows)));
+        assertThat(serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE), empty());
+    }
+
+    @Test
+    public void listSpliceCommandFromRemoting_shouldApplyAllSplices() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final EventDispatcher dispatcher = createEventDispatcher(serverModelStore);
+        final BeanRepository beanRepository = createBeanRepository(serverModelStore, dispatcher);
+        final BeanManager manager = createBeanManager(serverModelStore, beanRepository, dispatcher);
+        final ListMapper listMapper = createListMapper(serverModelStore, beanRepository, dispatcher);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2", "3"));
+        clearListSpliceCommands();
+
+        // when :
+        final ListSpliceCommand command = new ListSpliceCommand(sourceModel.getId(), "primitiveList");
+        command.addSplice(0, 1, Collections.emptyList());
+        command.addSplice(1, 2, Arrays.asList("42", "4711"));
+        listMapper.processSplice(command);
+
+        // then :
+        assertThat(model.getPrimitiveList(), is(Arrays.asList("2", "42", "4711")));
+        assertThat(getListSpliceCommands(), empty());
+    }
+
+    @Test
+    public void listChangeForClientWithoutListSpliceSupport_shouldBeSentAsPresentationModel() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        serverModelStore.setListSpliceSupported(false);
+        final BeanManager manager = createBeanManager(serverModelStore);
+
+        final ListReferenceModel model = manager.create(ListReferenceModel.class);
+        final PresentationModel sourceModel = serverModelStore.findAllPresentationModelsByType(ListReferenceModel.class.getName()).get(0);
+
+        // when :
+        model.getPrimitiveList().addAll(Arrays.asList("1", "2"));
+
+        // then :
+        assertThat(getListSpliceCommands(), empty());
+        final List<ServerPresentationModel> splices = serverModelStore.findAllPresentationModelsByType(RemotingConstants.LIST_SPLICE);
+        assertThat(splices, hasSize(1));
+        final PresentationModel splice = splices.get(0);
+        assertThat(splice.getAttribute("source").getValue(), is((Object) sourceModel.getId()));
+        assertThat(splice.getAttribute("attribute").getValue(), is((Object) "primitiveList"));
+        assertThat(splice.getAttribute("from").getValue(), is((Object) 0));
+        assertThat(splice.getAttribute("to").getValue(), is((Object) 0));
+        assertThat(splice.getAttribute("count").getValue(), is((Object) 2));
+        assertThat(splice.getAttribute("0").getValue(), is((Object) "1"));
+        assertThat(splice.getAttribute("1").getValue(), is((Object) "2"));
+    }
+
+    @Test(expectedExceptions = MappingException.class)
+    public void invalidListSpliceCommandFromRemoting_shouldThrowException() {
+        // given :
+        final ServerModelStore serverModelStore = createServerModelStore();
+        final EventDispatcher dispatcher = createEventDispatcher(serverModelStore);
+        final BeanRepository beanRepository = createBeanRepository(serverModelStore, dispatcher);
+        final ListMapper listMapper = createListMapper(serverModelStore, beanRepository, dispatcher);
+
+        // when :
+        final ListSpliceCommand command = new ListSpliceCommand("unknown", "primitiveList");
+        command.addSplice(0, 0, Collections.singletonList("1"));
+        listMapper.processSplice(command);
+    }
+
+    private ListMapper createListMapper(final ServerModelStore serverModelStore, final BeanRepository beanRepository, final EventDispatcher dispatcher) {
+        final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
+        final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, new Converters(beanRepository), builderFactory);
+        return new ServerListMapper(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+    }
 }
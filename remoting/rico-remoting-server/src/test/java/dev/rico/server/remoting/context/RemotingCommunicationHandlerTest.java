@@ -0,0 +1,323 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.server.remoting.context;
+
+import dev.rico.internal.remoting.RemotingConstants;
+import dev.rico.internal.remoting.codec.OptimizedJsonCodec;
+import dev.rico.internal.remoting.commands.CreateContextCommand;
+import dev.rico.internal.remoting.legacy.commands.InterruptLongPollCommand;
+import dev.rico.internal.remoting.legacy.commands.StartLongPollCommand;
+import dev.rico.internal.remoting.legacy.communication.Command;
+import dev.rico.internal.remoting.server.config.RemotingConfiguration;
+import dev.rico.internal.remoting.server.context.RemotingCommunicationHandler;
+import dev.rico.internal.remoting.server.context.RemotingContextFactory;
+import dev.rico.internal.remoting.server.context.ServerRemotingContext;
+import dev.rico.internal.remoting.server.controller.ControllerRepository;
+import dev.rico.internal.remoting.server.controller.ControllerValidationException;
+import dev.rico.internal.server.beans.PostConstructInterceptor;
+import dev.rico.internal.server.client.HttpClientSessionImpl;
+import dev.rico.internal.server.config.ServerConfiguration;
+import dev.rico.internal.server.scanner.DefaultClasspathScanner;
+import dev.rico.server.client.ClientSession;
+import dev.rico.server.remoting.util.HttpSessionMock;
+import dev.rico.server.spi.components.ManagedBeanFactory;
+import org.testng.annotations.Test;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.DispatcherType;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class RemotingCommunicationHandlerTest {
+
+    @Test
+    public void testPipelinedRequestWaitsForSuspendedLongPoll() throws Exception {
+        //given:
+        final RemotingCommunicationHandler handler = createHandler();
+        final RequestMock createContext = new RequestMock(1, true, new CreateContextCommand());
+        createContext.handle(handler);
+        assertEquals(createContext.status, HttpServletResponse.SC_OK);
+
+        //when:
+        final RequestMock longPoll = new RequestMock(2, true, new StartLongPollCommand());
+        longPoll.handle(handler);
+        final RequestMock nextRequest = new RequestMock(3, true);
+        nextRequest.handle(handler);
+
+        //then:
+        assertNotNull(longPoll.asyncContext);
+        assertFalse(longPoll.dispatched);
+        assertNotNull(nextRequest.asyncContext);
+        assertFalse(nextRequest.dispatched);
+        assertNull(nextRequest.getResponse());
+
+        //when:
+        final RequestMock interrupt = new RequestMock(-1, true, new InterruptLongPollCommand());
+        interrupt.handle(handler);
+
+        //then:
+        assertTrue(longPoll.dispatched);
+        assertFalse(nextRequest.dispatched);
+
+        //when:
+        longPoll.dispatch(handler);
+
+        //then:
+        assertNotNull(longPoll.getResponse());
+        assertTrue(nextRequest.dispatched);
+
+        //when:
+        nextRequest.dispatch(handler);
+
+        //then:
+        assertEquals(nextRequest.status, HttpServletResponse.SC_OK);
+        assertTrue(nextRequest.getResponse().isEmpty());
+    }
+
+    @Test
+    public void testOutOfOrderRequestIsRejectedWithoutAsyncSupport() throws Exception {
+        //given:
+        final RemotingCommunicationHandler handler = createHandler();
+        new RequestMock(1, false, new CreateContextCommand()).handle(handler);
+
+        //when:
+        final RequestMock request = new RequestMock(3, false);
+        request.handle(handler);
+
+        //then:
+        assertNull(request.asyncContext);
+        assertEquals(request.status, HttpServletResponse.SC_CONFLICT);
+    }
+
+    @Test
+    public void testWaitingRequestSkipsMissingRequestOnTimeout() throws Exception {
+        //given:
+        final RemotingCommunicationHandler handler = createHandler();
+        new RequestMock(1, true, new CreateContextCommand()).handle(handler);
+        final RequestMock request = new RequestMock(3, true);
+        request.handle(handler);
+        assertFalse(request.dispatched);
+
+        //when:
+        for (final AsyncListener listener : request.listeners) {
+            listener.onTimeout(null);
+        }
+
+        //then:
+        assertTrue(request.dispatched);
+        request.dispatch(handler);
+        assertEquals(request.status, HttpServletResponse.SC_OK);
+    }
+
+    private RemotingCommunicationHandler createHandler() throws ControllerValidationException {
+        final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+        final ServerConfiguration serverConfiguration = new ServerConfiguration();
+        serverConfiguration.setBooleanProperty(RemotingConfiguration.ASYNC_LONG_POLL, true);
+        final RemotingConfiguration configuration = new RemotingConfiguration(serverConfiguration);
+        final ControllerRepository controllerRepository = new ControllerRepository(new DefaultClasspathScanner("not.in.classpath"));
+        final RemotingContextFactory contextFactory = (clientSession, onDestroyCallback) ->
+                new ServerRemotingContext(configuration, clientSession, () -> session, new ManagedBeanFactoryMock(), controllerRepository, onDestroyCallback);
+        return new RemotingCommunicationHandler(() -> session, contextFactory);
+    }
+
+    private static class RequestMock {
+
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        private final HttpSession httpSession = new HttpSessionMock();
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private final List<AsyncListener> listeners = new ArrayList<>();
+
+        private final long sequence;
+
+        private final boolean asyncSupported;
+
+        private final byte[] content;
+
+        private final HttpServletRequest request;
+
+        private final HttpServletResponse response;
+
+        private DispatcherType dispatcherType = DispatcherType.REQUEST;
+
+        private AsyncContext asyncContext;
+
+        private boolean dispatched;
+
+        private int status = HttpServletResponse.SC_OK;
+
+        RequestMock(final long sequence, final boolean asyncSupported, final Command... commands) {
+            this.sequence = sequence;
+            this.asyncSupported = asyncSupported;
+            this.content = OptimizedJsonCodec.getInstance().encode(Arrays.asList(commands)).getBytes(StandardCharsets.UTF_8);
+            this.request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{HttpServletRequest.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getSession": return httpSession;
+                    case "getDispatcherType": return dispatcherType;
+                    case "getAttribute": return attributes.get(args[0]);
+                    case "setAttribute": return attributes.put((String) args[0], args[1]);
+                    case "removeAttribute": return attributes.remove(args[0]);
+                    case "getHeader": return RemotingConstants.SEQUENCE_HEADER.equals(args[0]) && sequence >= 0 ? Long.toString(sequence) : null;
+                    case "isAsyncSupported": return asyncSupported;
+                    case "startAsync": return startAsync();
+                    case "getInputStream": return new InputStreamMock(content);
+                    default: return null;
+                }
+            });
+            this.response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{HttpServletResponse.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setStatus":
+                        status = (int) args[0];
+                        return null;
+                    case "getOutputStream": return new OutputStreamMock(body);
+                    default: return null;
+                }
+            });
+        }
+
+        void handle(final RemotingCommunicationHandler handler) {
+            handler.handle(request, response);
+        }
+
+        void dispatch(final RemotingCommunicationHandler handler) {
+            assertTrue(dispatched);
+            dispatcherType = DispatcherType.ASYNC;
+            asyncContext = null;
+            dispatched = false;
+            handler.handle(request, response);
+        }
+
+        List<Command> getResponse() throws Exception {
+            if (body.size() == 0) {
+                return null;
+            }
+            return OptimizedJsonCodec.getInstance().decode(new ByteArrayInputStream(body.toByteArray()));
+        }
+
+        private AsyncContext startAsync() {
+            asyncContext = (AsyncContext) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{AsyncContext.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "dispatch":
+                        dispatched = true;
+                        return null;
+                    case "addListener":
+                        listeners.add((AsyncListener) args[0]);
+                        return null;
+                    case "getResponse": return response;
+                    default: return null;
+                }
+            });
+            return asyncContext;
+        }
+    }
+
+    private static class InputStreamMock extends ServletInputStream {
+
+        private final ByteArrayInputStream inputStream;
+
+        InputStreamMock(final byte[] content) {
+            this.inputStream = new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return inputStream.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+        }
+
+        @Override
+        public int read() {
+            return inputStream.read();
+        }
+    }
+
+    private static class OutputStreamMock extends ServletOutputStream {
+
+        private final ByteArrayOutputStream outputStream;
+
+        OutputStreamMock(final ByteArrayOutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+        }
+
+        @Override
+        public void write(final int b) {
+            outputStream.write(b);
+        }
+    }
+
+    private static class ManagedBeanFactoryMock implements ManagedBeanFactory {
+
+        @Override
+        public void init(final ServletContext servletContext) {
+        }
+
+        @Override
+        public <T> T createDependentInstance(final Class<T> cls) {
+            return null;
+        }
+
+        @Override
+        public <T> T createDependentInstance(final Class<T> cls, final PostConstructInterceptor<T> interceptor) {
+            return null;
+        }
+
+        @Override
+        public <T> void destroyDependentInstance(final T instance, final Class<T> cls) {
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.server.remoting.context;
+
+import dev.rico.internal.remoting.server.context.RemotingContextTaskQueue;
+import dev.rico.internal.server.client.HttpClientSessionImpl;
+import dev.rico.server.client.ClientSession;
+import dev.rico.server.remoting.util.HttpSessionMock;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class RemotingContextTaskQueueTest {
+
+    @Test
+    public void testAwaitTasksIsCalledOnNewTask() {
+        //given:
+        final RemotingContextTaskQueue taskQueue = createQueue();
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+        final AtomicInteger taskCount = new AtomicInteger(0);
+
+        //when:
+        final boolean waiting = taskQueue.awaitTasks(wakeUpCount::incrementAndGet);
+        taskQueue.addTask(taskCount::incrementAndGet);
+        taskQueue.addTask(taskCount::incrementAndGet);
+
+        //then:
+        assertTrue(waiting);
+        assertEquals(wakeUpCount.get(), 1);
+        assertEquals(taskCount.get(), 0);
+
+        //when:
+        taskQueue.executeOpenTasks();
+
+        //then:
+        assertEquals(taskCount.get(), 2);
+    }
+
+    @Test
+    public void testAwaitTasksWithOpenTasks() {
+        //given:
+        final RemotingContextTaskQueue taskQueue = createQueue();
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+        taskQueue.addTask(() -> null);
+
+        //when:
+        final boolean waiting = taskQueue.awaitTasks(wakeUpCount::incrementAndGet);
+
+        //then:
+        assertFalse(waiting);
+        assertEquals(wakeUpCount.get(), 0);
+    }
+
+    @Test
+    public void testAwaitTasksIsCalledOnInterrupt() {
+        //given:
+        final RemotingContextTaskQueue taskQueue = createQueue();
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+
+        //when:
+        taskQueue.awaitTasks(wakeUpCount::incrementAndGet);
+        taskQueue.interrupt();
+        taskQueue.interrupt();
+
+        //then:
+        assertEquals(wakeUpCount.get(), 1);
+    }
+
+    @Test
+    public void testCancelAwait() {
+        //given:
+        final RemotingContextTaskQueue taskQueue = createQueue();
+        final AtomicInteger wakeUpCount = new AtomicInteger(0);
+        final Runnable callback = wakeUpCount::incrementAndGet;
+
+        //when:
+        taskQueue.awaitTasks(callback);
+        final boolean canceled = taskQueue.cancelAwait(callback);
+        taskQueue.addTask(() -> null);
+
+        //then:
+        assertTrue(canceled);
+        assertEquals(wakeUpCount.get(), 0);
+    }
+
+    @Test
+    public void testNewAwaitReleasesPreviousCallback() {
+        //given:
+        final RemotingContextTaskQueue taskQueue = createQueue();
+        final AtomicInteger firstWakeUpCount = new AtomicInteger(0);
+        final AtomicInteger secondWakeUpCount = new AtomicInteger(0);
+
+        //when:
+        taskQueue.awaitTasks(firstWakeUpCount::incrementAndGet);
+        taskQueue.awaitTasks(secondWakeUpCount::incrementAndGet);
+
+        //then:
+        assertEquals(firstWakeUpCount.get(), 1);
+        assertEquals(secondWakeUpCount.get(), 0);
+    }
+
+    private RemotingContextTaskQueue createQueue() {
+        final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+        return new RemotingContextTaskQueue(session.getId(), () -> session, () -> false, 1, TimeUnit.SECONDS);
+    }
+}
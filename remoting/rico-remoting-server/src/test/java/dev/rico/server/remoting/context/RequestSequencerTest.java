@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.server.remoting.context;
+
+import dev.rico.internal.remoting.server.context.RequestSequencer;
+import dev.rico.internal.remoting.server.context.RequestSequencer.Turn;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class RequestSequencerTest {
+
+    @Test
+    public void testRequestsAreHandledInOrder() {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        final List<Long> handled = new ArrayList<>();
+        assertEquals(sequencer.requestTurn(1, null), Turn.GRANTED);
+
+        //when:
+        final Turn third = sequencer.requestTurn(3, () -> {
+            handled.add(3L);
+            sequencer.complete(3);
+        });
+        final Turn second = sequencer.requestTurn(2, () -> {
+            handled.add(2L);
+            sequencer.complete(2);
+        });
+        handled.add(1L);
+        sequencer.complete(1);
+
+        //then:
+        assertEquals(third, Turn.WAITING);
+        assertEquals(second, Turn.WAITING);
+        assertEquals(handled.size(), 3);
+        assertEquals(handled.get(0).longValue(), 1L);
+        assertEquals(handled.get(1).longValue(), 2L);
+        assertEquals(handled.get(2).longValue(), 3L);
+    }
+
+    @Test
+    public void testTurnIsKeptUntilCompleted() {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        final List<Long> handled = new ArrayList<>();
+        sequencer.requestTurn(1, null);
+        sequencer.complete(1);
+        assertEquals(sequencer.requestTurn(2, null), Turn.GRANTED);
+
+        //when:
+        final Turn third = sequencer.requestTurn(3, () -> handled.add(3L));
+        sequencer.complete(1);
+
+        //then:
+        assertEquals(third, Turn.WAITING);
+        assertTrue(handled.isEmpty());
+        assertEquals(sequencer.skip(3), Turn.REJECTED);
+        assertEquals(sequencer.requestTurn(2, null), Turn.REJECTED);
+    }
+
+    @Test
+    public void testRequestIsRejectedInsteadOfWaitingWithoutCallback() {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        sequencer.requestTurn(1, null);
+
+        //when:
+        final Turn second = sequencer.requestTurn(3, null);
+
+        //then:
+        assertEquals(second, Turn.REJECTED);
+    }
+
+    @Test
+    public void testMissingRequestIsSkipped() {
+        //given:
+        final RequestSequencer sequencer = new RequestSequencer();
+        final List<Long> handled = new ArrayList<>();
+        assertEquals(sequencer.requestTurn(5, null), Turn.GRANTED);
+        sequencer.complete(5);
+        assertEquals(sequencer.requestTurn(7, () -> handled.add(7L)), Turn.WAITING);
+
+        //when:
+        final Turn seventh = sequencer.skip(7);
+        sequencer.complete(7);
+        final Turn sixth = sequencer.requestTurn(6, () -> handled.add(6L));
+
+        //then:
+        assertEquals(seventh, Turn.GRANTED);
+        assertEquals(sixth, Turn.REJECTED);
+        assertTrue(handled.isEmpty());
+        assertEquals(sequencer.requestTurn(8, null), Turn.GRANTED);
+    }
+}
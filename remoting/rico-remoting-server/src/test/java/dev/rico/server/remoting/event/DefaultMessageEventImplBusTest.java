@@ -38,7 +38,14 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.servlet.ServletContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class DefaultMessageEventImplBusTest {
 
@@ -107,6 +114,70 @@ public class DefaultMessageEventImplBusTest {
         Assert.assertFalse(calledCheck.get());
     }
 
+    @Test
+    public void TestPublishInOtherSessionAddsOneTaskPerSession() throws InterruptedException {
+        //given
+        final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+        final ServerRemotingContext publisherContext = createContext(tasks);
+        final ServerRemotingContext subscriberContext = createContext(tasks);
+        final AtomicReference<ServerRemotingContext> currentContext = new AtomicReference<>(subscriberContext);
+        final DefaultRemotingEventBus eventBus = create(currentContext, publisherContext, subscriberContext);
+        final List<String> received = new ArrayList<>();
+        eventBus.subscribe(TEST_TOPIC, message -> received.add("first:" + message.getData()));
+        eventBus.subscribe(TEST_TOPIC, message -> received.add("second:" + message.getData()));
+        final Subscription subscription = eventBus.subscribe(TEST_TOPIC, message -> received.add("third:" + message.getData()));
+        subscription.unsubscribe();
+
+        //when
+        currentContext.set(publisherContext);
+        eventBus.publish(TEST_TOPIC, "huhu");
+        eventBus.publish(TEST_TOPIC, "hello");
+        awaitTasks(tasks, 1);
+
+        //then
+        Assert.assertTrue(received.isEmpty());
+        Assert.assertEquals(tasks.size(), 1);
+
+        //when
+        tasks.get(0).run();
+
+        //then
+        Assert.assertEquals(received, Arrays.asList("first:huhu", "second:huhu", "first:hello", "second:hello"));
+    }
+
+    private void awaitTasks(final List<Runnable> tasks, final int count) throws InterruptedException {
+        final long endTime = System.currentTimeMillis() + 5_000;
+        while (tasks.size() < count && System.currentTimeMillis() < endTime) {
+            Thread.sleep(10);
+        }
+        // give the dispatcher the chance to add unexpected tasks
+        Thread.sleep(50);
+    }
+
+    private DefaultRemotingEventBus create(final AtomicReference<ServerRemotingContext> currentContext, final ServerRemotingContext... contexts) {
+        final DefaultRemotingEventBus eventBus = new DefaultRemotingEventBus();
+        eventBus.init(new ServerRemotingContextProvider() {
+            @Override
+            public ServerRemotingContext getContext(ClientSession clientSession) {
+                return getContextById(clientSession.getId());
+            }
+
+            @Override
+            public ServerRemotingContext getContextById(String clientSessionId) {
+                return Arrays.stream(contexts)
+                        .filter(c -> c.getId().equals(clientSessionId))
+                        .findFirst()
+                        .orElse(null);
+            }
+
+            @Override
+            public ServerRemotingContext getCurrentContext() {
+                return currentContext.get();
+            }
+        }, new ClientSessionLifecycleHandlerImpl());
+        return eventBus;
+    }
+
     private DefaultRemotingEventBus create(final ServerRemotingContext context) {
         DefaultRemotingEventBus eventBus = new DefaultRemotingEventBus();
         eventBus.init(new ServerRemotingContextProvider() {
@@ -133,6 +204,21 @@ public class DefaultMessageEventImplBusTest {
 
     private final DefaultClasspathScanner classpathScanner = new DefaultClasspathScanner("not.in.classpath");
 
+    private ServerRemotingContext createContext(final List<Runnable> tasks) {
+        try {
+            final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
+            return new ServerRemotingContext(new RemotingConfiguration(), session, () -> session, new ManagedBeanFactoryMock(), new ControllerRepository(classpathScanner), v -> {}) {
+                @Override
+                public Future<Void> runLater(final Runnable runnable) {
+                    tasks.add(runnable);
+                    return CompletableFuture.completedFuture(null);
+                }
+            };
+        } catch (Exception e) {
+            throw new RuntimeException("FAIL", e);
+        }
+    }
+
     private ServerRemotingContext createContext() {
         try {
             final ClientSession session = new HttpClientSessionImpl(new HttpSessionMock());
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.server.remoting.event;
+
+import dev.rico.internal.remoting.server.event.BackPressurePolicy;
+import dev.rico.internal.remoting.server.event.EventMailbox;
+import dev.rico.internal.remoting.server.event.ListenerWithFilter;
+import dev.rico.internal.remoting.server.event.MessageEventImpl;
+import dev.rico.remoting.server.event.Topic;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EventMailboxTest {
+
+    private static final Topic<String> TOPIC_A = Topic.create("a");
+
+    private static final Topic<String> TOPIC_B = Topic.create("b");
+
+    private List<String> received;
+
+    private List<String> dropped;
+
+    private List<ListenerWithFilter<?>> listeners;
+
+    @BeforeMethod
+    public void init() {
+        received = new CopyOnWriteArrayList<>();
+        dropped = new CopyOnWriteArrayList<>();
+        listeners = Collections.singletonList(new ListenerWithFilter<String>(e -> received.add(e.getData())));
+    }
+
+    @Test
+    public void testOnlyFirstEventSchedulesDelivery() throws InterruptedException {
+        //given
+        final AtomicLong pendingCount = new AtomicLong();
+        final EventMailbox mailbox = new EventMailbox("session", 10, pendingCount);
+
+        //when
+        final boolean first = offer(mailbox, TOPIC_A, "1", BackPressurePolicy.DROP);
+        final boolean second = offer(mailbox, TOPIC_A, "2", BackPressurePolicy.DROP);
+
+        //then
+        Assert.assertTrue(first);
+        Assert.assertFalse(second);
+        Assert.assertEquals(pendingCount.get(), 2);
+
+        //when
+        mailbox.deliver();
+        final boolean third = offer(mailbox, TOPIC_A, "3", BackPressurePolicy.DROP);
+
+        //then
+        Assert.assertEquals(received, Arrays.asList("1", "2"));
+        Assert.assertTrue(third);
+        Assert.assertEquals(pendingCount.get(), 1);
+    }
+
+    @Test
+    public void testDropPolicy() throws InterruptedException {
+        //given
+        final EventMailbox mailbox = new EventMailbox("session", 2, new AtomicLong());
+
+        //when
+        offer(mailbox, TOPIC_A, "1", BackPressurePolicy.DROP);
+        offer(mailbox, TOPIC_A, "2", BackPressurePolicy.DROP);
+        offer(mailbox, TOPIC_A, "3", BackPressurePolicy.DROP);
+        mailbox.deliver();
+
+        //then
+        Assert.assertEquals(received, Arrays.asList("1", "2"));
+        Assert.assertEquals(dropped, Collections.singletonList("3"));
+    }
+
+    @Test
+    public void testDropOldestPolicyDropsOldestEventOfSameTopic() throws InterruptedException {
+        //given
+        final EventMailbox mailbox = new EventMailbox("session", 3, new AtomicLong());
+
+        //when
+        offer(mailbox, TOPIC_B, "b1", BackPressurePolicy.DROP_OLDEST);
+        offer(mailbox, TOPIC_A, "a1", BackPressurePolicy.DROP_OLDEST);
+        offer(mailbox, TOPIC_A, "a2", BackPressurePolicy.DROP_OLDEST);
+        offer(mailbox, TOPIC_A, "a3", BackPressurePolicy.DROP_OLDEST);
+        mailbox.deliver();
+
+        //then
+        Assert.assertEquals(received, Arrays.asList("b1", "a2", "a3"));
+        Assert.assertEquals(dropped, Collections.singletonList("a1"));
+    }
+
+    @Test
+    public void testBlockPolicyDropsEventAfterMaxBlockTime() throws InterruptedException {
+        //given
+        final EventMailbox mailbox = new EventMailbox("session", 1, new AtomicLong());
+        offer(mailbox, TOPIC_A, "1", BackPressurePolicy.BLOCK);
+
+        //when
+        final long start = System.nanoTime();
+        offer(mailbox, TOPIC_A, "2", BackPressurePolicy.BLOCK);
+
+        //then
+        Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(dropped, Collections.singletonList("2"));
+    }
+
+    @Test
+    public void testBlockPolicyWaitsForDelivery() throws Exception {
+        //given
+        final EventMailbox mailbox = new EventMailbox("session", 1, new AtomicLong());
+        offer(mailbox, TOPIC_A, "1", BackPressurePolicy.BLOCK);
+
+        //when
+        final CompletableFuture<Boolean> blockedOffer = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mailbox.offer(new MessageEventImpl<>(TOPIC_A, 0, "2"), listeners, BackPressurePolicy.BLOCK, 10_000, e -> dropped.add((String) e.getData()));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Thread.sleep(50);
+
+        //then
+        Assert.assertFalse(blockedOffer.isDone());
+
+        //when
+        mailbox.deliver();
+
+        //then
+        Assert.assertTrue(blockedOffer.get(5, TimeUnit.SECONDS));
+        Assert.assertTrue(dropped.isEmpty());
+    }
+
+    @Test
+    public void testClosedMailboxIgnoresEvents() throws InterruptedException {
+        //given
+        final AtomicLong pendingCount = new AtomicLong();
+        final EventMailbox mailbox = new EventMailbox("session", 10, pendingCount);
+        offer(mailbox, TOPIC_A, "1", BackPressurePolicy.DROP);
+
+        //when
+        mailbox.close();
+        final boolean scheduled = offer(mailbox, TOPIC_A, "2", BackPressurePolicy.DROP);
+        mailbox.deliver();
+
+        //then
+        Assert.assertFalse(scheduled);
+        Assert.assertTrue(received.isEmpty());
+        Assert.assertEquals(pendingCount.get(), 0);
+    }
+
+    private boolean offer(final EventMailbox mailbox, final Topic<String> topic, final String data, final BackPressurePolicy policy) throws InterruptedException {
+        return mailbox.offer(new MessageEventImpl<>(topic, 0, data), listeners, policy, 50, e -> dropped.add((String) e.getData()));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.server.remoting.event;
+
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.internal.remoting.server.event.PartitionedEventDispatcher;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PartitionedEventDispatcherTest {
+
+    @Test
+    public void testTasksOfOneSessionAreExecutedInOrder() throws InterruptedException {
+        //given
+        final PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(4, 100, MetricsImpl.getInstance());
+        final List<Integer> executed = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+
+        try {
+            //when
+            for (int i = 0; i < 50; i++) {
+                final int value = i;
+                dispatcher.dispatch("session", () -> executed.add(value));
+            }
+            dispatcher.dispatch("session", done::countDown);
+
+            //then
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 50; i++) {
+                Assert.assertEquals(executed.get(i).intValue(), i);
+            }
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownStopsThreads() throws InterruptedException {
+        //given
+        final PartitionedEventDispatcher dispatcher = new PartitionedEventDispatcher(1, 10, MetricsImpl.getInstance());
+        final AtomicReference<Thread> partitionThread = new AtomicReference<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        dispatcher.dispatch("session", () -> {
+            partitionThread.set(Thread.currentThread());
+            started.countDown();
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        //when
+        dispatcher.shutdown();
+        final CountDownLatch afterShutdown = new CountDownLatch(1);
+        dispatcher.dispatch("session", afterShutdown::countDown);
+
+        //then
+        partitionThread.get().join(5_000);
+        Assert.assertFalse(partitionThread.get().isAlive());
+        Assert.assertTrue(dispatcher.isShutdown());
+        Assert.assertFalse(afterShutdown.await(100, TimeUnit.MILLISECONDS));
+    }
+}
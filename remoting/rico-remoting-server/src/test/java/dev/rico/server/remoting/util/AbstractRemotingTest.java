@@ -26,7 +26,7 @@ import dev.rico.internal.remoting.Converters;
 import dev.rico.internal.remoting.EventDispatcher;
 import dev.rico.internal.remoting.ListMapper;
 import dev.rico.internal.remoting.PresentationModelBuilderFactory;
-import dev.rico.internal.remoting.collections.ListMapperImpl;
+import dev.rico.internal.remoting.server.model.ServerListMapper;
 import dev.rico.internal.remoting.legacy.communication.Command;
 import dev.rico.internal.remoting.legacy.util.DirectExecutor;
 import dev.rico.internal.remoting.server.config.RemotingConfiguration;
@@ -68,7 +68,7 @@ public abstract class AbstractRemotingTest {
         final Converters converters = new Converters(beanRepository);
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        final ListMapper listMapper = new ServerListMapper(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final RemotingConfiguration configurationForGc = new RemotingConfiguration();
         final GarbageCollector garbageCollector = new GarbageCollector(configurationForGc, new GarbageCollectionCallback() {
             @Override
@@ -87,7 +87,7 @@ public abstract class AbstractRemotingTest {
         final Converters converters = new Converters(beanRepository);
         final PresentationModelBuilderFactory builderFactory = new ServerPresentationModelBuilderFactory(serverModelStore);
         final ClassRepository classRepository = new ClassRepositoryImpl(serverModelStore, converters, builderFactory);
-        final ListMapper listMapper = new ListMapperImpl(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
+        final ListMapper listMapper = new ServerListMapper(serverModelStore, classRepository, beanRepository, builderFactory, dispatcher);
         final RemotingConfiguration configurationForGc = new RemotingConfiguration();
         final GarbageCollector garbageCollector = new GarbageCollector(configurationForGc, new GarbageCollectionCallback() {
             @Override
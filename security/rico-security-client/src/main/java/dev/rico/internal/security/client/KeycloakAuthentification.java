@@ -16,6 +16,8 @@
  */
 package dev.rico.internal.security.client;
 
+import java.util.concurrent.TimeUnit;
+
 public class KeycloakAuthentification {
 
     private final String accessToken;
@@ -24,10 +26,24 @@ public class KeycloakAuthentification {
 
     private final String realm;
 
+    private final boolean expires;
+
+    private final long expirationTime;
+
     public KeycloakAuthentification(final String accessToken, final String appName, final String realm) {
         this.accessToken = accessToken;
         this.appName = appName;
         this.realm = realm;
+        this.expires = false;
+        this.expirationTime = 0;
+    }
+
+    public KeycloakAuthentification(final String accessToken, final String appName, final String realm, final long expiresInMillis) {
+        this.accessToken = accessToken;
+        this.appName = appName;
+        this.realm = realm;
+        this.expires = true;
+        this.expirationTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(expiresInMillis);
     }
 
     public String getAppName() {
@@ -41,4 +57,8 @@ public class KeycloakAuthentification {
     public String getAccessToken() {
         return accessToken;
     }
+
+    public boolean isExpired() {
+        return expires && System.nanoTime() - expirationTime >= 0;
+    }
 }
@@ -16,24 +16,64 @@
  */
 package dev.rico.internal.security.client;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.net.URL;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class KeycloakAuthentificationManager {
 
+    private static final Logger LOG = LoggerFactory.getLogger(KeycloakAuthentificationManager.class);
+
+    private static final long REFRESH_TIMEOUT = 30_000;
+
     private static final KeycloakAuthentificationManager INSTANCE = new KeycloakAuthentificationManager();
 
     private final AtomicReference<KeycloakAuthentification> auth;
 
+    private final AtomicReference<KeycloakTokenRefresher> refresher;
+
     private KeycloakAuthentificationManager() {
         this.auth = new AtomicReference<>();
+        this.refresher = new AtomicReference<>();
     }
 
     public Optional<KeycloakAuthentification> getAuthFor(final URL endpoint) {
         return Optional.ofNullable(auth.get());
     }
 
+    /**
+     * Returns the authentication for the given endpoint. If the token of the authentication is expired this method
+     * waits until the token is refreshed instead of returning the expired token.
+     *
+     * @param endpoint the endpoint
+     * @return the authentication
+     */
+    public Optional<KeycloakAuthentification> getValidAuthFor(final URL endpoint) {
+        final KeycloakAuthentification currentAuth = auth.get();
+        final KeycloakTokenRefresher currentRefresher = refresher.get();
+        if (currentAuth != null && currentAuth.isExpired() && currentRefresher != null) {
+            LOG.debug("Security token expired, waiting for refresh");
+            try {
+                return Optional.ofNullable(currentRefresher.refresh().get(REFRESH_TIMEOUT, TimeUnit.MILLISECONDS));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException | TimeoutException e) {
+                LOG.warn("Can not refresh expired security token", e);
+            }
+        }
+        return getAuthFor(endpoint);
+    }
+
+    public void setRefresher(final KeycloakTokenRefresher refresher) {
+        this.refresher.set(refresher);
+    }
+
     public void setAuth(final KeycloakAuthentification auth) {
         this.auth.set(auth);
     }
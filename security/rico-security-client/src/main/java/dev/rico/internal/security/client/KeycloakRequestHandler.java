@@ -39,7 +39,7 @@ public class KeycloakRequestHandler implements HttpURLConnectionHandler {
     @Override
     public void handle(final HttpURLConnection connection) {
         Assert.requireNonNull(connection, "connection");
-        KeycloakAuthentificationManager.getInstance().getAuthFor(connection.getURL()).ifPresent(auth -> {
+        KeycloakAuthentificationManager.getInstance().getValidAuthFor(connection.getURL()).ifPresent(auth -> {
 
             //No redirect, can not be handled in Java
             connection.setRequestProperty(BEARER_ONLY_HEADER, "true");
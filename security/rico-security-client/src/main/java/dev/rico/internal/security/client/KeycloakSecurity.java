@@ -46,7 +46,9 @@ import static dev.rico.internal.core.http.HttpHeaderConstants.CHARSET;
 import static dev.rico.internal.core.http.HttpHeaderConstants.CONTENT_TYPE_HEADER;
 import static dev.rico.internal.core.http.HttpHeaderConstants.FORM_MIME_TYPE;
 import static dev.rico.internal.core.http.HttpHeaderConstants.TEXT_MIME_TYPE;
+import static dev.rico.internal.core.http.HttpStatus.SC_BAD_REQUEST;
 import static dev.rico.internal.core.http.HttpStatus.SC_HTTP_UNAUTHORIZED;
+import static dev.rico.internal.core.http.HttpStatus.SC_MULTIPLE_CHOICES;
 import static dev.rico.internal.security.SecurityConstants.APPLICATION_NAME_HEADER;
 import static dev.rico.internal.security.SecurityConstants.APPLICATION_PROPERTY_NAME;
 import static dev.rico.internal.security.SecurityConstants.AUTH_ENDPOINT_PROPERTY_DEFAULT_VALUE;
@@ -61,10 +63,6 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 @API(since = "0.19.0", status = INTERNAL)
 public class KeycloakSecurity implements Security {
 
-    private static final long TOKEN_EXPIRES_DELTA = 10_000;
-
-    private static final long MIN_TOKEN_EXPIRES_RUN = 30_000;
-
     private static final Logger LOG = LoggerFactory.getLogger(KeycloakSecurity.class);
 
     private final String authEndpoint;
@@ -77,7 +75,9 @@ public class KeycloakSecurity implements Security {
 
     private final boolean directConnect;
 
-    private Future<Void> refreshTask;
+    private KeycloakTokenRefresher tokenRefresher;
+
+    private final TokenRefreshStatistics refreshStatistics = new TokenRefreshStatistics();
 
     private final Lock refreshLock = new ReentrantLock();
 
@@ -123,15 +123,12 @@ public class KeycloakSecurity implements Security {
                 try {
                     final String encodedUser = encode(user);
                     final String encodedPassword = encode(password);
-                    final String encodedAppName = encode(appName);
 
                     final KeycloakOpenidConnectResult connectResult = receiveTokenByLogin(encodedUser, encodedPassword, realmName, appName);
                     accessToken.set(connectResult.getAccess_token());
-                    final KeycloakAuthentification auth = new KeycloakAuthentification(accessToken.get(), appName, realmName);
-                    KeycloakAuthentificationManager.getInstance().setAuth(auth);
+                    startTokenRefresher(connectResult, realmName, appName);
                     authorized.set(true);
                     userContextAssignment.set(RicoApplicationContextImpl.getInstance().setGlobalAttribute(USER_CONTEXT, user));
-                    startTokenRefreshRunner(connectResult, realmName, encodedAppName);
                 } catch (final IOException | URISyntaxException e) {
                     throw new RuntimeException("Can not receive security token!", e);
                 }
@@ -153,7 +150,11 @@ public class KeycloakSecurity implements Security {
                 authorized.set(false);
                 refreshLock.lock();
                 try {
-                    refreshTask.cancel(true);
+                    if (tokenRefresher != null) {
+                        tokenRefresher.stop();
+                        tokenRefresher = null;
+                    }
+                    KeycloakAuthentificationManager.getInstance().setRefresher(null);
                 } finally {
                     refreshLock.unlock();
                 }
@@ -180,33 +181,26 @@ public class KeycloakSecurity implements Security {
         }
     }
 
-    private void startTokenRefreshRunner(final KeycloakOpenidConnectResult connectResult, final String realmName, final String appName) {
+    public TokenRefreshStatistics getRefreshStatistics() {
+        return refreshStatistics;
+    }
+
+    private void startTokenRefresher(final KeycloakOpenidConnectResult connectResult, final String realmName, final String appName) {
+        Assert.requireNonNull(connectResult, "connectResult");
         refreshLock.lock();
         try {
-            Assert.requireNonNull(connectResult, "connectResult");
-            refreshTask = executor.submit(() -> {
+            tokenRefresher = new KeycloakTokenRefresher(refreshToken -> {
                 try {
-                    final AtomicReference<KeycloakOpenidConnectResult> connectResultReference = new AtomicReference<>(connectResult);
-                    while (!Thread.interrupted()) {
-                        final KeycloakOpenidConnectResult currentConnectResult = connectResultReference.get();
-                        Assert.requireNonNull(currentConnectResult, "currentConnectResult");
-                        final long sleepTime = Math.max(MIN_TOKEN_EXPIRES_RUN, currentConnectResult.getExpires_in() - TOKEN_EXPIRES_DELTA);
-                        Thread.sleep(sleepTime);
-                        LOG.debug("Token refresh started");
-                        final KeycloakOpenidConnectResult newConnectResult = receiveTokenByRefresh(currentConnectResult.getRefresh_token(), realmName, appName);
-                        Assert.requireNonNull(newConnectResult, "newConnectResult");
-                        accessToken.set(newConnectResult.getAccess_token());
-                        final KeycloakAuthentification auth = new KeycloakAuthentification(accessToken.get(), appName, realmName);
-                        KeycloakAuthentificationManager.getInstance().setAuth(auth);
-                        LOG.debug("Token refresh done");
-                        connectResultReference.set(newConnectResult);
-                    }
-                } catch (final InterruptedException e) {
-                    LOG.debug("Token refresh runner stopped");
-                } catch (final IOException | URISyntaxException e) {
-                    throw new RuntimeException("Can not receive security token!", e);
+                    final KeycloakOpenidConnectResult newConnectResult = receiveTokenByRefresh(refreshToken, realmName, encode(appName));
+                    accessToken.set(newConnectResult.getAccess_token());
+                    return newConnectResult;
+                } catch (final KeycloakTokenRejectedException e) {
+                    logout();
+                    throw e;
                 }
-            }, null);
+            }, realmName, appName, executor, TokenRefreshScheduler.getInstance(), refreshStatistics);
+            tokenRefresher.start(connectResult);
+            KeycloakAuthentificationManager.getInstance().setRefresher(tokenRefresher);
         } finally {
             refreshLock.unlock();
         }
@@ -261,6 +255,12 @@ public class KeycloakSecurity implements Security {
         if (responseCode == SC_HTTP_UNAUTHORIZED) {
             throw new RuntimeException("Invalid login!");
         }
+        if (responseCode == SC_BAD_REQUEST) {
+            throw new KeycloakTokenRejectedException("Token request rejected: " + connection.readUTFResponseContent());
+        }
+        if (responseCode >= SC_MULTIPLE_CHOICES) {
+            throw new IOException("Can not receive security token, server responded with HTTP " + responseCode);
+        }
         final String input = connection.readUTFResponseContent();
         final Gson gson = Client.getService(Gson.class);
         final KeycloakOpenidConnectResult result = gson.fromJson(input, KeycloakOpenidConnectResult.class);
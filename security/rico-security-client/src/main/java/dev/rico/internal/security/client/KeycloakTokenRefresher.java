@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.client;
+
+import dev.rico.core.functional.CheckedFunction;
+import dev.rico.internal.core.Assert;
+import org.apiguardian.api.API;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Refreshes the token of one login session. The next refresh is planned by the shared {@link TokenRefreshScheduler}
+ * ahead of the expiry of the current token. A random jitter prevents that many sessions refresh at the same time.
+ * Concurrent refresh requests share one refresh call. A failed refresh is retried with an exponential backoff, if the
+ * server rejects the refresh token ({@link KeycloakTokenRejectedException}) the refresher stops and the token is
+ * removed.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class KeycloakTokenRefresher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeycloakTokenRefresher.class);
+
+    private static final long TOKEN_EXPIRES_DELTA = 10_000;
+
+    private static final long MIN_REFRESH_DELAY = 1_000;
+
+    private static final long RETRY_DELAY = 5_000;
+
+    private static final long MAX_RETRY_DELAY = 300_000;
+
+    private static final double MAX_JITTER = 0.1;
+
+    private final CheckedFunction<String, KeycloakOpenidConnectResult> refreshFunction;
+
+    private final String realmName;
+
+    private final String appName;
+
+    private final Executor executor;
+
+    private final TokenRefreshScheduler scheduler;
+
+    private final TokenRefreshStatistics statistics;
+
+    private final Object lock = new Object();
+
+    private KeycloakOpenidConnectResult connectResult;
+
+    private CompletableFuture<KeycloakAuthentification> runningRefresh;
+
+    private ScheduledFuture<?> plannedRefresh;
+
+    private boolean stopped;
+
+    private int failedRefreshes;
+
+    public KeycloakTokenRefresher(final CheckedFunction<String, KeycloakOpenidConnectResult> refreshFunction, final String realmName, final String appName, final Executor executor, final TokenRefreshScheduler scheduler, final TokenRefreshStatistics statistics) {
+        this.refreshFunction = Assert.requireNonNull(refreshFunction, "refreshFunction");
+        this.realmName = realmName;
+        this.appName = appName;
+        this.executor = Assert.requireNonNull(executor, "executor");
+        this.scheduler = Assert.requireNonNull(scheduler, "scheduler");
+        this.statistics = Assert.requireNonNull(statistics, "statistics");
+    }
+
+    /**
+     * Publishes the token of the login and plans the first refresh.
+     *
+     * @param loginResult the result of the login
+     * @return the authentication for the token
+     */
+    public KeycloakAuthentification start(final KeycloakOpenidConnectResult loginResult) {
+        Assert.requireNonNull(loginResult, "loginResult");
+        synchronized (lock) {
+            return update(loginResult);
+        }
+    }
+
+    /**
+     * Refreshes the token. If a refresh is already running its result is returned.
+     *
+     * @return a future that is completed with the new authentication
+     */
+    public CompletableFuture<KeycloakAuthentification> refresh() {
+        final CompletableFuture<KeycloakAuthentification> future;
+        synchronized (lock) {
+            if (stopped) {
+                final CompletableFuture<KeycloakAuthentification> result = new CompletableFuture<>();
+                result.completeExceptionally(new IllegalStateException("Token refresh already stopped"));
+                return result;
+            }
+            if (runningRefresh != null) {
+                return runningRefresh;
+            }
+            cancelPlannedRefresh();
+            future = new CompletableFuture<>();
+            runningRefresh = future;
+        }
+        executor.execute(() -> doRefresh(future));
+        return future;
+    }
+
+    public void stop() {
+        synchronized (lock) {
+            stopped = true;
+            cancelPlannedRefresh();
+        }
+    }
+
+    private void doRefresh(final CompletableFuture<KeycloakAuthentification> future) {
+        final String refreshToken;
+        synchronized (lock) {
+            refreshToken = connectResult.getRefresh_token();
+        }
+        LOG.debug("Token refresh started");
+        final long startTime = System.nanoTime();
+        try {
+            final KeycloakOpenidConnectResult newConnectResult = Assert.requireNonNull(refreshFunction.apply(refreshToken), "newConnectResult");
+            statistics.onRefresh(System.nanoTime() - startTime);
+            final KeycloakAuthentification auth;
+            synchronized (lock) {
+                runningRefresh = null;
+                auth = stopped ? null : update(newConnectResult);
+            }
+            LOG.debug("Token refresh done");
+            future.complete(auth);
+        } catch (final KeycloakTokenRejectedException e) {
+            statistics.onFailure();
+            LOG.error("Security token refresh rejected, a new login is needed", e);
+            synchronized (lock) {
+                runningRefresh = null;
+                stopped = true;
+                cancelPlannedRefresh();
+                KeycloakAuthentificationManager.getInstance().setAuth(null);
+            }
+            future.completeExceptionally(e);
+        } catch (final Exception e) {
+            statistics.onFailure();
+            final long retryDelay;
+            synchronized (lock) {
+                runningRefresh = null;
+                failedRefreshes++;
+                retryDelay = retryDelay(failedRefreshes);
+                planRefresh(retryDelay);
+            }
+            LOG.error("Can not refresh security token, next try in {} ms", retryDelay, e);
+            future.completeExceptionally(e);
+        }
+    }
+
+    static long retryDelay(final int failedRefreshes) {
+        final int exponent = Math.min(Math.max(failedRefreshes - 1, 0), 30);
+        return Math.min(MAX_RETRY_DELAY, RETRY_DELAY << exponent);
+    }
+
+    private KeycloakAuthentification update(final KeycloakOpenidConnectResult newConnectResult) {
+        connectResult = newConnectResult;
+        failedRefreshes = 0;
+        final long expiresInMillis = TimeUnit.SECONDS.toMillis(newConnectResult.getExpires_in());
+        final KeycloakAuthentification auth = new KeycloakAuthentification(newConnectResult.getAccess_token(), appName, realmName, expiresInMillis);
+        KeycloakAuthentificationManager.getInstance().setAuth(auth);
+
+        final long delay = Math.max(MIN_REFRESH_DELAY, expiresInMillis - TOKEN_EXPIRES_DELTA);
+        final long jitter = (long) (delay * MAX_JITTER * ThreadLocalRandom.current().nextDouble());
+        planRefresh(delay - jitter);
+        return auth;
+    }
+
+    private void planRefresh(final long delayMillis) {
+        cancelPlannedRefresh();
+        if (!stopped) {
+            plannedRefresh = scheduler.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void cancelPlannedRefresh() {
+        if (plannedRefresh != null) {
+            plannedRefresh.cancel(false);
+            plannedRefresh = null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.client;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Thrown if the keycloak server rejects a token request (for example with {@code invalid_grant} because the refresh
+ * token expired). Retrying such a request will never succeed, a new login is needed.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class KeycloakTokenRejectedException extends IOException {
+
+    private static final long serialVersionUID = 5081720347326612318L;
+
+    public KeycloakTokenRejectedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.client;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.internal.core.SimpleThreadFactory;
+import org.apiguardian.api.API;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * One timer for the token refresh of all security sessions. The timer thread only triggers a refresh; the refresh
+ * itself is executed by the background executor of the session.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public final class TokenRefreshScheduler {
+
+    private static final TokenRefreshScheduler INSTANCE = new TokenRefreshScheduler();
+
+    private final ScheduledThreadPoolExecutor timer;
+
+    private TokenRefreshScheduler() {
+        this.timer = new ScheduledThreadPoolExecutor(1, new SimpleThreadFactory(true));
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    public ScheduledFuture<?> schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        Assert.requireNonNull(task, "task");
+        Assert.requireNonNull(unit, "unit");
+        return timer.schedule(task, delay, unit);
+    }
+
+    public int getScheduledCount() {
+        return timer.getQueue().size();
+    }
+
+    public static TokenRefreshScheduler getInstance() {
+        return INSTANCE;
+    }
+}
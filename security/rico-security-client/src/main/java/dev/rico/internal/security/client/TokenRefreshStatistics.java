@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.client;
+
+import org.apiguardian.api.API;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Counters for the token refreshes of a {@link KeycloakSecurity} instance.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class TokenRefreshStatistics {
+
+    private final LongAdder refreshCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private final LongAdder totalRefreshNanos = new LongAdder();
+
+    private final AtomicLong lastRefreshNanos = new AtomicLong();
+
+    void onRefresh(final long durationNanos) {
+        refreshCount.increment();
+        totalRefreshNanos.add(durationNanos);
+        lastRefreshNanos.set(durationNanos);
+    }
+
+    void onFailure() {
+        failureCount.increment();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public Duration getLastRefreshDuration() {
+        return Duration.ofNanos(lastRefreshNanos.get());
+    }
+
+    public Duration getAverageRefreshDuration() {
+        final long count = refreshCount.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalRefreshNanos.sum() / count);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.client;
+
+import dev.rico.core.functional.CheckedFunction;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeycloakTokenRefresherTest {
+
+    @Test
+    public void testRetryDelayBackoff() {
+        Assert.assertEquals(KeycloakTokenRefresher.retryDelay(1), 5_000);
+        Assert.assertEquals(KeycloakTokenRefresher.retryDelay(2), 10_000);
+        Assert.assertEquals(KeycloakTokenRefresher.retryDelay(3), 20_000);
+        Assert.assertEquals(KeycloakTokenRefresher.retryDelay(7), 300_000);
+        Assert.assertEquals(KeycloakTokenRefresher.retryDelay(Integer.MAX_VALUE), 300_000);
+    }
+
+    @Test
+    public void testFailedRefreshIsRetried() throws Exception {
+        //given:
+        final AtomicInteger calls = new AtomicInteger();
+        final KeycloakTokenRefresher refresher = createRefresher(refreshToken -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("server not reachable");
+            }
+            return createConnectResult("token-2");
+        });
+
+        try {
+            //when:
+            final CompletableFuture<KeycloakAuthentification> failed = refresher.refresh();
+            final KeycloakAuthentification auth = refresher.refresh().get();
+
+            //then:
+            Assert.assertTrue(failed.isCompletedExceptionally());
+            Assert.assertEquals(auth.getAccessToken(), "token-2");
+            Assert.assertEquals(calls.get(), 2);
+        } finally {
+            refresher.stop();
+        }
+    }
+
+    @Test
+    public void testRejectedRefreshStops() {
+        //given:
+        final AtomicInteger calls = new AtomicInteger();
+        final KeycloakTokenRefresher refresher = createRefresher(refreshToken -> {
+            calls.incrementAndGet();
+            throw new KeycloakTokenRejectedException("invalid_grant");
+        });
+
+        //when:
+        final CompletableFuture<KeycloakAuthentification> rejected = refresher.refresh();
+        final CompletableFuture<KeycloakAuthentification> afterRejection = refresher.refresh();
+
+        //then:
+        assertFailedWith(rejected, KeycloakTokenRejectedException.class);
+        assertFailedWith(afterRejection, IllegalStateException.class);
+        Assert.assertEquals(calls.get(), 1);
+        Assert.assertFalse(KeycloakAuthentificationManager.getInstance().getAuthFor(null).isPresent());
+    }
+
+    private KeycloakTokenRefresher createRefresher(final CheckedFunction<String, KeycloakOpenidConnectResult> refreshFunction) {
+        final KeycloakTokenRefresher refresher = new KeycloakTokenRefresher(refreshFunction, "realm", "app", Runnable::run, TokenRefreshScheduler.getInstance(), new TokenRefreshStatistics());
+        refresher.start(createConnectResult("token-1"));
+        return refresher;
+    }
+
+    private KeycloakOpenidConnectResult createConnectResult(final String accessToken) {
+        final KeycloakOpenidConnectResult result = new KeycloakOpenidConnectResult();
+        result.setAccess_token(accessToken);
+        result.setRefresh_token("refresh");
+        result.setExpires_in(3600);
+        return result;
+    }
+
+    private void assertFailedWith(final CompletableFuture<?> future, final Class<? extends Throwable> type) {
+        try {
+            future.get();
+            Assert.fail("future must fail");
+        } catch (final ExecutionException e) {
+            Assert.assertTrue(type.isInstance(e.getCause()), "unexpected cause " + e.getCause());
+        } catch (final InterruptedException e) {
+            Assert.fail("interrupted", e);
+        }
+    }
+}
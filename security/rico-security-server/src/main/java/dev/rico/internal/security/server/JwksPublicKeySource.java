@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import dev.rico.internal.core.Assert;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpGet;
+import org.apiguardian.api.API;
+import org.keycloak.adapters.HttpAdapterUtils;
+import org.keycloak.adapters.KeycloakDeployment;
+import org.keycloak.jose.jwk.JSONWebKeySet;
+import org.keycloak.jose.jwk.JWK;
+import org.keycloak.util.JWKSUtils;
+
+import java.security.PublicKey;
+import java.util.Map;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Loads the signature keys of a realm from the JWKS endpoint of the Keycloak server.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class JwksPublicKeySource implements PublicKeySource {
+
+    @Override
+    public Map<String, PublicKey> loadKeys(final KeycloakDeployment deployment) throws Exception {
+        Assert.requireNonNull(deployment, "deployment");
+        final HttpGet request = new HttpGet(deployment.getJwksUrl());
+        request.addHeader(HttpHeaders.ACCEPT, "application/json");
+        final JSONWebKeySet keySet = HttpAdapterUtils.sendJsonHttpRequest(deployment, request, JSONWebKeySet.class);
+        return JWKSUtils.getKeysForUse(keySet, JWK.Use.SIG);
+    }
+}
@@ -17,6 +17,9 @@
 package dev.rico.internal.security.server;
 
 import dev.rico.internal.core.Assert;
+import dev.rico.internal.core.SimpleThreadFactory;
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.metrics.Metrics;
 import dev.rico.security.server.SecurityException;
 import org.apiguardian.api.API;
 import org.keycloak.adapters.KeycloakConfigResolver;
@@ -28,6 +31,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static dev.rico.internal.security.SecurityConstants.APPLICATION_NAME_HEADER;
 import static dev.rico.internal.security.SecurityConstants.BEARER_ONLY_HEADER;
@@ -40,8 +47,12 @@ public class KeycloakConfigResolverImpl implements KeycloakConfigResolver {
 
     private static final Logger LOG = LoggerFactory.getLogger(KeycloakConfigResolverImpl.class);
 
+    private static final Executor KEY_REFRESH_EXECUTOR = new ThreadPoolExecutor(0, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), new SimpleThreadFactory(true));
+
     private static KeycloakConfiguration configuration;
 
+    private static KeycloakDeploymentCache deploymentCache;
+
     public KeycloakDeployment resolve(final HttpFacade.Request request) {
         Assert.requireNonNull(request, "request");
 
@@ -58,13 +69,11 @@ public class KeycloakConfigResolverImpl implements KeycloakConfigResolver {
 
         LOG.debug("Defined Keycloak AdapterConfig for request against realm '" +realmName + "' and app '" + applicationName + "'");
 
-        final AdapterConfig adapterConfig = new AdapterConfig();
         LOG.debug("Checking if realm '" +realmName + "' is allowed");
         if(configuration.isRealmAllowed(realmName)){
             if(LOG.isTraceEnabled()) {
                 LOG.trace("Realm '" + realmName + "' is allowed");
             }
-            adapterConfig.setRealm(realmName);
         }else{
             if(LOG.isDebugEnabled()) {
                 final String allowedRealms = configuration.getRealmNames().stream().reduce("", (a, b) -> a + "," + b);
@@ -73,19 +82,37 @@ public class KeycloakConfigResolverImpl implements KeycloakConfigResolver {
             throw new SecurityException("Access Denied! The given realm is not in the allowed realms.");
         }
 
-        adapterConfig.setResource(applicationName);
-        adapterConfig.setAuthServerUrl(authEndPoint);
-        adapterConfig.setCors(cors);
-
-        Optional.ofNullable(request.getHeader(BEARER_ONLY_HEADER)).
-                ifPresent(v -> adapterConfig.setBearerOnly(true));
-
-        return KeycloakDeploymentBuilder.build(adapterConfig);
+        final boolean bearerOnly = request.getHeader(BEARER_ONLY_HEADER) != null;
+        return deploymentCache.get(realmName, applicationName, bearerOnly, () -> {
+            final AdapterConfig adapterConfig = new AdapterConfig();
+            adapterConfig.setRealm(realmName);
+            adapterConfig.setResource(applicationName);
+            adapterConfig.setAuthServerUrl(authEndPoint);
+            adapterConfig.setCors(cors);
+            adapterConfig.setBearerOnly(bearerOnly);
+            LOG.debug("Creating Keycloak deployment for realm '{}' and app '{}'", realmName, applicationName);
+            return KeycloakDeploymentBuilder.build(adapterConfig);
+        });
     }
 
     public static void setConfiguration(final KeycloakConfiguration configuration) {
+        setConfiguration(configuration, new JwksPublicKeySource());
+    }
+
+    /**
+     * Defines the configuration and the source of the public keys that are used to verify tokens. A custom key
+     * source with static keys can be used to verify tokens without a Keycloak server.
+     *
+     * @param configuration the configuration
+     * @param keySource the source of the public keys
+     */
+    public static void setConfiguration(final KeycloakConfiguration configuration, final PublicKeySource keySource) {
         Assert.requireNonNull(configuration, "configuration");
+        Assert.requireNonNull(keySource, "keySource");
         KeycloakConfigResolverImpl.configuration = configuration;
+        final Metrics metrics = MetricsImpl.getInstance();
+        final KeycloakPublicKeyCache publicKeyCache = new KeycloakPublicKeyCache(keySource, KEY_REFRESH_EXECUTOR, metrics);
+        KeycloakConfigResolverImpl.deploymentCache = new KeycloakDeploymentCache(configuration.getDeploymentCacheSize(), publicKeyCache, metrics);
 
         LOG.debug("Configuration for keycloak resolver defined");
         if(LOG.isTraceEnabled()) {
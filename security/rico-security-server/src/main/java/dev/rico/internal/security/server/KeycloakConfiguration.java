@@ -61,6 +61,8 @@ public class KeycloakConfiguration implements Serializable {
 
     private final boolean cors;
 
+    private final int deploymentCacheSize;
+
     public KeycloakConfiguration(final Configuration platformConfiguration) {
         Assert.requireNonNull(platformConfiguration, "platformConfiguration");
         this.realmName = platformConfiguration.getProperty(REALM_PROPERTY_NAME, REALM_PROPERTY_DEFAULT_VALUE);
@@ -79,6 +81,7 @@ public class KeycloakConfiguration implements Serializable {
         this.loginEndpoint = platformConfiguration.getProperty(LOGIN_ENDPOINTS_PROPERTY_NAME, LOGIN_ENDPOINTS_PROPERTY_DEFAULT_VALUE);
         this.logoutEndpoint = platformConfiguration.getProperty(LOGOUT_ENDPOINTS_PROPERTY_NAME, LOGOUT_ENDPOINTS_PROPERTY_DEFAULT_VALUE);
         this.cors  = platformConfiguration.getBooleanProperty(CORS_PROPERTY_NAME, CORS_PROPERTY_DEFAULT_VALUE);
+        this.deploymentCacheSize = platformConfiguration.getIntProperty(DEPLOYMENT_CACHE_SIZE_PROPERTY_NAME, DEPLOYMENT_CACHE_SIZE_PROPERTY_DEFAULT_VALUE);
 
     }
 
@@ -132,6 +135,10 @@ public class KeycloakConfiguration implements Serializable {
         return logoutEndpoint;
     }
 
+    public int getDeploymentCacheSize() {
+        return deploymentCacheSize;
+    }
+
     public boolean isRealmCheckEnabled() {
         return realmCheckEnabled;
     }
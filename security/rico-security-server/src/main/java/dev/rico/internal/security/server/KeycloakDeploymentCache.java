@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Counter;
+import org.apiguardian.api.API;
+import org.keycloak.adapters.KeycloakDeployment;
+import org.keycloak.adapters.rotation.PublicKeyLocator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Bounded cache for {@link KeycloakDeployment} instances. A deployment is defined by the realm, the application and
+ * the bearer-only flag of a request. Building a deployment resolves all endpoint URLs and creates a new HTTP client,
+ * therefore deployments are reused between requests. All cached deployments share one {@link PublicKeyLocator}.
+ * If the cache is full the least recently used deployment is removed.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class KeycloakDeploymentCache {
+
+    public static final String HITS_METRIC_NAME = "rico.security.deploymentCache.hits";
+
+    public static final String MISSES_METRIC_NAME = "rico.security.deploymentCache.misses";
+
+    private final Map<DeploymentKey, KeycloakDeployment> deployments;
+
+    private final PublicKeyLocator publicKeyLocator;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    public KeycloakDeploymentCache(final int maxSize, final PublicKeyLocator publicKeyLocator, final Metrics metrics) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be > 0");
+        }
+        this.publicKeyLocator = Assert.requireNonNull(publicKeyLocator, "publicKeyLocator");
+        Assert.requireNonNull(metrics, "metrics");
+        this.hitCounter = metrics.getOrCreateCounter(HITS_METRIC_NAME);
+        this.missCounter = metrics.getOrCreateCounter(MISSES_METRIC_NAME);
+        this.deployments = new LinkedHashMap<DeploymentKey, KeycloakDeployment>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<DeploymentKey, KeycloakDeployment> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached deployment for the given key or builds and caches a new deployment.
+     *
+     * @param realmName       the realm
+     * @param applicationName the application
+     * @param bearerOnly      the bearer-only flag
+     * @param builder         builds the deployment if it is not cached
+     * @return the deployment
+     */
+    public KeycloakDeployment get(final String realmName, final String applicationName, final boolean bearerOnly, final Supplier<KeycloakDeployment> builder) {
+        Assert.requireNonNull(builder, "builder");
+        final DeploymentKey key = new DeploymentKey(realmName, applicationName, bearerOnly);
+        synchronized (deployments) {
+            final KeycloakDeployment cached = deployments.get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+        missCounter.increment();
+        final KeycloakDeployment deployment = Assert.requireNonNull(builder.get(), "deployment");
+        deployment.setPublicKeyLocator(publicKeyLocator);
+        synchronized (deployments) {
+            return deployments.merge(key, deployment, (existing, created) -> existing);
+        }
+    }
+
+    public int size() {
+        synchronized (deployments) {
+            return deployments.size();
+        }
+    }
+
+    private static final class DeploymentKey {
+
+        private final String realmName;
+
+        private final String applicationName;
+
+        private final boolean bearerOnly;
+
+        private DeploymentKey(final String realmName, final String applicationName, final boolean bearerOnly) {
+            this.realmName = Assert.requireNonNull(realmName, "realmName");
+            this.applicationName = Assert.requireNonNull(applicationName, "applicationName");
+            this.bearerOnly = bearerOnly;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final DeploymentKey that = (DeploymentKey) o;
+            return bearerOnly == that.bearerOnly && realmName.equals(that.realmName) && applicationName.equals(that.applicationName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(realmName, applicationName, bearerOnly);
+        }
+    }
+}
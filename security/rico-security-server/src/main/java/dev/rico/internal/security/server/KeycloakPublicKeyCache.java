@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import dev.rico.internal.core.Assert;
+import dev.rico.metrics.Metrics;
+import dev.rico.metrics.types.Counter;
+import org.apiguardian.api.API;
+import org.keycloak.adapters.KeycloakDeployment;
+import org.keycloak.adapters.rotation.PublicKeyLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * A {@link PublicKeyLocator} that is shared by all cached deployments. The keys of a realm are loaded once and
+ * refreshed in the background when they are older than the public key cache TTL of the deployment. If a token
+ * references an unknown key id the keys might have been rotated and are reloaded directly. Such reloads are limited
+ * by the minimum time between JWKS requests of the deployment. Until new keys are loaded the old keys stay valid.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+public class KeycloakPublicKeyCache implements PublicKeyLocator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KeycloakPublicKeyCache.class);
+
+    public static final String HITS_METRIC_NAME = "rico.security.publicKeyCache.hits";
+
+    public static final String MISSES_METRIC_NAME = "rico.security.publicKeyCache.misses";
+
+    public static final String REFRESHES_METRIC_NAME = "rico.security.publicKeyCache.refreshes";
+
+    private final PublicKeySource keySource;
+
+    private final Executor refreshExecutor;
+
+    private final Map<String, RealmKeys> keysByRealm = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter refreshCounter;
+
+    public KeycloakPublicKeyCache(final PublicKeySource keySource, final Executor refreshExecutor, final Metrics metrics) {
+        this.keySource = Assert.requireNonNull(keySource, "keySource");
+        this.refreshExecutor = Assert.requireNonNull(refreshExecutor, "refreshExecutor");
+        Assert.requireNonNull(metrics, "metrics");
+        this.hitCounter = metrics.getOrCreateCounter(HITS_METRIC_NAME);
+        this.missCounter = metrics.getOrCreateCounter(MISSES_METRIC_NAME);
+        this.refreshCounter = metrics.getOrCreateCounter(REFRESHES_METRIC_NAME);
+    }
+
+    @Override
+    public PublicKey getPublicKey(final String kid, final KeycloakDeployment deployment) {
+        Assert.requireNonNull(deployment, "deployment");
+        final RealmKeys realmKeys = keysByRealm.computeIfAbsent(getCacheKey(deployment), k -> new RealmKeys());
+
+        final PublicKey key = realmKeys.get(kid);
+        if (key != null) {
+            hitCounter.increment();
+            if (realmKeys.isExpired(deployment)) {
+                refreshInBackground(realmKeys, deployment);
+            }
+            return key;
+        }
+
+        missCounter.increment();
+        if (realmKeys.canRequest(deployment)) {
+            refresh(realmKeys, deployment);
+        }
+        return Optional.ofNullable(realmKeys.get(kid)).orElseGet(() -> {
+            LOG.warn("No public key with id '{}' found for realm '{}'", kid, deployment.getRealm());
+            return null;
+        });
+    }
+
+    @Override
+    public void reset(final KeycloakDeployment deployment) {
+        Assert.requireNonNull(deployment, "deployment");
+        keysByRealm.remove(getCacheKey(deployment));
+    }
+
+    private void refreshInBackground(final RealmKeys realmKeys, final KeycloakDeployment deployment) {
+        if (realmKeys.refreshing.compareAndSet(false, true)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        refresh(realmKeys, deployment);
+                    } finally {
+                        realmKeys.refreshing.set(false);
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                realmKeys.refreshing.set(false);
+                LOG.debug("Background refresh of public keys for realm '{}' rejected", deployment.getRealm());
+            }
+        }
+    }
+
+    private void refresh(final RealmKeys realmKeys, final KeycloakDeployment deployment) {
+        synchronized (realmKeys) {
+            // another thread might have loaded the keys in the meantime
+            if (!realmKeys.canRequest(deployment)) {
+                return;
+            }
+            realmKeys.requested = true;
+            realmKeys.lastRequestTime = System.nanoTime();
+            try {
+                realmKeys.keys = Collections.unmodifiableMap(new HashMap<>(keySource.loadKeys(deployment)));
+                refreshCounter.increment();
+                LOG.debug("Loaded {} public keys for realm '{}'", realmKeys.keys.size(), deployment.getRealm());
+            } catch (final Exception e) {
+                LOG.error("Can not load public keys for realm '" + deployment.getRealm() + "'", e);
+            }
+        }
+    }
+
+    private String getCacheKey(final KeycloakDeployment deployment) {
+        // the URLs of a deployment are resolved lazily by a server request, therefore the JWKS URL is not used as key
+        return deployment.getAuthServerBaseUrl() + "#" + deployment.getRealm();
+    }
+
+    private static class RealmKeys {
+
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private volatile Map<String, PublicKey> keys = Collections.emptyMap();
+
+        private volatile boolean requested;
+
+        private volatile long lastRequestTime;
+
+        private PublicKey get(final String kid) {
+            final Map<String, PublicKey> currentKeys = keys;
+            if (kid == null) {
+                return currentKeys.size() == 1 ? currentKeys.values().iterator().next() : null;
+            }
+            return currentKeys.get(kid);
+        }
+
+        private boolean isExpired(final KeycloakDeployment deployment) {
+            return requested && isOlderThan(deployment.getPublicKeyCacheTtl());
+        }
+
+        private boolean canRequest(final KeycloakDeployment deployment) {
+            return !requested || isOlderThan(deployment.getMinTimeBetweenJwksRequests());
+        }
+
+        private boolean isOlderThan(final int seconds) {
+            return System.nanoTime() - lastRequestTime >= TimeUnit.SECONDS.toNanos(seconds);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import org.apiguardian.api.API;
+import org.keycloak.adapters.KeycloakDeployment;
+
+import java.security.PublicKey;
+import java.util.Map;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+/**
+ * Source of the public keys that are used to verify the signature of tokens. The keys are cached by the
+ * {@link KeycloakPublicKeyCache}.
+ */
+@API(since = "2.1.0", status = INTERNAL)
+@FunctionalInterface
+public interface PublicKeySource {
+
+    /**
+     * Loads all public keys that can be used to verify tokens of the given deployment.
+     *
+     * @param deployment the deployment
+     * @return the public keys mapped by their key id
+     * @throws Exception if the keys can not be loaded
+     */
+    Map<String, PublicKey> loadKeys(KeycloakDeployment deployment) throws Exception;
+}
@@ -52,6 +52,13 @@ public class SecurityDefaultValueProvider extends ConfigurationProviderAdapter {
         return ret;
     }
 
+    @Override
+    public Map<String, Integer> getIntegerProperties() {
+        final HashMap<String, Integer> ret = new HashMap<>();
+        ret.put(DEPLOYMENT_CACHE_SIZE_PROPERTY_NAME, DEPLOYMENT_CACHE_SIZE_PROPERTY_DEFAULT_VALUE);
+        return ret;
+    }
+
     @Override
     public Map<String, List<String>> getListProperties() {
         final HashMap<String, List<String>> ret = new HashMap<>();
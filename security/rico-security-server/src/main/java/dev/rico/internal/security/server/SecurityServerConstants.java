@@ -70,4 +70,8 @@ public interface SecurityServerConstants {
 
     String SECURITY_ENDPOINT_SUFFIX = "/auth";
 
+    String DEPLOYMENT_CACHE_SIZE_PROPERTY_NAME = "security.keycloak.deploymentCacheSize";
+
+    int DEPLOYMENT_CACHE_SIZE_PROPERTY_DEFAULT_VALUE = 32;
+
 }
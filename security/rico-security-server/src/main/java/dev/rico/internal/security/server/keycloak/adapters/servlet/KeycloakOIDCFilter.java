@@ -17,6 +17,8 @@
 
 package dev.rico.internal.security.server.keycloak.adapters.servlet;
 
+import dev.rico.internal.metrics.MetricsImpl;
+import dev.rico.metrics.types.Timer;
 import org.keycloak.adapters.AdapterDeploymentContext;
 import org.keycloak.adapters.AuthenticatedActionsHandler;
 import org.keycloak.adapters.KeycloakConfigResolver;
@@ -46,6 +48,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 /**
@@ -64,6 +67,8 @@ public class KeycloakOIDCFilter implements Filter {
 
     public static final String CONFIG_PATH_PARAM = "keycloak.config.path";
 
+    public static final String AUTHENTICATION_METRIC_NAME = "rico.security.authentication";
+
     protected AdapterDeploymentContext deploymentContext;
 
     protected SessionIdMapper idMapper = new InMemorySessionIdMapper();
@@ -74,6 +79,8 @@ public class KeycloakOIDCFilter implements Filter {
 
     private final KeycloakConfigResolver definedconfigResolver;
 
+    private final Timer authenticationTimer = MetricsImpl.getInstance().getOrCreateTimer(AUTHENTICATION_METRIC_NAME);
+
     /**
      * Constructor that can be used to define a {@code KeycloakConfigResolver} that will be used at initialization to
      * provide the {@code KeycloakDeployment}.
@@ -192,7 +199,9 @@ public class KeycloakOIDCFilter implements Filter {
 
 
         FilterRequestAuthenticator authenticator = new FilterRequestAuthenticator(deployment, tokenStore, facade, request, 8443);
+        final long authenticationStart = System.nanoTime();
         AuthOutcome outcome = authenticator.authenticate();
+        authenticationTimer.record(System.nanoTime() - authenticationStart, TimeUnit.NANOSECONDS);
         if (outcome == AuthOutcome.AUTHENTICATED) {
             log.debug("AUTHENTICATED");
             if (facade.isEnded()) {
@@ -12,11 +12,14 @@ module dev.rico.security.server {
 
     requires transitive dev.rico.security.common;
     requires transitive dev.rico.server;
+    requires dev.rico.metrics;
 
     requires keycloak.core;
     requires keycloak.adapter.core;
     requires keycloak.adapter.spi;
     requires keycloak.servlet.adapter.spi;
+    requires org.apache.httpcomponents.httpclient;
+    requires org.apache.httpcomponents.httpcore;
 
     requires static org.apiguardian.api;
     requires org.slf4j;
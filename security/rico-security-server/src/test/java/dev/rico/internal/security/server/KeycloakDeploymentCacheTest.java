@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import dev.rico.internal.metrics.MetricsImpl;
+import org.keycloak.adapters.KeycloakDeployment;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class KeycloakDeploymentCacheTest {
+
+    @Test
+    public void testDeploymentIsCached() {
+        //given:
+        final KeycloakPublicKeyCache publicKeyCache = new KeycloakPublicKeyCache(new LocalTokenIssuer(), Runnable::run, MetricsImpl.getInstance());
+        final KeycloakDeploymentCache cache = new KeycloakDeploymentCache(4, publicKeyCache, MetricsImpl.getInstance());
+        final AtomicInteger buildCount = new AtomicInteger();
+
+        //when:
+        final KeycloakDeployment first = cache.get("realm", "app", true, () -> {
+            buildCount.incrementAndGet();
+            return new KeycloakDeployment();
+        });
+        final KeycloakDeployment second = cache.get("realm", "app", true, () -> {
+            buildCount.incrementAndGet();
+            return new KeycloakDeployment();
+        });
+
+        //then:
+        Assert.assertSame(second, first);
+        Assert.assertEquals(buildCount.get(), 1);
+        Assert.assertSame(first.getPublicKeyLocator(), publicKeyCache);
+        Assert.assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testDeploymentsAreCachedPerRealmApplicationAndBearerOnlyFlag() {
+        //given:
+        final KeycloakDeploymentCache cache = createCache(8);
+
+        //when:
+        final KeycloakDeployment deployment = cache.get("realm", "app", true, KeycloakDeployment::new);
+
+        //then:
+        Assert.assertNotSame(cache.get("realm", "app", false, KeycloakDeployment::new), deployment);
+        Assert.assertNotSame(cache.get("realm", "other-app", true, KeycloakDeployment::new), deployment);
+        Assert.assertNotSame(cache.get("other-realm", "app", true, KeycloakDeployment::new), deployment);
+        Assert.assertSame(cache.get("realm", "app", true, KeycloakDeployment::new), deployment);
+        Assert.assertEquals(cache.size(), 4);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDeploymentIsRemoved() {
+        //given:
+        final KeycloakDeploymentCache cache = createCache(2);
+        final KeycloakDeployment first = cache.get("realm", "first", true, KeycloakDeployment::new);
+        final KeycloakDeployment second = cache.get("realm", "second", true, KeycloakDeployment::new);
+
+        //when:
+        cache.get("realm", "first", true, KeycloakDeployment::new);
+        cache.get("realm", "third", true, KeycloakDeployment::new);
+
+        //then:
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertSame(cache.get("realm", "first", true, KeycloakDeployment::new), first);
+        Assert.assertNotSame(cache.get("realm", "second", true, KeycloakDeployment::new), second);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        createCache(0);
+    }
+
+    private KeycloakDeploymentCache createCache(final int maxSize) {
+        final KeycloakPublicKeyCache publicKeyCache = new KeycloakPublicKeyCache(new LocalTokenIssuer(), Runnable::run, MetricsImpl.getInstance());
+        return new KeycloakDeploymentCache(maxSize, publicKeyCache, MetricsImpl.getInstance());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import dev.rico.internal.metrics.MetricsImpl;
+import org.keycloak.adapters.KeycloakDeployment;
+import org.keycloak.jose.jws.JWSInput;
+import org.keycloak.jose.jws.crypto.RSAProvider;
+import org.keycloak.representations.JsonWebToken;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class KeycloakPublicKeyCacheTest {
+
+    @Test
+    public void testKeysAreLoadedOnce() {
+        //given:
+        final LocalTokenIssuer issuer = new LocalTokenIssuer();
+        final CountingKeySource keySource = new CountingKeySource(issuer);
+        final KeycloakPublicKeyCache cache = new KeycloakPublicKeyCache(keySource, Runnable::run, MetricsImpl.getInstance());
+        final KeycloakDeployment deployment = createDeployment(3600, 10);
+
+        //when:
+        final PublicKey first = cache.getPublicKey(issuer.getKeyId(), deployment);
+        final PublicKey second = cache.getPublicKey(issuer.getKeyId(), deployment);
+
+        //then:
+        Assert.assertNotNull(first);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(keySource.loadCount.get(), 1);
+    }
+
+    @Test
+    public void testExpiredKeysAreRefreshedInBackground() throws Exception {
+        //given:
+        final LocalTokenIssuer issuer = new LocalTokenIssuer();
+        final LocalTokenIssuer renewedIssuer = new LocalTokenIssuer(issuer.getKeyId(), newKeyPair());
+        final CountingKeySource keySource = new CountingKeySource(issuer);
+        final List<Runnable> backgroundTasks = new ArrayList<>();
+        final KeycloakPublicKeyCache cache = new KeycloakPublicKeyCache(keySource, backgroundTasks::add, MetricsImpl.getInstance());
+        final KeycloakDeployment deployment = createDeployment(0, 0);
+        final PublicKey oldKey = cache.getPublicKey(issuer.getKeyId(), deployment);
+        keySource.source.set(renewedIssuer);
+
+        //when:
+        final PublicKey servedWhileExpired = cache.getPublicKey(issuer.getKeyId(), deployment);
+
+        //then:
+        Assert.assertSame(servedWhileExpired, oldKey);
+        Assert.assertEquals(backgroundTasks.size(), 1);
+        Assert.assertEquals(keySource.loadCount.get(), 1);
+
+        //when:
+        backgroundTasks.get(0).run();
+
+        //then:
+        Assert.assertEquals(keySource.loadCount.get(), 2);
+        Assert.assertEquals(cache.getPublicKey(issuer.getKeyId(), deployment), renewedIssuer.loadKeys(deployment).get(issuer.getKeyId()));
+    }
+
+    @Test
+    public void testUnknownKeyIdReloadsRotatedKeys() throws Exception {
+        //given:
+        final LocalTokenIssuer issuer = new LocalTokenIssuer();
+        final LocalTokenIssuer rotatedIssuer = new LocalTokenIssuer();
+        final CountingKeySource keySource = new CountingKeySource(issuer);
+        final KeycloakPublicKeyCache cache = new KeycloakPublicKeyCache(keySource, Runnable::run, MetricsImpl.getInstance());
+        final KeycloakDeployment deployment = createDeployment(3600, 0);
+        Assert.assertNotNull(cache.getPublicKey(issuer.getKeyId(), deployment));
+
+        //when:
+        keySource.source.set(rotatedIssuer);
+        final JWSInput token = new JWSInput(rotatedIssuer.issue(new JsonWebToken().id("token")));
+        final PublicKey key = cache.getPublicKey(token.getHeader().getKeyId(), deployment);
+
+        //then:
+        Assert.assertNotNull(key);
+        Assert.assertTrue(RSAProvider.verify(token, key));
+        Assert.assertEquals(keySource.loadCount.get(), 2);
+    }
+
+    @Test
+    public void testReloadOfUnknownKeyIdIsRateLimited() {
+        //given:
+        final LocalTokenIssuer issuer = new LocalTokenIssuer();
+        final CountingKeySource keySource = new CountingKeySource(issuer);
+        final KeycloakPublicKeyCache cache = new KeycloakPublicKeyCache(keySource, Runnable::run, MetricsImpl.getInstance());
+        final KeycloakDeployment deployment = createDeployment(3600, 3600);
+        cache.getPublicKey(issuer.getKeyId(), deployment);
+
+        //when:
+        final PublicKey unknown = cache.getPublicKey("unknown", deployment);
+        final PublicKey unknownAgain = cache.getPublicKey("unknown", deployment);
+
+        //then:
+        Assert.assertNull(unknown);
+        Assert.assertNull(unknownAgain);
+        Assert.assertEquals(keySource.loadCount.get(), 1);
+
+        //when:
+        cache.reset(deployment);
+
+        //then:
+        Assert.assertNotNull(cache.getPublicKey(issuer.getKeyId(), deployment));
+        Assert.assertEquals(keySource.loadCount.get(), 2);
+    }
+
+    static KeycloakDeployment createDeployment(final int publicKeyCacheTtl, final int minTimeBetweenJwksRequests) {
+        final KeycloakDeployment deployment = new KeycloakDeployment();
+        deployment.setRealm("test-realm");
+        deployment.setPublicKeyCacheTtl(publicKeyCacheTtl);
+        deployment.setMinTimeBetweenJwksRequests(minTimeBetweenJwksRequests);
+        return deployment;
+    }
+
+    private static KeyPair newKeyPair() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static class CountingKeySource implements PublicKeySource {
+
+        private final AtomicReference<PublicKeySource> source;
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+
+        private CountingKeySource(final PublicKeySource source) {
+            this.source = new AtomicReference<>(source);
+        }
+
+        @Override
+        public Map<String, PublicKey> loadKeys(final KeycloakDeployment deployment) throws Exception {
+            loadCount.incrementAndGet();
+            return source.get().loadKeys(deployment);
+        }
+    }
+}
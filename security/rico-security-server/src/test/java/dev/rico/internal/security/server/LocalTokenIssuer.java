@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2019 Karakun AG.
+ * Copyright 2015-2018 Canoo Engineering AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.rico.internal.security.server;
+
+import dev.rico.internal.core.Assert;
+import org.keycloak.adapters.KeycloakDeployment;
+import org.keycloak.jose.jws.JWSBuilder;
+import org.keycloak.representations.JsonWebToken;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A local stand-in for a Keycloak server that signs tokens with a static RSA key. By using the issuer as the
+ * {@link PublicKeySource} of the {@link KeycloakPublicKeyCache} tokens can be verified without a running Keycloak
+ * server.
+ */
+public class LocalTokenIssuer implements PublicKeySource {
+
+    private static final String KEY_ALGORITHM = "RSA";
+
+    private static final int KEY_SIZE = 2048;
+
+    private final String keyId;
+
+    private final KeyPair keyPair;
+
+    public LocalTokenIssuer() {
+        this(UUID.randomUUID().toString(), generateKeyPair());
+    }
+
+    public LocalTokenIssuer(final String keyId, final KeyPair keyPair) {
+        this.keyId = Assert.requireNonBlank(keyId, "keyId");
+        this.keyPair = Assert.requireNonNull(keyPair, "keyPair");
+    }
+
+    /**
+     * Creates a signed token (RS256) for the given content.
+     *
+     * @param token the content of the token
+     * @return the encoded token
+     */
+    public String issue(final JsonWebToken token) {
+        Assert.requireNonNull(token, "token");
+        return new JWSBuilder().kid(keyId).jsonContent(token).rsa256(keyPair.getPrivate());
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    @Override
+    public Map<String, PublicKey> loadKeys(final KeycloakDeployment deployment) {
+        return Collections.singletonMap(keyId, keyPair.getPublic());
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(KEY_SIZE);
+            return generator.generateKeyPair();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Can not create key pair", e);
+        }
+    }
+}